@@ -0,0 +1,47 @@
+package org.kakaoshare.backend.benchmark;
+
+import org.kakaoshare.backend.domain.funding.entity.Funding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 펀딩 목록/상세마다 호출되는 {@link Funding#calculateProgressRate()}의 반올림 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FundingBenchmark {
+    @Param({"0", "33333", "99999"})
+    private long accumulateAmount;
+
+    private Funding funding;
+
+    @Setup
+    public void setUp() {
+        funding = Funding.builder()
+                .goalAmount(100_000L)
+                .expiredAt(LocalDate.now().plusDays(7))
+                .build();
+        funding.increaseAccumulateAmount(accumulateAmount);
+    }
+
+    @Benchmark
+    public Double calculateProgressRate() {
+        return funding.calculateProgressRate();
+    }
+}
@@ -0,0 +1,49 @@
+package org.kakaoshare.backend.benchmark;
+
+import org.kakaoshare.backend.domain.payment.dto.ready.request.KakaoPayReadyRequest;
+import org.kakaoshare.backend.domain.payment.dto.ready.request.PaymentReadyProductDto;
+import org.kakaoshare.backend.domain.payment.service.KakaoPayRequestProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 결제 준비 요청의 상품명("케이크 외 n건")과 합계를 만드는 {@link KakaoPayRequestProvider#createReadyRequest}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KakaoPayRequestProviderBenchmark {
+    @Param({"1", "10"})
+    private int productCount;
+
+    private final KakaoPayRequestProvider kakaoPayRequestProvider = new KakaoPayRequestProvider("cid", "secret", "approval", "cancel", "fail");
+    private List<PaymentReadyProductDto> products;
+
+    @Setup
+    public void setUp() {
+        products = IntStream.range(0, productCount)
+                .mapToObj(i -> new PaymentReadyProductDto("상품" + i, 1, 10_000))
+                .toList();
+    }
+
+    @Benchmark
+    public KakaoPayReadyRequest createReadyRequest() {
+        return kakaoPayRequestProvider.createReadyRequest("providerId", products, "orderNumber");
+    }
+}
@@ -0,0 +1,72 @@
+package org.kakaoshare.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.kakaoshare.backend.common.dto.PageResponse;
+import org.kakaoshare.backend.common.util.RepositoryUtils;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 목록 응답을 만드는 {@link RepositoryUtils#toPage}, {@link PageResponse#from(Page)}와 Jackson 직렬화
+ * toPage는 마지막 페이지처럼 count 쿼리가 필요 없는 경우의 비용만 잰다. count 쿼리를 포함한 비용은 {@link RepositoryBenchmark}에서 잰다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JPAQuery<Long> countQuery = new JPAQuery<>();
+    private Pageable pageable;
+    private List<RankResponse> content;
+    private Page<RankResponse> page;
+
+    @Setup
+    public void setUp() {
+        pageable = PageRequest.of(0, pageSize);
+        content = LongStream.range(0, pageSize - 1)
+                .mapToObj(id -> new RankResponse(id, "상품" + id, id * 1_000.0, "https://cdn.example.com/" + id + ".jpg"))
+                .toList();
+        page = new PageImpl<>(content, pageable, 1_000);
+    }
+
+    @Benchmark
+    public Page<RankResponse> toPage() {
+        return RepositoryUtils.toPage(pageable, content, countQuery);
+    }
+
+    @Benchmark
+    public PageResponse<?> pageResponseFrom() {
+        return PageResponse.from(page);
+    }
+
+    @Benchmark
+    public String pageResponseToJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(PageResponse.from(page));
+    }
+}
@@ -0,0 +1,86 @@
+package org.kakaoshare.backend.benchmark;
+
+import org.kakaoshare.backend.BackEndApplication;
+import org.kakaoshare.backend.domain.order.repository.OrderRepository;
+import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * testdata/initial_*.sql로 채운 test 프로필의 H2에서 목록/랭킹 쿼리를 실행한다
+ * 쿼리 모양과 QueryDSL/Hibernate 비용의 변화를 커밋끼리 비교하는 용도이며, MySQL의 실행 계획과 같지는 않다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+    private static final List<Long> CATEGORY_IDS = List.of(6L);
+
+    private final Pageable byPrice = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "PRICE"));
+    private final Pageable bySales = PageRequest.of(0, 20);
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private OrderRepository orderRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackEndApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run();
+        productRepository = context.getBean(ProductRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Product4DisplayDto> findAllByCategoryIds() {
+        return productRepository.findAllByCategoryIds(CATEGORY_IDS, byPrice);
+    }
+
+    @Benchmark
+    public Page<RankResponse> findTopRankedProductsByOrders() {
+        return orderRepository.findTopRankedProductsByOrders(LocalDateTime.now().minusMonths(6), bySales);
+    }
+
+    @Benchmark
+    public List<RankResponse> findProductsByWish() {
+        return orderRepository.findProductsByWish(TargetType.FEMALE, 0, Integer.MAX_VALUE, 20);
+    }
+
+    @Benchmark
+    public List<RankResponse> findProductsByReceived() {
+        return orderRepository.findProductsByReceived(TargetType.FEMALE, 0, Integer.MAX_VALUE, 20);
+    }
+}
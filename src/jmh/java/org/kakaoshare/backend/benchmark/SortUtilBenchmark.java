@@ -0,0 +1,53 @@
+package org.kakaoshare.backend.benchmark;
+
+import com.querydsl.core.types.OrderSpecifier;
+import org.kakaoshare.backend.common.util.sort.SortUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 정렬 조건을 만드는 {@link SortUtil}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortUtilBenchmark {
+    private final Pageable unsorted = PageRequest.of(0, 20);
+    private final Pageable singleSort = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "PRICE"));
+    private final Pageable multiSort = PageRequest.of(0, 20, Sort.by(Sort.Order.desc("WISH_COUNT"), Sort.Order.asc("PRICE"), Sort.Order.desc("MOST_RECENT")));
+
+    @Benchmark
+    public OrderSpecifier<?>[] fromUnsorted() {
+        return SortUtil.from(unsorted);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] fromSingleSort() {
+        return SortUtil.from(singleSort);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] fromMultiSort() {
+        return SortUtil.from(multiSort);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] keysetFrom() {
+        return SortUtil.keysetFrom(singleSort);
+    }
+}
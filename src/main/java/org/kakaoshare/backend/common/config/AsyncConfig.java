@@ -1,9 +1,43 @@
 package org.kakaoshare.backend.common.config;
 
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-}
\ No newline at end of file
+    public static final String FUNDING_REFUND_EXECUTOR = "fundingRefundExecutor";
+    private static final int FUNDING_REFUND_PARALLELISM = 8;
+    private static final int FUNDING_REFUND_QUEUE_CAPACITY = 1_000;
+
+    /**
+     * 실행기 빈을 직접 등록하면 스프링 부트가 기본 실행기를 만들지 않으므로, @Async가 쓰는 기본 실행기를 같은 설정으로 등록한다
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(final ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 카카오페이 취소 요청을 최대 {@link #FUNDING_REFUND_PARALLELISM}개까지 동시에 보낸다
+     * 대기열이 가득 차면 제출한 스레드가 직접 실행해 제출 속도를 늦추며, 종료할 때는 보낸 취소 요청이 끝날 때까지 기다린다
+     */
+    @Bean(FUNDING_REFUND_EXECUTOR)
+    public ThreadPoolTaskExecutor fundingRefundExecutor(final ThreadPoolTaskExecutorBuilder builder) {
+        final ThreadPoolTaskExecutor executor = builder.corePoolSize(FUNDING_REFUND_PARALLELISM)
+                .maxPoolSize(FUNDING_REFUND_PARALLELISM)
+                .queueCapacity(FUNDING_REFUND_QUEUE_CAPACITY)
+                .threadNamePrefix("funding-refund-")
+                .awaitTermination(true)
+                .awaitTerminationPeriod(Duration.ofSeconds(30))
+                .build();
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package org.kakaoshare.backend.common.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class CursorResponse<E> {
+    private final boolean hasNext;
+    private final List<E> items;
+    private final int pageSize;
+    private final String nextCursor;
+
+    public static <E> CursorResponse<E> of(final List<E> items, final int pageSize, final String nextCursor) {
+        return new CursorResponse<>(nextCursor != null, items, pageSize, nextCursor);
+    }
+
+    public <U> CursorResponse<U> map(final Function<? super E, ? extends U> converter) {
+        final List<U> converted = items.stream()
+                .<U>map(converter)
+                .toList();
+        return new CursorResponse<>(hasNext, converted, pageSize, nextCursor);
+    }
+}
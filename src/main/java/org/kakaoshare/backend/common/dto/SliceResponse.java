@@ -0,0 +1,22 @@
+package org.kakaoshare.backend.common.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class SliceResponse<E> {
+    private final boolean hasNext;
+    private final List<E> items;
+    private final int pageNumber;
+    private final int pageSize;
+    private final boolean isLast;
+
+    public static SliceResponse<?> from(final Slice<?> slice) {
+        return new SliceResponse<>(slice.hasNext(), slice.getContent(), slice.getNumber(), slice.getSize(), slice.isLast());
+    }
+}
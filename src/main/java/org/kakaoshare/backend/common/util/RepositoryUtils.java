@@ -1,5 +1,8 @@
 package org.kakaoshare.backend.common.util;
 
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -14,38 +17,107 @@ import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import io.jsonwebtoken.lang.Collections;
+import org.kakaoshare.backend.common.dto.CursorResponse;
+import org.kakaoshare.backend.common.util.sort.Cursor;
 import org.kakaoshare.backend.common.vo.PriceRange;
 import org.kakaoshare.backend.common.vo.date.Date;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 public final class RepositoryUtils {
     private RepositoryUtils() {
 
     }
 
+    /**
+     * 컨텐츠를 먼저 조회하고, 컨텐츠만으로 전체 개수를 알 수 없을 때만 count 쿼리를 한 번 실행한다
+     * (첫 페이지가 다 차지 않았거나 마지막 페이지라면 count 쿼리를 생략)
+     */
     public static <T> Page<T> toPage(final Pageable pageable, final JPAQuery<T> contentQuery,
                                      final JPAQuery<Long> countQuery) {
-        if (countQuery.fetchFirst() == null) {
-            return Page.empty();
-        }
-
-        return PageableExecutionUtils.getPage(contentQuery.fetch(), pageable, countQuery::fetchOne);
+        return toPage(pageable, contentQuery.fetch(), countQuery);
     }
 
     public static <T> Page<T> toPage(final Pageable pageable, final List<T> content, final JPAQuery<Long> countQuery) {
-        if (countQuery.fetchFirst() == null) {
-            return Page.empty();
+        return PageableExecutionUtils.getPage(content, pageable, () -> fetchTotal(countQuery));
+    }
+
+    /**
+     * {@link #toPage(Pageable, JPAQuery, JPAQuery)}와 같지만 count 결과를 쿼리 모양과 파라미터별로 {@link TotalCountCache}에 캐싱한다
+     * 전체 개수가 조금 늦게 반영되어도 되는 목록에서 사용한다
+     */
+    public static <T> Page<T> toCachedPage(final Pageable pageable, final JPAQuery<T> contentQuery,
+                                           final JPAQuery<Long> countQuery, final TotalCountCache totalCountCache) {
+        return toCachedPage(pageable, contentQuery.fetch(), countQuery, totalCountCache);
+    }
+
+    public static <T> Page<T> toCachedPage(final Pageable pageable, final List<T> content,
+                                           final JPAQuery<Long> countQuery, final TotalCountCache totalCountCache) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> totalCountCache.get(countQuery, () -> fetchTotal(countQuery)));
+    }
+
+    /**
+     * count 쿼리 없이 pageSize + 1개를 조회해 다음 페이지 존재 여부만 판단한다
+     */
+    public static <T> Slice<T> toSlice(final Pageable pageable, final JPAQuery<T> contentQuery) {
+        final List<T> rows = contentQuery.offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        final boolean hasNext = rows.size() > pageable.getPageSize();
+        final List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * count 쿼리를 만드는 곳에서 컨텐츠 쿼리와 같은 기본 쿼리를 재사용하며 offset, limit이 붙는 경우가 있어 페이징 조건을 제거한 뒤 실행한다
+     * 결과가 한 행인 count 쿼리만 받으며, GROUP BY가 있으면 그룹별 개수가 나오므로 countDistinct 등으로 바꿔야 한다
+     */
+    private static long fetchTotal(final JPAQuery<Long> countQuery) {
+        if (!countQuery.getMetadata().getGroupBy().isEmpty()) {
+            throw new IllegalArgumentException("count query must not have GROUP BY");
+        }
+
+        final Long total = countQuery.restrict(QueryModifiers.EMPTY)
+                .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    /**
+     * 커서 기반 페이징 결과 변환. 다음 페이지 존재 여부를 알기 위해 contentQuery는 pageSize + 1개를 조회해야 한다
+     *
+     * @param content     행에서 꺼낼 컨텐츠 projection
+     * @param key         행에서 꺼낼 정렬 키 표현식
+     * @param idExtractor 컨텐츠에서 tiebreaker ID를 꺼내는 함수
+     */
+    public static <T> CursorResponse<T> toCursorResponse(final Pageable pageable,
+                                                         final JPAQuery<Tuple> contentQuery,
+                                                         final Expression<T> content,
+                                                         final Expression<?> key,
+                                                         final Function<T, Long> idExtractor) {
+        final List<Tuple> rows = contentQuery.fetch();
+        final boolean hasNext = rows.size() > pageable.getPageSize();
+        final List<Tuple> pageRows = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        final List<T> items = pageRows.stream()
+                .map(row -> row.get(content))
+                .toList();
+
+        if (!hasNext) {
+            return CursorResponse.of(items, pageable.getPageSize(), null);
         }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        final Tuple last = pageRows.get(pageRows.size() - 1);
+        final String nextCursor = Cursor.encode(pageable, last.get(key), idExtractor.apply(last.get(content)));
+        return CursorResponse.of(items, pageable.getPageSize(), nextCursor);
     }
 
     public static <T extends ComparableExpression<?>> BooleanExpression eqExpression(
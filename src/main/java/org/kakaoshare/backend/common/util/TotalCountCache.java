@@ -0,0 +1,86 @@
+package org.kakaoshare.backend.common.util;
+
+import com.querydsl.core.JoinExpression;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * count 쿼리 결과 캐시
+ * 키는 count 쿼리의 JPQL과 바인딩 파라미터이므로 같은 모양, 같은 조건의 count 쿼리는 {@link #TTL} 동안 한 번만 실행된다
+ * <p>
+ * 엔티티가 추가/삭제되면 {@link TotalCountEntityListener}가 그 엔티티를 FROM/JOIN 하는 항목을 비운다.
+ * 비우는 것은 이 노드뿐이므로 다른 노드에는 {@link #TTL}만큼 늦게 반영되며, 전체 개수가 조금 늦게 반영되어도 되는 목록에서만
+ * {@link RepositoryUtils#toCachedPage}를 통해 사용한다
+ */
+@Component
+public class TotalCountCache {
+    private static final int MAX_SIZE = 1_000;
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final Map<String, CachedTotal> cache = Collections.synchronizedMap(new LinkedHashMap<String, CachedTotal>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedTotal> eldest) {
+            return size() > MAX_SIZE;
+        }
+    });
+    private final AtomicLong evictions = new AtomicLong();
+
+    long get(final JPAQuery<Long> countQuery, final LongSupplier counter) {
+        final String key = keyOf(countQuery);
+        final CachedTotal cached = cache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.total();
+        }
+
+        final long evictedBefore = evictions.get();
+        final long total = counter.getAsLong();
+        synchronized (cache) {
+            if (evictions.get() == evictedBefore) {
+                cache.put(key, new CachedTotal(total, System.nanoTime(), entityTypesOf(countQuery)));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 엔티티를 FROM/JOIN 하는 count 결과를 비운다. 세는 중이던 결과는 비운 뒤에 넣지 않는다
+     */
+    public void evict(final Class<?> entityType) {
+        synchronized (cache) {
+            evictions.incrementAndGet();
+            cache.values().removeIf(cached -> cached.entityTypes().contains(entityType));
+        }
+    }
+
+    private String keyOf(final JPAQuery<Long> countQuery) {
+        final JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+        serializer.serialize(countQuery.getMetadata(), false, null);
+        return serializer + "|" + serializer.getConstants();
+    }
+
+    private static Set<Class<?>> entityTypesOf(final JPAQuery<Long> countQuery) {
+        return countQuery.getMetadata()
+                .getJoins()
+                .stream()
+                .map(JoinExpression::getTarget)
+                .map(target -> (Class<?>) target.getType())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record CachedTotal(long total, long loadedAt, Set<Class<?>> entityTypes) {
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TTL.toNanos();
+        }
+    }
+}
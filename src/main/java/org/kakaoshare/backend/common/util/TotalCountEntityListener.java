@@ -0,0 +1,24 @@
+package org.kakaoshare.backend.common.util;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 엔티티가 추가/삭제되면 커밋 이후에 {@link TotalCountCache}에서 그 엔티티를 세는 count 결과를 비우는 엔티티 리스너
+ * 벌크 DELETE는 이 리스너를 거치지 않으므로 벌크로 지우는 쪽에서 직접 비운다
+ */
+@RequiredArgsConstructor
+public class TotalCountEntityListener {
+    private final ObjectProvider<TotalCountCache> totalCountCache;
+
+    @PostPersist
+    @PostRemove
+    public void onChange(final Object entity) {
+        final Class<?> entityType = entity.getClass();
+        afterCommit(() -> totalCountCache.ifAvailable(cache -> cache.evict(entityType)));
+    }
+}
@@ -0,0 +1,36 @@
+package org.kakaoshare.backend.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+    // 커밋 이후 작업이 실행 중인 스레드. 그 안에서 등록한 작업은 이미 커밋된 뒤라 다시 미루면 실행되지 않으므로 바로 실행한다
+    private static final ThreadLocal<Boolean> COMMITTED = ThreadLocal.withInitial(() -> false);
+
+    private TransactionUtils() {
+
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행해 롤백된 변경이 캐시나 Redis에 반영되지 않도록 하고, 트랜잭션 밖이거나 커밋 이후 작업 안이면 바로 실행한다
+     */
+    public static void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || COMMITTED.get()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                final boolean committed = COMMITTED.get();
+                COMMITTED.set(true);
+                try {
+                    runnable.run();
+                } finally {
+                    COMMITTED.set(committed);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package org.kakaoshare.backend.common.util.sort;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.common.util.sort.error.SortErrorCode;
+import org.kakaoshare.backend.common.util.sort.error.exception.InvalidCursorException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징에서 사용하는 커서
+ * 직전 페이지 마지막 행의 정렬 키 값과 상품 ID를 담고 있으며, 클라이언트에는 Base64로 인코딩된 문자열로만 노출된다
+ * 커서가 만들어질 때의 정렬 조건과 요청의 정렬 조건이 다르면 {@link InvalidCursorException}을 던진다
+ * 정렬 키 값이 null인 행도 이어서 조회할 수 있도록 값 앞에 {@link #VALUE_PREFIX}를 붙이고, null은 {@link #NULL_VALUE}로 나타낸다
+ *
+ * @see SortUtil#seekFrom(Pageable, Cursor)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Cursor {
+    private static final String DELIMITER = ":";
+    private static final int TOKEN_COUNT = 3;
+    private static final String VALUE_PREFIX = "=";
+    private static final String NULL_VALUE = "!";
+    private static final Cursor FIRST = new Cursor(null, null);
+
+    private final Long lastId;
+    @Nullable
+    private final String lastValue;
+
+    public static Cursor decode(final String encoded, final Pageable pageable) {
+        if (!StringUtils.hasText(encoded)) {
+            return FIRST;
+        }
+
+        final String[] tokens = decodeTokens(encoded);
+        if (tokens.length != TOKEN_COUNT || !tokens[0].equals(SortUtil.keyPropertyOf(pageable))) {
+            throw new InvalidCursorException(SortErrorCode.INVALID_CURSOR);
+        }
+
+        try {
+            return new Cursor(Long.valueOf(tokens[1]), decodeValue(tokens[2]));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(SortErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static String encode(final Pageable pageable, @Nullable final Object lastValue, final Long lastId) {
+        final String raw = String.join(DELIMITER, SortUtil.keyPropertyOf(pageable), String.valueOf(lastId), encodeValue(lastValue));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    private static String encodeValue(@Nullable final Object lastValue) {
+        if (lastValue == null) {
+            return NULL_VALUE;
+        }
+        return VALUE_PREFIX + lastValue;
+    }
+
+    @Nullable
+    private static String decodeValue(final String token) {
+        if (token.equals(NULL_VALUE)) {
+            return null;
+        }
+        if (!token.startsWith(VALUE_PREFIX)) {
+            throw new InvalidCursorException(SortErrorCode.INVALID_CURSOR);
+        }
+        return token.substring(VALUE_PREFIX.length());
+    }
+
+    private static String[] decodeTokens(final String encoded) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            return raw.split(DELIMITER, TOKEN_COUNT);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(SortErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package org.kakaoshare.backend.common.util.sort;
 
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
 import org.kakaoshare.backend.common.util.OrderByNull;
 import org.kakaoshare.backend.common.util.sort.error.SortErrorCode;
+import org.kakaoshare.backend.common.util.sort.error.exception.InvalidCursorException;
 import org.kakaoshare.backend.common.util.sort.error.exception.UnsupportedSortTypeException;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static org.kakaoshare.backend.domain.product.entity.QProduct.product;
 import static org.springframework.data.domain.Sort.Order;
@@ -19,23 +27,30 @@ import static org.springframework.data.domain.Sort.Order;
  * 기본 정렬 조건은 각각의 Repository에서 따로 추가하도록 {@link OrderByNull}을 사용하였고,
  * {@link #from(Pageable)} 뒤에 기본 정렬 조건을 {@link #from(Pageable)}와 합쳐 반환해 {@link com.querydsl.core.support.QueryBase#orderBy(OrderSpecifier)}에 주입하시면 됩니다
  * 기본 정렬 조건이 가장 마지막에 들어가야합니다
+ * <p>
+ * 커서 기반 페이징은 첫번째 정렬 조건 하나와 상품 ID(tiebreaker)만 사용하며 {@link #keysetFrom(Pageable)}, {@link #seekFrom(Pageable, Cursor)}로 조건을 만든다
  *
  * @author sin-yechan
  * @see SortableRepository
+ * @see Cursor
  */
 public enum SortUtil {
-    PRICE(product.price),
-    WISH_COUNT(product.wishCount),
-    MOST_RECENT(product.createdAt),
-    PRODUCT_NAME(product.name);
-    
+    PRICE(product.price, Long::valueOf),
+    WISH_COUNT(product.wishCount, Integer::valueOf),
+    MOST_RECENT(product.createdAt, LocalDateTime::parse),
+    PRODUCT_NAME(product.name, Function.identity());
+
+    private static final String NO_KEY = "";
+
     private final ComparableExpressionBase<?> expression;
-    
-    SortUtil(final ComparableExpressionBase<?> expression) {
+    private final Function<String, ?> parser;
+
+    SortUtil(final ComparableExpressionBase<?> expression, final Function<String, ?> parser) {
         this.expression = expression;
+        this.parser = parser;
     }
-    
-    
+
+
     /**
      * @param pageable {@link Pageable}
      * @return 정렬 조건이 담긴 {@link OrderSpecifier} 배열
@@ -45,20 +60,99 @@ public enum SortUtil {
         if (pageable.getSort().isEmpty()) {
             return new OrderByNull[]{OrderByNull.getDefault()};
         }
-        pageable.getSort().forEach(order -> {
-            String property = order.getProperty().toUpperCase();
-            try {
-                SortUtil sortUtil = valueOf(property);
-                orderSpecifiers.add(sortUtil.getOrderSpecifiers(order));
-            } catch (IllegalArgumentException e) {
-                throw new UnsupportedSortTypeException(SortErrorCode.UNSUPPORTED_SORT_TYPE);
-            }
-        });
-        
-        
+        pageable.getSort().forEach(order -> orderSpecifiers.add(of(order).getOrderSpecifiers(order)));
+
+
         return orderSpecifiers.toArray(OrderSpecifier[]::new);
     }
-    
+
+    /**
+     * @param pageable {@link Pageable}
+     * @return 커서 기반 페이징에 사용할 정렬 조건. 정렬 키 뒤에 같은 방향의 상품 ID가 붙는다
+     */
+    public static OrderSpecifier<?>[] keysetFrom(final Pageable pageable) {
+        return findKeyOrder(pageable)
+                .map(order -> new OrderSpecifier<?>[]{of(order).getOrderSpecifiers(order), idOrderSpecifier(order)})
+                .orElseGet(() -> new OrderSpecifier<?>[]{product.productId.asc()});
+    }
+
+    /**
+     * @param pageable {@link Pageable}
+     * @return 커서에 담을 정렬 키 표현식. 정렬 조건이 없으면 상품 ID
+     */
+    public static ComparableExpressionBase<?> keyExpressionFrom(final Pageable pageable) {
+        return findKeyOrder(pageable)
+                .map(order -> of(order).expression)
+                .orElse(product.productId);
+    }
+
+    /**
+     * @param pageable {@link Pageable}
+     * @param cursor   직전 페이지의 커서
+     * @return 커서 이후의 행만 조회하는 조건. 첫 페이지라면 null
+     * 정렬 키가 null인 행은 MySQL처럼 오름차순에서는 가장 앞, 내림차순에서는 가장 뒤에 온다고 보고 이어서 조회한다
+     */
+    public static BooleanExpression seekFrom(final Pageable pageable, final Cursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        final Optional<Order> keyOrder = findKeyOrder(pageable);
+        if (keyOrder.isEmpty()) {
+            return product.productId.gt(cursor.getLastId());
+        }
+
+        final Order order = keyOrder.get();
+        final SortUtil sortUtil = of(order);
+        final BooleanExpression afterId = order.isAscending() ? product.productId.gt(cursor.getLastId()) : product.productId.lt(cursor.getLastId());
+        if (cursor.getLastValue() == null) {
+            final BooleanExpression afterNullKey = sortUtil.expression.isNull().and(afterId);
+            return order.isAscending() ? afterNullKey.or(sortUtil.expression.isNotNull()) : afterNullKey;
+        }
+
+        final Object lastValue = sortUtil.parse(cursor.getLastValue());
+        final BooleanExpression afterKey = Expressions.predicate(order.isAscending() ? Ops.GT : Ops.LT, sortUtil.expression, Expressions.constant(lastValue));
+        final BooleanExpression sameKey = Expressions.predicate(Ops.EQ, sortUtil.expression, Expressions.constant(lastValue));
+        final BooleanExpression afterValue = afterKey.or(sameKey.and(afterId));
+        return order.isAscending() ? afterValue : afterValue.or(sortUtil.expression.isNull());
+    }
+
+    static String keyPropertyOf(final Pageable pageable) {
+        return findKeyOrder(pageable)
+                .map(order -> of(order).name() + order.getDirection().name())
+                .orElse(NO_KEY);
+    }
+
+    private static Optional<Order> findKeyOrder(final Pageable pageable) {
+        return pageable.getSort()
+                .stream()
+                .findFirst();
+    }
+
+    private static SortUtil of(final Order order) {
+        String property = order.getProperty().toUpperCase();
+        try {
+            return valueOf(property);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedSortTypeException(SortErrorCode.UNSUPPORTED_SORT_TYPE);
+        }
+    }
+
+    private static OrderSpecifier<?> idOrderSpecifier(final Order order) {
+        if (order.getDirection().isAscending()) {
+            return product.productId.asc();
+        }
+        return product.productId.desc();
+    }
+
+    private Object parse(final String value) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidCursorException(SortErrorCode.INVALID_CURSOR);
+        }
+    }
+
     private OrderSpecifier<?> getOrderSpecifiers(final Order order) {
         if (order.getDirection().isAscending()) {
             return expression.asc();
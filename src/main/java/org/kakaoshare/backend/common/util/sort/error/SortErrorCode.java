@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum SortErrorCode implements ErrorCode {
     UNSUPPORTED_SORT_TYPE(HttpStatus.BAD_REQUEST,"Unsupported type of sort"),
-    NO_MORE_PAGE(HttpStatus.NOT_FOUND,"No more page to response");
+    NO_MORE_PAGE(HttpStatus.NOT_FOUND,"No more page to response"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST,"Invalid cursor for requested sort");
     private final HttpStatus httpStatus;
     private final String message;
 
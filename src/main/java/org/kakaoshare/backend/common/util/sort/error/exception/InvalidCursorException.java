@@ -0,0 +1,12 @@
+package org.kakaoshare.backend.common.util.sort.error.exception;
+
+import lombok.Getter;
+import org.kakaoshare.backend.common.error.ErrorCode;
+import org.kakaoshare.backend.common.error.exception.BusinessException;
+
+@Getter
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException(final ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
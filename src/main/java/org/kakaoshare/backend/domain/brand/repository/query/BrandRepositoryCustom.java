@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.List;
 
 public interface BrandRepositoryCustom {
-    List<SimpleBrandDto> findAllSimpleBrandByCategoryId(Long categoryId);
+    List<SimpleBrandDto> findAllSimpleBrands();
     List<SimpleBrandDto> findBySearchConditions(final String keyword, final Pageable pageable);
+    List<SimpleBrandDto> findAllSimpleBrandByIds(final List<Long> brandIds, final Pageable pageable);
 }
@@ -0,0 +1,80 @@
+package org.kakaoshare.backend.domain.brand.service;
+
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
+import org.kakaoshare.backend.domain.brand.repository.BrandRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 브랜드 아이콘({@link SimpleBrandDto}) 보관소
+ * 브랜드 수가 적고 잘 바뀌지 않으므로 전체를 브랜드 이름 순서로 한 번에 읽어 두고,
+ * 브랜드가 바뀌면 {@link BrandIconEntityListener}가 무효화한다. 다른 노드에서 일어난 변경은 {@link #TTL} 이내에 반영된다
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandIconCache {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final BrandRepository brandRepository;
+    private volatile Snapshot snapshot;
+
+    public Optional<SimpleBrandDto> find(final Long brandId) {
+        return Optional.ofNullable(current().get(brandId));
+    }
+
+    /**
+     * @return 브랜드 이름 순서로 정렬된 브랜드 아이콘. 알 수 없는 브랜드 ID는 무시한다
+     */
+    public List<SimpleBrandDto> findAll(final Collection<Long> brandIds) {
+        final Set<Long> ids = new HashSet<>(brandIds);
+        return current().values()
+                .stream()
+                .filter(brand -> ids.contains(brand.getBrandId()))
+                .toList();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화해 커밋 전 상태로 다시 읽지 않도록 한다
+     */
+    public void invalidate() {
+        afterCommit(() -> snapshot = null);
+    }
+
+    private Map<Long, SimpleBrandDto> current() {
+        final Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current.brands();
+        }
+        return reload();
+    }
+
+    private synchronized Map<Long, SimpleBrandDto> reload() {
+        final Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current.brands();
+        }
+
+        final Map<Long, SimpleBrandDto> brands = new LinkedHashMap<>();
+        brandRepository.findAllSimpleBrands()
+                .forEach(brand -> brands.put(brand.getBrandId(), brand));
+        snapshot = new Snapshot(brands, System.nanoTime());
+        return brands;
+    }
+
+    private record Snapshot(Map<Long, SimpleBrandDto> brands, long loadedAt) {
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TTL.toNanos();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.kakaoshare.backend.domain.brand.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 브랜드가 추가/수정/삭제되면 {@link BrandIconCache}를 무효화한다
+ */
+@RequiredArgsConstructor
+public class BrandIconEntityListener {
+    private final ObjectProvider<BrandIconCache> brandIconCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(final Object entity) {
+        brandIconCache.ifAvailable(BrandIconCache::invalidate);
+    }
+}
@@ -2,25 +2,30 @@ package org.kakaoshare.backend.domain.brand.service;
 
 import lombok.RequiredArgsConstructor;
 import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
-import org.kakaoshare.backend.domain.brand.repository.BrandRepository;
+import org.kakaoshare.backend.domain.category.service.CategoryTreeCache;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * 카테고리의 브랜드 목록은 {@link CategoryTree}의 카테고리별 브랜드 ID와 {@link BrandIconCache}로 만들어 DB를 조회하지 않는다
+ */
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class BrandService {
-    private final BrandRepository brandRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BrandIconCache brandIconCache;
     
     public List<SimpleBrandDto> getSimpleBrandPage(final Long categoryId) {
-        return brandRepository.findAllSimpleBrandByCategoryId(categoryId);
+        return categoryTreeCache.get()
+                .find(categoryId)
+                .map(category -> brandIconCache.findAll(category.brandIds()))
+                .orElseGet(List::of);
     }
 
     public SimpleBrandDto getBrandNameWithIcon(Long brandId) {
-        return brandRepository.findById(brandId)
-                .map(SimpleBrandDto::from)
+        return brandIconCache.find(brandId)
                 .orElseThrow(() -> new IllegalArgumentException("Brand not found with id: " + brandId)); //todo 추후 커스텀 예외처리
     }
 }
@@ -19,6 +19,8 @@ import org.kakaoshare.backend.domain.option.entity.Option;
 import org.kakaoshare.backend.domain.option.entity.OptionDetail;
 import org.kakaoshare.backend.domain.option.repository.OptionDetailRepository;
 import org.kakaoshare.backend.domain.option.repository.OptionRepository;
+import org.kakaoshare.backend.domain.option.service.OptionCatalog;
+import org.kakaoshare.backend.domain.option.vo.ProductOptions;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
 import org.springframework.stereotype.Service;
@@ -33,13 +35,17 @@ public class CartService {
     private final ProductRepository productRepository;
     private final OptionRepository optionRepository;
     private final OptionDetailRepository optionDetailRepository;
+    private final OptionCatalog optionCatalog;
 
     @Transactional
     public CartRegisterResponse registerItem(CartRegisterRequest request, String providerId) {
         Member member = findMemberByProviderId(providerId);
         Product product = findProductByProductId(request.getProductId());
-        Option option = resolveOption(request.getOptionId(), product);
-        OptionDetail optionDetail = resolveOptionDetail(request.getOptionDetailId(), option);
+        ProductOptions productOptions = optionCatalog.get(product.getProductId());
+        Long optionId = resolveOptionId(request.getOptionId(), productOptions);
+        Long optionDetailId = resolveOptionDetailId(request.getOptionDetailId(), optionId, productOptions);
+        Option option = getOptionById(optionId);
+        OptionDetail optionDetail = getOptionDetailById(optionDetailId);
 
         Cart existingCart = cartRepository.findByMemberIdAndProductId(member.getMemberId(), product.getProductId())
                 .orElse(null);
@@ -128,19 +134,12 @@ public class CartService {
                 .orElseThrow(() -> new IllegalArgumentException("Invalid product ID"));
     }
 
-    private Option findOptionById(Long optionId) {
-        return optionRepository.findById(optionId)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid option ID"));
-    }
-
-    private OptionDetail findOptionDetailById(Long optionDetailId) {
-        return optionDetailRepository.findById(optionDetailId)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid option detail ID"));
-    }
-
+    /**
+     * 옵션은 {@link OptionCatalog}에서 검증했으므로 조회 없이 참조만 가져온다
+     */
     private Option getOptionById(Long optionId) {
         if (optionId != null) {
-            return findOptionById(optionId);
+            return optionRepository.getReferenceById(optionId);
         } else {
             return null;
         }
@@ -148,29 +147,33 @@ public class CartService {
 
     private OptionDetail getOptionDetailById(Long optionDetailId) {
         if (optionDetailId != null) {
-            return findOptionDetailById(optionDetailId);
+            return optionDetailRepository.getReferenceById(optionDetailId);
         } else {
             return null;
         }
     }
 
-    private Option resolveOption(Long optionId, Product product) {
+    private Long resolveOptionId(Long optionId, ProductOptions productOptions) {
         if (optionId == null) {
-            List<Option> options = optionRepository.findByProductId(product.getProductId());
-            return options.isEmpty() ? null : options.get(0);
+            return productOptions.findFirstOptionId().orElse(null);
+        }
+        if (!productOptions.containsOption(optionId)) {
+            throw new IllegalArgumentException("Invalid option ID");
         }
-        return getOptionById(optionId);
+        return optionId;
     }
 
-    private OptionDetail resolveOptionDetail(Long optionDetailId, Option option) {
+    private Long resolveOptionDetailId(Long optionDetailId, Long optionId, ProductOptions productOptions) {
         if (optionDetailId == null) {
-            if (option != null) {
-                List<OptionDetail> details = optionDetailRepository.findByOptionId(option.getOptionsId());
-                return details.isEmpty() ? null : details.get(0);
+            if (optionId != null) {
+                return productOptions.findFirstDetailIdOf(optionId).orElse(null);
             }
             return null;
         }
-        return getOptionDetailById(optionDetailId);
+        if (!productOptions.containsDetail(optionDetailId, optionId)) {
+            throw new IllegalArgumentException("Invalid option detail ID");
+        }
+        return optionDetailId;
     }
 
 }
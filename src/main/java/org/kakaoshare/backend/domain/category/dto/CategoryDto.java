@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Builder;
 import lombok.Getter;
 import org.kakaoshare.backend.domain.category.entity.Category;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +45,25 @@ public class CategoryDto {
         return categoryDto;
     }
 
+    /**
+     * 카테고리 트리 스냅샷의 노드로 만든다. 하위 카테고리 DTO는 호출하는 쪽에서 먼저 만들어 넘긴다
+     */
+    public static CategoryDto of(final CategoryTree.Node node, final List<CategoryDto> subCategories) {
+        CategoryDto categoryDto = CategoryDto.builder()
+                .categoryId(node.categoryId())
+                .categoryName(node.name())
+                .parentId(node.parentId())
+                .build();
+
+        categoryDto.level = 2;
+        if (!subCategories.isEmpty()) {
+            categoryDto.level = 1;
+            categoryDto.getSubCategories().addAll(subCategories);
+        }
+
+        return categoryDto;
+    }
+
     private static void giveLevelAndSubCategories(CategoryDto dto, Category category) {
         dto.level=2;
         if (!category.isChildEmpty()) {
@@ -0,0 +1,12 @@
+package org.kakaoshare.backend.domain.category.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record CategoryNodeDto(Long categoryId, String name, Long parentId) {
+    @QueryProjection
+    public CategoryNodeDto(final Long categoryId, final String name, final Long parentId) {
+        this.categoryId = categoryId;
+        this.name = name;
+        this.parentId = parentId;
+    }
+}
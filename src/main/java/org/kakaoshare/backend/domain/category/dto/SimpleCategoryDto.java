@@ -3,6 +3,7 @@ package org.kakaoshare.backend.domain.category.dto;
 import lombok.Builder;
 import lombok.Getter;
 import org.kakaoshare.backend.domain.category.entity.Category;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 
 @Getter
 public class SimpleCategoryDto {
@@ -20,4 +21,11 @@ public class SimpleCategoryDto {
                 .categoryName(category.getName())
                 .build();
     }
+    
+    public static SimpleCategoryDto from(final CategoryTree.Node node) {
+        return SimpleCategoryDto.builder()
+                .categoryId(node.categoryId())
+                .categoryName(node.name())
+                .build();
+    }
 }
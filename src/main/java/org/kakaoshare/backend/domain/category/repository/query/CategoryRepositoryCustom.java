@@ -1,8 +1,10 @@
 package org.kakaoshare.backend.domain.category.repository.query;
 
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
 import org.kakaoshare.backend.domain.category.entity.Category;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CategoryRepositoryCustom {
@@ -15,5 +17,7 @@ public interface CategoryRepositoryCustom {
     List<Category> findAllParentCategories();
     Long countBrand(Long categoryId);
     Long countProduct(Long categoryId);
+    List<CategoryNodeDto> findAllCategoryNodes();
+    Map<Long, Map<Long, Long>> countProductGroupByCategoryIdAndBrandId();
     
 }
\ No newline at end of file
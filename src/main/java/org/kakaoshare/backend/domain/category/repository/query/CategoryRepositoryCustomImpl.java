@@ -3,10 +3,14 @@ package org.kakaoshare.backend.domain.category.repository.query;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+import org.kakaoshare.backend.domain.category.dto.QCategoryNodeDto;
 import org.kakaoshare.backend.domain.category.entity.Category;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.kakaoshare.backend.domain.brand.entity.QBrand.brand;
 import static org.kakaoshare.backend.domain.category.entity.QCategory.category;
@@ -65,6 +69,31 @@ public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
                 .fetchOne();
     }
     
+    @Override
+    public List<CategoryNodeDto> findAllCategoryNodes() {
+        return queryFactory
+                .select(new QCategoryNodeDto(category.categoryId, category.name, category.parent.categoryId))
+                .from(category)
+                .fetch();
+    }
+    
+    @Override
+    public Map<Long, Map<Long, Long>> countProductGroupByCategoryIdAndBrandId() {
+        return queryFactory
+                .select(product.category.categoryId, product.brand.brandId, product.count())
+                .from(product)
+                .groupBy(product.category.categoryId, product.brand.brandId)
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(product.category.categoryId),
+                        Collectors.toMap(
+                                tuple -> tuple.get(product.brand.brandId),
+                                tuple -> tuple.get(product.count())
+                        )
+                ));
+    }
+    
     private static BooleanExpression equalCategoryId(final Long categoryId) {
         return category.categoryId.eq(categoryId);
     }
@@ -0,0 +1,215 @@
+package org.kakaoshare.backend.domain.category.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+import org.kakaoshare.backend.domain.category.repository.CategoryRepository;
+import org.kakaoshare.backend.domain.category.vo.CategoryNavigation;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * {@link CategoryTree} 스냅샷과 스냅샷으로 만든 {@link CategoryNavigation} 보관소
+ * 1단계는 노드의 메모리, 2단계는 {@link CacheManager}의 Redis 캐시이며 둘 다 없을 때만 DB에서 트리를 만든다
+ * <p>
+ * 상품이 추가/삭제되면 {@link CategoryTreeEntityListener}가 {@link #applyProductChange(Long, Long, long)}로 변경분만 반영한다.
+ * 변경분은 자신의 스냅샷에 반영하고 {@link #CHANGE_CHANNEL}로 발행해 다른 노드도 DB 조회 없이 같은 변경분을 반영한다.
+ * Redis에는 노드가 변경분을 반영한 트리를 쓰지 않고 키를 지워, 동시에 반영한 노드들이 서로의 변경분을 덮어쓰지 않게 한다. Redis 스냅샷은 다음에 다시 읽는 노드가 DB로 만든다.
+ * 카테고리 자체가 바뀌면 {@link #invalidate()}로 모든 노드의 스냅샷을 버리고 다시 만든다.
+ * pub/sub 메시지는 유실될 수 있으므로 1단계 스냅샷은 {@link #LOCAL_TTL}마다 Redis에서 다시 읽고, Redis 캐시는 캐시 TTL이 지나면 DB로 다시 만든다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache implements MessageListener {
+    private static final String CACHE_NAME = "categoryTree";
+    private static final String CACHE_KEY = "snapshot";
+    private static final String CHANGE_CHANNEL = "category-tree-change";
+    private static final String RELOAD_MESSAGE = "reload";
+    private static final String MESSAGE_DELIMITER = ":";
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+
+    private final CategoryRepository categoryRepository;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    public CategoryTree get() {
+        return current().tree();
+    }
+
+    public CategoryNavigation getNavigation() {
+        return current().navigation();
+    }
+
+    /**
+     * 상품 하나가 추가(1)되거나 삭제(-1)된 것을 커밋 이후에 반영한다
+     */
+    public void applyProductChange(final Long categoryId, final Long brandId, final long delta) {
+        afterCommit(() -> {
+            applyLocal(categoryId, brandId, delta);
+            evictRemote();
+            publish(categoryId + MESSAGE_DELIMITER + brandId + MESSAGE_DELIMITER + delta);
+        });
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화해 커밋 전 상태로 스냅샷이 다시 만들어지지 않도록 한다
+     */
+    public void invalidate() {
+        afterCommit(() -> {
+            snapshot = null;
+            evictRemote();
+            publish(RELOAD_MESSAGE);
+        });
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        final String[] sourceAndChange = body.split("\\|", 2);
+        if (sourceAndChange.length != 2 || nodeId.equals(sourceAndChange[0])) {
+            return;
+        }
+
+        final String change = sourceAndChange[1];
+        if (RELOAD_MESSAGE.equals(change)) {
+            snapshot = null;
+            return;
+        }
+
+        try {
+            final String[] values = change.split(MESSAGE_DELIMITER);
+            applyLocal(Long.valueOf(values[0]), Long.valueOf(values[1]), Long.parseLong(values[2]));
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply category tree change. message: {}", body, e);
+            snapshot = null;
+        }
+    }
+
+    private Snapshot current() {
+        final Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+        return reload();
+    }
+
+    private synchronized Snapshot reload() {
+        final Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+
+        final CategoryTree tree = findRemote().orElseGet(() -> {
+            final CategoryTree loaded = CategoryTree.of(
+                    categoryRepository.findAllCategoryNodes(),
+                    categoryRepository.countProductGroupByCategoryIdAndBrandId()
+            );
+            putRemote(loaded);
+            return loaded;
+        });
+        final Snapshot reloaded = Snapshot.of(tree);
+        snapshot = reloaded;
+        return reloaded;
+    }
+
+    /**
+     * 아직 스냅샷이 없다면 다음 조회에서 변경분이 반영된 스냅샷이 만들어지므로 반영하지 않는다
+     */
+    private synchronized void applyLocal(final Long categoryId, final Long brandId, final long delta) {
+        final Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        snapshot = current.with(current.tree().withProductCount(categoryId, brandId, delta));
+    }
+
+    private Optional<CategoryTree> findRemote() {
+        try {
+            final String json = remoteCache().get(CACHE_KEY, String.class);
+            if (json == null) {
+                return Optional.empty();
+            }
+            final CategoryTreeSource source = objectMapper.readValue(json, CategoryTreeSource.class);
+            return Optional.of(CategoryTree.of(source.categories(), source.productCounts()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read category tree cache.", e);
+            return Optional.empty();
+        }
+    }
+
+    private void putRemote(final CategoryTree tree) {
+        try {
+            final CategoryTreeSource source = new CategoryTreeSource(tree.getCategories(), tree.getProductCounts());
+            remoteCache().put(CACHE_KEY, objectMapper.writeValueAsString(source));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write category tree cache.", e);
+        }
+    }
+
+    private void evictRemote() {
+        try {
+            remoteCache().evict(CACHE_KEY);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict category tree cache.", e);
+        }
+    }
+
+    private void publish(final String change) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, nodeId + "|" + change);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish category tree change. change: {}", change, e);
+        }
+    }
+
+    private Cache remoteCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    record CategoryTreeSource(List<CategoryNodeDto> categories, Map<Long, Map<Long, Long>> productCounts) {
+    }
+
+    private record Snapshot(CategoryTree tree, CategoryNavigation navigation, long loadedAt) {
+        static Snapshot of(final CategoryTree tree) {
+            return new Snapshot(tree, CategoryNavigation.from(tree), System.nanoTime());
+        }
+
+        Snapshot with(final CategoryTree changed) {
+            return new Snapshot(changed, CategoryNavigation.from(changed), loadedAt);
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > LOCAL_TTL.toNanos();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.kakaoshare.backend.domain.category.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.domain.category.entity.Category;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Objects;
+
+/**
+ * 카테고리 트리 스냅샷에 영향을 주는 변경을 {@link CategoryTreeCache}에 알린다
+ * 상품 추가/삭제는 카테고리, 브랜드별 상품 수 변경분만 반영하고, 카테고리 변경은 스냅샷을 다시 만든다
+ * 상품 수정은 카테고리나 브랜드가 바뀐 경우에만 이전 (카테고리, 브랜드)에서 빼고 새 (카테고리, 브랜드)에 더한다
+ */
+@RequiredArgsConstructor
+public class CategoryTreeEntityListener {
+    private final ObjectProvider<CategoryTreeCache> categoryTreeCache;
+
+    @PostPersist
+    public void onSave(final Object entity) {
+        onChange(entity, 1L);
+    }
+
+    @PostRemove
+    public void onRemove(final Object entity) {
+        onChange(entity, -1L);
+    }
+
+    @PostUpdate
+    public void onUpdate(final Object entity) {
+        if (entity instanceof Product product) {
+            onMove(product);
+            return;
+        }
+        if (entity instanceof Category) {
+            categoryTreeCache.ifAvailable(CategoryTreeCache::invalidate);
+        }
+    }
+
+    /**
+     * 수정 전 카테고리/브랜드를 모르면 변경분을 계산할 수 없으므로 스냅샷을 다시 만든다
+     */
+    private void onMove(final Product product) {
+        final Long categoryId = product.getCategory().getCategoryId();
+        final Long brandId = product.getBrand().getBrandId();
+        final Long previousCategoryId = product.getPersistedCategoryId();
+        final Long previousBrandId = product.getPersistedBrandId();
+        if (Objects.equals(categoryId, previousCategoryId) && Objects.equals(brandId, previousBrandId)) {
+            return;
+        }
+
+        if (previousCategoryId == null || previousBrandId == null) {
+            categoryTreeCache.ifAvailable(CategoryTreeCache::invalidate);
+            return;
+        }
+        categoryTreeCache.ifAvailable(cache -> {
+            cache.applyProductChange(previousCategoryId, previousBrandId, -1L);
+            cache.applyProductChange(categoryId, brandId, 1L);
+        });
+    }
+
+    private void onChange(final Object entity, final long delta) {
+        if (entity instanceof Product product) {
+            categoryTreeCache.ifAvailable(cache -> cache.applyProductChange(
+                    product.getCategory().getCategoryId(),
+                    product.getBrand().getBrandId(),
+                    delta
+            ));
+            return;
+        }
+        categoryTreeCache.ifAvailable(CategoryTreeCache::invalidate);
+    }
+}
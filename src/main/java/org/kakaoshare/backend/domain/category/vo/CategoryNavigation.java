@@ -0,0 +1,80 @@
+package org.kakaoshare.backend.domain.category.vo;
+
+import org.kakaoshare.backend.domain.category.dto.CategoryDto;
+import org.kakaoshare.backend.domain.category.dto.CategoryHeaderResponse;
+import org.kakaoshare.backend.domain.category.dto.SimpleCategoryDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 카테고리 화면에서 사용하는 응답 모음
+ * {@link CategoryTree} 스냅샷 하나로 부모 카테고리 목록, 카테고리별 {@link CategoryDto}, 부모 카테고리별 {@link CategoryHeaderResponse}를 미리 만들어 둔다
+ */
+public final class CategoryNavigation {
+    private final List<CategoryDto> parentCategories;
+    private final Map<Long, CategoryDto> categories;
+    private final Map<Long, CategoryHeaderResponse> headers;
+
+    private CategoryNavigation(final List<CategoryDto> parentCategories,
+                               final Map<Long, CategoryDto> categories,
+                               final Map<Long, CategoryHeaderResponse> headers) {
+        this.parentCategories = parentCategories;
+        this.categories = categories;
+        this.headers = headers;
+    }
+
+    public static CategoryNavigation from(final CategoryTree tree) {
+        final Map<Long, CategoryDto> categories = new HashMap<>();
+        final Map<Long, CategoryHeaderResponse> headers = new HashMap<>();
+        final List<CategoryDto> parentCategories = tree.roots()
+                .stream()
+                .map(root -> {
+                    final List<CategoryTree.Node> children = childrenOf(tree, root);
+                    final List<CategoryDto> subCategories = children.stream()
+                            .map(child -> CategoryDto.of(child, List.of()))
+                            .toList();
+                    subCategories.forEach(subCategory -> categories.put(subCategory.getCategoryId(), subCategory));
+
+                    final CategoryDto parent = CategoryDto.of(root, subCategories);
+                    categories.put(root.categoryId(), parent);
+                    headers.put(root.categoryId(), CategoryHeaderResponse.of(
+                            root.brandCount(),
+                            root.productCount(),
+                            children.stream().map(SimpleCategoryDto::from).toList()
+                    ));
+                    return parent;
+                })
+                .toList();
+        return new CategoryNavigation(parentCategories, Map.copyOf(categories), Map.copyOf(headers));
+    }
+
+    public List<CategoryDto> getParentCategories() {
+        return parentCategories;
+    }
+
+    public Optional<CategoryDto> findParentCategory(final Long categoryId) {
+        return Optional.ofNullable(categories.get(categoryId))
+                .filter(category -> category.getParentId() == null);
+    }
+
+    public Optional<CategoryDto> findChildCategory(final Long categoryId, final Long subcategoryId) {
+        return Optional.ofNullable(categories.get(subcategoryId))
+                .filter(category -> Objects.equals(category.getParentId(), categoryId));
+    }
+
+    public Optional<CategoryHeaderResponse> findHeader(final Long categoryId) {
+        return Optional.ofNullable(headers.get(categoryId));
+    }
+
+    private static List<CategoryTree.Node> childrenOf(final CategoryTree tree, final CategoryTree.Node node) {
+        return node.childIds()
+                .stream()
+                .map(tree::find)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+}
@@ -0,0 +1,182 @@
+package org.kakaoshare.backend.domain.category.vo;
+
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 카테고리 트리 스냅샷
+ * 카테고리마다 자신을 포함한 하위 카테고리 ID, 하위 카테고리를 포함한 상품 수와 브랜드 ID를 미리 계산해 둔다
+ * 만들어진 이후에는 바뀌지 않으며, 변경이 생기면 {@link #withProductCount(Long, Long, long)}처럼 새 스냅샷으로 교체한다
+ *
+ * @see org.kakaoshare.backend.domain.category.service.CategoryTreeCache
+ */
+public final class CategoryTree {
+    private static final CategoryTree EMPTY = new CategoryTree(List.of(), Map.of(), Map.of());
+
+    private final List<CategoryNodeDto> categories;
+    private final Map<Long, Map<Long, Long>> productCounts;
+    private final Map<Long, Node> nodes;
+
+    private CategoryTree(final List<CategoryNodeDto> categories,
+                         final Map<Long, Map<Long, Long>> productCounts,
+                         final Map<Long, Node> nodes) {
+        this.categories = categories;
+        this.productCounts = productCounts;
+        this.nodes = nodes;
+    }
+
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    public static CategoryTree of(final List<CategoryNodeDto> categories) {
+        return of(categories, Map.of());
+    }
+
+    /**
+     * @param productCounts 카테고리 ID별, 브랜드 ID별 직접 속한 상품 수
+     */
+    public static CategoryTree of(final List<CategoryNodeDto> categories,
+                                  final Map<Long, ? extends Map<Long, Long>> productCounts) {
+        final List<CategoryNodeDto> sortedCategories = categories.stream()
+                .sorted(Comparator.comparing(CategoryNodeDto::categoryId))
+                .toList();
+        final Map<Long, Map<Long, Long>> copiedCounts = new HashMap<>();
+        productCounts.forEach((categoryId, counts) -> copiedCounts.put(categoryId, Map.copyOf(counts)));
+
+        final Map<Long, List<Long>> childIds = new LinkedHashMap<>();
+        sortedCategories.forEach(category -> {
+            childIds.computeIfAbsent(category.categoryId(), key -> new ArrayList<>());
+            if (category.parentId() != null) {
+                childIds.computeIfAbsent(category.parentId(), key -> new ArrayList<>()).add(category.categoryId());
+            }
+        });
+
+        final Map<Long, Node> nodes = new LinkedHashMap<>();
+        sortedCategories.forEach(category -> {
+            final Set<Long> descendantIds = new LinkedHashSet<>();
+            collectDescendants(category.categoryId(), childIds, descendantIds);
+
+            long productCount = 0L;
+            final Set<Long> brandIds = new TreeSet<>();
+            for (final Long descendantId : descendantIds) {
+                final Map<Long, Long> counts = copiedCounts.getOrDefault(descendantId, Map.of());
+                productCount += counts.values().stream().mapToLong(Long::longValue).sum();
+                brandIds.addAll(counts.keySet());
+            }
+
+            nodes.put(category.categoryId(), new Node(
+                    category.categoryId(),
+                    category.name(),
+                    category.parentId(),
+                    List.copyOf(childIds.getOrDefault(category.categoryId(), List.of())),
+                    List.copyOf(descendantIds),
+                    productCount,
+                    List.copyOf(brandIds)
+            ));
+        });
+        return new CategoryTree(sortedCategories, Map.copyOf(copiedCounts), Map.copyOf(nodes));
+    }
+
+    /**
+     * DB를 다시 읽지 않고 상품 하나가 추가(1)되거나 삭제(-1)된 스냅샷을 만든다
+     * 상품 수가 0이 된 브랜드는 카테고리의 브랜드에서 빠진다
+     */
+    public CategoryTree withProductCount(final Long categoryId, final Long brandId, final long delta) {
+        final Map<Long, Map<Long, Long>> changedCounts = new HashMap<>(productCounts);
+        final Map<Long, Long> counts = new HashMap<>(productCounts.getOrDefault(categoryId, Map.of()));
+        final long count = counts.getOrDefault(brandId, 0L) + delta;
+        if (count > 0) {
+            counts.put(brandId, count);
+        } else {
+            counts.remove(brandId);
+        }
+        changedCounts.put(categoryId, counts);
+        return of(categories, changedCounts);
+    }
+
+    public List<CategoryNodeDto> getCategories() {
+        return categories;
+    }
+
+    /**
+     * @return 카테고리 ID별, 브랜드 ID별 직접 속한 상품 수
+     */
+    public Map<Long, Map<Long, Long>> getProductCounts() {
+        return productCounts;
+    }
+
+    public Optional<Node> find(final Long categoryId) {
+        return Optional.ofNullable(nodes.get(categoryId));
+    }
+
+    /**
+     * @return 자신을 포함한 하위 카테고리 ID. 알 수 없는 카테고리라면 자신의 ID만 담는다
+     */
+    public List<Long> descendantIdsOf(final Long categoryId) {
+        return find(categoryId)
+                .map(Node::descendantIds)
+                .orElse(List.of(categoryId));
+    }
+
+    /**
+     * @return 이름이 일치하는 카테고리와 그 하위 카테고리의 ID
+     */
+    public List<Long> descendantIdsOfNames(final Collection<String> names) {
+        final Set<Long> categoryIds = new TreeSet<>();
+        nodes.values()
+                .stream()
+                .filter(node -> names.contains(node.name()))
+                .forEach(node -> categoryIds.addAll(node.descendantIds()));
+        return List.copyOf(categoryIds);
+    }
+
+    public List<Node> roots() {
+        return nodes.values()
+                .stream()
+                .filter(Node::isRoot)
+                .sorted(Comparator.comparing(Node::categoryId))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    private static void collectDescendants(final Long categoryId,
+                                           final Map<Long, List<Long>> childIds,
+                                           final Set<Long> collected) {
+        if (!collected.add(categoryId)) {
+            return;
+        }
+        childIds.getOrDefault(categoryId, List.of())
+                .forEach(childId -> collectDescendants(childId, childIds, collected));
+    }
+
+    public record Node(Long categoryId,
+                       String name,
+                       Long parentId,
+                       List<Long> childIds,
+                       List<Long> descendantIds,
+                       long productCount,
+                       List<Long> brandIds) {
+        public boolean isRoot() {
+            return parentId == null;
+        }
+
+        public long brandCount() {
+            return brandIds.size();
+        }
+    }
+}
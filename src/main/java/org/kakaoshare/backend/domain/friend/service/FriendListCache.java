@@ -0,0 +1,94 @@
+package org.kakaoshare.backend.domain.friend.service;
+
+import org.kakaoshare.backend.domain.member.dto.oauth.profile.detail.KakaoFriendListDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 카카오톡 친구 ID 캐시
+ * 친구 여부를 확인할 때마다 카카오 API를 동기로 호출하지 않도록 회원의 친구 목록을 {@link #TTL} 동안 보관한다
+ * 키는 액세스 토큰이 아닌 회원의 providerId이며, 새로 맺은 친구는 {@link #TTL} 이내에 반영된다
+ * 캐시된 목록에 없는 친구를 확인할 때는 새로 맺은 친구일 수 있으므로 목록을 한 번 다시 읽는다
+ */
+@Component
+public class FriendListCache {
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final KakaoFriendService kakaoFriendService;
+    private final Duration refreshInterval;
+    private final Map<String, CachedFriends> cache = Collections.synchronizedMap(new LinkedHashMap<String, CachedFriends>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedFriends> eldest) {
+            return size() > MAX_SIZE;
+        }
+    });
+
+    @Autowired
+    public FriendListCache(final KakaoFriendService kakaoFriendService) {
+        this(kakaoFriendService, REFRESH_INTERVAL);
+    }
+
+    FriendListCache(final KakaoFriendService kakaoFriendService, final Duration refreshInterval) {
+        this.kakaoFriendService = kakaoFriendService;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * @return 회원의 카카오톡 친구 providerId
+     */
+    public Set<String> getFriendIds(final String providerId, final String accessToken) {
+        final CachedFriends cached = cache.get(providerId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.friendIds();
+        }
+
+        return load(providerId, accessToken);
+    }
+
+    /**
+     * 캐시된 목록에 없는 ID가 있으면 목록을 다시 읽어 한 번 더 확인한다.
+     * 친구가 아닌 ID로 반복해서 요청해도 카카오 API를 매번 호출하지 않도록, 읽은 지 {@link #REFRESH_INTERVAL}이 지나지 않은 목록은 다시 읽지 않는다
+     *
+     * @return 모든 ID가 회원의 카카오톡 친구인지
+     */
+    public boolean containsAll(final String providerId, final String accessToken, final Collection<String> friendIds) {
+        if (getFriendIds(providerId, accessToken).containsAll(friendIds)) {
+            return true;
+        }
+
+        final CachedFriends cached = cache.get(providerId);
+        if (cached != null && !cached.isOlderThan(refreshInterval)) {
+            return false;
+        }
+        return load(providerId, accessToken).containsAll(friendIds);
+    }
+
+    private Set<String> load(final String providerId, final String accessToken) {
+        final Set<String> friendIds = kakaoFriendService.getFriendsList(accessToken)
+                .stream()
+                .map(KakaoFriendListDto::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        cache.put(providerId, new CachedFriends(friendIds, System.nanoTime()));
+        return friendIds;
+    }
+
+    private record CachedFriends(Set<String> friendIds, long loadedAt) {
+        boolean isExpired() {
+            return isOlderThan(TTL);
+        }
+
+        boolean isOlderThan(final Duration age) {
+            return System.nanoTime() - loadedAt > age.toNanos();
+        }
+    }
+}
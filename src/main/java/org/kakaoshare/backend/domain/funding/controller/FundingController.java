@@ -17,6 +17,7 @@ import org.kakaoshare.backend.domain.funding.service.FundingService;
 import org.kakaoshare.backend.jwt.util.LoggedInMember;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -34,6 +36,7 @@ import java.util.List;
 public class FundingController {
     private static final int DEFAULT_FUNDING_SIZE = 20;
     private static final int DEFAULT_TOP_CONTRIBUTORS_SIZE = 5;
+    private static final String X_ACCEL_BUFFERING = "X-Accel-Buffering";
 
     private final FundingService fundingService;
     private final FundingDetailService fundingDetailService;
@@ -86,6 +89,14 @@ public class FundingController {
         return ResponseEntity.ok(fundingPreviewResponse);
     }
 
+    @GetMapping(value = "/funding/{fundingId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> subscribeFundingProgress(@PathVariable final Long fundingId) {
+        final SseEmitter emitter = fundingService.subscribeFundingProgress(fundingId);
+        return ResponseEntity.ok()
+                .header(X_ACCEL_BUFFERING, "no")
+                .body(emitter);
+    }
+
     @GetMapping("/funding/{fundingId}/contributors")
     public ResponseEntity<?> getTopContributors(@PathVariable final Long fundingId,
                                                 @PageableDefault(size = DEFAULT_TOP_CONTRIBUTORS_SIZE) final Pageable pageable) {
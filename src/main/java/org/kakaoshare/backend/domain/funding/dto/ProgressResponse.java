@@ -8,7 +8,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.kakaoshare.backend.domain.brand.entity.Brand;
 import org.kakaoshare.backend.domain.funding.entity.Funding;
+import org.kakaoshare.backend.domain.funding.entity.FundingStatus;
 
+import java.time.LocalDate;
 import java.util.Optional;
 import org.kakaoshare.backend.domain.product.entity.Product;
 
@@ -44,6 +46,10 @@ public class ProgressResponse {
     private String brandName;
     @JsonInclude(Include.NON_NULL)
     private String productName;
+    @JsonInclude(Include.NON_NULL)
+    private FundingStatus status;
+    @JsonInclude(Include.NON_NULL)
+    private LocalDate expiredAt;
 
 
     public static ProgressResponse from(Funding funding) {
@@ -62,6 +68,8 @@ public class ProgressResponse {
                 .productPhoto(product.getPhoto())
                 .brandName(brand.getName())
                 .productName(product.getName())
+                .status(funding.getStatus())
+                .expiredAt(funding.getExpiredAt())
                 .build();
     }
 
@@ -78,6 +86,8 @@ public class ProgressResponse {
                 .productPhoto(null)
                 .brandName(null)
                 .productName(null)
+                .status(null)
+                .expiredAt(null)
                 .build();
     }
 }
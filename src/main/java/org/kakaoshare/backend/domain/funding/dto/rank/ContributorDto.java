@@ -0,0 +1,12 @@
+package org.kakaoshare.backend.domain.funding.dto.rank;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record ContributorDto(Long memberId,
+                             String name,
+                             String profileUrl,
+                             Long amount) {
+    @QueryProjection
+    public ContributorDto {
+    }
+}
@@ -0,0 +1,12 @@
+package org.kakaoshare.backend.domain.funding.dto.refund;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record RefundTargetDto(Long fundingDetailId,
+                              Long memberId,
+                              Long amount,
+                              String tid) {
+    @QueryProjection
+    public RefundTargetDto {
+    }
+}
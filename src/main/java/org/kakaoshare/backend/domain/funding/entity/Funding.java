@@ -35,6 +35,7 @@ import static org.kakaoshare.backend.domain.funding.entity.FundingStatus.PROGRES
         indexes = {
                 @Index(name = "idx_funding_member_id", columnList = "member_id"),
                 @Index(name = "idx_funding_product_id", columnList = "product_id"),
+                @Index(name = "idx_funding_status_expired_at", columnList = "status, expired_at"),
         }
 )
 public class Funding extends BaseTimeEntity {
@@ -113,14 +114,22 @@ public class Funding extends BaseTimeEntity {
 
     public void reflectStatus(final Long amount,
                               final Long contributorId) {
+        this.status = nextStatus(amount, contributorId);
+    }
+
+    /**
+     * @return 이번 기여가 반영된 뒤의 상태. 목표 금액을 달성하지 않았다면 지금 상태
+     */
+    public FundingStatus nextStatus(final Long amount,
+                                    final Long contributorId) {
         if (!satisfiedAccumulateAmount()) {
-            return;
+            return status;
         }
 
-        this.status = BEFORE_PAYING_REMAINING;
         if (isPayRemainingByCreator(amount, contributorId) || hasNoRemainingPay()) {
-            this.status = COMPLETE;
+            return COMPLETE;
         }
+        return BEFORE_PAYING_REMAINING;
     }
 
     public boolean attributable() {
@@ -139,6 +148,13 @@ public class Funding extends BaseTimeEntity {
         return status.completed();
     }
 
+    /**
+     * @return 목표 금액을 달성한 뒤 남은 금액(상품 가격 - 목표 금액)을 결제하는 기여인지
+     */
+    public boolean isRemainingPayment(final Long amount) {
+        return status == BEFORE_PAYING_REMAINING && product.getPrice() == amount + goalAmount;
+    }
+
     public boolean satisfiedAccumulateAmount() {
         return goalAmount.equals(accumulateAmount);
     }
@@ -146,6 +162,10 @@ public class Funding extends BaseTimeEntity {
         return goalAmount - accumulateAmount;
     }
     public Double calculateProgressRate() {
+        return calculateProgressRate(accumulateAmount, goalAmount);
+    }
+
+    public static Double calculateProgressRate(final Long accumulateAmount, final Long goalAmount) {
         return Optional.of(goalAmount)
                 .filter(goalAmountValue -> goalAmountValue.compareTo(ZERO) != 0)
                 .map(goalAmountValue -> divide(accumulateAmount, goalAmountValue) * PERCENT_MULTIPLIER)
@@ -7,6 +7,7 @@ import org.kakaoshare.backend.common.util.ParamEnum;
 public enum FundingDetailStatus implements ParamEnum {
     PROGRESS("진행 중"),
     COMPLETE("완료"),
+    REFUND_PENDING("환불 대기"),
     CANCEL_REFUND("취소/환불");
 
     private final String description;
@@ -16,7 +17,7 @@ public enum FundingDetailStatus implements ParamEnum {
     }
 
     public boolean canceled() {
-        return this.equals(CANCEL_REFUND);
+        return this.equals(REFUND_PENDING) || this.equals(CANCEL_REFUND);
     }
 
     @Override
@@ -2,10 +2,18 @@ package org.kakaoshare.backend.domain.funding.repository.query;
 
 import org.kakaoshare.backend.common.vo.date.Date;
 import org.kakaoshare.backend.domain.funding.dto.inquiry.ContributedFundingHistoryDto;
+import org.kakaoshare.backend.domain.funding.dto.rank.ContributorDto;
+import org.kakaoshare.backend.domain.funding.dto.refund.RefundTargetDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface FundingDetailRepositoryCustom {
     Page<ContributedFundingHistoryDto> findHistoryByCondition(final String providerId, final Date date, final String status, final Pageable pageable);
     Page<ContributedFundingHistoryDto> findHistoryByConditionWithoutStatus(final String providerId, final Date date, final Pageable pageable);
+    List<ContributorDto> findContributorsByFundingId(final Long fundingId);
+    long markRefundPending(final Long fundingId);
+    List<RefundTargetDto> findRefundTargetsByFundingId(final Long fundingId);
+    long cancelRefund(final Long fundingDetailId);
 }
\ No newline at end of file
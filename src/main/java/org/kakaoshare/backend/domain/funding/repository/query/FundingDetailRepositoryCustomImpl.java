@@ -6,10 +6,18 @@ import lombok.RequiredArgsConstructor;
 import org.kakaoshare.backend.common.vo.date.Date;
 import org.kakaoshare.backend.domain.funding.dto.inquiry.ContributedFundingHistoryDto;
 import org.kakaoshare.backend.domain.funding.dto.inquiry.QContributedFundingHistoryDto;
+import org.kakaoshare.backend.domain.funding.dto.rank.ContributorDto;
+import org.kakaoshare.backend.domain.funding.dto.rank.QContributorDto;
+import org.kakaoshare.backend.domain.funding.dto.refund.QRefundTargetDto;
+import org.kakaoshare.backend.domain.funding.dto.refund.RefundTargetDto;
+import org.kakaoshare.backend.domain.funding.entity.FundingDetailStatus;
 import org.kakaoshare.backend.domain.member.entity.QMember;
 import org.kakaoshare.backend.domain.product.dto.QProductDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 import static org.kakaoshare.backend.common.util.RepositoryUtils.createOrderSpecifiers;
 import static org.kakaoshare.backend.common.util.RepositoryUtils.eqExpression;
@@ -18,6 +26,7 @@ import static org.kakaoshare.backend.common.util.RepositoryUtils.toPage;
 import static org.kakaoshare.backend.domain.funding.entity.QFunding.funding;
 import static org.kakaoshare.backend.domain.funding.entity.QFundingDetail.fundingDetail;
 import static org.kakaoshare.backend.domain.member.entity.QMember.member;
+import static org.kakaoshare.backend.domain.payment.entity.QPayment.payment;
 import static org.kakaoshare.backend.domain.product.entity.QProduct.product;
 
 @RequiredArgsConstructor
@@ -26,18 +35,87 @@ public class FundingDetailRepositoryCustomImpl implements FundingDetailRepositor
 
     @Override
     public Page<ContributedFundingHistoryDto> findHistoryByCondition(final String providerId, final Date date, final String status, final Pageable pageable) {
-        final JPAQuery<Long> countQuery = createCountQuery(providerId, date, status, pageable);
+        final JPAQuery<Long> countQuery = createCountQuery(providerId, date, status);
         final JPAQuery<ContributedFundingHistoryDto> contentQuery = createContentQuery(providerId, date, status, pageable);
         return toPage(pageable, contentQuery, countQuery);
     }
 
     @Override
     public Page<ContributedFundingHistoryDto> findHistoryByConditionWithoutStatus(final String providerId, final Date date, final Pageable pageable) {
-        final JPAQuery<Long> countQuery = createCountQuery(providerId, date, pageable);
+        final JPAQuery<Long> countQuery = createCountQuery(providerId, date);
         final JPAQuery<ContributedFundingHistoryDto> contentQuery = createContentQuery(providerId, date, pageable);
         return toPage(pageable, contentQuery, countQuery);
     }
 
+    /**
+     * 기여자별로 환불되지 않은 기여 금액을 합친다. 기여자 랭킹을 다시 만들 때 읽는다
+     */
+    @Override
+    public List<ContributorDto> findContributorsByFundingId(final Long fundingId) {
+        return queryFactory
+                .select(new QContributorDto(member.memberId, member.name, member.profileImageUrl, fundingDetail.amount.sum()))
+                .from(fundingDetail)
+                .innerJoin(fundingDetail.member, member)
+                .where(
+                        fundingDetail.funding.fundingId.eq(fundingId),
+                        fundingDetail.status.ne(FundingDetailStatus.CANCEL_REFUND)
+                )
+                .groupBy(member.memberId, member.name, member.profileImageUrl)
+                .fetch();
+    }
+
+    /**
+     * 펀딩의 환불되지 않은 기여를 모두 환불 대기 상태로 바꾼다. 이미 환불 대기이거나 환불된 기여는 그대로 둔다
+     *
+     * @return 바뀐 행 수
+     */
+    @Override
+    @Transactional
+    public long markRefundPending(final Long fundingId) {
+        return queryFactory.update(fundingDetail)
+                .set(fundingDetail.status, FundingDetailStatus.REFUND_PENDING)
+                .where(
+                        fundingDetail.funding.fundingId.eq(fundingId),
+                        fundingDetail.status.in(FundingDetailStatus.PROGRESS, FundingDetailStatus.COMPLETE)
+                )
+                .execute();
+    }
+
+    /**
+     * 환불 대기 중인 기여를 결제 번호(tid)와 함께 읽는다. 기여 금액은 부분 환불을 뺀 남은 금액이다
+     */
+    @Override
+    public List<RefundTargetDto> findRefundTargetsByFundingId(final Long fundingId) {
+        return queryFactory
+                .select(new QRefundTargetDto(fundingDetail.fundingDetailId, fundingDetail.member.memberId, fundingDetail.amount, payment.paymentNumber))
+                .from(fundingDetail)
+                .innerJoin(fundingDetail.payment, payment)
+                .where(
+                        fundingDetail.funding.fundingId.eq(fundingId),
+                        fundingDetail.status.eq(FundingDetailStatus.REFUND_PENDING)
+                )
+                .orderBy(fundingDetail.fundingDetailId.asc())
+                .fetch();
+    }
+
+    /**
+     * 환불 대기 중인 기여일 때만 환불 상태로 바꾼다. 같은 기여를 두 번 환불 처리해도 한 번만 반영된다
+     *
+     * @return 바뀐 행 수
+     */
+    @Override
+    @Transactional
+    public long cancelRefund(final Long fundingDetailId) {
+        return queryFactory.update(fundingDetail)
+                .set(fundingDetail.status, FundingDetailStatus.CANCEL_REFUND)
+                .set(fundingDetail.rate, 0.)
+                .where(
+                        fundingDetail.fundingDetailId.eq(fundingDetailId),
+                        fundingDetail.status.eq(FundingDetailStatus.REFUND_PENDING)
+                )
+                .execute();
+    }
+
     private JPAQuery<?> createBaseQuery(final String providerId, final Date date) {
         return queryFactory
                 .from(fundingDetail)
@@ -58,21 +136,15 @@ public class FundingDetailRepositoryCustomImpl implements FundingDetailRepositor
 
     private JPAQuery<Long> createCountQuery(final String providerId,
                                             final Date date,
-                                            final String status,
-                                            final Pageable pageable) {
+                                            final String status) {
         return createBaseQuery(providerId, date, status)
-                .select(funding.count())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .select(funding.count());
     }
 
     private JPAQuery<Long> createCountQuery(final String providerId,
-                                            final Date date,
-                                            final Pageable pageable) {
+                                            final Date date) {
         return createBaseQuery(providerId, date)
-                .select(funding.count())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .select(funding.count());
     }
 
     private JPAQuery<ContributedFundingHistoryDto> createContentQuery(final String providerId,
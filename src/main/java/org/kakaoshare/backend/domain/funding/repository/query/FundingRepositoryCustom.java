@@ -7,6 +7,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +19,16 @@ public interface FundingRepositoryCustom {
     List<Funding> findAllByMemberId(Long memberId);
 
     Page<FundingResponse> findFundingByMemberIdAndStatusWithPage(Long memberId, FundingStatus status, Pageable pageable);
+
+    long increaseAccumulateAmount(Long fundingId, Long amount);
+
+    long updateStatus(Long fundingId, FundingStatus from, FundingStatus to);
+
+    long decreaseAccumulateAmount(Long fundingId, Long amount);
+
+    List<Long> findExpiredIds(LocalDate today, Long lastFundingId, int limit);
+
+    Optional<LocalDate> findOldestExpiredAt(LocalDate today);
+
+    List<Long> findIdsByStatus(Collection<Long> fundingIds, FundingStatus status);
 }
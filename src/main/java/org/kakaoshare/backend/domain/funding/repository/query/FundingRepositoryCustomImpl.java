@@ -7,6 +7,8 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -25,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -116,6 +119,102 @@ public class FundingRepositoryCustomImpl implements FundingRepositoryCustom, Sor
                 .where(condition);
     }
 
+    /**
+     * 진행 중인 펀딩에 목표 금액을 넘지 않을 때만 누적 금액을 더한다
+     * 읽은 값을 덮어쓰지 않고 조건과 덧셈을 한 UPDATE로 실행하므로 동시에 기여해도 금액을 잃거나 목표 금액을 넘지 않으며, 잠금은 해당 펀딩 행에만 걸린다
+     *
+     * @return 더해진 행 수. 목표 금액을 넘거나 진행 중이 아니면 0
+     */
+    @Override
+    @Transactional
+    public long increaseAccumulateAmount(final Long fundingId, final Long amount) {
+        return queryFactory.update(QFunding.funding)
+                .set(QFunding.funding.accumulateAmount, QFunding.funding.accumulateAmount.add(amount))
+                .where(
+                        QFunding.funding.fundingId.eq(fundingId),
+                        QFunding.funding.status.eq(FundingStatus.PROGRESS),
+                        QFunding.funding.accumulateAmount.add(amount).loe(QFunding.funding.goalAmount)
+                )
+                .execute();
+    }
+
+    /**
+     * 상태가 from일 때만 to로 바꾼다. 같은 전이를 동시에 시도하면 한 번만 반영된다
+     */
+    @Override
+    @Transactional
+    public long updateStatus(final Long fundingId, final FundingStatus from, final FundingStatus to) {
+        return queryFactory.update(QFunding.funding)
+                .set(QFunding.funding.status, to)
+                .where(
+                        QFunding.funding.fundingId.eq(fundingId),
+                        QFunding.funding.status.eq(from)
+                )
+                .execute();
+    }
+
+    /**
+     * 환불된 금액만큼 누적 금액을 뺀다. 읽은 값을 덮어쓰지 않으므로 동시에 들어온 기여/환불과 섞여도 합이 맞는다
+     * 취소된 펀딩은 취소할 때 누적 금액을 0으로 두므로 빼지 않는다
+     */
+    @Override
+    @Transactional
+    public long decreaseAccumulateAmount(final Long fundingId, final Long amount) {
+        return queryFactory.update(QFunding.funding)
+                .set(QFunding.funding.accumulateAmount, QFunding.funding.accumulateAmount.subtract(amount))
+                .where(
+                        QFunding.funding.fundingId.eq(fundingId),
+                        QFunding.funding.status.ne(FundingStatus.CANCEL)
+                )
+                .execute();
+    }
+
+    /**
+     * 만료일이 지났는데 진행 중인 펀딩을 lastFundingId 다음부터 PK 순으로 limit개 읽는다
+     * (status, expired_at) 인덱스만으로 조건을 거르고, 인덱스에 붙은 PK로 이어서 읽는다
+     */
+    @Override
+    public List<Long> findExpiredIds(final LocalDate today, final Long lastFundingId, final int limit) {
+        return queryFactory
+                .select(QFunding.funding.fundingId)
+                .from(QFunding.funding)
+                .where(
+                        expiredProgressPredicate(today),
+                        QFunding.funding.fundingId.gt(lastFundingId)
+                )
+                .orderBy(QFunding.funding.fundingId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * @return 만료일이 지났는데 아직 진행 중인 펀딩 중 가장 오래된 만료일
+     */
+    @Override
+    public Optional<LocalDate> findOldestExpiredAt(final LocalDate today) {
+        return Optional.ofNullable(queryFactory
+                .select(QFunding.funding.expiredAt.min())
+                .from(QFunding.funding)
+                .where(expiredProgressPredicate(today))
+                .fetchOne());
+    }
+
+    @Override
+    public List<Long> findIdsByStatus(final Collection<Long> fundingIds, final FundingStatus status) {
+        return queryFactory
+                .select(QFunding.funding.fundingId)
+                .from(QFunding.funding)
+                .where(
+                        QFunding.funding.fundingId.in(fundingIds),
+                        QFunding.funding.status.eq(status)
+                )
+                .fetch();
+    }
+
+    private BooleanExpression expiredProgressPredicate(final LocalDate today) {
+        return QFunding.funding.status.eq(FundingStatus.PROGRESS)
+                .and(QFunding.funding.expiredAt.lt(today));
+    }
 
     @Override
     public OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable) {
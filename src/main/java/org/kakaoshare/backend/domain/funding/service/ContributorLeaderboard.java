@@ -0,0 +1,260 @@
+package org.kakaoshare.backend.domain.funding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.funding.dto.rank.ContributorDto;
+import org.kakaoshare.backend.domain.funding.dto.rank.response.TopContributorResponse;
+import org.kakaoshare.backend.domain.funding.entity.Funding;
+import org.kakaoshare.backend.domain.funding.repository.FundingDetailRepository;
+import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 펀딩별 기여자 랭킹
+ * 기여자별 기여 금액은 Redis ZSET({@link #RANK_KEY_PREFIX})에, 이름/프로필 이미지는 같은 펀딩의 해시에 두고 목표 금액 키가 랭킹이 채워졌음을 나타낸다.
+ * 조회는 ZREVRANGE와 HMGET만 실행하며, 해시에 없는 프로필만 한 번의 IN 쿼리로 채운다
+ * <p>
+ * 기여가 승인되면 커밋 이후에 기여 금액을 ZINCRBY로 더하고, 환불되면 환불 금액을 빼며 남은 금액이 없으면 랭킹에서 지운다.
+ * 랭킹이 없으면 펀딩 상세 테이블을 기여자별로 합쳐 다시 만든다. 다시 만드는 동안 커밋된 기여는 빠질 수 있으므로 랭킹은 {@link #RANK_TTL}이 지나면 다시 만든다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContributorLeaderboard {
+    private static final String RANK_KEY_PREFIX = "funding:contributors:";
+    private static final String PROFILE_KEY_SUFFIX = ":profiles";
+    private static final String GOAL_KEY_SUFFIX = ":goal";
+    private static final Duration RANK_TTL = Duration.ofHours(1);
+    private static final double PERCENT_MULTIPLIER = 100.;
+    private static final String NONE = "";
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local goal = redis.call('GET', KEYS[1])
+            if not goal then
+                return {}
+            end
+            local ranked = redis.call('ZREVRANGE', KEYS[2], ARGV[1], ARGV[2], 'WITHSCORES')
+            return {goal, tostring(redis.call('ZCARD', KEYS[2])), unpack(ranked)}
+            """, List.class);
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = redis.call('TTL', KEYS[1])
+            if ttl < 0 then
+                return 0
+            end
+            local amount = tonumber(redis.call('ZINCRBY', KEYS[2], ARGV[2], ARGV[1]))
+            if amount <= 0 then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                redis.call('HDEL', KEYS[3], ARGV[1])
+            elseif ARGV[3] ~= '' then
+                redis.call('HSET', KEYS[3], ARGV[1], ARGV[3])
+            end
+            redis.call('EXPIRE', KEYS[2], ttl)
+            redis.call('EXPIRE', KEYS[3], ttl)
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[2], KEYS[3])
+            for i = 3, #ARGV, 3 do
+                redis.call('ZADD', KEYS[2], ARGV[i + 1], ARGV[i])
+                redis.call('HSET', KEYS[3], ARGV[i], ARGV[i + 2])
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            redis.call('EXPIRE', KEYS[3], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final FundingRepository fundingRepository;
+    private final FundingDetailRepository fundingDetailRepository;
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 기여 금액이 많은 순 기여자. 랭킹이 없으면 다시 만들고, Redis를 사용할 수 없으면 DB에서 집계한다
+     */
+    public Page<TopContributorResponse> findTop(final Long fundingId, final Pageable pageable) {
+        return read(fundingId, pageable)
+                .orElseGet(() -> rebuild(fundingId, pageable));
+    }
+
+    public void increase(final Long fundingId, final Member member, final long amount) {
+        final String profile = toJson(new Profile(member.getName(), member.getProfileImageUrl()));
+        afterCommit(() -> add(fundingId, member.getMemberId(), amount, profile));
+    }
+
+    public void decrease(final Long fundingId, final Long memberId, final long amount) {
+        afterCommit(() -> add(fundingId, memberId, -amount, NONE));
+    }
+
+    private void add(final Long fundingId, final Long memberId, final long amount, final String profile) {
+        try {
+            stringRedisTemplate.execute(INCREASE_SCRIPT, keysOf(fundingId), String.valueOf(memberId), String.valueOf(amount), profile);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update contributor ranking. fundingId: {}, memberId: {}", fundingId, memberId, e);
+        }
+    }
+
+    private Optional<Page<TopContributorResponse>> read(final Long fundingId, final Pageable pageable) {
+        final List<?> values;
+        final Map<Long, Profile> profiles;
+        try {
+            final long start = pageable.getOffset();
+            values = stringRedisTemplate.execute(READ_SCRIPT, keysOf(fundingId),
+                    String.valueOf(start), String.valueOf(start + pageable.getPageSize() - 1));
+            if (values == null || values.isEmpty()) {
+                return Optional.empty();
+            }
+            profiles = findProfiles(fundingId, memberIdsOf(values));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read contributor ranking. fundingId: {}", fundingId, e);
+            return Optional.empty();
+        }
+
+        final long goalAmount = Long.parseLong(String.valueOf(values.get(0)));
+        final long total = Long.parseLong(String.valueOf(values.get(1)));
+        final List<TopContributorResponse> contents = new ArrayList<>();
+        for (int i = 2; i + 1 < values.size(); i += 2) {
+            final Long memberId = Long.valueOf(String.valueOf(values.get(i)));
+            final long amount = (long) Double.parseDouble(String.valueOf(values.get(i + 1)));
+            final Profile profile = profiles.getOrDefault(memberId, Profile.EMPTY);
+            contents.add(new TopContributorResponse(profile.profileUrl(), profile.name(), rateOf(amount, goalAmount)));
+        }
+        return Optional.of(new PageImpl<>(contents, pageable, total));
+    }
+
+    /**
+     * 해시에 없는 프로필은 한 번의 IN 쿼리로 읽어 해시에 채운다
+     */
+    private Map<Long, Profile> findProfiles(final Long fundingId, final List<Long> memberIds) {
+        final Map<Long, Profile> profiles = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return profiles;
+        }
+
+        final String profileKey = profileKeyOf(fundingId);
+        final List<Object> cached = stringRedisTemplate.opsForHash().multiGet(profileKey, memberIds.stream()
+                .<Object>map(String::valueOf)
+                .toList());
+        final List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            final Long memberId = memberIds.get(i);
+            final Object json = cached == null ? null : cached.get(i);
+            final Optional<Profile> profile = json == null ? Optional.empty() : fromJson(String.valueOf(json));
+            profile.ifPresentOrElse(value -> profiles.put(memberId, value), () -> missing.add(memberId));
+        }
+        if (missing.isEmpty()) {
+            return profiles;
+        }
+
+        final Map<String, String> loaded = new HashMap<>();
+        memberRepository.findAllById(missing).forEach(member -> {
+            final Profile profile = new Profile(member.getName(), member.getProfileImageUrl());
+            profiles.put(member.getMemberId(), profile);
+            loaded.put(String.valueOf(member.getMemberId()), toJson(profile));
+        });
+        if (!loaded.isEmpty()) {
+            stringRedisTemplate.opsForHash().putAll(profileKey, loaded);
+        }
+        return profiles;
+    }
+
+    private Page<TopContributorResponse> rebuild(final Long fundingId, final Pageable pageable) {
+        final Optional<Funding> funding = fundingRepository.findById(fundingId);
+        if (funding.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        final long goalAmount = funding.get().getGoalAmount();
+        final List<ContributorDto> contributors = fundingDetailRepository.findContributorsByFundingId(fundingId).stream()
+                .filter(contributor -> contributor.amount() > 0)
+                .sorted(Comparator.comparing(ContributorDto::amount).reversed())
+                .toList();
+        write(fundingId, goalAmount, contributors);
+
+        final int start = (int) Math.min(pageable.getOffset(), contributors.size());
+        final int end = Math.min(start + pageable.getPageSize(), contributors.size());
+        final List<TopContributorResponse> contents = contributors.subList(start, end).stream()
+                .map(contributor -> new TopContributorResponse(contributor.profileUrl(), contributor.name(), rateOf(contributor.amount(), goalAmount)))
+                .toList();
+        return new PageImpl<>(contents, pageable, contributors.size());
+    }
+
+    private void write(final Long fundingId, final long goalAmount, final List<ContributorDto> contributors) {
+        final List<String> args = new ArrayList<>(List.of(String.valueOf(goalAmount), String.valueOf(RANK_TTL.toSeconds())));
+        contributors.forEach(contributor -> {
+            args.add(String.valueOf(contributor.memberId()));
+            args.add(String.valueOf(contributor.amount()));
+            args.add(toJson(new Profile(contributor.name(), contributor.profileUrl())));
+        });
+
+        try {
+            stringRedisTemplate.execute(REBUILD_SCRIPT, keysOf(fundingId), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild contributor ranking. fundingId: {}", fundingId, e);
+        }
+    }
+
+    /**
+     * {@link org.kakaoshare.backend.domain.funding.entity.FundingDetail}의 기여도와 같은 식으로 계산한다
+     */
+    private static double rateOf(final long amount, final long goalAmount) {
+        return PERCENT_MULTIPLIER * amount / goalAmount;
+    }
+
+    private static List<Long> memberIdsOf(final List<?> values) {
+        final List<Long> memberIds = new ArrayList<>();
+        for (int i = 2; i + 1 < values.size(); i += 2) {
+            memberIds.add(Long.valueOf(String.valueOf(values.get(i))));
+        }
+        return memberIds;
+    }
+
+    private String toJson(final Profile profile) {
+        try {
+            return objectMapper.writeValueAsString(profile);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Optional<Profile> fromJson(final String json) {
+        try {
+            return Optional.of(objectMapper.readValue(json, Profile.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read contributor profile. profile: {}", json, e);
+            return Optional.empty();
+        }
+    }
+
+    private static List<String> keysOf(final Long fundingId) {
+        return List.of(RANK_KEY_PREFIX + fundingId + GOAL_KEY_SUFFIX, RANK_KEY_PREFIX + fundingId, profileKeyOf(fundingId));
+    }
+
+    private static String profileKeyOf(final Long fundingId) {
+        return RANK_KEY_PREFIX + fundingId + PROFILE_KEY_SUFFIX;
+    }
+
+    record Profile(String name, String profileUrl) {
+        static final Profile EMPTY = new Profile(null, null);
+    }
+}
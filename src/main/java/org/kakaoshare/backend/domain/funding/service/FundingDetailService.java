@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FundingDetailService {
     private final FundingDetailRepository fundingDetailRepository;
+    private final ContributorLeaderboard contributorLeaderboard;
 
     public PageResponse<?> lookUp(final String providerId,
                                   final ContributedFundingHistoryRequest contributedFundingHistoryRequest,
@@ -39,7 +40,7 @@ public class FundingDetailService {
     }
 
     public PageResponse<?> getTopContributors(final Long fundingId, final Pageable pageable) {
-        final Page<TopContributorResponse> page = fundingDetailRepository.findTopContributorsByFundingId(fundingId, pageable);
+        final Page<TopContributorResponse> page = contributorLeaderboard.findTop(fundingId, pageable);
         return PageResponse.from(page);
     }
 }
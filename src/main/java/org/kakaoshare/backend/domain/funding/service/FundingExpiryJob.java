@@ -0,0 +1,236 @@
+package org.kakaoshare.backend.domain.funding.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.funding.entity.FundingStatus;
+import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.payment.dto.cancel.response.FundingRefundResult;
+import org.kakaoshare.backend.domain.payment.service.FundingRefunder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 만료일이 지났는데 진행 중인 펀딩을 만료 상태로 바꾸고 기여를 환불한다
+ * (status, expired_at) 인덱스로 만료된 펀딩을 PK 순으로 {@link #CHUNK_SIZE}개씩 읽어 진행 중일 때만 바꾸는 UPDATE로 전이하며,
+ * 묶음마다 마지막 PK를 {@link #CHECKPOINT_KEY}에 남겨 중간에 멈춰도 다음 실행이 이어서 읽는다.
+ * <p>
+ * 전이하기 전에 펀딩을 {@link #REFUND_KEY}에 넣고 모든 기여가 환불된 뒤에 빼므로, 환불 중에 멈추거나 일부 환불이 실패한 펀딩은 다음 실행이 먼저 다시 환불한다.
+ * 묶음의 펀딩은 환불을 모두 시작해 {@link FundingRefunder}의 스레드 풀에서 함께 취소를 요청하고 묶음마다 한 번 기다린다.
+ * 여러 노드 중 한 노드만 실행하도록 Redis 잠금을 잡고 묶음마다 {@link #LOCK_TIMEOUT}만큼 늘리며, 잠금을 잃으면 남긴 위치에서 멈춘다.
+ * 처리량(초당 만료한 펀딩 수)과 가장 오래 밀린 펀딩의 지연 시간을 메트릭으로 내보낸다
+ */
+@Slf4j
+@Component
+public class FundingExpiryJob {
+    private static final String LOCK_KEY = "funding:expiry:lock";
+    private static final String CHECKPOINT_KEY = "funding:expiry:checkpoint";
+    private static final String REFUND_KEY = "funding:expiry:refunds";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(10);
+    private static final int CHUNK_SIZE = 500;
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final FundingRepository fundingRepository;
+    private final FundingRefunder fundingRefunder;
+    private final FundingProgressCache fundingProgressCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AtomicLong lastFundingId = new AtomicLong();
+    private final AtomicLong throughput = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Timer expireTimer;
+    private final Counter expiredCounter;
+    private final Counter refundedCounter;
+    private final Counter refundFailedCounter;
+
+    public FundingExpiryJob(final FundingRepository fundingRepository,
+                            final FundingRefunder fundingRefunder,
+                            final FundingProgressCache fundingProgressCache,
+                            final StringRedisTemplate stringRedisTemplate,
+                            final MeterRegistry meterRegistry) {
+        this.fundingRepository = fundingRepository;
+        this.fundingRefunder = fundingRefunder;
+        this.fundingProgressCache = fundingProgressCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        Gauge.builder("funding.expiry.last_funding_id", lastFundingId, AtomicLong::get)
+                .description("Last funding id checked by the running funding expiry")
+                .register(meterRegistry);
+        Gauge.builder("funding.expiry.throughput", throughput, AtomicLong::get)
+                .description("Fundings expired per second by the last funding expiry")
+                .baseUnit("fundings/s")
+                .register(meterRegistry);
+        Gauge.builder("funding.expiry.lag", lagSeconds, AtomicLong::get)
+                .description("Seconds since the oldest funding still in progress has expired")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.expireTimer = Timer.builder("funding.expiry")
+                .description("Time taken to expire and refund all expired fundings")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("funding.expiry.expired")
+                .description("Fundings moved to expired by the funding expiry")
+                .register(meterRegistry);
+        this.refundedCounter = Counter.builder("funding.expiry.refunds")
+                .description("Contributions refunded by the funding expiry")
+                .tag("outcome", "refunded")
+                .register(meterRegistry);
+        this.refundFailedCounter = Counter.builder("funding.expiry.refunds")
+                .description("Contributions refunded by the funding expiry")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${funding.expiry.cron:0 */10 * * * *}")
+    public void expire() {
+        final String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TIMEOUT))) {
+            return;
+        }
+
+        try {
+            expireTimer.record(() -> expireAll(token));
+        } catch (RuntimeException e) {
+            log.error("Failed to expire fundings. lastFundingId: {}", lastFundingId.get(), e);
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void expireAll(final String token) {
+        final long startedAt = System.nanoTime();
+        final Set<String> pending = stringRedisTemplate.opsForSet().members(REFUND_KEY);
+        if (pending != null && !pending.isEmpty()) {
+            expireChunk(pending.stream().map(Long::valueOf).toList());
+            if (!extendLock(token)) {
+                return;
+            }
+        }
+
+        final LocalDate today = LocalDate.now();
+        lastFundingId.set(readCheckpoint());
+        long expired = 0;
+        List<Long> chunk;
+        do {
+            chunk = fundingRepository.findExpiredIds(today, lastFundingId.get(), CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            expired += expireChunk(chunk);
+            lastFundingId.set(chunk.get(chunk.size() - 1));
+            stringRedisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(lastFundingId.get()));
+            if (!extendLock(token)) {
+                return;
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        stringRedisTemplate.delete(CHECKPOINT_KEY);
+
+        final long elapsedMillis = Math.max(Duration.ofNanos(System.nanoTime() - startedAt).toMillis(), 1);
+        throughput.set(expired * 1_000 / elapsedMillis);
+        lagSeconds.set(fundingRepository.findOldestExpiredAt(today)
+                .map(FundingExpiryJob::lagSecondsOf)
+                .orElse(0L));
+        log.info("Fundings expired. expired: {}, lastFundingId: {}", expired, lastFundingId.get());
+    }
+
+    /**
+     * @return 이번에 만료 상태로 바꾼 펀딩 수
+     */
+    private int expireChunk(final List<Long> fundingIds) {
+        stringRedisTemplate.opsForSet().add(REFUND_KEY, fundingIds.stream().map(String::valueOf).toArray(String[]::new));
+        int expired = 0;
+        for (Long fundingId : fundingIds) {
+            if (fundingRepository.updateStatus(fundingId, FundingStatus.PROGRESS, FundingStatus.EXPIRED) > 0) {
+                fundingProgressCache.update(fundingId, 0L, FundingStatus.EXPIRED);
+                expired++;
+            }
+        }
+        expiredCounter.increment(expired);
+        refund(fundingIds);
+        return expired;
+    }
+
+    /**
+     * 만료 상태인 펀딩만 환불하며, 동시에 취소되는 등 만료되지 않은 펀딩은 환불하지 않고 대기열에서 뺀다
+     * 모든 펀딩의 환불을 시작한 뒤 한 번에 기다린다
+     */
+    private void refund(final Collection<Long> fundingIds) {
+        final Set<Long> expired = new HashSet<>(fundingRepository.findIdsByStatus(fundingIds, FundingStatus.EXPIRED));
+        final Set<String> done = fundingIds.stream()
+                .filter(fundingId -> !expired.contains(fundingId))
+                .map(String::valueOf)
+                .collect(Collectors.toSet());
+        final Map<Long, CompletableFuture<FundingRefundResult>> refunds = new LinkedHashMap<>();
+        expired.forEach(fundingId -> refunds.put(fundingId, fundingRefunder.refundAll(fundingId)));
+        CompletableFuture.allOf(refunds.values().toArray(CompletableFuture[]::new)).join();
+
+        for (Map.Entry<Long, CompletableFuture<FundingRefundResult>> refund : refunds.entrySet()) {
+            final Long fundingId = refund.getKey();
+            final FundingRefundResult result = refund.getValue().join();
+            refundedCounter.increment(result.refunded());
+            refundFailedCounter.increment(result.failed());
+            if (result.completed()) {
+                done.add(String.valueOf(fundingId));
+            } else {
+                log.warn("Failed to refund expired funding. fundingId: {}, failed: {}", fundingId, result.failed());
+            }
+        }
+
+        if (!done.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(REFUND_KEY, done.toArray());
+        }
+    }
+
+    /**
+     * @return 아직 잠금을 가지고 있어 늘렸으면 true
+     */
+    private boolean extendLock(final String token) {
+        final Long extended = stringRedisTemplate.execute(EXTEND_SCRIPT, List.of(LOCK_KEY), token, String.valueOf(LOCK_TIMEOUT.toMillis()));
+        if (extended == null || extended == 0) {
+            log.warn("Lost funding expiry lock. stopping at lastFundingId: {}", lastFundingId.get());
+            return false;
+        }
+        return true;
+    }
+
+    private long readCheckpoint() {
+        final String checkpoint = stringRedisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        return checkpoint == null ? 0 : Long.parseLong(checkpoint);
+    }
+
+    /**
+     * 만료일 다음 날 0시부터 지금까지의 시간
+     */
+    private static long lagSecondsOf(final LocalDate expiredAt) {
+        final Duration lag = Duration.between(expiredAt.plusDays(1).atStartOfDay(), LocalDateTime.now());
+        return Math.max(lag.toSeconds(), 0);
+    }
+}
@@ -0,0 +1,227 @@
+package org.kakaoshare.backend.domain.funding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.funding.dto.ProgressResponse;
+import org.kakaoshare.backend.domain.funding.entity.Funding;
+import org.kakaoshare.backend.domain.funding.entity.FundingStatus;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 펀딩별 진행 상황(목표/누적 금액, 상태, 만료일, 상품 카드)을 Redis 해시({@link #PROGRESS_KEY_PREFIX})에 둔다
+ * 조회는 스크립트 한 번으로 해시를 읽으며, 회원의 진행 중인 펀딩은 {@link #ACTIVE_KEY_PREFIX}가 가리키는 해시를 같은 스크립트에서 읽는다.
+ * 해시는 단일 Redis 노드를 전제로 하며, 놓치면 호출한 쪽이 DB에서 읽어 {@link #put(ProgressResponse, String)}로 채운다
+ * <p>
+ * 기여가 승인/환불되면 커밋 이후에 해시가 있을 때만 누적 금액을 HINCRBY로 더하므로 커밋 순서와 무관하게 합이 맞는다.
+ * 바뀐 진행 상황은 {@link FundingProgressStream#CHANNEL}로 발행해 모든 노드의 구독자에게 보낸다.
+ * 해시가 없을 때 더한 값은 버리고 다음 조회가 DB에서 다시 채우며, DB에서 읽은 뒤 채우기 전에 끼어든 기여는 {@link #PROGRESS_TTL}이 지나면 바로잡힌다.
+ * 조회는 만료 시간을 늘리지 않으므로, 계속 조회되는 펀딩도 채운 뒤 {@link #PROGRESS_TTL}이 지나면 DB에서 다시 채운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FundingProgressCache {
+    private static final String PROGRESS_KEY_PREFIX = "funding:progress:";
+    private static final String ACTIVE_KEY_PREFIX = "funding:progress:active:";
+    private static final Duration PROGRESS_TTL = Duration.ofMinutes(30);
+    private static final String PROVIDER_ID_FIELD = "providerId";
+    private static final String NONE = "";
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+    private static final RedisScript<List> READ_ACTIVE_SCRIPT = new DefaultRedisScript<>("""
+            local fundingId = redis.call('GET', KEYS[1])
+            if not fundingId then
+                return {}
+            end
+            return redis.call('HGETALL', ARGV[1] .. fundingId)
+            """, List.class);
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            if ARGV[2] ~= '' then
+                redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[1])
+            end
+            return 1
+            """, Long.class);
+    private static final RedisScript<List> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            redis.call('HINCRBY', KEYS[1], 'accumulateAmount', ARGV[1])
+            if ARGV[2] ~= '' then
+                redis.call('HSET', KEYS[1], 'status', ARGV[2])
+            end
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Optional<ProgressResponse> find(final Long fundingId) {
+        return read(READ_SCRIPT, List.of(progressKeyOf(fundingId)))
+                .map(FundingProgressCache::toResponse);
+    }
+
+    /**
+     * @return 개설한 회원이 providerId인 펀딩의 진행 상황
+     */
+    public Optional<ProgressResponse> find(final Long fundingId, final String providerId) {
+        return read(READ_SCRIPT, List.of(progressKeyOf(fundingId)))
+                .filter(progress -> providerId.equals(progress.get(PROVIDER_ID_FIELD)))
+                .map(FundingProgressCache::toResponse);
+    }
+
+    /**
+     * @return 회원의 진행 중인 펀딩의 진행 상황. 가리키는 펀딩이 더 이상 진행 중이 아니면 비어 있다
+     */
+    public Optional<ProgressResponse> findActive(final String providerId) {
+        return read(READ_ACTIVE_SCRIPT, List.of(activeKeyOf(providerId)), PROGRESS_KEY_PREFIX)
+                .filter(progress -> FundingStatus.PROGRESS.name().equals(progress.get(Field.STATUS.key)))
+                .map(FundingProgressCache::toResponse);
+    }
+
+    /**
+     * DB에서 읽은 진행 상황으로 해시를 덮어쓴다. 진행 중인 펀딩이면 개설한 회원의 진행 중인 펀딩으로 가리킨다
+     */
+    public void put(final ProgressResponse response, final String providerId) {
+        final List<String> args = new ArrayList<>(List.of(ttlSeconds(), activeFundingIdOf(response), PROVIDER_ID_FIELD, providerId));
+        for (Field field : Field.values()) {
+            final Object value = field.getter.apply(response);
+            if (value != null) {
+                args.add(field.key);
+                args.add(String.valueOf(value));
+            }
+        }
+
+        try {
+            stringRedisTemplate.execute(PUT_SCRIPT, List.of(progressKeyOf(response.getFundingId()), activeKeyOf(providerId)), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Failed to write funding progress. fundingId: {}", response.getFundingId(), e);
+        }
+    }
+
+    /**
+     * 커밋 이후에 누적 금액을 더하고, 상태가 바뀌었다면 함께 바꾼 뒤 구독자에게 발행한다
+     *
+     * @param status 바뀐 상태. 바뀌지 않았다면 null
+     */
+    public void update(final Long fundingId, final long amount, final FundingStatus status) {
+        afterCommit(() -> {
+            final String statusName = status == null ? NONE : status.name();
+            read(UPDATE_SCRIPT, List.of(progressKeyOf(fundingId)), String.valueOf(amount), statusName)
+                    .map(FundingProgressCache::toResponse)
+                    .ifPresent(this::publish);
+        });
+    }
+
+    private Optional<Map<String, String>> read(final RedisScript<List> script, final List<String> keys, final Object... args) {
+        try {
+            final List<?> values = stringRedisTemplate.execute(script, keys, args);
+            if (values == null || values.isEmpty()) {
+                return Optional.empty();
+            }
+
+            final Map<String, String> progress = new HashMap<>();
+            for (int i = 0; i + 1 < values.size(); i += 2) {
+                progress.put(String.valueOf(values.get(i)), String.valueOf(values.get(i + 1)));
+            }
+            return Optional.of(progress);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read funding progress. keys: {}", keys, e);
+            return Optional.empty();
+        }
+    }
+
+    private void publish(final ProgressResponse response) {
+        try {
+            stringRedisTemplate.convertAndSend(FundingProgressStream.CHANNEL, objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to publish funding progress. fundingId: {}", response.getFundingId(), e);
+        }
+    }
+
+    private static ProgressResponse toResponse(final Map<String, String> progress) {
+        final Long goalAmount = toLong(progress.get(Field.GOAL_AMOUNT.key));
+        final Long accumulateAmount = toLong(progress.get(Field.ACCUMULATE_AMOUNT.key));
+        final String status = progress.get(Field.STATUS.key);
+        final String expiredAt = progress.get(Field.EXPIRED_AT.key);
+        return ProgressResponse.builder()
+                .fundingId(toLong(progress.get(Field.FUNDING_ID.key)))
+                .progressRate(Funding.calculateProgressRate(accumulateAmount, goalAmount))
+                .remainAmount(goalAmount - accumulateAmount)
+                .goalAmount(goalAmount)
+                .accumulateAmount(accumulateAmount)
+                .productId(toLong(progress.get(Field.PRODUCT_ID.key)))
+                .brandId(toLong(progress.get(Field.BRAND_ID.key)))
+                .brandPhoto(progress.get(Field.BRAND_PHOTO.key))
+                .productPhoto(progress.get(Field.PRODUCT_PHOTO.key))
+                .brandName(progress.get(Field.BRAND_NAME.key))
+                .productName(progress.get(Field.PRODUCT_NAME.key))
+                .status(status == null ? null : FundingStatus.valueOf(status))
+                .expiredAt(expiredAt == null ? null : LocalDate.parse(expiredAt))
+                .build();
+    }
+
+    private static Long toLong(final String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    private static String activeFundingIdOf(final ProgressResponse response) {
+        if (response.getStatus() != FundingStatus.PROGRESS) {
+            return NONE;
+        }
+        return String.valueOf(response.getFundingId());
+    }
+
+    private static String ttlSeconds() {
+        return String.valueOf(PROGRESS_TTL.toSeconds());
+    }
+
+    private static String progressKeyOf(final Long fundingId) {
+        return PROGRESS_KEY_PREFIX + fundingId;
+    }
+
+    private static String activeKeyOf(final String providerId) {
+        return ACTIVE_KEY_PREFIX + providerId;
+    }
+
+    private enum Field {
+        FUNDING_ID("fundingId", ProgressResponse::getFundingId),
+        STATUS("status", ProgressResponse::getStatus),
+        EXPIRED_AT("expiredAt", ProgressResponse::getExpiredAt),
+        GOAL_AMOUNT("goalAmount", ProgressResponse::getGoalAmount),
+        ACCUMULATE_AMOUNT("accumulateAmount", ProgressResponse::getAccumulateAmount),
+        PRODUCT_ID("productId", ProgressResponse::getProductId),
+        BRAND_ID("brandId", ProgressResponse::getBrandId),
+        BRAND_PHOTO("brandPhoto", ProgressResponse::getBrandPhoto),
+        PRODUCT_PHOTO("productPhoto", ProgressResponse::getProductPhoto),
+        BRAND_NAME("brandName", ProgressResponse::getBrandName),
+        PRODUCT_NAME("productName", ProgressResponse::getProductName);
+
+        private final String key;
+        private final Function<ProgressResponse, Object> getter;
+
+        Field(final String key, final Function<ProgressResponse, Object> getter) {
+            this.key = key;
+            this.getter = getter;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.kakaoshare.backend.domain.funding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.funding.dto.ProgressResponse;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 펀딩을 보고 있는 클라이언트에게 진행 상황이 바뀔 때마다 SSE로 보낸다
+ * 연결은 받은 노드의 메모리에만 있으므로, 진행 상황은 {@link #CHANNEL}로 발행된 JSON을 모든 노드가 받아 자기 구독자에게 그대로 보낸다.
+ * 연결은 {@link #TIMEOUT_MILLIS}가 지나면 닫히고 클라이언트가 다시 연결한다
+ * <p>
+ * 진행 상황이 바뀌지 않아도 프록시의 읽기 제한 시간(nginx 기본 60초)보다 짧은 {@link #HEARTBEAT_MILLIS}마다 주석 이벤트를 보내 연결을 유지하며,
+ * 끊어진 연결은 이때 보내지 못해 정리된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FundingProgressStream implements MessageListener {
+    static final String CHANNEL = "funding-progress";
+    private static final String EVENT_NAME = "progress";
+    private static final long TIMEOUT_MILLIS = 10 * 60 * 1_000;
+    private static final long HEARTBEAT_MILLIS = 30 * 1_000;
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void listen() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 연결하자마자 지금 진행 상황을 보낸다
+     */
+    public SseEmitter subscribe(final Long fundingId, final ProgressResponse progress) {
+        final SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        emitters.compute(fundingId, (id, viewers) -> {
+            final Set<SseEmitter> current = viewers == null ? ConcurrentHashMap.newKeySet() : viewers;
+            current.add(emitter);
+            return current;
+        });
+        emitter.onCompletion(() -> remove(fundingId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(fundingId, emitter));
+        send(fundingId, emitter, progress);
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String json = new String(message.getBody(), StandardCharsets.UTF_8);
+        final long fundingId;
+        try {
+            fundingId = objectMapper.readTree(json).path("fundingId").asLong();
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read funding progress message. message: {}", json, e);
+            return;
+        }
+
+        final Set<SseEmitter> viewers = emitters.get(fundingId);
+        if (viewers != null) {
+            viewers.forEach(emitter -> send(fundingId, emitter, json));
+        }
+    }
+
+    @Scheduled(fixedRate = HEARTBEAT_MILLIS)
+    public void heartbeat() {
+        emitters.forEach((fundingId, viewers) -> viewers.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            } catch (IOException | IllegalStateException e) {
+                remove(fundingId, emitter);
+            }
+        }));
+    }
+
+    int countOf(final Long fundingId) {
+        final Set<SseEmitter> viewers = emitters.get(fundingId);
+        return viewers == null ? 0 : viewers.size();
+    }
+
+    private void send(final Long fundingId, final SseEmitter emitter, final Object progress) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(progress, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            remove(fundingId, emitter);
+        }
+    }
+
+    private void remove(final Long fundingId, final SseEmitter emitter) {
+        emitters.computeIfPresent(fundingId, (id, viewers) -> {
+            viewers.remove(emitter);
+            return viewers.isEmpty() ? null : viewers;
+        });
+    }
+}
@@ -34,8 +34,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
@@ -46,6 +48,8 @@ public class FundingService {
     private final ProductRepository productRepository;
     private final MemberRepository memberRepository;
     private final KakaoFriendService kakaoFriendService;
+    private final FundingProgressCache fundingProgressCache;
+    private final FundingProgressStream fundingProgressStream;
 
     @Transactional
     public RegisterResponse registerFundingItem(Long productId, String providerId, RegisterRequest request) {
@@ -68,30 +72,34 @@ public class FundingService {
     }
 
     public ProgressResponse getFundingItemProgress(Long fundingId, String providerId) {
-        Member member = findMemberByProviderId(providerId);
-        Funding funding = findByIdAndMemberId(fundingId, member.getMemberId());
-
-        return getFundingProgress(funding.getFundingId(), member.getMemberId());
+        return fundingProgressCache.find(fundingId, providerId)
+                .orElseGet(() -> {
+                    Member member = findMemberByProviderId(providerId);
+                    Funding funding = findByIdAndMemberId(fundingId, member.getMemberId());
+                    return loadFundingProgress(funding, providerId);
+                });
     }
 
     public ProgressResponse getMyFundingProgress(String providerId) {
-        Member member = findMemberByProviderId(providerId);
-        Funding funding = fundingRepository.findByMemberIdAndStatus(member.getMemberId(), FundingStatus.PROGRESS)
-                .orElse(null);
-
-        if (funding == null) {
-            return new ProgressResponse();
-        }
-        return getFundingProgress(funding.getFundingId(), member.getMemberId());
+        return findActiveFundingProgress(providerId)
+                .orElseGet(ProgressResponse::new);
     }
 
 
     public ProgressResponse getFriendFundingProgress(String providerId, FriendFundingInquiryRequest inquiryRequest) {
-        Member self = findMemberByProviderId(providerId);
-        Member friend = findMemberByProviderId(inquiryRequest.friendProviderId()); //todo 친구 검증 메소드 추가해야함
-        return fundingRepository.findByMemberIdAndStatus(friend.getMemberId(), FundingStatus.PROGRESS)
-                .map(funding -> getFundingProgress(funding.getFundingId(), friend.getMemberId()))
-                .orElse(new ProgressResponse());
+        //todo 친구 검증 메소드 추가해야함
+        return findActiveFundingProgress(inquiryRequest.friendProviderId())
+                .orElseGet(ProgressResponse::new);
+    }
+
+    public SseEmitter subscribeFundingProgress(Long fundingId) {
+        ProgressResponse progress = fundingProgressCache.find(fundingId)
+                .orElseGet(() -> {
+                    Funding funding = fundingRepository.findById(fundingId)
+                            .orElseThrow(() -> new FundingException(FundingErrorCode.NOT_FOUND));
+                    return loadFundingProgress(funding, funding.getMember().getProviderId());
+                });
+        return fundingProgressStream.subscribe(fundingId, progress);
     }
 
     public PageResponse<?> getMyFilteredFundingProducts(String providerId, FundingStatus status,
@@ -124,11 +132,8 @@ public class FundingService {
     }
 
     public ProgressResponse checkFundingItem(FundingCheckRequest fundingCheckRequest) {
-        Member member = findMemberByProviderId(fundingCheckRequest.getProviderId());
-        Funding funding = fundingRepository.findByMemberIdAndStatus(member.getMemberId(), FundingStatus.PROGRESS)
+        return findActiveFundingProgress(fundingCheckRequest.getProviderId())
                 .orElseThrow(() -> new FundingException(FundingErrorCode.NOT_FOUND));
-
-        return getFundingProgress(funding.getFundingId(), member.getMemberId());
     }
 
     private Member findMemberByProviderId(String providerId) {
@@ -169,11 +174,22 @@ public class FundingService {
         }
     }
 
-    private ProgressResponse getFundingProgress(final Long fundingId, final Long memberId) {
-        Funding funding = fundingRepository.findByIdAndMemberId(fundingId, memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid fundingId"));
+    /**
+     * 진행 상황 캐시를 먼저 읽고, 놓치면 DB에서 읽어 캐시를 채운다
+     */
+    private Optional<ProgressResponse> findActiveFundingProgress(final String providerId) {
+        return fundingProgressCache.findActive(providerId)
+                .or(() -> {
+                    Member member = findMemberByProviderId(providerId);
+                    return fundingRepository.findByMemberIdAndStatus(member.getMemberId(), FundingStatus.PROGRESS)
+                            .map(funding -> loadFundingProgress(funding, providerId));
+                });
+    }
 
-        return ProgressResponse.from(funding);
+    private ProgressResponse loadFundingProgress(final Funding funding, final String providerId) {
+        ProgressResponse progress = ProgressResponse.from(funding);
+        fundingProgressCache.put(progress, providerId);
+        return progress;
     }
 
     private Funding findByIdAndMemberId(Long fundingId, Long memberId) {
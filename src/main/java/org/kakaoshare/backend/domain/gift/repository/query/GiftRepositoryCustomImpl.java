@@ -82,7 +82,7 @@ public class GiftRepositoryCustomImpl implements GiftRepositoryCustom {
 
     @Override
     public Page<GiftDto> findHistoryByProviderIdAndStatus(final String providerId, final GiftStatus status, final Pageable pageable) {
-        final JPAQuery<Long> countQuery = createHistoryCountQuery(providerId, status, pageable);
+        final JPAQuery<Long> countQuery = createHistoryCountQuery(providerId, status);
         final JPAQuery<GiftDto> contentQuery = createHistoryContentQuery(providerId, status, pageable);
         return toPage(pageable, contentQuery, countQuery);
     }
@@ -100,11 +100,9 @@ public class GiftRepositoryCustomImpl implements GiftRepositoryCustom {
                 );
     }
 
-    private JPAQuery<Long> createHistoryCountQuery(final String providerId, final GiftStatus status, final Pageable pageable) {
+    private JPAQuery<Long> createHistoryCountQuery(final String providerId, final GiftStatus status) {
         return createHistoryBaseQuery(providerId, status)
-                .select(gift.count())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .select(gift.count());
     }
 
     private JPAQuery<GiftDto> createHistoryContentQuery(final String providerId, final GiftStatus status, final Pageable pageable) {
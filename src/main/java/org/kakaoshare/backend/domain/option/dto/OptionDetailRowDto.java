@@ -0,0 +1,18 @@
+package org.kakaoshare.backend.domain.option.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+/**
+ * 상품, 옵션, 옵션 상세를 한 행으로 펼친 조회 결과. 옵션 상세가 없는 옵션은 옵션 상세 컬럼이 null이다
+ */
+public record OptionDetailRowDto(Long productId,
+                                 Long optionsId,
+                                 String optionName,
+                                 Long optionDetailId,
+                                 String optionDetailName,
+                                 Long additionalPrice,
+                                 String photo) {
+    @QueryProjection
+    public OptionDetailRowDto {
+    }
+}
@@ -4,15 +4,17 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class OptionResponse {
     private Long optionsId;
     private String name;
-    private List<OptionDetailResponse> optionDetails;
+    private List<ProductOptionDetailResponse> optionDetails;
 
 }
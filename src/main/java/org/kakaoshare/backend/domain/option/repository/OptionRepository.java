@@ -1,6 +1,7 @@
 package org.kakaoshare.backend.domain.option.repository;
 
 import org.kakaoshare.backend.domain.option.entity.Option;
+import org.kakaoshare.backend.domain.option.repository.query.OptionRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,7 +9,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 
-public interface OptionRepository extends JpaRepository<Option, Long> {
+public interface OptionRepository extends JpaRepository<Option, Long>, OptionRepositoryCustom {
     @Query("SELECT od.option " +
             "FROM OptionDetail od " +
             "LEFT JOIN od.option " +
@@ -0,0 +1,10 @@
+package org.kakaoshare.backend.domain.option.repository.query;
+
+import org.kakaoshare.backend.domain.option.dto.OptionDetailRowDto;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OptionRepositoryCustom {
+    List<OptionDetailRowDto> findAllOptionDetailRowsByProductIds(Collection<Long> productIds);
+}
@@ -0,0 +1,43 @@
+package org.kakaoshare.backend.domain.option.repository.query;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.domain.option.dto.OptionDetailRowDto;
+import org.kakaoshare.backend.domain.option.dto.QOptionDetailRowDto;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.kakaoshare.backend.domain.option.entity.QOption.option;
+import static org.kakaoshare.backend.domain.option.entity.QOptionDetail.optionDetail;
+
+@RequiredArgsConstructor
+public class OptionRepositoryCustomImpl implements OptionRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 여러 상품의 옵션 트리를 한 번의 쿼리로 조회한다. 옵션, 옵션 상세 ID 순서로 정렬된다
+     */
+    @Override
+    public List<OptionDetailRowDto> findAllOptionDetailRowsByProductIds(final Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(new QOptionDetailRowDto(
+                        option.product.productId,
+                        option.optionsId,
+                        option.name,
+                        optionDetail.optionDetailId,
+                        optionDetail.name,
+                        optionDetail.additionalPrice,
+                        optionDetail.photo
+                ))
+                .from(option)
+                .leftJoin(optionDetail).on(optionDetail.option.optionsId.eq(option.optionsId))
+                .where(option.product.productId.in(productIds))
+                .orderBy(option.optionsId.asc(), optionDetail.optionDetailId.asc())
+                .fetch();
+    }
+}
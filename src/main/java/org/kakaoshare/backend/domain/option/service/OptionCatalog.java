@@ -0,0 +1,135 @@
+package org.kakaoshare.backend.domain.option.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.option.dto.OptionDetailRowDto;
+import org.kakaoshare.backend.domain.option.repository.OptionRepository;
+import org.kakaoshare.backend.domain.option.vo.ProductOptions;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 상품별 옵션 트리({@link ProductOptions}) LRU 캐시
+ * 캐시에 없는 상품들의 옵션은 한 번의 쿼리로 함께 읽고, 옵션이 없는 상품도 빈 트리로 캐싱해 다시 조회하지 않는다
+ * 옵션이 바뀌면 {@link OptionCatalogEntityListener}가 캐시를 비우고 {@link #CLEAR_CHANNEL}로 발행해 모든 노드의 캐시를 비운다.
+ * pub/sub 메시지는 유실될 수 있으므로 캐싱한 옵션 트리는 {@link #TTL}이 지나면 다시 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptionCatalog implements MessageListener {
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String CLEAR_CHANNEL = "option-catalog-clear";
+    private static final String CLEAR_MESSAGE = "clear";
+
+    private final OptionRepository optionRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<Long, CachedOptions> cache = Collections.synchronizedMap(new LinkedHashMap<Long, CachedOptions>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, CachedOptions> eldest) {
+            return size() > MAX_SIZE;
+        }
+    });
+    private final AtomicLong clears = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CLEAR_CHANNEL));
+    }
+
+    public ProductOptions get(final Long productId) {
+        return getAll(List.of(productId)).get(productId);
+    }
+
+    /**
+     * @return 상품 ID별 옵션 트리. 요청한 모든 상품 ID를 키로 가진다
+     */
+    public Map<Long, ProductOptions> getAll(final Collection<Long> productIds) {
+        final Map<Long, ProductOptions> found = new HashMap<>();
+        final Set<Long> missingIds = new LinkedHashSet<>();
+        productIds.forEach(productId -> {
+            final CachedOptions cached = cache.get(productId);
+            if (cached != null && !cached.isExpired()) {
+                found.put(productId, cached.options());
+            } else {
+                missingIds.add(productId);
+            }
+        });
+
+        if (!missingIds.isEmpty()) {
+            final long clearedBefore = clears.get();
+            final Map<Long, List<OptionDetailRowDto>> rowsByProductId = optionRepository.findAllOptionDetailRowsByProductIds(missingIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(OptionDetailRowDto::productId));
+            final long loadedAt = System.nanoTime();
+            missingIds.forEach(productId -> found.put(productId, ProductOptions.of(productId, rowsByProductId.getOrDefault(productId, List.of()))));
+            synchronized (cache) {
+                if (clears.get() == clearedBefore) {
+                    missingIds.forEach(productId -> cache.put(productId, new CachedOptions(found.get(productId), loadedAt)));
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 비워 커밋 전 상태가 다시 캐싱되지 않도록 한다
+     * 이 노드를 비운 뒤 다른 노드에도 비우라고 발행한다
+     */
+    public void clear() {
+        afterCommit(() -> {
+            clearLocal();
+            publish();
+        });
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        clearLocal();
+    }
+
+    /**
+     * 비우기 전에 DB를 읽기 시작한 조회가 비운 뒤에 바뀌기 전 옵션 트리를 넣지 않도록 비운 횟수를 올린다
+     */
+    private void clearLocal() {
+        synchronized (cache) {
+            clears.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    private void publish() {
+        try {
+            stringRedisTemplate.convertAndSend(CLEAR_CHANNEL, CLEAR_MESSAGE);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish option catalog clear.", e);
+        }
+    }
+
+    private record CachedOptions(ProductOptions options, long loadedAt) {
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TTL.toNanos();
+        }
+    }
+}
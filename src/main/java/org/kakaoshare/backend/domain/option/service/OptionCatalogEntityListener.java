@@ -0,0 +1,23 @@
+package org.kakaoshare.backend.domain.option.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 옵션이나 옵션 상세가 바뀌면 {@link OptionCatalog}를 비운다
+ * 옵션은 거의 바뀌지 않으므로 연관된 상품을 찾기 위해 지연 로딩하는 대신 전체를 비운다
+ */
+@RequiredArgsConstructor
+public class OptionCatalogEntityListener {
+    private final ObjectProvider<OptionCatalog> optionCatalog;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(final Object entity) {
+        optionCatalog.ifAvailable(OptionCatalog::clear);
+    }
+}
@@ -0,0 +1,156 @@
+package org.kakaoshare.backend.domain.option.vo;
+
+import org.kakaoshare.backend.domain.option.dto.OptionDetailRowDto;
+import org.kakaoshare.backend.domain.option.dto.OptionResponse;
+import org.kakaoshare.backend.domain.option.dto.OptionSummaryResponse;
+import org.kakaoshare.backend.domain.option.dto.ProductOptionDetailResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 상품 하나의 옵션 트리(옵션 → 옵션 상세)
+ * 만들어진 이후에는 바뀌지 않으며, 옵션 상세 ID로 옵션 상세와 그 옵션을 바로 찾을 수 있다
+ *
+ * @see org.kakaoshare.backend.domain.option.service.OptionCatalog
+ */
+public final class ProductOptions {
+    private final Long productId;
+    private final List<OptionNode> options;
+    private final Map<Long, OptionNode> optionsById;
+    private final Map<Long, OptionDetailNode> detailsById;
+
+    private ProductOptions(final Long productId, final List<OptionNode> options) {
+        this.productId = productId;
+        this.options = options;
+
+        final Map<Long, OptionNode> optionsById = new HashMap<>();
+        final Map<Long, OptionDetailNode> detailsById = new HashMap<>();
+        options.forEach(option -> {
+            optionsById.put(option.optionsId(), option);
+            option.details().forEach(detail -> detailsById.put(detail.optionDetailId(), detail));
+        });
+        this.optionsById = Map.copyOf(optionsById);
+        this.detailsById = Map.copyOf(detailsById);
+    }
+
+    public static ProductOptions empty(final Long productId) {
+        return new ProductOptions(productId, List.of());
+    }
+
+    /**
+     * @param rows 같은 상품의 행. 옵션, 옵션 상세 ID 순서로 정렬되어 있어야 한다
+     */
+    public static ProductOptions of(final Long productId, final List<OptionDetailRowDto> rows) {
+        final Map<Long, String> optionNames = new LinkedHashMap<>();
+        final Map<Long, List<OptionDetailNode>> details = new LinkedHashMap<>();
+        rows.forEach(row -> {
+            optionNames.putIfAbsent(row.optionsId(), row.optionName());
+            final List<OptionDetailNode> optionDetails = details.computeIfAbsent(row.optionsId(), key -> new ArrayList<>());
+            if (row.optionDetailId() != null) {
+                optionDetails.add(new OptionDetailNode(
+                        row.optionDetailId(),
+                        row.optionsId(),
+                        row.optionName(),
+                        row.optionDetailName(),
+                        row.additionalPrice(),
+                        row.photo()
+                ));
+            }
+        });
+
+        final List<OptionNode> options = optionNames.entrySet()
+                .stream()
+                .map(option -> new OptionNode(option.getKey(), option.getValue(), List.copyOf(details.get(option.getKey()))))
+                .toList();
+        return new ProductOptions(productId, options);
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Optional<Long> findFirstOptionId() {
+        return options.stream()
+                .findFirst()
+                .map(OptionNode::optionsId);
+    }
+
+    public Optional<Long> findFirstDetailIdOf(final Long optionsId) {
+        return Optional.ofNullable(optionsById.get(optionsId))
+                .flatMap(option -> option.details().stream().findFirst())
+                .map(OptionDetailNode::optionDetailId);
+    }
+
+    public boolean containsOption(final Long optionsId) {
+        return optionsById.containsKey(optionsId);
+    }
+
+    /**
+     * @return 옵션 상세가 이 상품의 옵션이고, 옵션 ID가 주어졌다면 그 옵션에 속하는지 여부
+     */
+    public boolean containsDetail(final Long optionDetailId, final Long optionsId) {
+        final OptionDetailNode detail = detailsById.get(optionDetailId);
+        return detail != null && (optionsId == null || Objects.equals(detail.optionsId(), optionsId));
+    }
+
+    public boolean containsAllDetails(final Collection<Long> optionDetailIds) {
+        return detailsById.keySet().containsAll(optionDetailIds);
+    }
+
+    public Optional<OptionDetailNode> findDetail(final Long optionDetailId) {
+        return Optional.ofNullable(detailsById.get(optionDetailId));
+    }
+
+    /**
+     * @return 옵션 상세 이름. 이 상품의 옵션 상세가 아닌 ID는 무시한다
+     */
+    public List<String> detailNamesOf(final Collection<Long> optionDetailIds) {
+        return detailsOf(optionDetailIds).stream()
+                .map(OptionDetailNode::name)
+                .toList();
+    }
+
+    public List<OptionSummaryResponse> summariesOf(final Collection<Long> optionDetailIds) {
+        return detailsOf(optionDetailIds).stream()
+                .map(detail -> new OptionSummaryResponse(detail.optionName(), detail.name()))
+                .toList();
+    }
+
+    public List<OptionResponse> toResponses() {
+        return options.stream()
+                .map(option -> new OptionResponse(
+                        option.optionsId(),
+                        option.name(),
+                        option.details()
+                                .stream()
+                                .map(detail -> new ProductOptionDetailResponse(detail.optionDetailId(), detail.photo(), detail.additionalPrice(), detail.name()))
+                                .toList()
+                ))
+                .toList();
+    }
+
+    private List<OptionDetailNode> detailsOf(final Collection<Long> optionDetailIds) {
+        return optionDetailIds.stream()
+                .map(detailsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public record OptionNode(Long optionsId, String name, List<OptionDetailNode> details) {
+    }
+
+    public record OptionDetailNode(Long optionDetailId,
+                                   Long optionsId,
+                                   String optionName,
+                                   String name,
+                                   Long additionalPrice,
+                                   String photo) {
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.kakaoshare.backend.domain.order.dto.inquiry.OrderHistoryDetailDto;
 import org.kakaoshare.backend.domain.order.dto.inquiry.OrderProductDto;
 import org.kakaoshare.backend.domain.order.vo.OrderHistoryDate;
+import org.kakaoshare.backend.domain.rank.dto.ProductSalesDto;
 import org.kakaoshare.backend.domain.rank.dto.RankResponse;
 import org.kakaoshare.backend.domain.rank.util.TargetType;
 import org.springframework.data.domain.Page;
@@ -15,6 +16,7 @@ import java.util.Optional;
 
 public interface OrderRepositoryCustom {
     Page<RankResponse> findTopRankedProductsByOrders(LocalDateTime sixMonthsAgo, Pageable pageable);
+    List<ProductSalesDto> findSales(final Long lastOrderId, final LocalDateTime from, final int size);
     List<RankResponse> findProductsByWish(TargetType targetType, int minPrice, int maxPrice, int limit);
     List<RankResponse> findProductsByReceived(TargetType targetType, int minPrice, int maxPrice, int limit);
     Page<OrderProductDto> findAllOrderProductDtoByCondition(final String providerId, final OrderHistoryDate date, final Pageable pageable);
@@ -16,8 +16,11 @@ import org.kakaoshare.backend.domain.option.dto.QOptionSummaryResponse;
 import org.kakaoshare.backend.domain.order.dto.inquiry.OrderHistoryDetailDto;
 import org.kakaoshare.backend.domain.order.dto.inquiry.OrderProductDto;
 import org.kakaoshare.backend.domain.order.dto.inquiry.QOrderProductDto;
+import org.kakaoshare.backend.domain.order.entity.OrderStatus;
 import org.kakaoshare.backend.domain.order.vo.OrderHistoryDate;
 import org.kakaoshare.backend.domain.product.dto.QProductDto;
+import org.kakaoshare.backend.domain.rank.dto.ProductSalesDto;
+import org.kakaoshare.backend.domain.rank.dto.QProductSalesDto;
 import org.kakaoshare.backend.domain.rank.dto.RankPriceRange;
 import org.kakaoshare.backend.domain.rank.dto.RankResponse;
 import org.kakaoshare.backend.domain.rank.util.TargetType;
@@ -72,59 +75,89 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
                 .orderBy(orderSpecifiers);
 
         var countQuery = queryFactory
-                .select(order.ordersId.count())
+                .select(product.productId.countDistinct())
                 .from(order)
-                .where(order.ordersId.in(subQuery))
-                .groupBy(product.productId);
+                .join(order.receipt.product, product)
+                .where(order.ordersId.in(subQuery));
 
         return RepositoryUtils.toPage(pageable, contentQuery, countQuery);
     }
 
+    /**
+     * 취소되지 않은 주문의 상품별 판매액을 주문 PK 순으로 읽는다. 실시간 판매 랭킹을 다시 채울 때 사용한다
+     *
+     * @see org.kakaoshare.backend.domain.rank.service.SalesRanking
+     */
+    @Override
+    public List<ProductSalesDto> findSales(final Long lastOrderId, final LocalDateTime from, final int size) {
+        return queryFactory.select(new QProductSalesDto(
+                        order.ordersId,
+                        product.productId,
+                        product.price.multiply(receipt.quantity),
+                        order.createdAt))
+                .from(order)
+                .join(order.receipt, receipt)
+                .join(receipt.product, product)
+                .where(
+                        order.ordersId.gt(lastOrderId),
+                        order.createdAt.goe(from),
+                        order.status.ne(OrderStatus.CANCELLATION_RETURN_EXCHANGE)
+                )
+                .orderBy(order.ordersId.asc())
+                .limit(size)
+                .fetch();
+    }
+
     public List<RankResponse> findProductsByWish(TargetType targetType, int minPrice, int maxPrice, int limit) {
         PriceRange priceRange = new RankPriceRange(minPrice, maxPrice);
-        BooleanExpression genderCondition = createGenderCondition(targetType);
+        BooleanExpression genderCondition = createGenderCondition(member, targetType);
         BooleanExpression priceCondition = priceExpression(product.price, priceRange);
 
         return queryFactory
                 .select(Projections.constructor(RankResponse.class,
                         product.productId,
                         product.name,
-                        wish.count().as("totalWishes"),
+                        wish.count().doubleValue().as("totalWishes"),
                         product.photo
                 ))
                 .from(wish)
                 .join(wish.product, product)
                 .join(wish.member, member)
-                .where(genderCondition.and(priceCondition))
+                .where(genderCondition, priceCondition)
                 .groupBy(product.productId)
                 .orderBy(wish.count().desc())
                 .limit(limit)
                 .fetch();
     }
 
+    /**
+     * 받은 회원의 성별로 나눈 상품별 영수증 수 순으로 조회한다
+     */
     public List<RankResponse> findProductsByReceived(TargetType targetType, int minPrice, int maxPrice, int limit) {
-        BooleanExpression genderCondition = createGenderCondition(targetType);
         BooleanExpression priceCondition = product.price.between(minPrice, maxPrice);
 
         return queryFactory
                 .select(Projections.constructor(RankResponse.class,
                         product.productId,
                         product.name,
-                        product.orderCount,
+                        receipt.count().doubleValue(),
                         product.photo
                 ))
-                .from(product)
-                .where(genderCondition.and(priceCondition))
-                .orderBy(product.orderCount.desc())
+                .from(receipt)
+                .join(receipt.product, product)
+                .join(receipt.receiver, receiver)
+                .where(priceCondition, createGenderCondition(receiver, targetType))
+                .groupBy(product.productId)
+                .orderBy(receipt.count().desc())
                 .limit(limit)
                 .fetch();
     }
 
-    private BooleanExpression createGenderCondition(TargetType targetType) {
+    private BooleanExpression createGenderCondition(QMember target, TargetType targetType) {
         if (targetType == TargetType.MALE) {
-            return member.gender.eq(Gender.MALE);
+            return target.gender.eq(Gender.MALE);
         } else if (targetType == TargetType.FEMALE) {
-            return member.gender.eq(Gender.FEMALE);
+            return target.gender.eq(Gender.FEMALE);
         }
         return null;
     }
@@ -3,7 +3,8 @@ package org.kakaoshare.backend.domain.order.service;
 import lombok.RequiredArgsConstructor;
 import org.kakaoshare.backend.common.dto.PageResponse;
 import org.kakaoshare.backend.domain.option.dto.OptionSummaryRequest;
-import org.kakaoshare.backend.domain.option.repository.OptionDetailRepository;
+import org.kakaoshare.backend.domain.option.service.OptionCatalog;
+import org.kakaoshare.backend.domain.option.vo.ProductOptions;
 import org.kakaoshare.backend.domain.order.dto.inquiry.OrderHistoryDetailDto;
 import org.kakaoshare.backend.domain.order.dto.inquiry.request.OrderHistoryRequest;
 import org.kakaoshare.backend.domain.order.dto.inquiry.response.OrderHistoryDetailResponse;
@@ -25,8 +26,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -34,7 +37,7 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OrderService {
     private final ProductRepository productRepository;
-    private final OptionDetailRepository optionDetailRepository;
+    private final OptionCatalog optionCatalog;
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
 
@@ -80,14 +83,31 @@ public class OrderService {
                 ));
     }
 
+    /**
+     * 옵션을 선택한 상품들의 옵션 트리를 {@link OptionCatalog}에서 한 번에 가져와 옵션 상세 이름을 찾는다
+     */
     private Map<Long, List<String>> getOptionsGroupByProductId(final List<OrderPreviewRequest> orderPreviewRequests) {
+        final Map<Long, ProductOptions> productOptions = getProductOptions(orderPreviewRequests);
         return orderPreviewRequests.stream()
                 .collect(Collectors.toMap(
                         OrderPreviewRequest::productId,
-                        orderPreviewRequest -> optionDetailRepository.findNamesByIds(extractedOptionDetailIds(orderPreviewRequest))
+                        orderPreviewRequest -> Optional.ofNullable(productOptions.get(orderPreviewRequest.productId()))
+                                .map(options -> options.detailNamesOf(extractedOptionDetailIds(orderPreviewRequest)))
+                                .orElseGet(Collections::emptyList)
                 ));
     }
 
+    private Map<Long, ProductOptions> getProductOptions(final List<OrderPreviewRequest> orderPreviewRequests) {
+        final List<Long> productIds = orderPreviewRequests.stream()
+                .filter(orderPreviewRequest -> orderPreviewRequest.options() != null && !orderPreviewRequest.options().isEmpty())
+                .map(OrderPreviewRequest::productId)
+                .toList();
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return optionCatalog.getAll(productIds);
+    }
+
     private List<Long> extractedOptionDetailIds(final OrderPreviewRequest orderPreviewRequest) {
         return orderPreviewRequest.options()
                 .stream()
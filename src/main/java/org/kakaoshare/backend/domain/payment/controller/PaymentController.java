@@ -11,6 +11,8 @@ import org.kakaoshare.backend.domain.payment.dto.success.request.PaymentSuccessR
 import org.kakaoshare.backend.domain.payment.service.PaymentService;
 import org.kakaoshare.backend.jwt.util.LoggedInMember;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -69,6 +71,12 @@ public class PaymentController {
                 .build();
     }
 
+    @GetMapping("/funding/{fundingId}/payments/cancel")
+    public ResponseEntity<?> getFundingRefundProgress(@LoggedInMember final String providerId,
+                                                      @PathVariable final Long fundingId) {
+        return ResponseEntity.ok(paymentService.getFundingRefundProgress(providerId, fundingId));
+    }
+
     @PostMapping("/funding/detail/payments/cancel")
     public ResponseEntity<?> cancelFundingDetail(@LoggedInMember final String providerId,
                                                  @RequestBody final PaymentFundingDetailCancelRequest paymentFundingDetailCancelRequest) {
@@ -0,0 +1,8 @@
+package org.kakaoshare.backend.domain.payment.dto.cancel.response;
+
+public record FundingRefundProgress(Long fundingId,
+                                    long total,
+                                    long pending,
+                                    long refunded,
+                                    long failed) {
+}
@@ -0,0 +1,7 @@
+package org.kakaoshare.backend.domain.payment.dto.cancel.response;
+
+public record FundingRefundResult(int refunded, int failed) {
+    public boolean completed() {
+        return failed == 0;
+    }
+}
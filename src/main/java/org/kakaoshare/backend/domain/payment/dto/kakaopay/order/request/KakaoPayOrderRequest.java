@@ -0,0 +1,4 @@
+package org.kakaoshare.backend.domain.payment.dto.kakaopay.order.request;
+
+public record KakaoPayOrderRequest(String cid, String tid) {
+}
@@ -0,0 +1,290 @@
+package org.kakaoshare.backend.domain.payment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.common.config.AsyncConfig;
+import org.kakaoshare.backend.domain.funding.dto.refund.RefundTargetDto;
+import org.kakaoshare.backend.domain.funding.repository.FundingDetailRepository;
+import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.funding.service.ContributorLeaderboard;
+import org.kakaoshare.backend.domain.funding.service.FundingProgressCache;
+import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentCancelDto;
+import org.kakaoshare.backend.domain.payment.dto.cancel.response.FundingRefundProgress;
+import org.kakaoshare.backend.domain.payment.dto.cancel.response.FundingRefundResult;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 펀딩의 환불 대기 중인 기여를 카카오페이에 취소 요청하고 환불 상태로 바꾼다
+ * 기여는 호출한 쪽의 짧은 트랜잭션에서 UPDATE 한 번으로 환불 대기 상태가 되고, 취소 요청은 트랜잭션 밖에서 {@link AsyncConfig#FUNDING_REFUND_EXECUTOR}로 동시에 보낸다.
+ * 취소된 기여만 조건부 UPDATE로 환불 상태로 바꾼 뒤 누적 금액/기여자 랭킹/진행 상황에서 빼므로, 실패한 기여는 환불 대기로 남아 다시 시도하면 남은 기여만 환불한다
+ * <p>
+ * 기여별 결과는 펀딩의 환불 키({@link #REFUND_KEY_PREFIX})에 남기며 진행 상황도 이 키로 읽는다.
+ * 취소를 요청하기 전에 기여를 요청 중으로 선점하고 취소되면 환불됨으로 남기므로, 환불 상태로 바꾸기 전에 멈춰도 다시 시도할 때 취소를 다시 요청하지 않는다.
+ * 다른 스레드나 노드가 요청 중인 기여는 {@link #CLAIM_TIMEOUT} 동안 건너뛴다.
+ * 선점이 만료됐거나 실패로 남은 기여는 카카오페이가 취소한 뒤 결과를 남기기 전에 멈췄을 수 있으므로, 주문 상태를 먼저 조회해 이미 취소됐으면 다시 요청하지 않는다.
+ * 취소한 펀딩은 {@link #REFUNDING_KEY}에 넣어 두고 모든 기여가 환불되면 빼며, 남은 펀딩은 {@link #resume()}이 이어서 환불한다
+ */
+@Slf4j
+@Component
+public class FundingRefunder {
+    private static final String REFUND_KEY_PREFIX = "funding:refund:";
+    private static final String REFUNDING_KEY = "funding:refunding";
+    private static final String LOCK_KEY = "funding:refunding:lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration REFUND_TTL = Duration.ofDays(7);
+    private static final String PENDING = "PENDING";
+    private static final String REFUNDED = "REFUNDED";
+    private static final String FAILED = "FAILED";
+    private static final long IN_FLIGHT = 0;
+    private static final long CLAIMED = 1;
+    private static final long ALREADY_REFUNDED = 2;
+    private static final long RECLAIMED = 3;
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 3, #ARGV do
+                local state = redis.call('HGET', KEYS[1], ARGV[i])
+                if state ~= 'REFUNDED' and (ARGV[2] ~= 'PENDING' or not state or state == 'FAILED') then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[2])
+                end
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[1], ARGV[1])
+            if state == 'REFUNDED' then
+                return 2
+            end
+            local requested = state and string.sub(state, 1, 10) == 'REQUESTED:'
+            if requested and tonumber(string.sub(state, 11)) + tonumber(ARGV[3]) > tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], 'REQUESTED:' .. ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            if requested or state == 'FAILED' then
+                return 3
+            end
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final FundingRepository fundingRepository;
+    private final FundingDetailRepository fundingDetailRepository;
+    private final ContributorLeaderboard contributorLeaderboard;
+    private final FundingProgressCache fundingProgressCache;
+    private final PaymentWebClientService webClientService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Executor executor;
+
+    public FundingRefunder(final FundingRepository fundingRepository,
+                           final FundingDetailRepository fundingDetailRepository,
+                           final ContributorLeaderboard contributorLeaderboard,
+                           final FundingProgressCache fundingProgressCache,
+                           final PaymentWebClientService webClientService,
+                           final StringRedisTemplate stringRedisTemplate,
+                           @Qualifier(AsyncConfig.FUNDING_REFUND_EXECUTOR) final Executor executor) {
+        this.fundingRepository = fundingRepository;
+        this.fundingDetailRepository = fundingDetailRepository;
+        this.contributorLeaderboard = contributorLeaderboard;
+        this.fundingProgressCache = fundingProgressCache;
+        this.webClientService = webClientService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * 호출한 트랜잭션에서 기여를 환불 대기 상태로 바꾸고, 커밋 이후에 기다리지 않고 환불을 시작한다
+     */
+    public void request(final Long fundingId) {
+        fundingDetailRepository.markRefundPending(fundingId);
+        try {
+            stringRedisTemplate.opsForSet().add(REFUNDING_KEY, String.valueOf(fundingId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to enqueue funding refund. fundingId: {}", fundingId, e);
+        }
+        afterCommit(() -> CompletableFuture.supplyAsync(() -> fundingDetailRepository.findRefundTargetsByFundingId(fundingId), executor)
+                .thenCompose(targets -> refundAll(fundingId, targets))
+                .whenComplete((result, e) -> finish(fundingId, result, e)));
+    }
+
+    /**
+     * 기여를 환불 대기 상태로 바꾸고 취소 요청을 시작한다. 기다리지 않으므로 여러 펀딩의 환불을 먼저 모두 시작한 뒤 한 번에 기다릴 수 있다
+     *
+     * @return 모든 기여의 환불을 시도하면 완료된다
+     */
+    public CompletableFuture<FundingRefundResult> refundAll(final Long fundingId) {
+        fundingDetailRepository.markRefundPending(fundingId);
+        return refundAll(fundingId, fundingDetailRepository.findRefundTargetsByFundingId(fundingId));
+    }
+
+    /**
+     * 취소했지만 환불이 끝나지 않은 펀딩을 이어서 환불한다. 여러 노드 중 한 노드만 실행한다
+     */
+    @Scheduled(cron = "${funding.refund.resume-cron:0 */5 * * * *}")
+    public void resume() {
+        final String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TIMEOUT))) {
+            return;
+        }
+
+        try {
+            final Set<String> fundingIds = stringRedisTemplate.opsForSet().members(REFUNDING_KEY);
+            if (fundingIds == null) {
+                return;
+            }
+
+            for (String fundingId : fundingIds) {
+                final Long id = Long.valueOf(fundingId);
+                finish(id, refundAll(id, fundingDetailRepository.findRefundTargetsByFundingId(id)).join(), null);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to resume funding refunds.", e);
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    /**
+     * @return 환불 키에 남은 기여별 결과. 환불을 시작하지 않았거나 {@link #REFUND_TTL}이 지났다면 모두 0
+     */
+    public FundingRefundProgress progressOf(final Long fundingId) {
+        final List<Object> states = stringRedisTemplate.opsForHash().values(refundKeyOf(fundingId));
+        long refunded = 0;
+        long failed = 0;
+        for (Object state : states) {
+            if (REFUNDED.equals(state)) {
+                refunded++;
+            } else if (FAILED.equals(state)) {
+                failed++;
+            }
+        }
+        return new FundingRefundProgress(fundingId, states.size(), states.size() - refunded - failed, refunded, failed);
+    }
+
+    private CompletableFuture<FundingRefundResult> refundAll(final Long fundingId, final List<RefundTargetDto> targets) {
+        record(fundingId, PENDING, targets.stream()
+                .map(RefundTargetDto::fundingDetailId)
+                .toList());
+        final List<CompletableFuture<Boolean>> refunds = targets.stream()
+                .map(target -> CompletableFuture.supplyAsync(() -> refund(fundingId, target), executor))
+                .toList();
+        return CompletableFuture.allOf(refunds.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    final int refunded = (int) refunds.stream()
+                            .filter(CompletableFuture::join)
+                            .count();
+                    return new FundingRefundResult(refunded, refunds.size() - refunded);
+                });
+    }
+
+    private boolean refund(final Long fundingId, final RefundTargetDto target) {
+        final Long fundingDetailId = target.fundingDetailId();
+        final long claim = claim(fundingId, fundingDetailId);
+        if (claim == IN_FLIGHT) {
+            return false;
+        }
+
+        try {
+            if (claim != ALREADY_REFUNDED) {
+                cancel(target, claim);
+                record(fundingId, REFUNDED, List.of(fundingDetailId));
+            }
+            complete(fundingId, target);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to refund funding detail. fundingId: {}, fundingDetailId: {}", fundingId, fundingDetailId, e);
+            record(fundingId, FAILED, List.of(fundingDetailId));
+            return false;
+        }
+    }
+
+    /**
+     * 다시 선점한 기여는 지난 요청이 이미 취소했을 수 있으므로 주문 상태를 조회해 취소되지 않았을 때만 요청한다
+     */
+    private void cancel(final RefundTargetDto target, final long claim) {
+        if (claim == RECLAIMED && webClientService.order(target.tid()).isCanceled()) {
+            log.info("Funding detail is already canceled. fundingDetailId: {}", target.fundingDetailId());
+            return;
+        }
+        webClientService.cancel(new PaymentCancelDto(target.tid(), target.amount()));
+    }
+
+    private void complete(final Long fundingId, final RefundTargetDto target) {
+        if (fundingDetailRepository.cancelRefund(target.fundingDetailId()) > 0) {
+            fundingRepository.decreaseAccumulateAmount(fundingId, target.amount());
+            contributorLeaderboard.decrease(fundingId, target.memberId(), target.amount());
+            fundingProgressCache.update(fundingId, -target.amount(), null);
+        }
+    }
+
+    private void finish(final Long fundingId, final FundingRefundResult result, final Throwable e) {
+        if (e != null) {
+            log.error("Failed to refund funding. fundingId: {}", fundingId, e);
+            return;
+        }
+        if (!result.completed()) {
+            log.warn("Funding refund is not completed. fundingId: {}, failed: {}", fundingId, result.failed());
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForSet().remove(REFUNDING_KEY, String.valueOf(fundingId));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to dequeue funding refund. fundingId: {}", fundingId, ex);
+        }
+    }
+
+    /**
+     * Redis를 사용할 수 없으면 선점하지 않고, 이전 요청이 있었는지 모르므로 다시 선점한 것처럼 주문 상태부터 조회한다
+     *
+     * @return 처음 선점했으면 {@link #CLAIMED}, 만료된 선점이나 실패를 다시 선점했으면 {@link #RECLAIMED},
+     * 다른 곳에서 요청 중이면 {@link #IN_FLIGHT}, 이미 환불됐으면 {@link #ALREADY_REFUNDED}
+     */
+    private long claim(final Long fundingId, final Long fundingDetailId) {
+        try {
+            final Long claim = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(refundKeyOf(fundingId)), String.valueOf(fundingDetailId),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(CLAIM_TIMEOUT.toMillis()), String.valueOf(REFUND_TTL.toSeconds()));
+            return claim == null ? RECLAIMED : claim;
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim funding refund. fundingId: {}, fundingDetailId: {}", fundingId, fundingDetailId, e);
+            return RECLAIMED;
+        }
+    }
+
+    private void record(final Long fundingId, final String state, final List<Long> fundingDetailIds) {
+        if (fundingDetailIds.isEmpty()) {
+            return;
+        }
+
+        final List<String> args = new ArrayList<>(List.of(String.valueOf(REFUND_TTL.toSeconds()), state));
+        fundingDetailIds.forEach(fundingDetailId -> args.add(String.valueOf(fundingDetailId)));
+        try {
+            stringRedisTemplate.execute(RECORD_SCRIPT, List.of(refundKeyOf(fundingId)), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Failed to record funding refund. fundingId: {}, state: {}", fundingId, state, e);
+        }
+    }
+
+    private static String refundKeyOf(final Long fundingId) {
+        return REFUND_KEY_PREFIX + fundingId;
+    }
+}
@@ -3,6 +3,7 @@ package org.kakaoshare.backend.domain.payment.service;
 import org.kakaoshare.backend.domain.payment.dto.approve.request.KakaoPayApproveRequest;
 import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentCancelDto;
 import org.kakaoshare.backend.domain.payment.dto.kakaopay.cancel.request.KakaoPayCancelRequest;
+import org.kakaoshare.backend.domain.payment.dto.kakaopay.order.request.KakaoPayOrderRequest;
 import org.kakaoshare.backend.domain.payment.dto.ready.request.KakaoPayReadyRequest;
 import org.kakaoshare.backend.domain.payment.dto.ready.request.PaymentReadyProductDto;
 import org.kakaoshare.backend.domain.payment.dto.success.request.PaymentSuccessRequest;
@@ -56,6 +57,10 @@ public class KakaoPayRequestProvider {
         return new KakaoPayCancelRequest(cid, tid, amount, 0L);
     }
 
+    public KakaoPayOrderRequest createOrderRequest(final String tid) {
+        return new KakaoPayOrderRequest(cid, tid);
+    }
+
     private int getTotalAmount(final List<PaymentReadyProductDto> paymentReadyProductDtos) {
         return paymentReadyProductDtos.stream()
                 .mapToInt(PaymentReadyProductDto::totalAmount)
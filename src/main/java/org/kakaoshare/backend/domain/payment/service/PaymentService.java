@@ -6,12 +6,15 @@ import org.kakaoshare.backend.domain.friend.exception.FriendException;
 import org.kakaoshare.backend.domain.friend.service.KakaoFriendService;
 import org.kakaoshare.backend.domain.funding.entity.Funding;
 import org.kakaoshare.backend.domain.funding.entity.FundingDetail;
+import org.kakaoshare.backend.domain.funding.entity.FundingStatus;
 import org.kakaoshare.backend.domain.funding.exception.FundingDetailErrorCode;
 import org.kakaoshare.backend.domain.funding.exception.FundingDetailException;
 import org.kakaoshare.backend.domain.funding.exception.FundingErrorCode;
 import org.kakaoshare.backend.domain.funding.exception.FundingException;
 import org.kakaoshare.backend.domain.funding.repository.FundingDetailRepository;
 import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.funding.service.ContributorLeaderboard;
+import org.kakaoshare.backend.domain.funding.service.FundingProgressCache;
 import org.kakaoshare.backend.domain.gift.entity.FundingGift;
 import org.kakaoshare.backend.domain.gift.entity.Gift;
 import org.kakaoshare.backend.domain.gift.exception.GiftErrorCode;
@@ -22,9 +25,8 @@ import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.member.exception.MemberException;
 import org.kakaoshare.backend.domain.member.repository.MemberRepository;
 import org.kakaoshare.backend.domain.option.dto.OptionSummaryResponse;
-import org.kakaoshare.backend.domain.option.entity.Option;
-import org.kakaoshare.backend.domain.option.repository.OptionDetailRepository;
-import org.kakaoshare.backend.domain.option.repository.OptionRepository;
+import org.kakaoshare.backend.domain.option.service.OptionCatalog;
+import org.kakaoshare.backend.domain.option.vo.ProductOptions;
 import org.kakaoshare.backend.domain.order.dto.OrderSummaryResponse;
 import org.kakaoshare.backend.domain.order.entity.Order;
 import org.kakaoshare.backend.domain.order.exception.OrderErrorCode;
@@ -38,6 +40,7 @@ import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentCancelDto
 import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentCancelRequest;
 import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentFundingCancelRequest;
 import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentFundingDetailCancelRequest;
+import org.kakaoshare.backend.domain.payment.dto.cancel.response.FundingRefundProgress;
 import org.kakaoshare.backend.domain.payment.dto.preview.PaymentPreviewRequest;
 import org.kakaoshare.backend.domain.payment.dto.preview.PaymentPreviewResponse;
 import org.kakaoshare.backend.domain.payment.dto.ready.request.PaymentFundingReadyRequest;
@@ -61,6 +64,9 @@ import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.exception.ProductErrorCode;
 import org.kakaoshare.backend.domain.product.exception.ProductException;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.service.PopularityRanking;
+import org.kakaoshare.backend.domain.rank.service.SalesRanking;
+import org.kakaoshare.backend.domain.rank.service.TrendingCounter;
 import org.kakaoshare.backend.domain.receipt.entity.Receipt;
 import org.kakaoshare.backend.domain.receipt.entity.ReceiptOption;
 import org.kakaoshare.backend.domain.receipt.entity.Receipts;
@@ -73,6 +79,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.kakaoshare.backend.domain.funding.exception.FundingDetailErrorCode.INVALID_CANCEL_AMOUNT;
 import static org.kakaoshare.backend.domain.funding.exception.FundingErrorCode.INVALID_ATTRIBUTE_AMOUNT;
@@ -89,17 +96,22 @@ public class PaymentService {
     private final FundingRepository fundingRepository;
     private final FundingDetailRepository fundingDetailRepository;
     private final FundingGiftRepository fundingGiftRepository;
+    private final FundingProgressCache fundingProgressCache;
+    private final FundingRefunder fundingRefunder;
+    private final ContributorLeaderboard contributorLeaderboard;
     private final GiftRepository giftRepository;
     private final KakaoFriendService kakaoFriendService;
     private final MemberRepository memberRepository;
-    private final OptionRepository optionRepository;
-    private final OptionDetailRepository optionDetailRepository;
+    private final OptionCatalog optionCatalog;
     private final OrderRepository orderRepository;
     private final OrderNumberProvider orderNumberProvider;
     private final PaymentRepository paymentRepository;
     private final PaymentWebClientService webClientService;
     private final ProductRepository productRepository;
     private final RedisUtils redisUtils;
+    private final SalesRanking salesRanking;
+    private final TrendingCounter trendingCounter;
+    private final PopularityRanking popularityRanking;
 
     public PaymentPreviewResponse preview(final List<PaymentPreviewRequest> paymentPreviewRequests) {
         final List<String> methodNames = PaymentMethod.getNames();
@@ -157,6 +169,9 @@ public class PaymentService {
         final Receipts receipts = getReceipts(recipient.getMemberId(), receiver, orderDetails);
         saveGifts(receipts);
         saveOrders(payment, receipts);
+        salesRanking.increase(getSalesByProduct(orderDetails));
+        orderDetails.getValues().forEach(orderDetail -> trendingCounter.record(orderDetail.productId(), TrendingCounter.ORDER_WEIGHT * orderDetail.quantity()));
+        orderDetails.getValues().forEach(orderDetail -> popularityRanking.increaseReceive(orderDetail.productId(), receiver.getGender()));
 
         final List<OrderSummaryResponse> orderSummaries = getOrderSummaries(orderDetails);
         return new PaymentGiftSuccessResponse(PaymentSuccessReceiver.of(receiver, providerId), orderSummaries);
@@ -168,18 +183,19 @@ public class PaymentService {
         final KakaoPayApproveResponse approveResponse = webClientService.approve(providerId, paymentSuccessRequest);
         final Payment payment = approveResponse.toEntity();
         final FundingOrderDetail fundingOrderDetail = redisUtils.remove(approveResponse.partner_order_id(), FundingOrderDetail.class);
-        final Funding funding = findFundingById(fundingOrderDetail.fundingId());
         final Member member = findMemberByProviderId(providerId);
         final Long amount = payment.getTotalPrice();
+        final Long fundingId = fundingOrderDetail.fundingId();
+        final boolean accumulated = fundingRepository.increaseAccumulateAmount(fundingId, amount) > 0;
+        final Funding funding = findFundingById(fundingId);
+        validateAccumulated(funding, payment, accumulated);
         saveFundingDetail(payment, funding, member);
-        funding.increaseAccumulateAmount(amount);
-
-        // TODO: 5/10/24 결제 후 목표 금액 달성 시
-        if (funding.satisfiedAccumulateAmount()) {
-            funding.reflectStatus(amount, member.getMemberId());    // TODO: 5/14/24 잔여 금액 여부에 따라 "펀딩 완료", "남은 금액 결제 전"으로 상태를 수정
-        }
+        contributorLeaderboard.increase(fundingId, member, amount);
 
-        if (funding.completed()) {
+        final FundingStatus previous = funding.getStatus();
+        final FundingStatus status = reflectStatus(funding, amount, member.getMemberId());
+        fundingProgressCache.update(fundingId, accumulated ? amount : 0L, status == previous ? null : status);
+        if (status.completed()) {
             createAndSaveFundingGift(funding);
         }
 
@@ -204,6 +220,8 @@ public class PaymentService {
 
         order.cancel();
         gift.cancel();
+        salesRanking.decrease(receipt.getProduct().getProductId(), receipt.getProduct().getPrice() * receipt.getQuantity(), order.getCreatedAt());
+        revertTrending(receipt, order.getCreatedAt());
         final PaymentCancelDto paymentCancelDto = findPaymentDtoById(paymentId);
         webClientService.cancel(paymentCancelDto);
     }
@@ -215,9 +233,15 @@ public class PaymentService {
         final Funding funding = findFundingById(fundingId);
         validateMemberFunding(providerId, funding);
         validateAlreadyCanceled(funding, Funding::canceled);
-        final List<FundingDetail> fundingDetails = fundingDetailRepository.findAllByFundingId(fundingId);
-        fundingDetails.forEach(fundingDetail -> refundFundingDetails(fundingDetail.getAmount(), fundingDetail));
         funding.cancel();
+        fundingProgressCache.update(fundingId, 0L, FundingStatus.CANCEL);
+        fundingRefunder.request(fundingId);
+    }
+
+    public FundingRefundProgress getFundingRefundProgress(final String providerId, final Long fundingId) {
+        final Funding funding = findFundingById(fundingId);
+        validateMemberFunding(providerId, funding);
+        return fundingRefunder.progressOf(fundingId);
     }
 
     @Transactional
@@ -299,30 +323,48 @@ public class PaymentService {
     }
 
     private void validateOptionDetailIds(final List<PaymentGiftReadyItem> paymentGiftReadyItems) {
+        final Map<Long, ProductOptions> productOptions = getProductOptions(paymentGiftReadyItems.stream()
+                .filter(paymentGiftReadyItem -> hasOptions(paymentGiftReadyItem.optionDetailIds()))
+                .map(PaymentGiftReadyItem::productId)
+                .toList());
         final boolean isAllMatch = paymentGiftReadyItems.stream()
-                .anyMatch(this::matchesOptionsWithProduct);
+                .anyMatch(paymentGiftReadyItem -> matchesOptionsWithProduct(paymentGiftReadyItem, productOptions));
         if (!isAllMatch) {
             throw new PaymentException(INVALID_OPTION);
         }
     }
 
-    private boolean matchesOptionsWithProduct(final PaymentGiftReadyItem paymentGiftReadyItem) {
-        final Long productId = paymentGiftReadyItem.productId();
+    private boolean matchesOptionsWithProduct(final PaymentGiftReadyItem paymentGiftReadyItem,
+                                              final Map<Long, ProductOptions> productOptions) {
         final List<Long> optionDetailIds = paymentGiftReadyItem.optionDetailIds();
-        if (optionDetailIds == null || optionDetailIds.isEmpty()) {
+        if (!hasOptions(optionDetailIds)) {
             return true;
         }
 
-        final List<Option> options = optionRepository.findByOptionDetailIds(optionDetailIds);
-        if (options.size() != optionDetailIds.size()) {
-            return false;
+        final ProductOptions options = productOptions.get(paymentGiftReadyItem.productId());
+        return options != null && options.containsAllDetails(optionDetailIds);
+    }
+
+    /**
+     * 옵션을 선택한 상품들의 옵션 트리를 {@link OptionCatalog}에서 한 번에 가져온다
+     */
+    private Map<Long, ProductOptions> getProductOptions(final List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
         }
+        return optionCatalog.getAll(productIds);
+    }
 
-        final List<Long> productIds = options.stream()
-                .map(option -> option.getProduct().getProductId())
-                .distinct()
-                .toList();
-        return productIds.size() == 1 && productIds.get(0).equals(productId);
+    private Map<Long, ProductOptions> getProductOptions(final OrderDetails orderDetails) {
+        return getProductOptions(orderDetails.getValues()
+                .stream()
+                .filter(orderDetail -> hasOptions(orderDetail.optionDetailIds()))
+                .map(OrderDetail::productId)
+                .toList());
+    }
+
+    private boolean hasOptions(final List<Long> optionDetailIds) {
+        return optionDetailIds != null && !optionDetailIds.isEmpty();
     }
 
     private OrderDetails getOrderDetails(final PaymentGiftReadyRequest paymentGiftReadyRequest) {
@@ -344,6 +386,7 @@ public class PaymentService {
                                  final Member receiver,
                                  final OrderDetails orderDetails) {
         final Member recipient = memberRepository.getReferenceById(recipientId);
+        final Map<Long, ProductOptions> productOptions = getProductOptions(orderDetails);
         final List<Receipt> receipts = orderDetails.getValues()
                 .stream()
                 .map(orderDetail -> new Receipt(
@@ -352,19 +395,19 @@ public class PaymentService {
                         orderDetail.quantity(),
                         recipient,
                         receiver,
-                        getReceiptOptions(orderDetail.optionDetailIds())))
+                        getReceiptOptions(productOptions.get(orderDetail.productId()), orderDetail.optionDetailIds())))
                 .toList();
         return new Receipts(receipts);
     }
 
-    private List<ReceiptOption> getReceiptOptions(final List<Long> optionDetailIds) {
-        if (optionDetailIds == null || optionDetailIds.isEmpty()) {
+    private List<ReceiptOption> getReceiptOptions(final ProductOptions productOptions, final List<Long> optionDetailIds) {
+        if (productOptions == null || !hasOptions(optionDetailIds)) {
             return Collections.emptyList();
         }
 
-        return optionDetailRepository.findAllById(optionDetailIds)
+        return productOptions.summariesOf(optionDetailIds)
                 .stream()
-                .map(optionDetail -> new ReceiptOption(optionDetail.getOption().getName(), optionDetail.getName()))
+                .map(optionSummary -> new ReceiptOption(optionSummary.optionName(), optionSummary.optionDetailName()))
                 .toList();
     }
 
@@ -373,35 +416,67 @@ public class PaymentService {
         orderRepository.saveAll(orders);
     }
 
+    /**
+     * 주문한 상품들의 가격은 한 번의 IN 쿼리로 조회한다
+     */
+    private Map<Long, Long> getSalesByProduct(final OrderDetails orderDetails) {
+        final List<Long> productIds = extractedProductIds(orderDetails.getValues(), OrderDetail::productId);
+        final Map<Long, Long> priceByIds = productRepository.findAllPriceByIdsGroupById(productIds);
+        return orderDetails.getValues()
+                .stream()
+                .filter(orderDetail -> priceByIds.containsKey(orderDetail.productId()))
+                .collect(Collectors.toMap(
+                        OrderDetail::productId,
+                        orderDetail -> priceByIds.get(orderDetail.productId()) * orderDetail.quantity(),
+                        Long::sum
+                ));
+    }
+
+    /**
+     * 급상승 점수를 세는 기간 안에 들어온 주문만 주문할 때 더한 가중치를 뺀다
+     */
+    private void revertTrending(final Receipt receipt, final LocalDateTime orderedAt) {
+        if (orderedAt != null && orderedAt.isBefore(LocalDateTime.now().minusHours(TrendingCounter.WINDOW_HOURS))) {
+            return;
+        }
+        trendingCounter.record(receipt.getProduct().getProductId(), -TrendingCounter.ORDER_WEIGHT * receipt.getQuantity());
+    }
+
     private void saveGifts(final Receipts receipts) {
         final List<Gift> gifts = receipts.toGifts(LocalDateTime.now().plusDays(180L));    // TODO: 3/29/24 선물 만료기간은 180일로 설정
         giftRepository.saveAll(gifts);
     }
 
     private List<OrderSummaryResponse> getOrderSummaries(final OrderDetails orderDetails) {
+        final Map<Long, ProductOptions> productOptions = getProductOptions(orderDetails);
         return orderDetails.getValues()
                 .stream()
-                .map(this::getOrderSummary)
+                .map(orderDetail -> getOrderSummary(orderDetail, productOptions.get(orderDetail.productId())))
                 .toList();
     }
 
-    private OrderSummaryResponse getOrderSummary(final OrderDetail orderDetail) {
+    private OrderSummaryResponse getOrderSummary(final OrderDetail orderDetail, final ProductOptions productOptions) {
         final ProductSummaryResponse productSummaryResponse = productRepository.findAllProductSummaryById(orderDetail.productId());
-        return new OrderSummaryResponse(productSummaryResponse, orderDetail.quantity(), getOptionSummaryResponses(orderDetail.optionDetailIds()));
+        return new OrderSummaryResponse(productSummaryResponse, orderDetail.quantity(), getOptionSummaryResponses(productOptions, orderDetail.optionDetailIds()));
     }
 
-    private List<OptionSummaryResponse> getOptionSummaryResponses(final List<Long> optionDetailIds) {
-        return optionDetailRepository.findAllById(optionDetailIds)
-                .stream()
-                .map(OptionSummaryResponse::from)
-                .toList();
+    private List<OptionSummaryResponse> getOptionSummaryResponses(final ProductOptions productOptions, final List<Long> optionDetailIds) {
+        if (productOptions == null || !hasOptions(optionDetailIds)) {
+            return Collections.emptyList();
+        }
+        return productOptions.summariesOf(optionDetailIds);
     }
 
+    /**
+     * 누적 금액은 엔티티를 바꾸지 않고 빼는 UPDATE로 줄여, 변경 감지가 행 전체를 덮어써 동시에 더해진 기여를 지우지 않게 한다
+     */
     private void refundFundingDetails(final Long refundAmount,
                                       final FundingDetail fundingDetail) {
         final Payment payment = fundingDetail.getPayment();
         final Funding funding = fundingDetail.getFunding();
-        funding.decreaseAccumulateAmount(refundAmount);
+        fundingRepository.decreaseAccumulateAmount(funding.getFundingId(), refundAmount);
+        fundingProgressCache.update(funding.getFundingId(), -refundAmount, null);
+        contributorLeaderboard.decrease(funding.getFundingId(), fundingDetail.getMember().getMemberId(), refundAmount);
 
         final Long attributeAmount = fundingDetail.getAmount();
         // TODO: 4/27/24 전체 환불인 경우 상태 변경
@@ -418,6 +493,33 @@ public class PaymentService {
         webClientService.cancel(paymentCancelDto);
     }
 
+    /**
+     * 기여 금액은 목표 금액을 넘지 않을 때만 더하는 UPDATE로 더한 뒤 펀딩을 읽는다
+     * UPDATE가 잠근 행은 커밋까지 잠겨 있으므로 읽은 누적 금액과 상태에는 다른 기여가 끼어들지 않고, 목표 금액 달성은 한 기여에서만 보인다.
+     * 더하지 못한 기여는 목표 금액을 달성한 펀딩에 남은 금액을 결제한 경우에만 받고, 그 밖에는 동시에 들어온 기여로 남은 금액이 줄어든 것이므로 승인된 결제를 취소한다
+     */
+    private void validateAccumulated(final Funding funding, final Payment payment, final boolean accumulated) {
+        final Long amount = payment.getTotalPrice();
+        if (!accumulated && !funding.isRemainingPayment(amount)) {
+            webClientService.cancel(PaymentCancelDto.of(payment, amount));
+            throw new FundingException(INVALID_ATTRIBUTE_AMOUNT);
+        }
+    }
+
+    /**
+     * 상태 전이도 읽은 상태일 때만 바꾸는 UPDATE로 반영해 동시에 전이를 시도한 기여가 서로의 상태를 덮어쓰지 않게 한다
+     *
+     * @return 반영된 상태
+     */
+    private FundingStatus reflectStatus(final Funding funding, final Long amount, final Long contributorId) {
+        final FundingStatus current = funding.getStatus();
+        final FundingStatus next = funding.nextStatus(amount, contributorId);
+        if (next == current || fundingRepository.updateStatus(funding.getFundingId(), current, next) == 0) {
+            return current;
+        }
+        return next;
+    }
+
     private void createAndSaveFundingGift(final Funding funding) {
         final FundingGift fundingGift = FundingGift.builder()
                 .funding(funding)
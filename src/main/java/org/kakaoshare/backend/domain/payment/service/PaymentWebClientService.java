@@ -5,6 +5,8 @@ import org.kakaoshare.backend.domain.payment.dto.approve.response.KakaoPayApprov
 import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentCancelDto;
 import org.kakaoshare.backend.domain.payment.dto.kakaopay.cancel.request.KakaoPayCancelRequest;
 import org.kakaoshare.backend.domain.payment.dto.kakaopay.cancel.response.KakaoPayCancelResponse;
+import org.kakaoshare.backend.domain.payment.dto.kakaopay.order.request.KakaoPayOrderRequest;
+import org.kakaoshare.backend.domain.payment.dto.kakaopay.order.response.KakaoPayOrderResponse;
 import org.kakaoshare.backend.domain.payment.dto.ready.request.KakaoPayReadyRequest;
 import org.kakaoshare.backend.domain.payment.dto.ready.request.PaymentReadyProductDto;
 import org.kakaoshare.backend.domain.payment.dto.ready.response.KakaoPayReadyResponse;
@@ -23,6 +25,7 @@ public class PaymentWebClientService {
     private final String readyUrl;
     private final String approveUrl;
     private final String cancelUrl;
+    private final String orderUrl;
     private final String secretKey;
     private final WebClient webClient;
     private final KakaoPayRequestProvider requestProvider;
@@ -30,12 +33,14 @@ public class PaymentWebClientService {
     public PaymentWebClientService(@Value("${pay.request-url.ready}") final String readyUrl,
                                    @Value("${pay.request-url.approve}") final String approveUrl,
                                    @Value("${pay.request-url.cancel}") final String cancelUrl,
+                                   @Value("${pay.request-url.order}") final String orderUrl,
                                    @Value("${pay.secret-key}") final String secretKey,
                                    final WebClient webClient,
                                    final KakaoPayRequestProvider requestProvider) {
         this.readyUrl = readyUrl;
         this.approveUrl = approveUrl;
         this.cancelUrl = cancelUrl;
+        this.orderUrl = orderUrl;
         this.secretKey = secretKey;
         this.webClient = webClient;
         this.requestProvider = requestProvider;
@@ -77,4 +82,15 @@ public class PaymentWebClientService {
                 .bodyToMono(KakaoPayCancelResponse.class)
                 .block();
     }
+
+    public KakaoPayOrderResponse order(final String tid) {
+        final KakaoPayOrderRequest kakaoPayOrderRequest = requestProvider.createOrderRequest(tid);
+        return webClient.post()
+                .uri(orderUrl)
+                .header(HttpHeaders.AUTHORIZATION, SECRET_KEY_PREFIX + secretKey)
+                .bodyValue(kakaoPayOrderRequest)
+                .retrieve()
+                .bodyToMono(KakaoPayOrderResponse.class)
+                .block();
+    }
 }
@@ -3,6 +3,7 @@ package org.kakaoshare.backend.domain.product.controller;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.common.dto.CursorResponse;
 import org.kakaoshare.backend.common.dto.PageResponse;
 import org.kakaoshare.backend.domain.product.dto.DescriptionResponse;
 import org.kakaoshare.backend.domain.product.dto.DetailResponse;
@@ -54,6 +55,16 @@ public class ProductController {
         return ResponseEntity.ok(simpleProductsPage);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> getSimpleProductsByCursor(
+            @Nullable @LoggedInMember String providerId,
+            @RequestParam("categoryId") Long categoryId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @PageableDefault(size = PAGE_DEFAULT_SIZE) Pageable pageable) {
+        CursorResponse<?> simpleProducts = productService.getSimpleProductsByCursor(categoryId, cursor, pageable, providerId);
+        return ResponseEntity.ok(simpleProducts);
+    }
+
     @GetMapping("/brands/{brandId}")
     public ResponseEntity<?> getBrandsProducts(@PathVariable("brandId") Long brandId,
                                                @PageableDefault(size = PAGE_DEFAULT_SIZE) Pageable pageable) {
@@ -2,6 +2,7 @@ package org.kakaoshare.backend.domain.product.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.kakaoshare.backend.domain.option.dto.OptionResponse;
 import org.kakaoshare.backend.domain.option.entity.Option;
 import org.kakaoshare.backend.domain.product.entity.Product;
@@ -12,7 +13,8 @@ import java.util.List;
 import org.kakaoshare.backend.domain.wish.entity.Wish;
 
 @Getter
-@Builder
+@Jacksonized
+@Builder(toBuilder = true)
 public class DescriptionResponse {
     private final Long productId;
     private final String name;
@@ -30,7 +32,7 @@ public class DescriptionResponse {
     private final boolean isWish;
 
     public static DescriptionResponse of(final Product product, List<String> descriptionPhotosUrls,
-                                         List<OptionResponse> optionsResponses, List<String> productThumbnailsUrls, Boolean isWished) {
+                                         List<OptionResponse> optionsResponses, List<String> productThumbnailsUrls) {
 
         List<String> thumbnails;
         if (product.getProductThumbnails().isEmpty() && product.getPhoto() != null) {
@@ -55,7 +57,21 @@ public class DescriptionResponse {
                 .brandId(product.getBrand().getBrandId())
                 .brandThumbnail(product.getBrand().getIconPhoto())
                 .wishCount(product.getWishCount())
-                .isWish(isWished)
+                .build();
+    }
+
+    public DescriptionResponse withWish(final boolean isWish) {
+        return toBuilder()
+                .isWish(isWish)
+                .build();
+    }
+
+    /**
+     * @param wishCount 캐시된 응답과 별도로 읽은 현재 위시 수
+     */
+    public DescriptionResponse withWishCount(final long wishCount) {
+        return toBuilder()
+                .wishCount(Math.toIntExact(wishCount))
                 .build();
     }
 }
@@ -3,6 +3,7 @@ package org.kakaoshare.backend.domain.product.dto;
 import java.util.Optional;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.kakaoshare.backend.domain.option.dto.OptionResponse;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.entity.ProductDetail;
@@ -10,7 +11,8 @@ import org.kakaoshare.backend.domain.product.entity.ProductThumbnail;
 import java.util.List;
 
 @Getter
-@Builder
+@Jacksonized
+@Builder(toBuilder = true)
 public class DetailResponse {
     private final Long productId;
     private final String name;
@@ -31,7 +33,7 @@ public class DetailResponse {
     private final int wishCount;
     private final boolean isWish;
 
-    public static DetailResponse of(final Product product, List<OptionResponse> optionsResponses, Boolean isWished) {
+    public static DetailResponse of(final Product product, List<OptionResponse> optionsResponses) {
         ProductDetail detail = product.getProductDetail();
 
         String origin = Optional.ofNullable(detail).map(ProductDetail::getOrigin).orElse(null);
@@ -59,7 +61,21 @@ public class DetailResponse {
                 .brandId(product.getBrand().getBrandId())
                 .brandThumbnail(product.getBrand().getIconPhoto())
                 .wishCount(product.getWishCount())
-                .isWish(isWished)
+                .build();
+    }
+
+    public DetailResponse withWish(final boolean isWish) {
+        return toBuilder()
+                .isWish(isWish)
+                .build();
+    }
+
+    /**
+     * @param wishCount 캐시된 응답과 별도로 읽은 현재 위시 수
+     */
+    public DetailResponse withWishCount(final long wishCount) {
+        return toBuilder()
+                .wishCount(Math.toIntExact(wishCount))
                 .build();
     }
 }
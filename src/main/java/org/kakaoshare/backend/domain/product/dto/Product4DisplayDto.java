@@ -18,6 +18,17 @@ public class Product4DisplayDto extends ProductDto {
         this.isWished = isWished;
     }
     
+    public Product4DisplayDto withWished(final boolean isWished) {
+        return new Product4DisplayDto(productId, name, photo, price, brandName, wishCount, isWished);
+    }
+
+    /**
+     * @param pendingWishCount 아직 DB에 반영되지 않은 위시 수 변경분
+     */
+    public Product4DisplayDto withPendingWishCount(final long pendingWishCount) {
+        return new Product4DisplayDto(productId, name, photo, price, brandName, wishCount + pendingWishCount, isWished);
+    }
+    
     @Override
     public String toString() {
         return "Product4DisplayDto{" +
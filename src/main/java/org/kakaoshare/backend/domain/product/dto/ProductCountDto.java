@@ -0,0 +1,14 @@
+package org.kakaoshare.backend.domain.product.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record ProductCountDto(Long productId, Integer wishCount, Integer orderCount) {
+    @QueryProjection
+    public ProductCountDto(final Long productId,
+                           final Integer wishCount,
+                           final Integer orderCount) {
+        this.productId = productId;
+        this.wishCount = wishCount;
+        this.orderCount = orderCount;
+    }
+}
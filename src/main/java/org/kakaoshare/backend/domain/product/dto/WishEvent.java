@@ -3,5 +3,6 @@ package org.kakaoshare.backend.domain.product.dto;
 import org.kakaoshare.backend.domain.product.entity.Product;
 
 public interface WishEvent {
+    String getProviderId();
     Product getProduct();
 }
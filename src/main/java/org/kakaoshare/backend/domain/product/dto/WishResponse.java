@@ -3,7 +3,10 @@ package org.kakaoshare.backend.domain.product.dto;
 import org.kakaoshare.backend.domain.product.entity.Product;
 
 public record WishResponse(Long productId, Integer wishCount) {
-    public static WishResponse from(final Product product) {
-        return new WishResponse(product.getProductId(), product.getWishCount());
+    /**
+     * @param pendingWishCount 아직 DB에 반영되지 않은 위시 수 변경분
+     */
+    public static WishResponse of(final Product product, final long pendingWishCount) {
+        return new WishResponse(product.getProductId(), Math.toIntExact(product.getWishCount() + pendingWishCount));
     }
 }
@@ -3,6 +3,7 @@ package org.kakaoshare.backend.domain.product.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -11,21 +12,29 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.kakaoshare.backend.common.util.TotalCountEntityListener;
 import org.kakaoshare.backend.domain.base.entity.BaseTimeEntity;
 import org.kakaoshare.backend.domain.brand.entity.Brand;
 import org.kakaoshare.backend.domain.cart.entity.Cart;
 import org.kakaoshare.backend.domain.category.entity.Category;
+import org.kakaoshare.backend.domain.category.service.CategoryTreeEntityListener;
+import org.kakaoshare.backend.domain.search.index.SearchIndexEntityListener;
 
 import java.util.List;
 
 
 @Entity
+@EntityListeners({SearchIndexEntityListener.class, CategoryTreeEntityListener.class, TotalCountEntityListener.class})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -81,13 +90,13 @@ public class Product extends BaseTimeEntity {
     private List<ProductThumbnail> productThumbnails;
     @OneToMany(mappedBy = "product",fetch = FetchType.LAZY,cascade = CascadeType.ALL)
     private List<Cart> carts;
+
+    // 카테고리/브랜드가 바뀐 것을 엔티티 리스너가 알 수 있도록 마지막으로 읽거나 저장한 값을 기억한다
+    @Transient
+    private Long persistedCategoryId;
+    @Transient
+    private Long persistedBrandId;
     
-    public void increaseWishCount(){
-        this.wishCount++;
-    }
-    public void decreaseWishCount() {
-        this.wishCount--;
-    }
     @Override
     public String toString() {
         return "Product{" +
@@ -101,6 +110,17 @@ public class Product extends BaseTimeEntity {
                 ", brandName='" + brandName + '\'' +
                 '}';
     }
+    /**
+     * 엔티티 리스너의 콜백이 먼저 실행되므로 {@link CategoryTreeEntityListener}는 수정 전 값을 읽는다
+     */
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPlacement() {
+        this.persistedCategoryId = category == null ? null : category.getCategoryId();
+        this.persistedBrandId = brand == null ? null : brand.getBrandId();
+    }
+
     public List<String> getThumbnailUrls() {
         if (productThumbnails.isEmpty()) {
             return List.of(photo);
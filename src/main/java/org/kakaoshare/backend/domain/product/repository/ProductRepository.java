@@ -21,4 +21,9 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
             "FROM Product p " +
             "WHERE p.productId =:productId")
     Optional<ProductDto> findProductDtoById(@Param("productId") final Long productId);
+
+    @Query("SELECT p.wishCount " +
+            "FROM Product p " +
+            "WHERE p.productId =:productId")
+    Optional<Integer> findWishCountById(@Param("productId") final Long productId);
 }
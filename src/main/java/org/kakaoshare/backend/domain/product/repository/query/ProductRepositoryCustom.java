@@ -1,33 +1,44 @@
 package org.kakaoshare.backend.domain.product.repository.query;
 
-import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.common.dto.CursorResponse;
+import org.kakaoshare.backend.common.util.sort.Cursor;
 import org.kakaoshare.backend.domain.product.dto.DescriptionResponse;
 import org.kakaoshare.backend.domain.product.dto.DetailResponse;
 import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
+import org.kakaoshare.backend.domain.product.dto.ProductCountDto;
 import org.kakaoshare.backend.domain.product.dto.ProductDto;
 import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.search.dto.ProductSearchDocument;
 import org.kakaoshare.backend.domain.search.dto.SimpleBrandProductDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public interface ProductRepositoryCustom {
-    Page<Product4DisplayDto> findAllByCategoryId(Long categoryId, Pageable pageable, final String providerId);
+    Page<Product4DisplayDto> findAllByCategoryIds(List<Long> categoryIds, Pageable pageable);
+    CursorResponse<Product4DisplayDto> findAllByCategoryIdsWithCursor(final List<Long> categoryIds, final Cursor cursor, final Pageable pageable);
     Page<ProductDto> findAllByBrandId(final Long brandId, final Pageable pageable);
     Page<ProductDto> findAllByProductIds(final List<Long> productIds, final Pageable pageable);
-    DescriptionResponse findProductWithDetailsAndPhotosWithoutMember(Product product);
-    DescriptionResponse findProductWithDetailsAndPhotosWithMember(Product product, Member member);
-    DetailResponse findProductDetailWithoutMember(Product product);
-    DetailResponse findProductDetailWithMember(Product product, Member member);
+    List<ProductDto> findAllDtoByIds(final Collection<Long> productIds);
+    DescriptionResponse findProductWithDetailsAndPhotos(Product product);
+    DetailResponse findProductDetail(Product product);
     Product findProductById(Long productId);
-    Page<Product4DisplayDto> findBySearchConditions(final String keyword, final Integer minPrice, final Integer maxPrice, final List<String> categories, final Pageable pageable,final String providerId);
+    Page<Product4DisplayDto> findBySearchConditions(final String keyword, final Integer minPrice, final Integer maxPrice, final List<Long> categoryIds, final Pageable pageable);
+    Page<Product4DisplayDto> findAllDisplayByProductIds(final List<Long> productIds, final Pageable pageable);
+    List<ProductSearchDocument> findSearchDocuments(final Long lastProductId, final int size);
     
     Page<SimpleBrandProductDto> findBySearchConditionsGroupByBrand(String keyword,
-                                                                   Pageable pageable,
-                                                                   String providerId);
+                                                                   Pageable pageable);
     
     Map<Long, Long> findAllPriceByIdsGroupById(final List<Long> productIds);
     Map<Long, String> findAllNameByIdsGroupById(final List<Long> productIds);
+    List<ProductCountDto> findCounts(final Long lastProductId, final int size);
+    List<ProductCountDto> findCountsByIds(final Collection<Long> productIds);
+    Map<Long, Long> countWishesGroupByProductId(final Collection<Long> productIds);
+    Map<Long, Long> countReceiptsGroupByProductId(final Collection<Long> productIds);
+    long increaseWishCounts(final Map<Long, Long> deltas);
+    long increaseOrderCounts(final Map<Long, Long> deltas);
 }
@@ -1,78 +1,137 @@
 package org.kakaoshare.backend.domain.product.repository.query;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import io.micrometer.common.lang.Nullable;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.common.dto.CursorResponse;
 import org.kakaoshare.backend.common.error.GlobalErrorCode;
 import org.kakaoshare.backend.common.error.exception.BusinessException;
+import org.kakaoshare.backend.common.util.TotalCountCache;
+import org.kakaoshare.backend.common.util.sort.Cursor;
 import org.kakaoshare.backend.common.util.sort.SortUtil;
 import org.kakaoshare.backend.common.util.sort.SortableRepository;
+import org.kakaoshare.backend.common.util.sort.error.SortErrorCode;
+import org.kakaoshare.backend.common.util.sort.error.exception.UnsupportedSortTypeException;
 import org.kakaoshare.backend.domain.brand.dto.QSimpleBrandDto;
 import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
-import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.option.dto.OptionResponse;
 import org.kakaoshare.backend.domain.option.dto.ProductOptionDetailResponse;
 import org.kakaoshare.backend.domain.option.entity.QOption;
 import org.kakaoshare.backend.domain.option.entity.QOptionDetail;
+import org.kakaoshare.backend.domain.order.entity.OrderStatus;
 import org.kakaoshare.backend.domain.product.dto.DescriptionResponse;
 import org.kakaoshare.backend.domain.product.dto.DetailResponse;
 import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
+import org.kakaoshare.backend.domain.product.dto.ProductCountDto;
 import org.kakaoshare.backend.domain.product.dto.ProductDto;
 import org.kakaoshare.backend.domain.product.dto.QProduct4DisplayDto;
+import org.kakaoshare.backend.domain.product.dto.QProductCountDto;
 import org.kakaoshare.backend.domain.product.dto.QProductDto;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.entity.QProduct;
 import org.kakaoshare.backend.domain.product.entity.QProductDescriptionPhoto;
 import org.kakaoshare.backend.domain.product.entity.QProductThumbnail;
-import org.kakaoshare.backend.domain.search.dto.QSimpleBrandProductDto;
+import org.kakaoshare.backend.domain.search.dto.ProductSearchDocument;
+import org.kakaoshare.backend.domain.search.dto.QProductSearchDocument;
 import org.kakaoshare.backend.domain.search.dto.SimpleBrandProductDto;
-import org.kakaoshare.backend.domain.wish.entity.QWish;
-import org.kakaoshare.backend.domain.wish.entity.Wish;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.querydsl.core.group.GroupBy.groupBy;
-import static com.querydsl.core.group.GroupBy.list;
-import static com.querydsl.jpa.JPAExpressions.select;
 import static org.kakaoshare.backend.common.util.RepositoryUtils.*;
 import static org.kakaoshare.backend.domain.brand.entity.QBrand.brand;
-import static org.kakaoshare.backend.domain.category.entity.QCategory.category;
+import static org.kakaoshare.backend.domain.order.entity.QOrder.order;
 import static org.kakaoshare.backend.domain.product.entity.QProduct.product;
+import static org.kakaoshare.backend.domain.receipt.entity.QReceipt.receipt;
 import static org.kakaoshare.backend.domain.wish.entity.QWish.wish;
 
 @RequiredArgsConstructor
 public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, SortableRepository {
     private static final int PRODUCT_SIZE_GROUP_BY_BRAND = 9;
+    private static final char LIKE_ESCAPE = '!';
+    private static final String TOP_PRODUCTS_OF_BRANDS_QUERY = """
+            select ranked.productId as productId,
+                   ranked.name as name,
+                   ranked.photo as photo,
+                   ranked.price as price,
+                   ranked.brandId as brandId,
+                   ranked.brandName as brandName,
+                   ranked.wishCount as wishCount
+            from (
+                select p.productId as productId,
+                       p.name as name,
+                       p.photo as photo,
+                       p.price as price,
+                       b.brandId as brandId,
+                       b.name as brandName,
+                       p.wishCount as wishCount,
+                       row_number() over (partition by b.brandId order by p.productId) as ranking
+                from Product p
+                join p.brand b
+                where b.brandId in :brandIds
+                  and (:keyword is null or p.name like :keyword escape '!')
+            ) ranked
+            where ranked.ranking <= :limit
+            order by ranked.brandId, ranked.ranking
+            """;
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final TotalCountCache totalCountCache;
 
     @Override
-    public Page<Product4DisplayDto> findAllByCategoryId(final Long categoryId,
-                                                        final Pageable pageable,
-                                                        final String providerId) {
+    public Page<Product4DisplayDto> findAllByCategoryIds(final List<Long> categoryIds,
+                                                         final Pageable pageable) {
 
         JPAQuery<Product4DisplayDto> contentQuery = queryFactory
-                .select(getProduct4DisplayDto(providerId))
+                .select(getProduct4DisplayDto())
                 .from(product)
-                .where(categoryIdEqualTo(categoryId))
+                .where(categoryIdIn(categoryIds))
                 .orderBy(getOrderSpecifiers(pageable))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
-        JPAQuery<Long> countQuery = countProduct(categoryId);
-        return toPage(pageable, contentQuery, countQuery);
+        JPAQuery<Long> countQuery = countProduct(categoryIds);
+        return toCachedPage(pageable, contentQuery, countQuery, totalCountCache);
+    }
+
+    @Override
+    public CursorResponse<Product4DisplayDto> findAllByCategoryIdsWithCursor(final List<Long> categoryIds,
+                                                                           final Cursor cursor,
+                                                                           final Pageable pageable) {
+        final QProduct4DisplayDto content = getProduct4DisplayDto();
+        final ComparableExpressionBase<?> key = SortUtil.keyExpressionFrom(pageable);
+
+        final JPAQuery<Tuple> contentQuery = queryFactory
+                .select(content, key)
+                .from(product)
+                .where(categoryIdIn(categoryIds), SortUtil.seekFrom(pageable, cursor))
+                .orderBy(SortUtil.keysetFrom(pageable))
+                .limit(pageable.getPageSize() + 1L);
+        return toCursorResponse(pageable, contentQuery, content, key, Product4DisplayDto::getProductId);
     }
 
     @Override
@@ -88,7 +147,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
                 .limit(pageable.getPageSize());
 
         JPAQuery<Long> countQuery = countBrand(brandId);
-        return toPage(pageable, contentQuery, countQuery);
+        return toCachedPage(pageable, contentQuery, countQuery, totalCountCache);
     }
 
     @Override
@@ -106,71 +165,104 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
         return toPage(pageable, contentQuery, countQuery);
     }
 
+    @Override
+    public List<ProductDto> findAllDtoByIds(final Collection<Long> productIds) {
+        return queryFactory.select(getProductDto())
+                .from(product)
+                .where(product.productId.in(productIds))
+                .fetch();
+    }
+
     @Override
     public Page<Product4DisplayDto> findBySearchConditions(final String keyword,
                                                            final Integer minPrice,
                                                            final Integer maxPrice,
-                                                           final List<String> categories,
-                                                           final Pageable pageable,
-                                                           final String providerId) {
+                                                           final List<Long> categoryIds,
+                                                           final Pageable pageable) {
         final JPAQuery<Long> countQuery = queryFactory.select(product.productId.count())
                 .from(product)
                 .where(
                         containsExpression(product.name, keyword),
-                        containsExpression(product.price, minPrice, maxPrice)
-//                        containsExpression(category.name, categories)
+                        containsExpression(product.price, minPrice, maxPrice),
+                        containsExpression(product.category.categoryId, categoryIds)
                 );
 
-        // TODO: 3/19/24 카테고리 필터링은 추후 구현 예정
-        final JPAQuery<Product4DisplayDto> contentQuery = queryFactory.select(getProduct4DisplayDto(providerId))
+        final JPAQuery<Product4DisplayDto> contentQuery = queryFactory.select(getProduct4DisplayDto())
                 .from(product)
                 .leftJoin(product.brand, brand)
-//                .leftJoin(brand.category, category)
                 .where(
                         containsExpression(product.name, keyword),
-                        containsExpression(product.price, minPrice, maxPrice)
-//                        containsExpression(category.name, categories)
+                        containsExpression(product.price, minPrice, maxPrice),
+                        containsExpression(product.category.categoryId, categoryIds)
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(createOrderSpecifiers(product, pageable));
-        return toPage(pageable, contentQuery, countQuery);
+        return toCachedPage(pageable, contentQuery, countQuery, totalCountCache);
     }
 
+    /**
+     * 검색 색인이 찾은 상품 ID로 조회한다. 전체 개수는 ID 개수와 같으므로 count 쿼리를 실행하지 않는다
+     *
+     * @see org.kakaoshare.backend.domain.search.index.ProductSearchIndex
+     */
+    @Override
+    public Page<Product4DisplayDto> findAllDisplayByProductIds(final List<Long> productIds, final Pageable pageable) {
+        if (productIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        final List<Product4DisplayDto> content = queryFactory.select(getProduct4DisplayDto())
+                .from(product)
+                .leftJoin(product.brand, brand)
+                .where(product.productId.in(productIds))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(createOrderSpecifiers(product, pageable))
+                .fetch();
+        return PageableExecutionUtils.getPage(content, pageable, productIds::size);
+    }
+
+    @Override
+    public List<ProductSearchDocument> findSearchDocuments(final Long lastProductId, final int size) {
+        return queryFactory.select(new QProductSearchDocument(
+                        product.productId,
+                        product.name,
+                        product.price,
+                        product.brand.brandId,
+                        product.category.categoryId))
+                .from(product)
+                .where(product.productId.gt(lastProductId))
+                .orderBy(product.productId.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 페이지에 들어갈 브랜드만 먼저 조회한 뒤, 페이지의 모든 브랜드에서 브랜드마다 최대 {@link #PRODUCT_SIZE_GROUP_BY_BRAND}개의 상품을 쿼리 한 번으로 조회한다
+     * 검색어에 걸리는 상품 수와 관계없이 (브랜드 페이지 크기 x 9)개의 상품만 읽는다
+     */
     @Override
     public Page<SimpleBrandProductDto> findBySearchConditionsGroupByBrand(final String keyword,
-                                                                          final Pageable pageable,
-                                                                          final String providerId) {
+                                                                          final Pageable pageable) {
         final JPAQuery<Long> countQuery = queryFactory.select(product.brand.brandId.countDistinct())
                 .from(product)
                 .where(containsExpression(product.name, keyword));
-        final List<SimpleBrandProductDto> fetch = queryFactory.selectFrom(product)
-                .leftJoin(product.brand, brand)
+        final List<SimpleBrandDto> brands = queryFactory.select(getSimpleBrandDto())
+                .from(product)
+                .innerJoin(product.brand, brand)
                 .where(containsExpression(product.name, keyword))
-                .orderBy(createOrderSpecifiers(brand, pageable))
+                .groupBy(brand.brandId, brand.name, brand.iconPhoto)
+                .orderBy(createBrandOrderSpecifiers(pageable))
                 .offset(pageable.getOffset())
-                .transform(groupBy(brand.brandId)
-                        .list(new QSimpleBrandProductDto(getSimpleBrandDto(), list(getProduct4DisplayDto(providerId))))
-                );
-
-        // TODO: 3/21/24 일단은 메모리에서 페이징하는 것으로 구현
-        final Map<SimpleBrandDto, List<Product4DisplayDto>> productsGroupByBrand = fetch.stream()
-                .skip(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .collect(Collectors.toMap(
-                        SimpleBrandProductDto::brand,
-                        brandProducts -> brandProducts.products()
-                                .subList(0, Math.min(brandProducts.products().size(), PRODUCT_SIZE_GROUP_BY_BRAND)),
-                        (newVal, oldVal) -> newVal
-                        //TODO 2024 04 25 15:31:13 : 검색 상품 이름으로 같은 브랜드의 상품들을 조회해 브랜드가 중복되어 조회되는 경우
-                ));
-
-        final List<SimpleBrandProductDto> content = productsGroupByBrand.keySet()
-                .stream()
-                .map(brand -> new SimpleBrandProductDto(brand, productsGroupByBrand.get(brand)))
-                .toList();
+                .fetch();
 
-        return toPage(pageable, content, countQuery);
+        final Map<Long, List<Product4DisplayDto>> products = findTopProductsOfBrands(brands, keyword);
+        final List<SimpleBrandProductDto> content = brands.stream()
+                .map(simpleBrandDto -> new SimpleBrandProductDto(simpleBrandDto, products.getOrDefault(simpleBrandDto.getBrandId(), List.of())))
+                .toList();
+        return toCachedPage(pageable, content, countQuery, totalCountCache);
     }
 
     @Override
@@ -194,34 +286,109 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
     }
 
     @Override
-    public OrderSpecifier<?>[] getOrderSpecifiers(final Pageable pageable) {
-        return Stream.concat(
-                Stream.of(SortUtil.from(pageable)),
-                Stream.of(product.name.asc()) // 기본 정렬 조건
-        ).toArray(OrderSpecifier[]::new);
+    public List<ProductCountDto> findCounts(final Long lastProductId, final int size) {
+        return queryFactory.select(new QProductCountDto(
+                        product.productId,
+                        product.wishCount,
+                        product.orderCount))
+                .from(product)
+                .where(product.productId.gt(lastProductId))
+                .orderBy(product.productId.asc())
+                .limit(size)
+                .fetch();
     }
 
     @Override
-    public DescriptionResponse findProductWithDetailsAndPhotosWithoutMember(Product product) {
-
-        List<String> descriptionPhotosUrls = queryFactory
-                .select(QProductDescriptionPhoto.productDescriptionPhoto.photoUrl)
-                .from(QProductDescriptionPhoto.productDescriptionPhoto)
-                .where(QProductDescriptionPhoto.productDescriptionPhoto.product.productId.eq(product.getProductId()))
+    public List<ProductCountDto> findCountsByIds(final Collection<Long> productIds) {
+        return queryFactory.select(new QProductCountDto(
+                        product.productId,
+                        product.wishCount,
+                        product.orderCount))
+                .from(product)
+                .where(product.productId.in(productIds))
                 .fetch();
+    }
 
-        List<OptionResponse> optionsResponses = findOptions(product.getProductId());
-        List<String> productThumbnailsUrls = queryFactory
-                .select(QProductThumbnail.productThumbnail.thumbnailUrl)
-                .from(QProductThumbnail.productThumbnail)
-                .where(QProductThumbnail.productThumbnail.product.productId.eq(product.getProductId()))
-                .fetch();
+    /**
+     * 위시가 없는 상품은 결과에 포함되지 않는다
+     */
+    @Override
+    public Map<Long, Long> countWishesGroupByProductId(final Collection<Long> productIds) {
+        return queryFactory.selectFrom(wish)
+                .where(wish.product.productId.in(productIds))
+                .groupBy(wish.product.productId)
+                .transform(groupBy(wish.product.productId).as(wish.count()));
+    }
+
+    /**
+     * 주문 수는 취소/반품/교환되지 않은 주문의 영수증 수량 합이며, 주문이 없는 상품은 결과에 포함되지 않는다
+     */
+    @Override
+    public Map<Long, Long> countReceiptsGroupByProductId(final Collection<Long> productIds) {
+        return queryFactory.from(order)
+                .join(order.receipt, receipt)
+                .where(
+                        receipt.product.productId.in(productIds),
+                        order.status.ne(OrderStatus.CANCELLATION_RETURN_EXCHANGE)
+                )
+                .groupBy(receipt.product.productId)
+                .transform(groupBy(receipt.product.productId).as(receipt.quantity.longValue().sum()));
+    }
+
+    /**
+     * 상품별 위시 수 변경분을 CASE 식 UPDATE 한 번으로 더한다
+     *
+     * @see org.kakaoshare.backend.domain.product.service.WishCounter
+     */
+    @Override
+    @Transactional
+    public long increaseWishCounts(final Map<Long, Long> deltas) {
+        return increaseCounts(product.wishCount, deltas);
+    }
+
+    /**
+     * 상품별 주문 수 보정값을 CASE 식 UPDATE 한 번으로 더한다
+     */
+    @Override
+    @Transactional
+    public long increaseOrderCounts(final Map<Long, Long> deltas) {
+        return increaseCounts(product.orderCount, deltas);
+    }
+
+    /**
+     * 읽은 값을 덮어쓰지 않고 변경분을 더하므로 같은 행을 동시에 갱신하는 UPDATE와 서로의 값을 잃지 않는다
+     */
+    private long increaseCounts(final NumberPath<Integer> count, final Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            final BooleanExpression condition = product.productId.eq(delta.getKey());
+            final Integer value = Math.toIntExact(delta.getValue());
+            cases = cases == null
+                    ? new CaseBuilder().when(condition).then(value)
+                    : cases.when(condition).then(value);
+        }
+
+        return queryFactory.update(product)
+                .set(count, count.coalesce(0).add(cases.otherwise(0)))
+                .where(product.productId.in(deltas.keySet()))
+                .execute();
+    }
 
-        return DescriptionResponse.of(product, descriptionPhotosUrls, optionsResponses, productThumbnailsUrls, false);
+    @Override
+    public OrderSpecifier<?>[] getOrderSpecifiers(final Pageable pageable) {
+        return Stream.concat(
+                Stream.of(SortUtil.from(pageable)),
+                Stream.of(product.name.asc()) // 기본 정렬 조건
+        ).toArray(OrderSpecifier[]::new);
     }
 
     @Override
-    public DescriptionResponse findProductWithDetailsAndPhotosWithMember(Product product, Member member) {
+    public DescriptionResponse findProductWithDetailsAndPhotos(Product product) {
+
         List<String> descriptionPhotosUrls = queryFactory
                 .select(QProductDescriptionPhoto.productDescriptionPhoto.photoUrl)
                 .from(QProductDescriptionPhoto.productDescriptionPhoto)
@@ -235,9 +402,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
                 .where(QProductThumbnail.productThumbnail.product.productId.eq(product.getProductId()))
                 .fetch();
 
-        Boolean isWished = isProductWishedByMember(product.getProductId(), member.getMemberId());
-
-        return DescriptionResponse.of(product, descriptionPhotosUrls, optionsResponses, productThumbnailsUrls, isWished);
+        return DescriptionResponse.of(product, descriptionPhotosUrls, optionsResponses, productThumbnailsUrls);
     }
 
     public Product findProductById(Long productId) {
@@ -247,30 +412,73 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
                 .fetchOne();
     }
 
-    public DetailResponse findProductDetailWithoutMember(Product product) {
+    @Override
+    public DetailResponse findProductDetail(Product product) {
         List<OptionResponse> optionsResponses = findOptions(product.getProductId());
 
-        return DetailResponse.of(product, optionsResponses, false);
+        return DetailResponse.of(product, optionsResponses);
     }
-    @Override
-    public DetailResponse findProductDetailWithMember(Product product, Member member) {
-        List<OptionResponse> optionsResponses = findOptions(product.getProductId());
 
-        Boolean isWished = isProductWishedByMember(product.getProductId(), member.getMemberId());
+    /**
+     * 브랜드마다 LIMIT 쿼리를 보내지 않도록 ROW_NUMBER() 윈도 함수로 순위를 매기며, QueryDSL JPA는 FROM 절 서브쿼리를 지원하지 않아 HQL로 작성한다
+     *
+     * @return 브랜드 ID별 상품. 상품 ID 순서를 유지한다
+     */
+    private Map<Long, List<Product4DisplayDto>> findTopProductsOfBrands(final List<SimpleBrandDto> brands, final String keyword) {
+        if (brands.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<Long> brandIds = brands.stream()
+                .map(SimpleBrandDto::getBrandId)
+                .toList();
+        final List<jakarta.persistence.Tuple> rows = entityManager.createQuery(TOP_PRODUCTS_OF_BRANDS_QUERY, jakarta.persistence.Tuple.class)
+                .setParameter("brandIds", brandIds)
+                .setParameter("keyword", StringUtils.hasText(keyword) ? "%" + escapeLike(keyword) + "%" : null)
+                .setParameter("limit", (long) PRODUCT_SIZE_GROUP_BY_BRAND)
+                .getResultList();
+        final Map<Long, List<Product4DisplayDto>> products = new LinkedHashMap<>();
+        rows.forEach(row -> products.computeIfAbsent(row.get("brandId", Long.class), key -> new ArrayList<>())
+                .add(new Product4DisplayDto(
+                        row.get("productId", Long.class),
+                        row.get("name", String.class),
+                        row.get("photo", String.class),
+                        row.get("price", Long.class),
+                        row.get("brandName", String.class),
+                        toLong(row.get("wishCount", Number.class)),
+                        false)));
+        return products;
+    }
 
-        return DetailResponse.of(product, optionsResponses, isWished);
+    private static Long toLong(final Number value) {
+        return value == null ? null : value.longValue();
     }
 
-    private boolean isProductWishedByMember(Long productId, Long memberId) {
-        Long wishId = queryFactory
-                .select(QWish.wish.wishId)
-                .from(QWish.wish)
-                .where(QWish.wish.product.productId.eq(productId)
-                        .and(QWish.wish.member.memberId.eq(memberId)))
-                .fetchFirst();
+    private static String escapeLike(final String keyword) {
+        return keyword.replace(String.valueOf(LIKE_ESCAPE), LIKE_ESCAPE + String.valueOf(LIKE_ESCAPE))
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
 
-        return wishId != null;
+    /**
+     * 브랜드로 묶은 결과는 GROUP BY 한 브랜드 컬럼으로만 정렬한다(ONLY_FULL_GROUP_BY). 그 밖의 정렬 조건은 받지 않는다
+     * 이름이 같은 브랜드가 페이지 경계에서 겹치거나 빠지지 않도록 마지막에 브랜드 ID로 정렬한다
+     */
+    private static OrderSpecifier<?>[] createBrandOrderSpecifiers(final Pageable pageable) {
+        final List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (final Sort.Order sortOrder : pageable.getSort()) {
+            final ComparableExpressionBase<?> column = switch (sortOrder.getProperty()) {
+                case "brandId" -> brand.brandId;
+                case "name" -> brand.name;
+                case "iconPhoto" -> brand.iconPhoto;
+                default -> throw new UnsupportedSortTypeException(SortErrorCode.UNSUPPORTED_SORT_TYPE);
+            };
+            orderSpecifiers.add(sortOrder.isAscending() ? column.asc() : column.desc());
+        }
+        orderSpecifiers.add(brand.brandId.asc());
+        return orderSpecifiers.toArray(OrderSpecifier[]::new);
     }
+
     private QSimpleBrandDto getSimpleBrandDto() {
         return new QSimpleBrandDto(
                 brand.brandId,
@@ -278,7 +486,12 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
                 brand.iconPhoto);
     }
 
-    private QProduct4DisplayDto getProduct4DisplayDto(final String providerId) {
+    /**
+     * 위시 여부는 회원별 위시 상품 집합으로 서비스에서 채운다
+     *
+     * @see org.kakaoshare.backend.domain.wish.service.WishedProductCache
+     */
+    private QProduct4DisplayDto getProduct4DisplayDto() {
         return new QProduct4DisplayDto(
                 product.productId,
                 product.name,
@@ -286,19 +499,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
                 product.price,
                 product.brand.name.as("brandName"),
                 product.wishCount.longValue().as("wishCount"),
-                isInWishList(providerId));
-    }
-
-    private BooleanExpression isInWishList(final String providerId) {
-        if (providerId == null) {
-            return Expressions.FALSE;
-        }
-        return JPAExpressions
-                .selectOne()
-                .from(wish)
-                .where(wish.member.providerId.eq(providerId),
-                        wish.product.eq(product))
-                .exists();
+                Expressions.FALSE);
     }
 
     private QProductDto getProductDto() {
@@ -310,15 +511,13 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
                 product.brandName);
     }
 
-    private BooleanExpression categoryIdEqualTo(final Long categoryId) {
-        BooleanExpression isParentCategory = product.category
-                .in(select(category)
-                        .from(category)
-                        .where(category.parent.categoryId.eq(categoryId)));
-
-        BooleanExpression isChildCategory = product.category.categoryId.eq(categoryId);
-
-        return isChildCategory.or(isParentCategory);
+    /**
+     * 하위 카테고리까지 펼친 ID 목록으로 조회해 idx_product_category_id를 사용한다
+     *
+     * @see org.kakaoshare.backend.domain.category.vo.CategoryTree#descendantIdsOf(Long)
+     */
+    private BooleanExpression categoryIdIn(final List<Long> categoryIds) {
+        return product.category.categoryId.in(categoryIds);
     }
 
     private JPAQuery<Long> countBrand(final Long brandId) {
@@ -329,11 +528,11 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom, Sor
                 .where(brand.brandId.eq(brandId));
     }
 
-    private JPAQuery<Long> countProduct(final Long categoryId) {
+    private JPAQuery<Long> countProduct(final List<Long> categoryIds) {
         return queryFactory
                 .select(product.countDistinct())
                 .from(product)
-                .where(categoryIdEqualTo(categoryId));
+                .where(categoryIdIn(categoryIds));
     }
 
     private List<OptionResponse> findOptions(Long productId) {
@@ -0,0 +1,223 @@
+package org.kakaoshare.backend.domain.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.product.dto.ProductCountDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품의 위시 수/주문 수를 위시 행과 취소되지 않은 주문의 영수증 수량으로 다시 세어 어긋난 값을 바로잡는다
+ * 상품을 PK 순으로 {@link #CHUNK_SIZE}개씩 읽고, 묶음마다 GROUP BY 집계 쿼리로 센 값과 비교해 차이만큼을 CASE 식 UPDATE 한 번으로 더한다.
+ * 묶음마다 짧은 쿼리만 실행하고 값을 덮어쓰지 않으므로 보정 중에 들어온 위시/주문의 변경분을 잃지 않는다
+ * <p>
+ * 위시 수는 {@link WishCounter}와 위시 이벤트 대기열을 거쳐 늦게 반영되므로, 이 노드에 반영되지 않은 변경분이 있는 상품은 건너뛰고
+ * 어긋난 상품은 {@link #SETTLE_DELAY}가 지난 뒤 다시 세어 차이가 그대로일 때만 보정한다.
+ * 기다리는 동안 멈추지 않고 다음 묶음을 읽으며, 기다림이 끝난 묶음부터 다시 센다. 마지막 묶음을 기다리는 동안에도 스케줄러 스레드를 잡지 않도록
+ * {@code @Async}로 실행한다
+ * <p>
+ * 여러 노드 중 한 노드만 실행하도록 토큰을 값으로 한 Redis 잠금을 잡고, 자기 토큰일 때만 푼다. 진행 위치와 보정한 차이를 메트릭으로 내보낸다
+ */
+@Slf4j
+@Component
+public class ProductCountReconciler {
+    private static final String LOCK_KEY = "product:count:reconcile:lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofHours(1);
+    private static final Duration SETTLE_DELAY = Duration.ofSeconds(3);
+    private static final int CHUNK_SIZE = 1_000;
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ProductRepository productRepository;
+    private final WishCounter wishCounter;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration settleDelay;
+    private final AtomicLong lastProductId = new AtomicLong();
+    private final Timer reconcileTimer;
+    private final Counter scannedCounter;
+    private final Counter wishDriftCounter;
+    private final Counter orderDriftCounter;
+
+    @Autowired
+    public ProductCountReconciler(final ProductRepository productRepository,
+                                  final WishCounter wishCounter,
+                                  final StringRedisTemplate stringRedisTemplate,
+                                  final MeterRegistry meterRegistry) {
+        this(productRepository, wishCounter, stringRedisTemplate, meterRegistry, SETTLE_DELAY);
+    }
+
+    ProductCountReconciler(final ProductRepository productRepository,
+                           final WishCounter wishCounter,
+                           final StringRedisTemplate stringRedisTemplate,
+                           final MeterRegistry meterRegistry,
+                           final Duration settleDelay) {
+        this.productRepository = productRepository;
+        this.wishCounter = wishCounter;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.settleDelay = settleDelay;
+        Gauge.builder("product.count.reconcile.last_product_id", lastProductId, AtomicLong::get)
+                .description("Last product id checked by the running count reconciliation")
+                .register(meterRegistry);
+        this.reconcileTimer = Timer.builder("product.count.reconcile")
+                .description("Time taken to reconcile wish and order counts of all products")
+                .register(meterRegistry);
+        this.scannedCounter = Counter.builder("product.count.reconcile.scanned")
+                .description("Products checked by the count reconciliation")
+                .register(meterRegistry);
+        this.wishDriftCounter = Counter.builder("product.count.reconcile.drift")
+                .description("Sum of absolute corrections written by the count reconciliation")
+                .tag("count", "wish")
+                .register(meterRegistry);
+        this.orderDriftCounter = Counter.builder("product.count.reconcile.drift")
+                .description("Sum of absolute corrections written by the count reconciliation")
+                .tag("count", "order")
+                .register(meterRegistry);
+    }
+
+    @Async
+    @Scheduled(cron = "${product.count.reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        final String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TIMEOUT))) {
+            return;
+        }
+
+        try {
+            reconcileTimer.record(this::reconcileAll);
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile product counts. lastProductId: {}", lastProductId.get(), e);
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void reconcileAll() {
+        lastProductId.set(0);
+        final Queue<PendingDrifts> pending = new ArrayDeque<>();
+        List<ProductCountDto> chunk;
+        do {
+            chunk = productRepository.findCounts(lastProductId.get(), CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            final Map<Long, CountDrift> drifts = findDrifts(chunk);
+            if (!drifts.isEmpty()) {
+                pending.add(new PendingDrifts(drifts, System.nanoTime() + settleDelay.toNanos()));
+            }
+            correctSettled(pending);
+            scannedCounter.increment(chunk.size());
+            lastProductId.set(chunk.get(chunk.size() - 1).productId());
+        } while (chunk.size() == CHUNK_SIZE);
+
+        while (!pending.isEmpty()) {
+            if (!awaitSettle(pending.peek())) {
+                return;
+            }
+            correct(pending.poll().drifts());
+        }
+        log.info("Product counts reconciled. lastProductId: {}", lastProductId.get());
+    }
+
+    /**
+     * 기다림이 끝난 묶음만 다시 세어 차이가 그대로인 값을 보정한다
+     */
+    private void correctSettled(final Queue<PendingDrifts> pending) {
+        while (!pending.isEmpty() && pending.peek().isSettled()) {
+            correct(pending.poll().drifts());
+        }
+    }
+
+    private void correct(final Map<Long, CountDrift> drifts) {
+        final Map<Long, CountDrift> confirmed = findDrifts(productRepository.findCountsByIds(drifts.keySet()));
+        final Map<Long, Long> wishDeltas = new HashMap<>();
+        final Map<Long, Long> orderDeltas = new HashMap<>();
+        confirmed.forEach((productId, drift) -> {
+            final CountDrift previous = drifts.get(productId);
+            if (drift.wish() != 0 && drift.wish() == previous.wish()) {
+                wishDeltas.put(productId, drift.wish());
+            }
+            if (drift.order() != 0 && drift.order() == previous.order()) {
+                orderDeltas.put(productId, drift.order());
+            }
+        });
+
+        productRepository.increaseWishCounts(wishDeltas);
+        productRepository.increaseOrderCounts(orderDeltas);
+        wishDeltas.values().forEach(delta -> wishDriftCounter.increment(Math.abs(delta)));
+        orderDeltas.values().forEach(delta -> orderDriftCounter.increment(Math.abs(delta)));
+        if (!wishDeltas.isEmpty() || !orderDeltas.isEmpty()) {
+            log.warn("Product counts corrected. wish: {}, order: {}", wishDeltas, orderDeltas);
+        }
+    }
+
+    /**
+     * @return 실제 행 수와 저장된 값의 차이가 있는 상품. 이 노드에 반영되지 않은 위시 수 변경분이 있으면 위시 수 차이는 0으로 둔다
+     */
+    private Map<Long, CountDrift> findDrifts(final List<ProductCountDto> counts) {
+        final List<Long> productIds = counts.stream()
+                .map(ProductCountDto::productId)
+                .toList();
+        final Map<Long, Long> wishCounts = productRepository.countWishesGroupByProductId(productIds);
+        final Map<Long, Long> orderCounts = productRepository.countReceiptsGroupByProductId(productIds);
+
+        final Map<Long, CountDrift> drifts = new HashMap<>();
+        for (ProductCountDto count : counts) {
+            final Long productId = count.productId();
+            final long wish = wishCounter.pendingOf(productId) != 0
+                    ? 0
+                    : wishCounts.getOrDefault(productId, 0L) - valueOf(count.wishCount());
+            final long order = orderCounts.getOrDefault(productId, 0L) - valueOf(count.orderCount());
+            if (wish != 0 || order != 0) {
+                drifts.put(productId, new CountDrift(wish, order));
+            }
+        }
+        return drifts;
+    }
+
+    private boolean awaitSettle(final PendingDrifts drifts) {
+        try {
+            Thread.sleep(Math.max(0, Duration.ofNanos(drifts.settleAt() - System.nanoTime()).toMillis()));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long valueOf(final Integer count) {
+        return Objects.requireNonNullElse(count, 0);
+    }
+
+    private record CountDrift(long wish, long order) {
+    }
+
+    private record PendingDrifts(Map<Long, CountDrift> drifts, long settleAt) {
+        boolean isSettled() {
+            return System.nanoTime() - settleAt >= 0;
+        }
+    }
+}
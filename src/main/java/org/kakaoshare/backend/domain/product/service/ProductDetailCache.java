@@ -0,0 +1,218 @@
+package org.kakaoshare.backend.domain.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.product.dto.DescriptionResponse;
+import org.kakaoshare.backend.domain.product.dto.DetailResponse;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 상품 상세/설명 응답의 2단계 캐시
+ * 1단계는 노드마다 가진 LRU 캐시, 2단계는 Redis 캐시({@link #REMOTE_KEY_PREFIX})이며 둘 다 놓치면 DB에서 조회한다
+ * 캐시되는 응답은 회원과 무관한 값(위시 여부 false)이고, 위시 여부는 {@link ProductService}가 조회 이후에 채운다
+ * <p>
+ * 상품이 바뀌면 {@link #evict(Long)}가 Redis 캐시를 지우고 {@link #INVALIDATION_CHANNEL}로 상품 ID를 발행해
+ * 모든 노드의 1단계 캐시를 비운다. pub/sub 메시지는 유실될 수 있으므로 1단계 캐시는 {@link #LOCAL_TTL}이 지나면 다시 읽는다
+ * <p>
+ * 비우기 전에 DB를 읽은 조회가 비운 뒤에 오래된 응답을 넣지 않도록, 비울 때마다 상품별 세대({@link #GENERATION_KEY_PREFIX})를 올린다.
+ * Redis 캐시에는 읽기 시작할 때의 세대를 함께 넣고, 세대 비교와 쓰기를 한 스크립트({@link #PUT_SCRIPT})로 실행해 그 세대가 그대로일 때만 넣는다.
+ * 현재 세대와 다른 항목은 읽을 때 버린다.
+ * 1단계 캐시는 읽기 시작한 뒤 이 노드에서 비운 상품이 있으면 넣지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache implements MessageListener {
+    private static final String REMOTE_KEY_PREFIX = "product:detail:cache:";
+    private static final String INVALIDATION_CHANNEL = "product-detail-invalidation";
+    private static final String DETAIL_KEY_PREFIX = "detail:";
+    private static final String DESCRIPTION_KEY_PREFIX = "description:";
+    private static final String GENERATION_KEY_PREFIX = "product:detail:generation:";
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+    private static final Duration REMOTE_TTL = Duration.ofHours(1);
+    private static final int MAX_SIZE = 1_000;
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[1]) or '0'
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CachedResponse> localCache = Collections.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedResponse> eldest) {
+            return size() > MAX_SIZE;
+        }
+    });
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public DetailResponse getDetail(final Long productId, final Supplier<DetailResponse> loader) {
+        return get(productId, DETAIL_KEY_PREFIX, DetailResponse.class, loader);
+    }
+
+    public DescriptionResponse getDescription(final Long productId, final Supplier<DescriptionResponse> loader) {
+        return get(productId, DESCRIPTION_KEY_PREFIX, DescriptionResponse.class, loader);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 캐시를 비워 커밋 전 상태가 다시 캐싱되지 않도록 한다
+     */
+    public void evict(final Long productId) {
+        afterCommit(() -> evictNow(productId));
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis에 접근할 수 없어 세대를 모르면 Redis 캐시는 건너뛰고 1단계 캐시만 쓴다
+     */
+    private <T> T get(final Long productId, final String keyPrefix, final Class<T> type, final Supplier<T> loader) {
+        final String key = keyPrefix + productId;
+        final CachedResponse cached = localCache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return type.cast(cached.response());
+        }
+
+        final long evictedBefore = evictions.get();
+        final Optional<Long> generation = findGeneration(productId);
+        final Optional<T> remote = generation.flatMap(current -> findRemote(key, type, current));
+        if (remote.isPresent()) {
+            putLocal(key, remote.get(), evictedBefore);
+            return remote.get();
+        }
+
+        final T loaded = loader.get();
+        if (generation.isEmpty() || putRemote(productId, key, loaded, generation.get())) {
+            putLocal(key, loaded, evictedBefore);
+        }
+        return loaded;
+    }
+
+    private Optional<Long> findGeneration(final Long productId) {
+        try {
+            final String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + productId);
+            return Optional.of(generation == null ? 0L : Long.parseLong(generation));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read product cache generation. productId: {}", productId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return 현재 세대에 넣은 응답. 비우기 전에 넣은 이전 세대의 응답이면 비어 있다
+     */
+    private <T> Optional<T> findRemote(final String key, final Class<T> type, final long generation) {
+        try {
+            final String json = stringRedisTemplate.opsForValue().get(REMOTE_KEY_PREFIX + key);
+            if (json == null) {
+                return Optional.empty();
+            }
+
+            final RemoteEntry entry = objectMapper.readValue(json, RemoteEntry.class);
+            if (entry.generation() != generation) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.treeToValue(entry.response(), type));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read product cache. key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return 읽기 시작할 때의 세대가 그대로여서 넣었는지. 그 사이 비워졌으면 넣지 않는다
+     */
+    private boolean putRemote(final Long productId, final String key, final Object response, final long generation) {
+        try {
+            final String json = objectMapper.writeValueAsString(new RemoteEntry(generation, objectMapper.valueToTree(response)));
+            final Long put = stringRedisTemplate.execute(PUT_SCRIPT,
+                    List.of(GENERATION_KEY_PREFIX + productId, REMOTE_KEY_PREFIX + key),
+                    String.valueOf(generation), json, String.valueOf(REMOTE_TTL.toSeconds()));
+            return Long.valueOf(1L).equals(put);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write product cache. key: {}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * 읽기 시작한 뒤 이 노드에서 비운 상품이 있으면 그 상품일 수 있으므로 넣지 않는다
+     */
+    private void putLocal(final String key, final Object response, final long evictedBefore) {
+        synchronized (localCache) {
+            if (evictions.get() == evictedBefore) {
+                localCache.put(key, new CachedResponse(response, System.nanoTime()));
+            }
+        }
+    }
+
+    private void evictNow(final Long productId) {
+        final String id = String.valueOf(productId);
+        evictLocal(id);
+        try {
+            stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + id);
+            stringRedisTemplate.expire(GENERATION_KEY_PREFIX + id, GENERATION_TTL);
+            stringRedisTemplate.delete(List.of(REMOTE_KEY_PREFIX + DETAIL_KEY_PREFIX + id, REMOTE_KEY_PREFIX + DESCRIPTION_KEY_PREFIX + id));
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, id);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict product cache. productId: {}", productId, e);
+        }
+    }
+
+    private void evictLocal(final String productId) {
+        synchronized (localCache) {
+            evictions.incrementAndGet();
+            localCache.remove(DETAIL_KEY_PREFIX + productId);
+            localCache.remove(DESCRIPTION_KEY_PREFIX + productId);
+        }
+    }
+
+    /**
+     * 세대 키가 사라져 세대가 0으로 돌아가도 이전 항목과 겹치지 않도록 {@link #GENERATION_TTL}은 {@link #REMOTE_TTL}보다 길다
+     */
+    record RemoteEntry(long generation, JsonNode response) {
+    }
+
+    private record CachedResponse(Object response, long loadedAt) {
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > LOCAL_TTL.toNanos();
+        }
+    }
+}
@@ -3,15 +3,12 @@ package org.kakaoshare.backend.domain.product.service;
 import io.micrometer.common.lang.Nullable;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.common.dto.CursorResponse;
 import org.kakaoshare.backend.common.dto.PageResponse;
-import org.kakaoshare.backend.common.error.GlobalErrorCode;
-import org.kakaoshare.backend.common.error.exception.BusinessException;
+import org.kakaoshare.backend.common.util.sort.Cursor;
 import org.kakaoshare.backend.common.util.sort.error.SortErrorCode;
 import org.kakaoshare.backend.common.util.sort.error.exception.NoMorePageException;
-import org.kakaoshare.backend.domain.member.entity.Member;
-import org.kakaoshare.backend.domain.member.exception.MemberErrorCode;
-import org.kakaoshare.backend.domain.member.exception.MemberException;
-import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.kakaoshare.backend.domain.category.service.CategoryTreeCache;
 import org.kakaoshare.backend.domain.product.dto.DescriptionResponse;
 import org.kakaoshare.backend.domain.product.dto.DetailResponse;
 import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
@@ -23,7 +20,10 @@ import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.exception.ProductErrorCode;
 import org.kakaoshare.backend.domain.product.exception.ProductException;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.service.TrendingCounter;
 import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+import org.kakaoshare.backend.domain.wish.service.WishedProductCache;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,41 +35,46 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ProductService {
     private final ProductRepository productRepository;
-    private final MemberRepository memberRepository;
+    private final WishedProductCache wishedProductCache;
+    private final ProductDetailCache productDetailCache;
+    private final CategoryTreeCache categoryTreeCache;
+    private final WishCounter wishCounter;
+    private final TrendingCounter trendingCounter;
     private final ApplicationEventPublisher eventPublisher;
 
 
     public DescriptionResponse getProductDescription(Long productId, @Nullable String providerId) {
-        Product product = findProductById(productId);
+        DescriptionResponse description = productDetailCache.getDescription(productId,
+                () -> productRepository.findProductWithDetailsAndPhotos(findProductById(productId)));
 
-        if (providerId != null) {
-            Member member = findMemberById(providerId);
-            return productRepository.findProductWithDetailsAndPhotosWithMember(product, member);
-        } else {
-            return productRepository.findProductWithDetailsAndPhotosWithoutMember(product);
-        }
+        return description.withWish(isWished(productId, providerId))
+                .withWishCount(wishCounter.countOf(productId));
     }
 
     public DetailResponse getProductDetail(Long productId, @Nullable String providerId) {
-        Product product = findProductById(productId);
+        DetailResponse detail = productDetailCache.getDetail(productId,
+                () -> productRepository.findProductDetail(findProductById(productId)));
 
-        if (product == null) {
-            throw new BusinessException(GlobalErrorCode.RESOURCE_NOT_FOUND);
-        }
-
-        if (providerId != null) {
-            Member member = findMemberById(providerId);
-            return productRepository.findProductDetailWithMember(product, member);
-        }
-        return productRepository.findProductDetailWithoutMember(product);
+        return detail.withWish(isWished(productId, providerId))
+                .withWishCount(wishCounter.countOf(productId));
     }
 
     public PageResponse<?> getSimpleProductsPage(Long categoryId, Pageable pageable, final String providerId) {
-        Page<Product4DisplayDto> productDtos = productRepository.findAllByCategoryId(categoryId, pageable, providerId);
+        Page<Product4DisplayDto> productDtos = productRepository.findAllByCategoryIds(categoryTreeCache.get().descendantIdsOf(categoryId), pageable);
         if (productDtos.isEmpty()) {
             throw new NoMorePageException(SortErrorCode.NO_MORE_PAGE);
         }
-        return PageResponse.from(productDtos);
+        WishedProducts wishedProducts = wishedProductCache.get(providerId);
+        return PageResponse.from(productDtos.map(productDto -> toDisplay(productDto, wishedProducts)));
+    }
+
+    public CursorResponse<?> getSimpleProductsByCursor(Long categoryId, String cursor, Pageable pageable, final String providerId) {
+        CursorResponse<Product4DisplayDto> productDtos = productRepository.findAllByCategoryIdsWithCursor(categoryTreeCache.get().descendantIdsOf(categoryId), Cursor.decode(cursor, pageable), pageable);
+        if (productDtos.getItems().isEmpty()) {
+            throw new NoMorePageException(SortErrorCode.NO_MORE_PAGE);
+        }
+        WishedProducts wishedProducts = wishedProductCache.get(providerId);
+        return productDtos.map(productDto -> toDisplay(productDto, wishedProducts));
     }
 
     public PageResponse<?> getSimpleProductsByBrandId(Long brandId, Pageable pageable) {
@@ -81,33 +86,37 @@ public class ProductService {
     }
 
     /**
-     * 위시 추가시 위시 서비스에서 비동기적으로 위시 리스트에 등록
+     * 위시 추가시 위시 이벤트 대기열에서 묶어서 위시 리스트에 등록
+     * 위시 수는 상품 행을 바로 갱신하지 않고 {@link WishCounter}에 쌓아 두었다가 모아서 반영한다
      *
-     * @see org.kakaoshare.backend.domain.wish.service.WishService
+     * @see org.kakaoshare.backend.domain.wish.service.WishEventQueue
      */
     @Transactional
     public WishResponse resisterProductInWishList(final String providerId, final Long productId, final WishType type) {
         Product product = findProductById(productId);
 
-        product.increaseWishCount();
+        wishCounter.increase(productId);
+        trendingCounter.record(productId, TrendingCounter.WISH_WEIGHT);
 
         eventPublisher.publishEvent(WishReservationEvent.of(providerId, type, product));
-        return WishResponse.from(product);
+        return WishResponse.of(product, wishCounter.pendingOf(productId));
     }
 
     /**
-     * 위시 취소시 위시 서비스에서 비동기적으로 위시 리스트에서 제거
+     * 위시 취소시 위시 이벤트 대기열에서 묶어서 위시 리스트에서 제거
+     * 위시 수는 상품 행을 바로 갱신하지 않고 {@link WishCounter}에 쌓아 두었다가 모아서 반영한다
      *
-     * @see org.kakaoshare.backend.domain.wish.service.WishService
+     * @see org.kakaoshare.backend.domain.wish.service.WishEventQueue
      */
     @Transactional
     public WishResponse removeWishlist(final String providerId, final Long productId) {
         Product product = findProductById(productId);
 
-        product.decreaseWishCount();
+        wishCounter.decrease(productId);
+        trendingCounter.record(productId, -TrendingCounter.WISH_WEIGHT);
 
         eventPublisher.publishEvent(WishCancelEvent.of(providerId, product));
-        return WishResponse.from(product);
+        return WishResponse.of(product, wishCounter.pendingOf(productId));
     }
 
     private Product findProductById(final Long productId) {
@@ -115,8 +124,12 @@ public class ProductService {
                 .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND));
     }
 
-    private Member findMemberById(final String providerId) {
-        return memberRepository.findMemberByProviderId(providerId).orElseThrow(() -> new MemberException(
-                MemberErrorCode.NOT_FOUND));
+    private Product4DisplayDto toDisplay(final Product4DisplayDto productDto, final WishedProducts wishedProducts) {
+        return productDto.withWished(wishedProducts.contains(productDto.getProductId()))
+                .withPendingWishCount(wishCounter.pendingOf(productDto.getProductId()));
+    }
+
+    private boolean isWished(final Long productId, @Nullable final String providerId) {
+        return wishedProductCache.get(providerId).contains(productId);
     }
 }
@@ -0,0 +1,126 @@
+package org.kakaoshare.backend.domain.product.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품별 위시 수 변경분 보관소
+ * 위시 추가/취소마다 상품 행을 UPDATE하면 인기 상품 행에 잠금 경합이 몰리므로, 변경분은 상품별 {@link LongAdder}에 쌓고
+ * {@link #flush()}가 {@link #FLUSH_DELAY_MILLIS}마다 모인 변경분을 UPDATE 한 번으로 더한다
+ * <p>
+ * 노드마다 자신이 받은 변경분만 더하므로 여러 노드에서도 서로의 값을 덮어쓰지 않는다.
+ * 응답의 위시 수는 DB에 반영된 값에 {@link #pendingOf(Long)}를 더한 값이며, 다른 노드의 변경분은 반영 주기만큼 늦게 보인다
+ * <p>
+ * 상품 상세 캐시는 위시 수가 바뀔 때마다 비우지 않고, 조회할 때 {@link #countOf(Long)}로 위시 수만 덮어쓴다.
+ * DB에 반영된 위시 수는 노드마다 {@link #COUNT_TTL_MILLIS} 동안 캐시하며, 이 노드가 반영한 상품은 반영 직후 다시 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishCounter {
+    private static final long FLUSH_DELAY_MILLIS = 1_000;
+    private static final long COUNT_TTL_MILLIS = 1_000;
+    private static final int MAX_COUNT_SIZE = 10_000;
+
+    private final ProductRepository productRepository;
+    // 한 번 위시된 상품의 항목은 지우지 않는다. 지우는 사이에 더해진 값이 유실될 수 있고, 항목 수는 상품 수를 넘지 않는다
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, CachedCount> counts = Collections.synchronizedMap(new LinkedHashMap<Long, CachedCount>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, CachedCount> eldest) {
+            return size() > MAX_COUNT_SIZE;
+        }
+    });
+
+    public void increase(final Long productId) {
+        adderOf(productId).increment();
+    }
+
+    public void decrease(final Long productId) {
+        adderOf(productId).decrement();
+    }
+
+    /**
+     * @return 아직 DB에 반영되지 않은 위시 수 변경분
+     */
+    public long pendingOf(final Long productId) {
+        final LongAdder adder = pending.get(productId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * @return DB에 반영된 위시 수에 아직 반영되지 않은 변경분을 더한 값
+     */
+    public long countOf(final Long productId) {
+        return flushedCountOf(productId) + pendingOf(productId);
+    }
+
+    /**
+     * 모인 변경분을 꺼내 한 번에 반영한다. 반영에 실패하면 꺼낸 변경분을 되돌려 다음 주기에 다시 반영한다
+     */
+    @PreDestroy
+    @Scheduled(fixedDelay = FLUSH_DELAY_MILLIS)
+    public void flush() {
+        final Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            productRepository.increaseWishCounts(deltas);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush wish counts. size: {}", deltas.size(), e);
+            deltas.forEach((productId, delta) -> adderOf(productId).add(delta));
+            return;
+        }
+        deltas.keySet().forEach(counts::remove);
+    }
+
+    private long flushedCountOf(final Long productId) {
+        final CachedCount cached = counts.get(productId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.count();
+        }
+
+        final long count = productRepository.findWishCountById(productId).orElse(0);
+        counts.put(productId, new CachedCount(count, System.nanoTime()));
+        return count;
+    }
+
+    /**
+     * 읽은 합계만큼만 빼므로 읽는 도중에 더해진 값은 다음 주기로 넘어간다
+     */
+    private Map<Long, Long> drain() {
+        final Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((productId, adder) -> {
+            final long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                deltas.put(productId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private LongAdder adderOf(final Long productId) {
+        return pending.computeIfAbsent(productId, key -> new LongAdder());
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TimeUnit.MILLISECONDS.toNanos(COUNT_TTL_MILLIS);
+        }
+    }
+}
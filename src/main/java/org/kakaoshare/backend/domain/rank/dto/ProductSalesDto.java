@@ -0,0 +1,18 @@
+package org.kakaoshare.backend.domain.rank.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.LocalDateTime;
+
+public record ProductSalesDto(Long ordersId, Long productId, Long amount, LocalDateTime orderedAt) {
+    @QueryProjection
+    public ProductSalesDto(final Long ordersId,
+                           final Long productId,
+                           final Long amount,
+                           final LocalDateTime orderedAt) {
+        this.ordersId = ordersId;
+        this.productId = productId;
+        this.amount = amount;
+        this.orderedAt = orderedAt;
+    }
+}
@@ -0,0 +1,55 @@
+package org.kakaoshare.backend.domain.rank.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+
+/**
+ * 상품별, {@link TargetType}별 위시 수와 선물 받은 수
+ * 랭킹이 회원/영수증과 조인하지 않고 (대상, 수, 상품) 인덱스를 읽도록 한다. 가격은 바뀔 수 있으므로 복사하지 않고 조회할 때 상품 행에서 읽는다
+ *
+ * @see org.kakaoshare.backend.domain.rank.service.PopularityRanking
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(
+        indexes = {
+                @Index(name = "idx_product_popularity_target_type_wish_count", columnList = "target_type, wish_count, product_id"),
+                @Index(name = "idx_product_popularity_target_type_receive_count", columnList = "target_type, receive_count, product_id")
+        },
+        uniqueConstraints = {@UniqueConstraint(name = "idx_product_popularity_product_id_target_type", columnNames = {"product_id", "target_type"})}
+)
+public class ProductPopularity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long productPopularityId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TargetType targetType;
+
+    @Column(nullable = false)
+    private Long wishCount;
+
+    @Column(nullable = false)
+    private Long receiveCount;
+}
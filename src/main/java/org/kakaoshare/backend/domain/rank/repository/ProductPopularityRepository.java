@@ -0,0 +1,8 @@
+package org.kakaoshare.backend.domain.rank.repository;
+
+import org.kakaoshare.backend.domain.rank.entity.ProductPopularity;
+import org.kakaoshare.backend.domain.rank.repository.query.ProductPopularityRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductPopularityRepository extends JpaRepository<ProductPopularity, Long>, ProductPopularityRepositoryCustom {
+}
@@ -0,0 +1,19 @@
+package org.kakaoshare.backend.domain.rank.repository.query;
+
+import org.kakaoshare.backend.common.vo.PriceRange;
+import org.kakaoshare.backend.domain.rank.entity.ProductPopularity;
+import org.kakaoshare.backend.domain.rank.util.RankType;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.kakaoshare.backend.domain.rank.vo.PopularityDelta;
+import org.kakaoshare.backend.domain.rank.vo.PopularityKey;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ProductPopularityRepositoryCustom {
+    List<ProductPopularity> findTop(final RankType rankType, final TargetType targetType, final PriceRange priceRange, final int limit);
+    Set<PopularityKey> increaseCounts(final Map<PopularityKey, PopularityDelta> deltas);
+    List<ProductPopularity> aggregate(final Collection<Long> productIds);
+}
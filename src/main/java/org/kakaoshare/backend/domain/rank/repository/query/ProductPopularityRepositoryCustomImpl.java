@@ -0,0 +1,151 @@
+package org.kakaoshare.backend.domain.rank.repository.query;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.common.vo.PriceRange;
+import org.kakaoshare.backend.domain.member.entity.Gender;
+import org.kakaoshare.backend.domain.member.entity.QMember;
+import org.kakaoshare.backend.domain.rank.entity.ProductPopularity;
+import org.kakaoshare.backend.domain.rank.util.RankType;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.kakaoshare.backend.domain.rank.vo.PopularityDelta;
+import org.kakaoshare.backend.domain.rank.vo.PopularityKey;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.kakaoshare.backend.common.util.RepositoryUtils.priceExpression;
+import static org.kakaoshare.backend.domain.product.entity.QProduct.product;
+import static org.kakaoshare.backend.domain.rank.entity.QProductPopularity.productPopularity;
+import static org.kakaoshare.backend.domain.receipt.entity.QReceipt.receipt;
+import static org.kakaoshare.backend.domain.wish.entity.QWish.wish;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductPopularityRepositoryCustomImpl implements ProductPopularityRepositoryCustom {
+    private static final QMember wisher = new QMember("wisher");
+    private static final QMember receiver = new QMember("receiver");
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * (대상, 수, 상품) 인덱스를 수가 큰 쪽부터 읽으며 상품 행을 PK로 조인해 현재 가격이 가격대에 맞는 행만 limit개 고른다.
+     * 수가 같으면 상품 ID가 큰 순으로 정렬해 순위가 조회마다 바뀌지 않으며, 수가 0인 상품은 제외한다
+     */
+    @Override
+    public List<ProductPopularity> findTop(final RankType rankType,
+                                           final TargetType targetType,
+                                           final PriceRange priceRange,
+                                           final int limit) {
+        final NumberPath<Long> count = countOf(rankType);
+        return queryFactory.selectFrom(productPopularity)
+                .join(product).on(product.productId.eq(productPopularity.productId))
+                .where(
+                        productPopularity.targetType.eq(targetType),
+                        count.gt(0),
+                        priceExpression(product.price, priceRange)
+                )
+                .orderBy(count.desc(), productPopularity.productId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 키마다 읽은 값을 덮어쓰지 않고 변경분을 더하는 UPDATE를 실행한다
+     *
+     * @return 행이 없어 더하지 못한 키
+     */
+    @Override
+    @Transactional
+    public Set<PopularityKey> increaseCounts(final Map<PopularityKey, PopularityDelta> deltas) {
+        final Set<PopularityKey> missing = new HashSet<>();
+        deltas.forEach((key, delta) -> {
+            final long updated = queryFactory.update(productPopularity)
+                    .set(productPopularity.wishCount, productPopularity.wishCount.add(delta.wishCount()))
+                    .set(productPopularity.receiveCount, productPopularity.receiveCount.add(delta.receiveCount()))
+                    .where(
+                            productPopularity.productId.eq(key.productId()),
+                            productPopularity.targetType.eq(key.targetType())
+                    )
+                    .execute();
+            if (updated == 0) {
+                missing.add(key);
+            }
+        });
+        return missing;
+    }
+
+    /**
+     * 아직 행이 없는 상품의 위시/영수증 수를 성별로 집계한다. 처음 채울 때 한 번만 회원과 조인한다
+     *
+     * @return 상품마다 {@link TargetType}별 행
+     */
+    @Override
+    public List<ProductPopularity> aggregate(final Collection<Long> productIds) {
+        final Set<Long> existing = new HashSet<>(queryFactory.select(productPopularity.productId)
+                .from(productPopularity)
+                .where(productPopularity.productId.in(productIds))
+                .fetch());
+        final List<Long> targets = productIds.stream()
+                .filter(productId -> !existing.contains(productId))
+                .toList();
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        final List<Long> productIds = queryFactory.select(product.productId)
+                .from(product)
+                .where(product.productId.in(targets))
+                .fetch();
+        final Map<PopularityKey, Long> wishCounts = sumByKey(queryFactory.select(wish.product.productId, wisher.gender, wish.count())
+                .from(wish)
+                .join(wish.member, wisher)
+                .where(wish.product.productId.in(targets))
+                .groupBy(wish.product.productId, wisher.gender)
+                .fetch());
+        final Map<PopularityKey, Long> receiveCounts = sumByKey(queryFactory.select(receipt.product.productId, receiver.gender, receipt.count())
+                .from(receipt)
+                .join(receipt.receiver, receiver)
+                .where(receipt.product.productId.in(targets))
+                .groupBy(receipt.product.productId, receiver.gender)
+                .fetch());
+
+        return productIds.stream()
+                .flatMap(productId -> Stream.of(TargetType.values())
+                        .map(targetType -> new PopularityKey(productId, targetType))
+                        .map(key -> ProductPopularity.builder()
+                                .productId(key.productId())
+                                .targetType(key.targetType())
+                                .wishCount(wishCounts.getOrDefault(key, 0L))
+                                .receiveCount(receiveCounts.getOrDefault(key, 0L))
+                                .build()))
+                .toList();
+    }
+
+    /**
+     * (상품, 성별)별 수를 전체와 성별 키에 나눠 더한다
+     */
+    private static Map<PopularityKey, Long> sumByKey(final List<Tuple> counts) {
+        final Map<PopularityKey, Long> sums = new HashMap<>();
+        counts.forEach(count -> PopularityKey.of(count.get(0, Long.class), count.get(1, Gender.class))
+                .forEach(key -> sums.merge(key, count.get(2, Long.class), Long::sum)));
+        return sums;
+    }
+
+    private static NumberPath<Long> countOf(final RankType rankType) {
+        return switch (rankType) {
+            case MANY_WISH -> productPopularity.wishCount;
+            case MANY_RECEIVE -> productPopularity.receiveCount;
+            default -> throw new IllegalArgumentException("not a popularity ranking: " + rankType);
+        };
+    }
+}
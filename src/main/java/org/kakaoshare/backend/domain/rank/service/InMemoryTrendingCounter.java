@@ -0,0 +1,107 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 시간 버킷 {@link #WINDOW_HOURS}개를 고리 모양으로 재사용하는 노드 메모리 급상승 카운터
+ * 한 시간이 지나 같은 자리에 돌아온 버킷은 통째로 새 버킷으로 바꾸므로 지난 시간의 값을 지우는 작업이 없다
+ * 상품 ID의 범위가 정해져 있지 않아 버킷마다 고정 크기 배열 대신 상품별 {@link LongAdder}를 둔다
+ * 노드마다 다른 점수를 보게 되므로 단일 노드에서 rank.trending.store=memory로 켤 때만 사용한다
+ */
+@Component
+@ConditionalOnProperty(name = "rank.trending.store", havingValue = "memory")
+public class InMemoryTrendingCounter implements TrendingCounter {
+    private final Clock clock;
+    private final AtomicReferenceArray<HourBucket> buckets = new AtomicReferenceArray<>(WINDOW_HOURS);
+
+    public InMemoryTrendingCounter() {
+        this(Clock.systemUTC());
+    }
+
+    InMemoryTrendingCounter(final Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(final Long productId, final long weight) {
+        afterCommit(() -> {
+            final HourBucket bucket = bucketOf(currentHour());
+            if (bucket != null) {
+                bucket.counts()
+                        .computeIfAbsent(productId, key -> new LongAdder())
+                        .add(weight);
+            }
+        });
+    }
+
+    @Override
+    public LinkedHashMap<Long, Double> findScores() {
+        final long now = currentHour();
+        final Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < WINDOW_HOURS; i++) {
+            final HourBucket bucket = buckets.get(i);
+            if (bucket == null || now - bucket.hour() >= WINDOW_HOURS) {
+                continue;
+            }
+
+            final double decay = TrendingCounter.decayOf(now - bucket.hour());
+            bucket.counts().forEach((productId, count) -> scores.merge(productId, count.sum() * decay, Double::sum));
+        }
+        return sortByScore(scores);
+    }
+
+    /**
+     * 버킷은 더 나중 시간으로만 바꾼다. 지난 시간을 읽은 채 늦게 도착한 스레드가 이미 다음 바퀴로 넘어간 버킷을 덮어써
+     * 그 사이 쌓인 값을 날리지 않도록, 자리에 더 나중 시간의 버킷이 있으면 기간 밖의 기록으로 보고 버린다
+     *
+     * @return 기간이 지나 기록할 버킷이 없으면 null
+     */
+    @Nullable
+    private HourBucket bucketOf(final long hour) {
+        final int index = (int) Math.floorMod(hour, WINDOW_HOURS);
+        while (true) {
+            final HourBucket current = buckets.get(index);
+            if (current != null && current.hour() == hour) {
+                return current;
+            }
+            if (current != null && current.hour() > hour) {
+                return null;
+            }
+
+            final HourBucket created = new HourBucket(hour, new ConcurrentHashMap<>());
+            if (buckets.compareAndSet(index, current, created)) {
+                return created;
+            }
+        }
+    }
+
+    private long currentHour() {
+        return TimeUnit.MILLISECONDS.toHours(clock.millis());
+    }
+
+    private static LinkedHashMap<Long, Double> sortByScore(final Map<Long, Double> scores) {
+        final LinkedHashMap<Long, Double> sorted = new LinkedHashMap<>();
+        scores.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private record HourBucket(long hour, Map<Long, LongAdder> counts) {
+    }
+}
@@ -0,0 +1,241 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.common.vo.PriceRange;
+import org.kakaoshare.backend.domain.member.entity.Gender;
+import org.kakaoshare.backend.domain.product.dto.ProductCountDto;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.entity.ProductPopularity;
+import org.kakaoshare.backend.domain.rank.repository.ProductPopularityRepository;
+import org.kakaoshare.backend.domain.rank.util.RankType;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.kakaoshare.backend.domain.rank.vo.PopularityDelta;
+import org.kakaoshare.backend.domain.rank.vo.PopularityKey;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 위시가 많은 순/많이 선물 받은 순 랭킹을 {@link TargetType}별로 나눠 센 {@link ProductPopularity}에서 조회한다
+ * 위시는 위시한 회원, 선물은 받은 회원의 성별로 나누며, 조회는 회원/영수증과 조인하지 않고 (대상, 수) 인덱스에서 상위 N개만 읽는다
+ * <p>
+ * 위시/영수증이 저장되면 커밋 이후에 변경분을 노드 메모리의 {@link LongAdder}에 쌓고, {@link #flush()}가 {@link #FLUSH_DELAY_MILLIS}마다 더한다.
+ * 처음 뜬 노드가 위시/영수증을 한 번 집계해 행을 채우며, 채우기 전이거나 조회에 실패하면 {@link Optional#empty()}를 돌려주고 호출한 쪽은 직접 집계한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularityRanking {
+    private static final long FLUSH_DELAY_MILLIS = 1_000;
+    private static final String READY_KEY = "rank:popularity:ready";
+    private static final String SEEDING_KEY = "rank:popularity:seeding";
+    private static final Duration SEEDING_TIMEOUT = Duration.ofMinutes(10);
+    private static final int SEED_CHUNK_SIZE = 1_000;
+
+    private final ProductPopularityRepository productPopularityRepository;
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    // 항목 수는 상품 수의 세 배를 넘지 않으므로 지우지 않는다
+    private final Map<PopularityKey, Counts> pending = new ConcurrentHashMap<>();
+
+    public void increaseWish(final Long productId, final Gender gender) {
+        afterCommit(() -> PopularityKey.of(productId, gender).forEach(key -> countsOf(key).wish().increment()));
+    }
+
+    public void decreaseWish(final Long productId, final Gender gender) {
+        afterCommit(() -> PopularityKey.of(productId, gender).forEach(key -> countsOf(key).wish().decrement()));
+    }
+
+    public void increaseReceive(final Long productId, final Gender gender) {
+        afterCommit(() -> PopularityKey.of(productId, gender).forEach(key -> countsOf(key).receive().increment()));
+    }
+
+    /**
+     * @return 수가 많은 순 상품. 행을 채우기 전이거나 읽을 수 없으면 비어 있다
+     */
+    public Optional<List<RankResponse>> findTop(final RankType rankType,
+                                                final TargetType targetType,
+                                                final PriceRange priceRange,
+                                                final int limit) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        try {
+            final List<ProductPopularity> ranked = productPopularityRepository.findTop(rankType, targetType, priceRange, limit);
+            return Optional.of(toResponses(rankType, ranked));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read popularity ranking. rankType: {}, targetType: {}", rankType, targetType, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 모인 변경분을 더하고, 행이 없는 키는 새 행으로 저장한다. 더하지 못한 변경분은 되돌려 다음 주기에 다시 반영한다
+     * 다른 노드가 같은 행을 먼저 저장해 유니크 인덱스에 막히면 다음 주기에는 UPDATE로 더해진다.
+     * 행을 채우기 전에는 행이 없는 키의 변경분을 버린다. 채우는 노드가 위시/영수증에서 직접 세므로 이미 반영된다
+     */
+    @PreDestroy
+    @Scheduled(fixedDelay = FLUSH_DELAY_MILLIS)
+    public void flush() {
+        final Map<PopularityKey, PopularityDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        final Set<PopularityKey> missing;
+        try {
+            missing = productPopularityRepository.increaseCounts(deltas);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush popularity counts. size: {}", deltas.size(), e);
+            deltas.forEach(this::restore);
+            return;
+        }
+        if (missing.isEmpty() || !isReady()) {
+            return;
+        }
+
+        try {
+            productPopularityRepository.saveAll(createRows(missing, deltas));
+        } catch (RuntimeException e) {
+            log.warn("Failed to save popularity rows. size: {}", missing.size(), e);
+            missing.forEach(key -> restore(key, deltas.get(key)));
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))
+                    || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(SEEDING_KEY, "seeding", SEEDING_TIMEOUT))) {
+                return;
+            }
+
+            final long startedAt = System.currentTimeMillis();
+            long seeded = 0;
+            Long lastProductId = 0L;
+            List<ProductCountDto> chunk;
+            do {
+                chunk = productRepository.findCounts(lastProductId, SEED_CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                final List<ProductPopularity> rows = productPopularityRepository.aggregate(chunk.stream()
+                        .map(ProductCountDto::productId)
+                        .toList());
+                productPopularityRepository.saveAll(rows);
+                seeded += rows.size();
+                lastProductId = chunk.get(chunk.size() - 1).productId();
+            } while (chunk.size() == SEED_CHUNK_SIZE);
+
+            stringRedisTemplate.opsForValue().set(READY_KEY, String.valueOf(seeded));
+            log.info("Popularity ranking seeded. rows: {}, elapsed: {}ms", seeded, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("Failed to seed popularity ranking.", e);
+            stringRedisTemplate.delete(SEEDING_KEY);
+        }
+    }
+
+    private boolean isReady() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read popularity ranking state.", e);
+            return false;
+        }
+    }
+
+    /**
+     * 그 사이 삭제된 상품의 변경분은 버린다
+     */
+    private List<ProductPopularity> createRows(final Set<PopularityKey> missing, final Map<PopularityKey, PopularityDelta> deltas) {
+        final Map<Long, ProductDto> products = productRepository.findAllDtoByIds(missing.stream()
+                        .map(PopularityKey::productId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProductDto::getProductId, Function.identity()));
+        return missing.stream()
+                .filter(key -> products.containsKey(key.productId()))
+                .map(key -> ProductPopularity.builder()
+                        .productId(key.productId())
+                        .targetType(key.targetType())
+                        .wishCount(deltas.get(key).wishCount())
+                        .receiveCount(deltas.get(key).receiveCount())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 순위에 든 상품의 카드 정보는 한 번의 IN 쿼리로 채우며, 그 사이 삭제된 상품은 제외한다
+     */
+    private List<RankResponse> toResponses(final RankType rankType, final List<ProductPopularity> ranked) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, ProductDto> products = productRepository.findAllDtoByIds(ranked.stream()
+                        .map(ProductPopularity::getProductId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(ProductDto::getProductId, Function.identity()));
+        return ranked.stream()
+                .filter(popularity -> products.containsKey(popularity.getProductId()))
+                .map(popularity -> {
+                    final ProductDto product = products.get(popularity.getProductId());
+                    final long count = rankType == RankType.MANY_WISH ? popularity.getWishCount() : popularity.getReceiveCount();
+                    return new RankResponse(product.getProductId(), product.getName(), (double) count, product.getPhoto());
+                })
+                .toList();
+    }
+
+    /**
+     * 읽은 합계만큼만 빼므로 읽는 도중에 더해진 값은 다음 주기로 넘어간다
+     */
+    private Map<PopularityKey, PopularityDelta> drain() {
+        final Map<PopularityKey, PopularityDelta> deltas = new HashMap<>();
+        pending.forEach((key, counts) -> {
+            final long wish = counts.wish().sum();
+            final long receive = counts.receive().sum();
+            if (wish == 0 && receive == 0) {
+                return;
+            }
+            counts.wish().add(-wish);
+            counts.receive().add(-receive);
+            deltas.put(key, new PopularityDelta(wish, receive));
+        });
+        return deltas;
+    }
+
+    private void restore(final PopularityKey key, final PopularityDelta delta) {
+        final Counts counts = countsOf(key);
+        counts.wish().add(delta.wishCount());
+        counts.receive().add(delta.receiveCount());
+    }
+
+    private Counts countsOf(final PopularityKey key) {
+        return pending.computeIfAbsent(key, k -> new Counts(new LongAdder(), new LongAdder()));
+    }
+
+    private record Counts(LongAdder wish, LongAdder receive) {
+    }
+}
@@ -5,13 +5,16 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.kakaoshare.backend.domain.order.repository.OrderRepository;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
 import org.kakaoshare.backend.common.vo.PriceRange;
 import org.kakaoshare.backend.domain.rank.dto.RankResponse;
 import org.kakaoshare.backend.domain.rank.util.RankStrategy;
 import org.kakaoshare.backend.domain.rank.util.RankType;
 import org.kakaoshare.backend.domain.rank.util.ReceiveRankStrategy;
 import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.kakaoshare.backend.domain.rank.util.TrendingRankStrategy;
 import org.kakaoshare.backend.domain.rank.util.WishRankStrategy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,26 +25,46 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class RankService {
     private final OrderRepository orderRepository;
-    private static final int MONTH_VALUE = 6;
-    private static final int LIMIT_PRODUCT_COUNT = 20;
+    private final SalesRanking salesRanking;
+    private final RankSnapshot rankSnapshot;
     private final Map<RankType, RankStrategy> strategies;
 
-    public RankService(OrderRepository orderRepository) {
+    public RankService(OrderRepository orderRepository,
+                       ProductRepository productRepository,
+                       SalesRanking salesRanking,
+                       RankSnapshot rankSnapshot,
+                       TrendingCounter trendingCounter,
+                       PopularityRanking popularityRanking) {
         this.orderRepository = orderRepository;
+        this.salesRanking = salesRanking;
+        this.rankSnapshot = rankSnapshot;
         this.strategies = new HashMap<>();
-        this.strategies.put(RankType.MANY_WISH, new WishRankStrategy(orderRepository));
-        this.strategies.put(RankType.MANY_RECEIVE, new ReceiveRankStrategy(orderRepository));
+        this.strategies.put(RankType.MANY_WISH, new WishRankStrategy(orderRepository, popularityRanking));
+        this.strategies.put(RankType.MANY_RECEIVE, new ReceiveRankStrategy(orderRepository, popularityRanking));
+        this.strategies.put(RankType.TRENDING, new TrendingRankStrategy(trendingCounter, productRepository));
     }
 
+    /**
+     * {@link SalesRanking}에서 조회하며, 랭킹을 사용할 수 없으면 주문 테이블에서 집계한다
+     */
     public Page<RankResponse> getTopRankedProducts(Pageable pageable) {
-        return orderRepository.findTopRankedProductsByOrders(LocalDateTime.now().minusMonths(MONTH_VALUE), pageable);
+        return salesRanking.findTopRanked(pageable)
+                .orElseGet(() -> orderRepository.findTopRankedProductsByOrders(LocalDateTime.now().minusMonths(SalesRanking.WINDOW_MONTHS), pageable));
     }
 
+    /**
+     * {@link RankSnapshot}의 순위를 가격대로 걸러 조회하고, 스냅샷으로 답할 수 없을 때만 직접 집계한다
+     */
     public List<RankResponse> findProductsByFilters(RankType rankType, TargetType targetType, PriceRange priceRange) {
+        Optional<List<RankResponse>> snapshot = rankSnapshot.find(rankType, targetType, priceRange);
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+
         RankStrategy strategy = strategies.get(rankType);
         if (strategy == null) {
             return Collections.emptyList();
         }
-        return strategy.findProducts(targetType, priceRange, LIMIT_PRODUCT_COUNT);
+        return strategy.findProducts(targetType, priceRange, RankSnapshot.LIMIT_PRODUCT_COUNT);
     }
 }
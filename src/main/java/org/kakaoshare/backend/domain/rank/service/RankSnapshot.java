@@ -0,0 +1,247 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.common.vo.PriceRange;
+import org.kakaoshare.backend.domain.order.repository.OrderRepository;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.RankPriceRange;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.util.RankStrategy;
+import org.kakaoshare.backend.domain.rank.util.RankType;
+import org.kakaoshare.backend.domain.rank.util.ReceiveRankStrategy;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.kakaoshare.backend.domain.rank.util.WishRankStrategy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link RankType} x {@link TargetType} 조합별로 가격대 없이 집계한 상위 {@link #SNAPSHOT_DEPTH}개 상품 스냅샷
+ * 조합이 몇 개뿐이므로 {@link #BUILD_DELAY_MILLIS}마다 모든 조합을 상품 가격과 함께 미리 집계해 불변 테이블로 만들고 통째로 바꿔 끼운다.
+ * 요청한 가격대가 무엇이든 테이블의 순위를 가격으로 걸러 응답하므로 MySQL에 접근하지 않는다
+ * <p>
+ * 만든 테이블은 {@link CacheManager}의 Redis 캐시에 올려 다른 노드는 {@link #REFRESH_DELAY_MILLIS}마다 더 새로운 테이블이 있을 때만 받아 간다.
+ * 집계는 {@link #BUILDING_KEY}를 먼저 잡은 한 노드만 하며, 잠금은 지우지 않고 만료되게 두어 주기마다 한 번만 집계되게 한다.
+ * 테이블이 만들어진 뒤 지난 시간을 메트릭으로 내보낸다
+ */
+@Slf4j
+@Component
+public class RankSnapshot {
+    static final int LIMIT_PRODUCT_COUNT = 20;
+    static final int SNAPSHOT_DEPTH = 500;
+    private static final PriceRange ALL_PRICES = new RankPriceRange(0, Integer.MAX_VALUE);
+    private static final String CACHE_NAME = "rankSnapshot";
+    private static final String CACHE_KEY = "table:v2";
+    private static final String BUILDING_KEY = "rank:snapshot:building";
+    private static final long BUILD_DELAY_MILLIS = 5 * 60 * 1_000;
+    private static final long REFRESH_DELAY_MILLIS = 30 * 1_000;
+    private static final Duration BUILDING_TIMEOUT = Duration.ofMillis(BUILD_DELAY_MILLIS).minusSeconds(30);
+
+    private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<RankType, RankStrategy> strategies = new EnumMap<>(RankType.class);
+    private volatile Table table;
+
+    public RankSnapshot(final OrderRepository orderRepository,
+                        final PopularityRanking popularityRanking,
+                        final ProductRepository productRepository,
+                        final CacheManager cacheManager,
+                        final StringRedisTemplate stringRedisTemplate,
+                        final ObjectMapper objectMapper,
+                        final MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.strategies.put(RankType.MANY_WISH, new WishRankStrategy(orderRepository, popularityRanking));
+        this.strategies.put(RankType.MANY_RECEIVE, new ReceiveRankStrategy(orderRepository, popularityRanking));
+        Gauge.builder("rank.snapshot.age", this, RankSnapshot::ageSeconds)
+                .description("Seconds since the ranking snapshot in use was built")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 조합의 순위에서 가격대에 맞는 상위 {@link #LIMIT_PRODUCT_COUNT}개. 아직 테이블이 없거나 미리 만들지 않는 조합이면 비어 있고,
+     * {@link #SNAPSHOT_DEPTH}개까지 찬 순위에서 가격대에 맞는 상품이 모자라면 그 아래 순위에 있을 수 있으므로 비어 있다
+     */
+    public Optional<List<RankResponse>> find(final RankType rankType, final TargetType targetType, final PriceRange priceRange) {
+        final Table current = table;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        final List<RankItem> items = current.ranks().get(new Key(rankType, targetType));
+        if (items == null) {
+            return Optional.empty();
+        }
+
+        final List<RankResponse> ranks = items.stream()
+                .filter(item -> item.isInRange(priceRange))
+                .limit(LIMIT_PRODUCT_COUNT)
+                .map(RankItem::toResponse)
+                .toList();
+        if (ranks.size() < LIMIT_PRODUCT_COUNT && items.size() >= SNAPSHOT_DEPTH) {
+            return Optional.empty();
+        }
+        return Optional.of(ranks);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+        if (table == null) {
+            build();
+        }
+    }
+
+    /**
+     * 다른 노드가 만든 테이블이 지금 테이블보다 새로우면 바꿔 끼운다
+     */
+    @Scheduled(fixedDelay = REFRESH_DELAY_MILLIS, initialDelay = REFRESH_DELAY_MILLIS)
+    public void refresh() {
+        findRemote().ifPresent(source -> {
+            final Table current = table;
+            if (current == null || current.builtAt() < source.builtAt()) {
+                table = Table.from(source);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = BUILD_DELAY_MILLIS, initialDelay = BUILD_DELAY_MILLIS)
+    public void build() {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(BUILDING_KEY, "building", BUILDING_TIMEOUT))) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to acquire ranking snapshot lock. building locally.", e);
+        }
+
+        final long startedAt = System.currentTimeMillis();
+        final List<RankEntry> entries = new ArrayList<>();
+        try {
+            strategies.forEach((rankType, strategy) -> {
+                for (TargetType targetType : TargetType.values()) {
+                    final List<RankResponse> ranks = strategy.findProducts(targetType, ALL_PRICES, SNAPSHOT_DEPTH);
+                    entries.add(new RankEntry(rankType, targetType, withPrices(ranks)));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to build ranking snapshot.", e);
+            return;
+        }
+
+        final RankSnapshotSource source = new RankSnapshotSource(startedAt, entries);
+        table = Table.from(source);
+        putRemote(source);
+        log.info("Ranking snapshot built. combinations: {}, elapsed: {}ms", entries.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 순위의 상품 가격을 한 번의 IN 쿼리로 읽어 붙이며, 그사이 삭제된 상품은 뺀다
+     */
+    private List<RankItem> withPrices(final List<RankResponse> ranks) {
+        if (ranks.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, ProductDto> products = productRepository.findAllDtoByIds(ranks.stream().map(RankResponse::getProductId).toList())
+                .stream()
+                .collect(Collectors.toMap(ProductDto::getProductId, Function.identity()));
+        return ranks.stream()
+                .filter(rank -> products.containsKey(rank.getProductId()))
+                .map(rank -> RankItem.of(rank, products.get(rank.getProductId()).getPrice()))
+                .toList();
+    }
+
+    private double ageSeconds() {
+        final Table current = table;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return (System.currentTimeMillis() - current.builtAt()) / 1_000.0;
+    }
+
+    private Optional<RankSnapshotSource> findRemote() {
+        try {
+            final String json = remoteCache().get(CACHE_KEY, String.class);
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, RankSnapshotSource.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read ranking snapshot cache.", e);
+            return Optional.empty();
+        }
+    }
+
+    private void putRemote(final RankSnapshotSource source) {
+        try {
+            remoteCache().put(CACHE_KEY, objectMapper.writeValueAsString(source));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write ranking snapshot cache.", e);
+        }
+    }
+
+    private Cache remoteCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    record RankSnapshotSource(long builtAt, List<RankEntry> entries) {
+    }
+
+    record RankEntry(RankType rankType, TargetType targetType, List<RankItem> products) {
+    }
+
+    record RankItem(Long productId, String productName, Double totalSales, String thumbnailUrl, Long price) {
+        static RankItem of(final RankResponse response, final Long price) {
+            return new RankItem(response.getProductId(), response.getProductName(), response.getTotalSales(), response.getThumbnailUrl(), price);
+        }
+
+        boolean isInRange(final PriceRange priceRange) {
+            return price != null && price >= priceRange.getMinPrice() && price <= priceRange.getMaxPrice();
+        }
+
+        RankResponse toResponse() {
+            return new RankResponse(productId, productName, totalSales, thumbnailUrl);
+        }
+    }
+
+    private record Key(RankType rankType, TargetType targetType) {
+    }
+
+    private record Table(Map<Key, List<RankItem>> ranks, long builtAt) {
+        static Table from(final RankSnapshotSource source) {
+            final Map<Key, List<RankItem>> ranks = new HashMap<>();
+            source.entries().forEach(entry -> ranks.put(
+                    new Key(entry.rankType(), entry.targetType()),
+                    List.copyOf(entry.products())
+            ));
+            return new Table(Map.copyOf(ranks), source.builtAt());
+        }
+    }
+}
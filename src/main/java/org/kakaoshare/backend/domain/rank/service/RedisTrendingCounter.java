@@ -0,0 +1,158 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 모든 노드가 같은 점수를 보도록 시간 버킷을 Redis ZSET({@link #HOUR_KEY_PREFIX})에 두는 급상승 카운터
+ * 요청 스레드는 노드 메모리의 {@link LongAdder}에만 더하고, {@link #flush()}가 {@link #FLUSH_DELAY_MILLIS}마다 모인 값을 파이프라인 한 번으로 보낸다.
+ * 점수는 기간 안의 시간 버킷을 감쇠 가중치로 ZUNIONSTORE해 Redis에서 계산한다.
+ * 계산한 점수는 현재 시간 버킷별 키({@link #SCORE_KEY_PREFIX})에 {@link #SCORE_TTL} 동안 두고 모든 조회가 함께 읽으므로, 조회마다 다시 계산하지 않고 다른 시간의 계산과 섞이지 않는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rank.trending.store", havingValue = "redis", matchIfMissing = true)
+public class RedisTrendingCounter implements TrendingCounter {
+    private static final String HOUR_KEY_PREFIX = "rank:trending:hour:";
+    private static final String SCORE_KEY_PREFIX = "rank:trending:scores:";
+    private static final Duration HOUR_TTL = Duration.ofHours(WINDOW_HOURS + 1);
+    private static final Duration SCORE_TTL = Duration.ofSeconds(30);
+    private static final long FLUSH_DELAY_MILLIS = 1_000;
+    private static final RedisScript<List> SCORES_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                local args = {}
+                for i = 2, #KEYS do
+                    table.insert(args, KEYS[i])
+                end
+                table.insert(args, 'WEIGHTS')
+                for i = 2, #ARGV do
+                    table.insert(args, ARGV[i])
+                end
+                redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(args))
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return redis.call('ZREVRANGEBYSCORE', KEYS[1], '+inf', '(0', 'WITHSCORES')
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Clock clock;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RedisTrendingCounter(final StringRedisTemplate stringRedisTemplate) {
+        this(stringRedisTemplate, Clock.systemUTC());
+    }
+
+    RedisTrendingCounter(final StringRedisTemplate stringRedisTemplate, final Clock clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(final Long productId, final long weight) {
+        afterCommit(() -> add(productId, weight));
+    }
+
+    @Override
+    public LinkedHashMap<Long, Double> findScores() {
+        final long now = currentHour();
+        final List<String> keys = new ArrayList<>();
+        keys.add(SCORE_KEY_PREFIX + now);
+        LongStream.range(0, WINDOW_HOURS)
+                .mapToObj(age -> hourKeyOf(now - age))
+                .forEach(keys::add);
+        final List<String> args = new ArrayList<>();
+        args.add(String.valueOf(SCORE_TTL.toSeconds()));
+        LongStream.range(0, WINDOW_HOURS)
+                .mapToObj(age -> String.valueOf(TrendingCounter.decayOf(age)))
+                .forEach(args::add);
+
+        final List<?> scores;
+        try {
+            scores = stringRedisTemplate.execute(SCORES_SCRIPT, keys, args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Failed to read trending scores.", e);
+            return new LinkedHashMap<>();
+        }
+
+        final LinkedHashMap<Long, Double> sorted = new LinkedHashMap<>();
+        if (scores != null) {
+            for (int i = 0; i + 1 < scores.size(); i += 2) {
+                sorted.put(Long.valueOf(String.valueOf(scores.get(i))), Double.valueOf(String.valueOf(scores.get(i + 1))));
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * 모인 값을 이번 시간 버킷에 더한다. 보내지 못한 값은 되돌려 다음 주기에 다시 보낸다
+     */
+    @PreDestroy
+    @Scheduled(fixedDelay = FLUSH_DELAY_MILLIS)
+    public void flush() {
+        final Map<Long, Long> counts = drain();
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        final byte[] hourKey = hourKeyOf(currentHour()).getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                counts.forEach((productId, count) -> connection.zSetCommands()
+                        .zIncrBy(hourKey, count, String.valueOf(productId).getBytes(StandardCharsets.UTF_8)));
+                connection.keyCommands().expire(hourKey, HOUR_TTL.toSeconds());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush trending counts. size: {}", counts.size(), e);
+            counts.forEach(this::add);
+        }
+    }
+
+    private void add(final Long productId, final long weight) {
+        pending.computeIfAbsent(productId, key -> new LongAdder()).add(weight);
+    }
+
+    private Map<Long, Long> drain() {
+        final Map<Long, Long> counts = new HashMap<>();
+        pending.forEach((productId, adder) -> {
+            final long count = adder.sum();
+            if (count != 0) {
+                adder.add(-count);
+                counts.put(productId, count);
+            }
+        });
+        return counts;
+    }
+
+    private long currentHour() {
+        return TimeUnit.MILLISECONDS.toHours(clock.millis());
+    }
+
+    private static String hourKeyOf(final long hour) {
+        return HOUR_KEY_PREFIX + hour;
+    }
+}
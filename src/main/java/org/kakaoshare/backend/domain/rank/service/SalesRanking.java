@@ -0,0 +1,276 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.order.repository.OrderRepository;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.ProductSalesDto;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 최근 {@link #WINDOW_MONTHS}개월 상품별 판매액 랭킹
+ * 판매액은 일별 Redis ZSET({@link #DAY_KEY_PREFIX})에 쌓고, 조회는 일별 ZSET을 ZUNIONSTORE로 합친 {@link #WINDOW_KEY}에서 한다.
+ * 결제가 승인/취소되면 커밋 이후에 해당 일자와 합산 ZSET에 같은 값을 한 스크립트로 더하므로 둘이 어긋나지 않는다
+ * <p>
+ * 자정마다 기간에 들어오는 일별 ZSET만으로 합산 ZSET을 다시 만들어 기간이 지난 판매액을 뺀다.
+ * 랭킹이 채워지기 전이거나 Redis를 사용할 수 없으면 {@link Optional#empty()}를 돌려주고, 호출한 쪽은 주문 테이블 집계로 응답한다.
+ * 처음 뜬 노드가 채우기 시작한 시각({@link #SEED_FROM_KEY}) 전에 생성된 주문의 판매액을 주문 테이블에서 읽어 일별 ZSET에 ZUNIONSTORE로 더한다.
+ * 랭킹이 채워지기 전에는 그 시각 이후에 생성된 주문의 변경분만 일별 ZSET에 더하므로, 주문 테이블에서 읽은 판매액과 겹치거나 채우는 사이의 변경분을 잃지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRanking {
+    static final int WINDOW_MONTHS = 6;
+    private static final String DAY_KEY_PREFIX = "rank:sales:day:";
+    private static final String WINDOW_KEY = "rank:sales:window";
+    private static final String SEED_KEY = "rank:sales:seed";
+    private static final String READY_KEY = "rank:sales:ready";
+    private static final String SEEDING_KEY = "rank:sales:seeding";
+    private static final String SEED_FROM_KEY = "rank:sales:seed:from";
+    private static final Duration SEEDING_TIMEOUT = Duration.ofMinutes(10);
+    // 기간의 가장 긴 일수(184일)보다 길게 두어 합산 ZSET을 다시 만들기 전에 일별 ZSET이 사라지지 않게 한다
+    private static final Duration DAY_TTL = Duration.ofDays(190);
+    private static final int SEED_CHUNK_SIZE = 1_000;
+    private static final double MIN_SALES = 1;
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 0 then
+                local seedFrom = redis.call('GET', KEYS[4])
+                if not seedFrom or tonumber(ARGV[2]) < tonumber(seedFrom) then
+                    return 0
+                end
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+                redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 오늘 판매된 상품별 판매액을 커밋 이후에 더한다
+     */
+    public void increase(final Map<Long, Long> salesByProduct) {
+        final long orderedAt = System.currentTimeMillis();
+        afterCommit(() -> add(LocalDate.now(), orderedAt, salesByProduct));
+    }
+
+    /**
+     * 취소된 주문의 판매액을 주문한 날의 판매액에서 커밋 이후에 뺀다. 기간이 지난 주문은 무시한다
+     */
+    public void decrease(final Long productId, final long sales, final LocalDateTime orderedAt) {
+        final LocalDateTime orderedTime = orderedAt == null ? LocalDateTime.now() : orderedAt;
+        if (orderedTime.toLocalDate().isBefore(windowStart())) {
+            return;
+        }
+        afterCommit(() -> add(orderedTime.toLocalDate(), toEpochMillis(orderedTime), Map.of(productId, -sales)));
+    }
+
+    /**
+     * @return 판매액 순 상품 페이지. 랭킹이 채워지기 전이거나 읽을 수 없으면 비어 있다
+     */
+    public Optional<Page<RankResponse>> findTopRanked(final Pageable pageable) {
+        final Set<TypedTuple<String>> ranked;
+        final Long total;
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+                return Optional.empty();
+            }
+            total = stringRedisTemplate.opsForZSet().count(WINDOW_KEY, MIN_SALES, Double.POSITIVE_INFINITY);
+            ranked = stringRedisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(WINDOW_KEY, MIN_SALES, Double.POSITIVE_INFINITY, pageable.getOffset(), pageable.getPageSize());
+        } catch (RuntimeException e) {
+            log.warn("Failed to read sales ranking.", e);
+            return Optional.empty();
+        }
+        if (total == null || ranked == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new PageImpl<>(toResponses(ranked), pageable, total));
+    }
+
+    /**
+     * 기간에 들어오는 일별 ZSET만 합쳐 합산 ZSET을 다시 만든다. 더하는 스크립트와 ZUNIONSTORE는 각각 원자적으로 실행되므로 그 사이의 판매액을 잃지 않는다
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rebuildWindow() {
+        final List<String> dayKeys = windowStart().datesUntil(LocalDate.now().plusDays(1))
+                .map(SalesRanking::dayKeyOf)
+                .toList();
+        try {
+            stringRedisTemplate.opsForZSet().unionAndStore(dayKeys.get(0), dayKeys.subList(1, dayKeys.size()), WINDOW_KEY);
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild sales ranking window.", e);
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))
+                    || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(SEEDING_KEY, "seeding", SEEDING_TIMEOUT))) {
+                return;
+            }
+
+            clearWindow();
+            final long startedAt = System.currentTimeMillis();
+            stringRedisTemplate.opsForValue().set(SEED_FROM_KEY, String.valueOf(startedAt));
+            final Map<LocalDate, Map<Long, Long>> dailySales = findDailySales(toLocalDateTime(startedAt));
+            dailySales.forEach(this::seedDay);
+            rebuildWindow();
+            stringRedisTemplate.opsForValue().set(READY_KEY, String.valueOf(dailySales.size()));
+            stringRedisTemplate.delete(SEED_FROM_KEY);
+            log.info("Sales ranking seeded. days: {}, elapsed: {}ms", dailySales.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("Failed to seed sales ranking.", e);
+            stringRedisTemplate.delete(SEEDING_KEY);
+        }
+    }
+
+    /**
+     * 채우다 멈춘 노드가 남긴 일별 ZSET과 그동안 더해진 변경분을 지운다. 모두 이번에 채우기 시작하기 전의 주문이므로 주문 테이블에서 다시 읽는다
+     */
+    private void clearWindow() {
+        stringRedisTemplate.delete(SEED_FROM_KEY);
+        final List<String> keys = new ArrayList<>(windowStart().datesUntil(LocalDate.now().plusDays(1))
+                .map(SalesRanking::dayKeyOf)
+                .toList());
+        keys.add(WINDOW_KEY);
+        stringRedisTemplate.delete(keys);
+    }
+
+    /**
+     * @param until 이 시각 이후에 생성된 주문은 랭킹을 채우는 동안 일별 ZSET에 바로 더해지므로 읽지 않는다
+     */
+    private Map<LocalDate, Map<Long, Long>> findDailySales(final LocalDateTime until) {
+        final LocalDateTime from = windowStart().atStartOfDay();
+        final Map<LocalDate, Map<Long, Long>> dailySales = new HashMap<>();
+        Long lastOrderId = 0L;
+        List<ProductSalesDto> chunk;
+        do {
+            chunk = orderRepository.findSales(lastOrderId, from, SEED_CHUNK_SIZE);
+            chunk.stream()
+                    .filter(sales -> sales.orderedAt().isBefore(until))
+                    .forEach(sales -> dailySales.computeIfAbsent(sales.orderedAt().toLocalDate(), day -> new HashMap<>())
+                    .merge(sales.productId(), sales.amount(), Long::sum));
+            if (!chunk.isEmpty()) {
+                lastOrderId = chunk.get(chunk.size() - 1).ordersId();
+            }
+        } while (chunk.size() == SEED_CHUNK_SIZE);
+        return dailySales;
+    }
+
+    /**
+     * 임시 키에 채운 뒤 일별 ZSET에 합산해, 채우는 사이에 더해진 변경분을 지우지 않는다
+     */
+    private void seedDay(final LocalDate day, final Map<Long, Long> sales) {
+        final Set<TypedTuple<String>> tuples = sales.entrySet()
+                .stream()
+                .map(entry -> TypedTuple.of(String.valueOf(entry.getKey()), entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+        stringRedisTemplate.delete(SEED_KEY);
+        stringRedisTemplate.opsForZSet().add(SEED_KEY, tuples);
+        stringRedisTemplate.opsForZSet().unionAndStore(dayKeyOf(day), SEED_KEY, dayKeyOf(day));
+        stringRedisTemplate.expire(dayKeyOf(day), DAY_TTL);
+        stringRedisTemplate.delete(SEED_KEY);
+    }
+
+    /**
+     * @param orderedAt 주문이 생성된 시각(epoch millis). 랭킹이 채워지기 전에는 채우기 시작한 시각 이후의 주문만 더한다
+     */
+    private void add(final LocalDate day, final long orderedAt, final Map<Long, Long> salesByProduct) {
+        if (salesByProduct.isEmpty()) {
+            return;
+        }
+
+        final List<String> args = new ArrayList<>(2 + salesByProduct.size() * 2);
+        args.add(String.valueOf(DAY_TTL.toSeconds()));
+        args.add(String.valueOf(orderedAt));
+        salesByProduct.forEach((productId, sales) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(sales));
+        });
+        try {
+            stringRedisTemplate.execute(INCREASE_SCRIPT, List.of(dayKeyOf(day), WINDOW_KEY, READY_KEY, SEED_FROM_KEY), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Failed to update sales ranking. day: {}, sales: {}", day, salesByProduct, e);
+        }
+    }
+
+    /**
+     * 순위에 든 상품의 카드 정보는 한 번의 IN 쿼리로 채우며, 그 사이 삭제된 상품은 제외한다
+     */
+    private List<RankResponse> toResponses(final Set<TypedTuple<String>> ranked) {
+        if (ranked.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Set<Long> productIds = ranked.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        final Map<Long, ProductDto> products = productRepository.findAllDtoByIds(productIds)
+                .stream()
+                .collect(Collectors.toMap(ProductDto::getProductId, Function.identity()));
+        return ranked.stream()
+                .filter(tuple -> products.containsKey(Long.valueOf(tuple.getValue())))
+                .map(tuple -> {
+                    final ProductDto product = products.get(Long.valueOf(tuple.getValue()));
+                    return new RankResponse(product.getProductId(), product.getName(), tuple.getScore(), product.getPhoto());
+                })
+                .toList();
+    }
+
+    private static LocalDate windowStart() {
+        return LocalDate.now().minusMonths(WINDOW_MONTHS);
+    }
+
+    private static long toEpochMillis(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(final long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static String dayKeyOf(final LocalDate day) {
+        return DAY_KEY_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
@@ -0,0 +1,32 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import java.util.LinkedHashMap;
+
+/**
+ * 최근 {@link #WINDOW_HOURS}시간 동안의 위시/주문을 시간 단위로 세어 급상승 점수를 매긴다
+ * 점수는 시간 버킷마다 {@link #HALF_LIFE_HOURS}시간마다 절반으로 줄어드는 가중치를 곱해 더한 값이며, 기간 안에 위시/주문된 상품만 계산한다
+ * <p>
+ * 기본은 모든 노드가 같은 점수를 보는 {@link RedisTrendingCounter}이며, 단일 노드에서는 rank.trending.store=memory로 {@link InMemoryTrendingCounter}를 사용할 수 있다
+ */
+public interface TrendingCounter {
+    int WINDOW_HOURS = 24;
+    double HALF_LIFE_HOURS = 6;
+    long WISH_WEIGHT = 1;
+    long ORDER_WEIGHT = 3;
+
+    /**
+     * 요청 스레드에서 호출되므로 DB나 Redis를 기다리지 않으며, 트랜잭션 안에서 호출되면 커밋 이후에 센다
+     *
+     * @param weight 더할 가중치. 위시 취소처럼 되돌릴 때는 음수
+     */
+    void record(Long productId, long weight);
+
+    /**
+     * @return 점수가 높은 순으로 정렬된 상품별 급상승 점수. 취소되어 점수가 0 이하인 상품은 뺀다
+     */
+    LinkedHashMap<Long, Double> findScores();
+
+    static double decayOf(final long ageHours) {
+        return Math.pow(0.5, ageHours / HALF_LIFE_HOURS);
+    }
+}
@@ -2,7 +2,8 @@ package org.kakaoshare.backend.domain.rank.util;
 
 public enum RankType {
     MANY_WISH("위시가 많은 순"),
-    MANY_RECEIVE("많이 선물 받은 순");
+    MANY_RECEIVE("많이 선물 받은 순"),
+    TRENDING("급상승");
 
     private final String description;
 
@@ -5,13 +5,16 @@ import lombok.RequiredArgsConstructor;
 import org.kakaoshare.backend.domain.order.repository.OrderRepository;
 import org.kakaoshare.backend.common.vo.PriceRange;
 import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.service.PopularityRanking;
 
 @RequiredArgsConstructor
 public class ReceiveRankStrategy implements RankStrategy {
     private final OrderRepository orderRepository;
+    private final PopularityRanking popularityRanking;
 
     @Override
     public List<RankResponse> findProducts(TargetType targetType, PriceRange priceRange, int limit) {
-        return orderRepository.findProductsByReceived(targetType, priceRange.getMinPrice(), priceRange.getMaxPrice(), limit);
+        return popularityRanking.findTop(RankType.MANY_RECEIVE, targetType, priceRange, limit)
+                .orElseGet(() -> orderRepository.findProductsByReceived(targetType, priceRange.getMinPrice(), priceRange.getMaxPrice(), limit));
     }
 }
@@ -0,0 +1,49 @@
+package org.kakaoshare.backend.domain.rank.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.common.vo.PriceRange;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.service.TrendingCounter;
+
+/**
+ * 급상승 점수 순 랭킹. 점수에는 성별 구분이 없으므로 {@link TargetType}은 무시한다
+ * 점수가 높은 상품부터 {@link #HYDRATE_SIZE}개씩 한 번의 IN 쿼리로 읽어 가격대에 맞는 상품이 limit개가 될 때까지 채운다
+ */
+@RequiredArgsConstructor
+public class TrendingRankStrategy implements RankStrategy {
+    private static final int HYDRATE_SIZE = 100;
+
+    private final TrendingCounter trendingCounter;
+    private final ProductRepository productRepository;
+
+    @Override
+    public List<RankResponse> findProducts(TargetType targetType, PriceRange priceRange, int limit) {
+        final Map<Long, Double> scores = trendingCounter.findScores();
+        final List<Long> productIds = List.copyOf(scores.keySet());
+        final List<RankResponse> ranks = new ArrayList<>(limit);
+        for (int from = 0; from < productIds.size() && ranks.size() < limit; from += HYDRATE_SIZE) {
+            final List<Long> chunk = productIds.subList(from, Math.min(from + HYDRATE_SIZE, productIds.size()));
+            final Map<Long, ProductDto> products = productRepository.findAllDtoByIds(chunk)
+                    .stream()
+                    .collect(Collectors.toMap(ProductDto::getProductId, Function.identity()));
+            for (Long productId : chunk) {
+                final ProductDto product = products.get(productId);
+                if (ranks.size() < limit && product != null && isInRange(product.getPrice(), priceRange)) {
+                    ranks.add(new RankResponse(productId, product.getName(), scores.get(productId), product.getPhoto()));
+                }
+            }
+        }
+        return ranks;
+    }
+
+    private static boolean isInRange(final Long price, final PriceRange priceRange) {
+        return price >= priceRange.getMinPrice() && price <= priceRange.getMaxPrice();
+    }
+}
@@ -5,11 +5,16 @@ import lombok.RequiredArgsConstructor;
 import org.kakaoshare.backend.domain.order.repository.OrderRepository;
 import org.kakaoshare.backend.common.vo.PriceRange;
 import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.service.PopularityRanking;
+
 @RequiredArgsConstructor
-public class WishRankStrategy implements RankStrategy{
+public class WishRankStrategy implements RankStrategy {
     private final OrderRepository orderRepository;
+    private final PopularityRanking popularityRanking;
+
     @Override
     public List<RankResponse> findProducts(TargetType targetType, PriceRange priceRange, int limit) {
-        return orderRepository.findProductsByWish(targetType, priceRange.getMinPrice(), priceRange.getMaxPrice(), limit);
+        return popularityRanking.findTop(RankType.MANY_WISH, targetType, priceRange, limit)
+                .orElseGet(() -> orderRepository.findProductsByWish(targetType, priceRange.getMinPrice(), priceRange.getMaxPrice(), limit));
     }
 }
@@ -0,0 +1,4 @@
+package org.kakaoshare.backend.domain.rank.vo;
+
+public record PopularityDelta(long wishCount, long receiveCount) {
+}
@@ -0,0 +1,21 @@
+package org.kakaoshare.backend.domain.rank.vo;
+
+import org.kakaoshare.backend.domain.member.entity.Gender;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+
+import java.util.List;
+
+public record PopularityKey(Long productId, TargetType targetType) {
+    /**
+     * @return 전체 키와, 성별을 알면 그 성별의 키
+     */
+    public static List<PopularityKey> of(final Long productId, final Gender gender) {
+        if (gender == Gender.MALE) {
+            return List.of(new PopularityKey(productId, TargetType.ALL), new PopularityKey(productId, TargetType.MALE));
+        }
+        if (gender == Gender.FEMALE) {
+            return List.of(new PopularityKey(productId, TargetType.ALL), new PopularityKey(productId, TargetType.FEMALE));
+        }
+        return List.of(new PopularityKey(productId, TargetType.ALL));
+    }
+}
@@ -0,0 +1,31 @@
+package org.kakaoshare.backend.domain.search.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.util.Collection;
+
+public record ProductSearchDocument(Long productId, String name, Long price, Long brandId, Long categoryId) {
+    @QueryProjection
+    public ProductSearchDocument(final Long productId,
+                                 final String name,
+                                 final Long price,
+                                 final Long brandId,
+                                 final Long categoryId) {
+        this.productId = productId;
+        this.name = name;
+        this.price = price;
+        this.brandId = brandId;
+        this.categoryId = categoryId;
+    }
+
+    public boolean isInCategories(final Collection<Long> categoryIds) {
+        return categoryIds == null || categoryIds.isEmpty() || categoryIds.contains(categoryId);
+    }
+
+    public boolean isInPriceRange(final Integer minPrice, final Integer maxPrice) {
+        if (minPrice != null && price < minPrice) {
+            return false;
+        }
+        return maxPrice == null || price <= maxPrice;
+    }
+}
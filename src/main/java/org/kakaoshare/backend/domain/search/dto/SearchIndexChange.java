@@ -0,0 +1,32 @@
+package org.kakaoshare.backend.domain.search.dto;
+
+/**
+ * 모든 노드의 검색 색인에 반영할 상품/브랜드 변경
+ *
+ * @param document 저장된 상품. 상품이 저장된 경우에만 있다
+ * @param name     저장된 브랜드명. 브랜드가 저장된 경우에만 있다
+ */
+public record SearchIndexChange(Type type, Long id, ProductSearchDocument document, String name) {
+    public static SearchIndexChange productSaved(final ProductSearchDocument document) {
+        return new SearchIndexChange(Type.PRODUCT_SAVED, document.productId(), document, null);
+    }
+
+    public static SearchIndexChange productRemoved(final Long productId) {
+        return new SearchIndexChange(Type.PRODUCT_REMOVED, productId, null, null);
+    }
+
+    public static SearchIndexChange brandSaved(final Long brandId, final String name) {
+        return new SearchIndexChange(Type.BRAND_SAVED, brandId, null, name);
+    }
+
+    public static SearchIndexChange brandRemoved(final Long brandId) {
+        return new SearchIndexChange(Type.BRAND_REMOVED, brandId, null, null);
+    }
+
+    public enum Type {
+        PRODUCT_SAVED,
+        PRODUCT_REMOVED,
+        BRAND_SAVED,
+        BRAND_REMOVED
+    }
+}
@@ -3,8 +3,10 @@ package org.kakaoshare.backend.domain.search.dto;
 import com.querydsl.core.annotations.QueryProjection;
 import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
 import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
 
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 public record SimpleBrandProductDto(SimpleBrandDto brand, List<Product4DisplayDto> products) {
     @QueryProjection
@@ -13,4 +15,21 @@ public record SimpleBrandProductDto(SimpleBrandDto brand, List<Product4DisplayDt
         this.brand = brand;
         this.products = products;
     }
+
+    public SimpleBrandProductDto withWished(final WishedProducts wishedProducts) {
+        final List<Product4DisplayDto> wishedMarked = products.stream()
+                .map(product -> product.withWished(wishedProducts.contains(product.getProductId())))
+                .toList();
+        return new SimpleBrandProductDto(brand, wishedMarked);
+    }
+
+    /**
+     * @param pendingWishCounts 상품 ID별 아직 DB에 반영되지 않은 위시 수 변경분
+     */
+    public SimpleBrandProductDto withPendingWishCounts(final ToLongFunction<Long> pendingWishCounts) {
+        final List<Product4DisplayDto> counted = products.stream()
+                .map(product -> product.withPendingWishCount(pendingWishCounts.applyAsLong(product.getProductId())))
+                .toList();
+        return new SimpleBrandProductDto(brand, counted);
+    }
 }
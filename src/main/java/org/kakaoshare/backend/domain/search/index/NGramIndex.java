@@ -0,0 +1,83 @@
+package org.kakaoshare.backend.domain.search.index;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ID별 문자열에 대한 n-gram 역색인
+ * gram 목록을 교집합한 후보를 정규화된 원문과 다시 비교하므로 결과는 정규화 기준의 부분 문자열 검색과 같다
+ */
+final class NGramIndex {
+    private final Map<Long, String> texts = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    void put(final Long id, final String text) {
+        final String normalized = NGramTokenizer.normalize(text);
+        final String previous = texts.put(id, normalized);
+        if (normalized.equals(previous)) {
+            return;
+        }
+
+        if (previous != null) {
+            removePostings(id, previous);
+        }
+        NGramTokenizer.grams(normalized)
+                .forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id));
+    }
+
+    void remove(final Long id) {
+        final String previous = texts.remove(id);
+        if (previous != null) {
+            removePostings(id, previous);
+        }
+    }
+
+    /**
+     * @return 검색어를 포함하는 ID 집합. 검색어가 너무 짧아 색인으로 찾을 수 없다면 {@link Optional#empty()}
+     */
+    Optional<Set<Long>> search(final String keyword) {
+        final String normalized = NGramTokenizer.normalize(keyword);
+        final Set<String> grams = NGramTokenizer.queryGrams(normalized);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final List<Set<Long>> candidates = grams.stream()
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        final Set<Long> matched = new HashSet<>();
+        for (final Long id : candidates.get(0)) {
+            if (containsAll(candidates, id) && texts.getOrDefault(id, "").contains(normalized)) {
+                matched.add(id);
+            }
+        }
+        return Optional.of(matched);
+    }
+
+    int size() {
+        return texts.size();
+    }
+
+    private boolean containsAll(final List<Set<Long>> candidates, final Long id) {
+        for (int i = 1; i < candidates.size(); i++) {
+            if (!candidates.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removePostings(final Long id, final String normalized) {
+        NGramTokenizer.grams(normalized).forEach(gram -> postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+}
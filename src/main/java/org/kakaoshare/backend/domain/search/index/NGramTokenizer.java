@@ -0,0 +1,60 @@
+package org.kakaoshare.backend.domain.search.index;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * 한글은 NFKC로 정규화해 자모가 분리되어 들어온 입력(NFD)도 완성형 음절로 맞춘 뒤 음절 단위로 자르고,
+ * 공백은 제거해 띄어쓰기와 관계없이 검색되도록 한다
+ */
+final class NGramTokenizer {
+    static final int MIN_GRAM = 2;
+    static final int MAX_GRAM = 3;
+
+    private NGramTokenizer() {
+
+    }
+
+    static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    /**
+     * @return 색인에 넣을 bigram, trigram
+     */
+    static Set<String> grams(final String normalized) {
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int size = MIN_GRAM; size <= MAX_GRAM; size++) {
+            grams.addAll(grams(normalized, size));
+        }
+        return grams;
+    }
+
+    /**
+     * @return 검색어로 조회할 gram. 세 글자 이상이면 더 선택적인 trigram만 사용하고, 한 글자 이하라면 비어있다
+     */
+    static Set<String> queryGrams(final String normalized) {
+        if (normalized.length() < MIN_GRAM) {
+            return Set.of();
+        }
+
+        return grams(normalized, Math.min(normalized.length(), MAX_GRAM));
+    }
+
+    private static Set<String> grams(final String normalized, final int size) {
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int start = 0; start + size <= normalized.length(); start++) {
+            grams.add(normalized.substring(start, start + size));
+        }
+        return grams;
+    }
+}
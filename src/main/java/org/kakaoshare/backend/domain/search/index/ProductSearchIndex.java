@@ -0,0 +1,147 @@
+package org.kakaoshare.backend.domain.search.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.brand.entity.Brand;
+import org.kakaoshare.backend.domain.brand.repository.BrandRepository;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.search.dto.ProductSearchDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품명, 브랜드명 n-gram 색인
+ * {@code LIKE '%keyword%'}는 인덱스를 사용할 수 없어 검색마다 상품 테이블 전체를 읽으므로,
+ * 색인으로 후보 ID를 찾고 가격 조건까지 걸러낸 뒤 {@code IN (...)} 한 번으로 조회하도록 한다
+ * <p>
+ * 애플리케이션이 뜬 뒤 비동기로 전체 상품을 읽어 만들고, 이후 변경은 {@link SearchIndexEntityListener}가 {@link SearchIndexSynchronizer}로 모든 노드에 반영한다
+ * 색인이 준비되지 않았거나 꺼져 있거나({@code search.index.enabled}), 검색어가 한 글자이거나 후보가 너무 많으면
+ * {@link Optional#empty()}를 반환하며 이때 호출하는 쪽은 기존 SQL 검색을 사용한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+    private static final int LOAD_CHUNK_SIZE = 1_000;
+    private static final int MAX_CANDIDATE_SIZE = 5_000;
+
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+    private final NGramIndex productNames = new NGramIndex();
+    private final NGramIndex brandNames = new NGramIndex();
+    private final Map<Long, ProductSearchDocument> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        final long startedAt = System.currentTimeMillis();
+        brandRepository.findAll().forEach(this::index);
+
+        Long lastProductId = 0L;
+        List<ProductSearchDocument> chunk;
+        do {
+            chunk = productRepository.findSearchDocuments(lastProductId, LOAD_CHUNK_SIZE);
+            chunk.forEach(this::index);
+            if (!chunk.isEmpty()) {
+                lastProductId = chunk.get(chunk.size() - 1).productId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        ready = true;
+        log.info("Product search index built. products: {}, brands: {}, elapsed: {}ms",
+                productNames.size(), brandNames.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    /**
+     * @param categoryIds 비어있으면 카테고리로 거르지 않는다
+     * @return 상품명에 검색어를 포함하고 가격 범위와 카테고리 안에 있는 상품 ID (오름차순)
+     */
+    public Optional<List<Long>> searchProductIds(final String keyword,
+                                                 final Integer minPrice,
+                                                 final Integer maxPrice,
+                                                 final List<Long> categoryIds) {
+        if (!isAvailable() || !StringUtils.hasText(keyword)) {
+            return Optional.empty();
+        }
+
+        return productNames.search(keyword)
+                .filter(productIds -> productIds.size() <= MAX_CANDIDATE_SIZE)
+                .map(productIds -> productIds.stream()
+                        .map(documents::get)
+                        .filter(Objects::nonNull)
+                        .filter(document -> document.isInPriceRange(minPrice, maxPrice))
+                        .filter(document -> document.isInCategories(categoryIds))
+                        .map(ProductSearchDocument::productId)
+                        .sorted()
+                        .toList());
+    }
+
+    /**
+     * @return 브랜드명 또는 소속 상품명에 검색어를 포함하는 브랜드 ID (오름차순)
+     */
+    public Optional<List<Long>> searchBrandIds(final String keyword) {
+        if (!isAvailable() || !StringUtils.hasText(keyword)) {
+            return Optional.empty();
+        }
+
+        final Optional<Set<Long>> productIds = productNames.search(keyword);
+        final Optional<Set<Long>> brandIds = brandNames.search(keyword);
+        if (productIds.isEmpty() || brandIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Set<Long> matched = new TreeSet<>(brandIds.get());
+        productIds.get()
+                .stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .forEach(document -> matched.add(document.brandId()));
+        return Optional.of(List.copyOf(matched));
+    }
+
+    public void index(final ProductSearchDocument document) {
+        documents.put(document.productId(), document);
+        productNames.put(document.productId(), document.name());
+    }
+
+    public void index(final Brand brand) {
+        indexBrand(brand.getBrandId(), brand.getName());
+    }
+
+    public void indexBrand(final Long brandId, final String name) {
+        brandNames.put(brandId, name);
+    }
+
+    public void removeProduct(final Long productId) {
+        documents.remove(productId);
+        productNames.remove(productId);
+    }
+
+    public void removeBrand(final Long brandId) {
+        brandNames.remove(brandId);
+    }
+}
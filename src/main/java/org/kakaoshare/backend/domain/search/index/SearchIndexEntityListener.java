@@ -0,0 +1,55 @@
+package org.kakaoshare.backend.domain.search.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.domain.brand.entity.Brand;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.search.dto.ProductSearchDocument;
+import org.kakaoshare.backend.domain.search.dto.SearchIndexChange;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 상품, 브랜드 변경을 {@link SearchIndexSynchronizer}로 모든 노드의 {@link ProductSearchIndex}에 반영하는 엔티티 리스너
+ * 롤백된 변경이 색인에 남지 않도록 트랜잭션 커밋 이후에 발행한다
+ * 색인 빈이 없는 환경(리포지토리 슬라이스 테스트 등)에서도 엔티티를 저장할 수 있도록 {@link ObjectProvider}로 주입받는다
+ * <p>
+ * 벌크 UPDATE는 이 리스너를 거치지 않으므로 색인하는 값(상품명, 가격, 브랜드, 카테고리, 브랜드명)은 벌크 UPDATE로 바꾸지 않는다
+ */
+@RequiredArgsConstructor
+public class SearchIndexEntityListener {
+    private final ObjectProvider<SearchIndexSynchronizer> searchIndexSynchronizer;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(final Object entity) {
+        if (entity instanceof Product product) {
+            final ProductSearchDocument document = new ProductSearchDocument(
+                    product.getProductId(),
+                    product.getName(),
+                    product.getPrice(),
+                    product.getBrand().getBrandId(),
+                    product.getCategory().getCategoryId()
+            );
+            publish(SearchIndexChange.productSaved(document));
+        }
+        if (entity instanceof Brand brand) {
+            publish(SearchIndexChange.brandSaved(brand.getBrandId(), brand.getName()));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(final Object entity) {
+        if (entity instanceof Product product) {
+            publish(SearchIndexChange.productRemoved(product.getProductId()));
+        }
+        if (entity instanceof Brand brand) {
+            publish(SearchIndexChange.brandRemoved(brand.getBrandId()));
+        }
+    }
+
+    private void publish(final SearchIndexChange change) {
+        searchIndexSynchronizer.ifAvailable(synchronizer -> synchronizer.publish(change));
+    }
+}
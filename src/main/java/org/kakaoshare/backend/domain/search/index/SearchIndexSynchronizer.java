@@ -0,0 +1,69 @@
+package org.kakaoshare.backend.domain.search.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.search.dto.SearchIndexChange;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 검색 색인은 노드마다 메모리에 있으므로, 상품/브랜드 변경을 {@link #CHANGE_CHANNEL}로 발행해 발행한 노드를 포함한 모든 노드의 {@link ProductSearchIndex}에 반영한다
+ * 롤백된 변경이 색인에 남지 않도록 커밋 이후에 발행하며, 발행하지 못하면 발행하려던 노드의 색인에만 반영한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexSynchronizer implements MessageListener {
+    private static final String CHANGE_CHANNEL = "search-index-change";
+
+    private final ProductSearchIndex productSearchIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    public void publish(final SearchIndexChange change) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, objectMapper.writeValueAsString(change));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("Failed to publish search index change. change: {}", change, e);
+                apply(change);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String json = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            apply(objectMapper.readValue(json, SearchIndexChange.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to apply search index change. message: {}", json, e);
+        }
+    }
+
+    private void apply(final SearchIndexChange change) {
+        switch (change.type()) {
+            case PRODUCT_SAVED -> productSearchIndex.index(change.document());
+            case PRODUCT_REMOVED -> productSearchIndex.removeProduct(change.id());
+            case BRAND_SAVED -> productSearchIndex.indexBrand(change.id(), change.name());
+            case BRAND_REMOVED -> productSearchIndex.removeBrand(change.id());
+        }
+    }
+}
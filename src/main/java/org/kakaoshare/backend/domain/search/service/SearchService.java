@@ -4,58 +4,87 @@ import lombok.RequiredArgsConstructor;
 import org.kakaoshare.backend.common.dto.PageResponse;
 import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
 import org.kakaoshare.backend.domain.brand.repository.BrandRepository;
+import org.kakaoshare.backend.domain.category.service.CategoryTreeCache;
 import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.product.service.WishCounter;
 import org.kakaoshare.backend.domain.search.dto.BrandSearchRequest;
 import org.kakaoshare.backend.domain.search.dto.ProductSearchRequest;
 import org.kakaoshare.backend.domain.search.dto.SimpleBrandProductDto;
-import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.kakaoshare.backend.domain.search.index.ProductSearchIndex;
+import org.kakaoshare.backend.domain.wish.service.WishedProductCache;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
 
-// TODO: 3/19/24 카테고리 필터링, 위시 여부는 아직 구현 X
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
 public class SearchService {
     private final BrandRepository brandRepository;
-    private final WishRepository wishRepository;
     private final ProductRepository productRepository;
+    private final WishedProductCache wishedProductCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final CategoryTreeCache categoryTreeCache;
+    private final WishCounter wishCounter;
 
     public PageResponse<?> searchProducts(final ProductSearchRequest productSearchRequest,
                                           final Pageable pageable,
                                           final String providerId) {
-        final Page<Product4DisplayDto> page = findProductsBySearchConditions(productSearchRequest, pageable,providerId);
-        return PageResponse.from(page);
+        final Page<Product4DisplayDto> page = findProductsBySearchConditions(productSearchRequest, pageable);
+        final WishedProducts wishedProducts = wishedProductCache.get(providerId);
+        return PageResponse.from(page.map(product -> product.withWished(wishedProducts.contains(product.getProductId()))
+                .withPendingWishCount(wishCounter.pendingOf(product.getProductId()))));
     }
 
     public List<SimpleBrandDto> searchBrands(final BrandSearchRequest brandSearchRequest,
                                              final Pageable pageable) {
         final String keyword = brandSearchRequest.keyword();
-        return brandRepository.findBySearchConditions(keyword, pageable);
+        return productSearchIndex.searchBrandIds(keyword)
+                .map(brandIds -> brandRepository.findAllSimpleBrandByIds(brandIds, pageable))
+                .orElseGet(() -> brandRepository.findBySearchConditions(keyword, pageable));
     }
 
     public PageResponse<?> searchProductGroupByBrand(final BrandSearchRequest brandSearchRequest,
                                                      final Pageable pageable,
                                                      final String providerId) {
         final String keyword = brandSearchRequest.keyword();
-        final Page<SimpleBrandProductDto> slice = productRepository.findBySearchConditionsGroupByBrand(keyword, pageable,providerId);
-        return PageResponse.from(slice);
+        final Page<SimpleBrandProductDto> slice = productRepository.findBySearchConditionsGroupByBrand(keyword, pageable);
+        final WishedProducts wishedProducts = wishedProductCache.get(providerId);
+        return PageResponse.from(slice.map(brandProducts -> brandProducts.withWished(wishedProducts)
+                .withPendingWishCounts(wishCounter::pendingOf)));
     }
 
     private Page<Product4DisplayDto> findProductsBySearchConditions(final ProductSearchRequest productSearchRequest,
-                                                                     final Pageable pageable,
-                                                                    final String providerId) {
+                                                                     final Pageable pageable) {
         final String keyword = productSearchRequest.keyword();
         final List<String> categories = productSearchRequest.categories();
         final Integer minPrice = productSearchRequest.minPrice();
         final Integer maxPrice = productSearchRequest.maxPrice();
-        return productRepository.findBySearchConditions(keyword, minPrice, maxPrice, categories, pageable,providerId);
+        final List<Long> categoryIds = findCategoryIds(categories);
+        if (categoryIds != null && categoryIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return productSearchIndex.searchProductIds(keyword, minPrice, maxPrice, categoryIds)
+                .map(productIds -> productRepository.findAllDisplayByProductIds(productIds, pageable))
+                .orElseGet(() -> productRepository.findBySearchConditions(keyword, minPrice, maxPrice, categoryIds, pageable));
+    }
+
+    /**
+     * @return 카테고리 이름과 그 하위 카테고리의 ID. 카테고리 조건이 없으면 null
+     */
+    private List<Long> findCategoryIds(final List<String> categories) {
+        if (CollectionUtils.isEmpty(categories)) {
+            return null;
+        }
+        return categoryTreeCache.get().descendantIdsOfNames(categories);
     }
 
     private boolean isLoggedIn(final String providerId) {
@@ -2,7 +2,10 @@ package org.kakaoshare.backend.domain.wish.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.kakaoshare.backend.common.dto.PageResponse;
+import org.kakaoshare.backend.common.dto.SliceResponse;
 import org.kakaoshare.backend.domain.wish.dto.FriendWishDetail;
+import org.kakaoshare.backend.domain.wish.dto.FriendWishFeedResponse;
+import org.kakaoshare.backend.domain.wish.dto.FriendsWishFeedRequest;
 import org.kakaoshare.backend.domain.wish.dto.FriendsWishRequest;
 import org.kakaoshare.backend.domain.wish.service.WishService;
 import org.kakaoshare.backend.jwt.util.LoggedInMember;
@@ -32,6 +35,13 @@ public class WishController {
         return ResponseEntity.ok(wishList);
     }
     
+    @GetMapping("/me/slice")
+    public ResponseEntity<?> getWishSlice(@LoggedInMember String providerId,
+                                          @PageableDefault(size = PAGE_DEFAULT_SIZE) Pageable pageable) {
+        SliceResponse<?> wishList = wishService.getMembersWishSlice(pageable, providerId);
+        return ResponseEntity.ok(wishList);
+    }
+    
     @PostMapping("/{wishId}/change-type")
     public ResponseEntity<?> changeWishType(@LoggedInMember String providerId,
                                             @PathVariable(name = "wishId") Long wishId) {
@@ -45,4 +55,11 @@ public class WishController {
         List<FriendWishDetail> membersWishList = wishService.getFriendsWishList(providerId,friendsWishRequest);
         return ResponseEntity.ok(membersWishList);
     }
+    
+    @PostMapping("/friends/feed")
+    public ResponseEntity<?> getFriendsWishFeed(@LoggedInMember String providerId,
+                                                @RequestBody FriendsWishFeedRequest friendsWishFeedRequest) {
+        List<FriendWishFeedResponse> feed = wishService.getFriendsWishFeed(providerId, friendsWishFeedRequest);
+        return ResponseEntity.ok(feed);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.kakaoshare.backend.domain.wish.dto;
+
+import java.util.List;
+
+public record FriendsWishFeedRequest(List<String> friendsProviderIds, String kakaoAccessToken) {
+}
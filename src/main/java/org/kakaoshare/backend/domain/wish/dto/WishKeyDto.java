@@ -0,0 +1,9 @@
+package org.kakaoshare.backend.domain.wish.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record WishKeyDto(Long wishId, Long memberId, Long productId) {
+    @QueryProjection
+    public WishKeyDto {
+    }
+}
@@ -2,6 +2,7 @@ package org.kakaoshare.backend.domain.wish.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.kakaoshare.backend.common.util.TotalCountEntityListener;
 import org.kakaoshare.backend.domain.base.entity.BaseTimeEntity;
 import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.product.dto.WishType;
@@ -9,9 +10,11 @@ import org.kakaoshare.backend.domain.product.entity.Product;
 
 
 @Entity
+@EntityListeners(TotalCountEntityListener.class)
 @Getter
 @Table(
-        indexes = {@Index(name = "idx_wish_product_id", columnList = "product_id", unique = true)}
+        indexes = {@Index(name = "idx_wish_product_id", columnList = "product_id")},
+        uniqueConstraints = {@UniqueConstraint(name = "idx_wish_member_id_product_id", columnNames = {"member_id", "product_id"})}
 )
 @Builder
 @NoArgsConstructor
@@ -11,7 +11,8 @@ public enum WishErrorCode implements ErrorCode {
     DUPLICATED_WISH(HttpStatus.INTERNAL_SERVER_ERROR, "Duplicated wish reservation detected"),
     NOT_FOUND(HttpStatus.NOT_FOUND, "There's no product in wish list like that"),
     SAVING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Saving wish failed"),
-    REMOVING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Removing wish failed");
+    REMOVING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Removing wish failed"),
+    TOO_MANY_FRIENDS(HttpStatus.BAD_REQUEST, "Too many friends requested at once");
     private final HttpStatus httpStatus;
     private final String message;
 
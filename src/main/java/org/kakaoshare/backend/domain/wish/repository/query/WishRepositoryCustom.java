@@ -1,16 +1,24 @@
 package org.kakaoshare.backend.domain.wish.repository.query;
 
 import org.kakaoshare.backend.domain.member.entity.Member;
-import org.kakaoshare.backend.domain.wish.dto.FriendWishDetail;
 import org.kakaoshare.backend.domain.wish.dto.MyWishDetail;
+import org.kakaoshare.backend.domain.wish.dto.WishDetail;
+import org.kakaoshare.backend.domain.wish.dto.WishKeyDto;
 import org.kakaoshare.backend.domain.wish.entity.Wish;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface WishRepositoryCustom {
     Page<MyWishDetail> findWishDetailsByProviderId(final Pageable pageable, final String providerId);
-    List<FriendWishDetail> findWishDetailsByFriendProviderId(final String providerId, final String friendsProviderId);
+    Slice<MyWishDetail> findWishDetailSliceByProviderId(final Pageable pageable, final String providerId);
+    Map<String, List<WishDetail>> findPublicWishDetailsByFriendProviderIds(final Collection<String> friendsProviderIds, final int limit);
     boolean isContainInWishList(Wish wish, Member member, Long productId);
+    List<Long> findProductIdsByProviderId(final String providerId);
+    List<Wish> findAllByMembersAndProductIds(final Collection<Member> members, final Collection<Long> productIds);
+    List<WishKeyDto> findWishKeys(final Long lastWishId, final int size);
 }
\ No newline at end of file
@@ -1,25 +1,34 @@
 package org.kakaoshare.backend.domain.wish.repository.query;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.common.util.TotalCountCache;
 import org.kakaoshare.backend.domain.member.entity.Member;
-import org.kakaoshare.backend.domain.wish.dto.FriendWishDetail;
 import org.kakaoshare.backend.domain.wish.dto.MyWishDetail;
-import org.kakaoshare.backend.domain.wish.dto.QFriendWishDetail;
 import org.kakaoshare.backend.domain.wish.dto.QMyWishDetail;
 import org.kakaoshare.backend.domain.wish.dto.QWishDetail;
+import org.kakaoshare.backend.domain.wish.dto.QWishKeyDto;
+import org.kakaoshare.backend.domain.wish.dto.WishDetail;
+import org.kakaoshare.backend.domain.wish.dto.WishKeyDto;
 import org.kakaoshare.backend.domain.wish.entity.QWish;
 import org.kakaoshare.backend.domain.wish.entity.Wish;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import static org.kakaoshare.backend.common.util.RepositoryUtils.toPage;
+import static org.kakaoshare.backend.common.util.RepositoryUtils.toCachedPage;
+import static org.kakaoshare.backend.common.util.RepositoryUtils.toSlice;
 import static org.kakaoshare.backend.domain.member.entity.QMember.member;
 import static org.kakaoshare.backend.domain.product.entity.QProduct.product;
 import static org.kakaoshare.backend.domain.wish.entity.QWish.wish;
@@ -27,8 +36,38 @@ import static org.kakaoshare.backend.domain.wish.entity.QWish.wish;
 @Repository
 @RequiredArgsConstructor
 public class WishRepositoryCustomImpl implements WishRepositoryCustom {
-    private static final int FRIEND_WISH_LIMIT = 10;
+    private static final String FRIEND_WISH_FEED_QUERY = """
+            select ranked.friendsProviderId as friendsProviderId,
+                   ranked.wishId as wishId,
+                   ranked.productId as productId,
+                   ranked.productName as productName,
+                   ranked.productPrice as productPrice,
+                   ranked.productPhoto as productPhoto,
+                   ranked.brandName as brandName,
+                   ranked.wishCount as wishCount
+            from (
+                select m.providerId as friendsProviderId,
+                       w.wishId as wishId,
+                       p.productId as productId,
+                       p.name as productName,
+                       p.price as productPrice,
+                       p.photo as productPhoto,
+                       p.brandName as brandName,
+                       p.wishCount as wishCount,
+                       row_number() over (partition by m.memberId order by p.wishCount desc, w.wishId desc) as ranking
+                from Wish w
+                join w.member m
+                join w.product p
+                where m.providerId in :friendsProviderIds
+                  and w.isPublic = true
+            ) ranked
+            where ranked.ranking <= :limit
+            order by ranked.friendsProviderId, ranked.ranking
+            """;
+    
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final TotalCountCache totalCountCache;
     
     @Override
     public Page<MyWishDetail> findWishDetailsByProviderId(final Pageable pageable,
@@ -39,7 +78,20 @@ public class WishRepositoryCustomImpl implements WishRepositoryCustom {
                 .on(wish.member.providerId.eq(providerId))
                 .join(wish.product, product);
         
-        JPAQuery<MyWishDetail> contentQuery = queryFactory
+        JPAQuery<MyWishDetail> contentQuery = createWishDetailQuery(providerId)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+        return toCachedPage(pageable, contentQuery, countQuery, totalCountCache);
+    }
+    
+    @Override
+    public Slice<MyWishDetail> findWishDetailSliceByProviderId(final Pageable pageable,
+                                                               final String providerId) {
+        return toSlice(pageable, createWishDetailQuery(providerId));
+    }
+    
+    private JPAQuery<MyWishDetail> createWishDetailQuery(final String providerId) {
+        return queryFactory
                 .select(
                         new QMyWishDetail(wish.isPublic,
                                 new QWishDetail(
@@ -54,48 +106,38 @@ public class WishRepositoryCustomImpl implements WishRepositoryCustom {
                 .join(wish.member, member)
                 .on(wish.member.providerId.eq(providerId))
                 .join(wish.product, product)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-        return toPage(pageable, contentQuery, countQuery);
-    }
-    
-    private static BooleanExpression isInMyWishList(final String providerId, final QWish myWish, final QWish friendWish) {
-        return JPAExpressions.selectOne()
-                .from(myWish)
-                .where(myWish.member.providerId.eq(providerId)
-                        .and(myWish.product.eq(friendWish.product)))
-                .exists();
+                .orderBy(wish.wishId.desc());
     }
     
+    /**
+     * 친구별로 위시 수가 많은 공개 위시를 limit개씩 한 번에 조회한다
+     * 친구마다 LIMIT 쿼리를 보내지 않도록 ROW_NUMBER() 윈도 함수로 순위를 매기며, QueryDSL JPA는 FROM 절 서브쿼리를 지원하지 않아 HQL로 작성한다
+     *
+     * @return 친구 providerId별 위시 상세. 조회한 순서(위시 수 내림차순)를 유지한다
+     */
     @Override
-    public List<FriendWishDetail> findWishDetailsByFriendProviderId(final String providerId,
-                                                                    final String friendsProviderId) {
-        QWish friendWish = new QWish("friendWish");
-        QWish myWish = new QWish("myWish");
+    public Map<String, List<WishDetail>> findPublicWishDetailsByFriendProviderIds(final Collection<String> friendsProviderIds,
+                                                                                 final int limit) {
+        if (friendsProviderIds.isEmpty()) {
+            return Map.of();
+        }
         
-        return queryFactory
-                .select(
-                        new QFriendWishDetail(
-                                new QWishDetail(
-                                        friendWish.wishId,
-                                        product.productId,
-                                        product.name,
-                                        product.price,
-                                        product.photo,
-                                        product.brandName,
-                                        product.wishCount
-                                ),
-                                isInMyWishList(providerId, myWish, friendWish)
-                        ))
-                .from(friendWish)
-                .join(friendWish.member, member)
-                .on(member.providerId.eq(friendsProviderId)
-                        .and(friendWish.isPublic.isTrue()))
-                .join(friendWish.product, product)
-                //TODO 2024 05 27 20:04:17 : 친구 위시리스트 조회시 정렬 조건 구체화 후 논의
-                .orderBy(friendWish.product.wishCount.desc())
-                .limit(FRIEND_WISH_LIMIT)
-                .fetch();
+        final List<Tuple> rows = entityManager.createQuery(FRIEND_WISH_FEED_QUERY, Tuple.class)
+                .setParameter("friendsProviderIds", friendsProviderIds)
+                .setParameter("limit", (long) limit)
+                .getResultList();
+        final Map<String, List<WishDetail>> wishDetails = new LinkedHashMap<>();
+        rows.forEach(row -> wishDetails.computeIfAbsent(row.get("friendsProviderId", String.class), key -> new ArrayList<>())
+                .add(new WishDetail(
+                        row.get("wishId", Long.class),
+                        row.get("productId", Long.class),
+                        row.get("productName", String.class),
+                        row.get("productPrice", Long.class),
+                        row.get("productPhoto", String.class),
+                        row.get("brandName", String.class),
+                        row.get("wishCount", Integer.class)
+                )));
+        return wishDetails;
     }
     
     @Override
@@ -111,4 +153,44 @@ public class WishRepositoryCustomImpl implements WishRepositoryCustom {
         
         return count != null && count > 0;
     }
-}
\ No newline at end of file
+    
+    @Override
+    public List<Long> findProductIdsByProviderId(final String providerId) {
+        return queryFactory
+                .select(wish.product.productId)
+                .from(wish)
+                .join(wish.member, member)
+                .where(member.providerId.eq(providerId))
+                .fetch();
+    }
+    
+    /**
+     * 회원과 상품의 모든 조합 중 위시된 것을 한 번에 조회한다. 결과에는 묶음에 없는 조합도 섞일 수 있다
+     */
+    @Override
+    public List<Wish> findAllByMembersAndProductIds(final Collection<Member> members,
+                                                    final Collection<Long> productIds) {
+        if (members.isEmpty() || productIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(wish)
+                .where(wish.member.in(members),
+                        wish.product.productId.in(productIds))
+                .fetch();
+    }
+    
+    @Override
+    public List<WishKeyDto> findWishKeys(final Long lastWishId, final int size) {
+        return queryFactory
+                .select(new QWishKeyDto(
+                        wish.wishId,
+                        wish.member.memberId,
+                        wish.product.productId))
+                .from(wish)
+                .where(wish.wishId.gt(lastWishId))
+                .orderBy(wish.wishId.asc())
+                .limit(size)
+                .fetch();
+    }
+}
@@ -0,0 +1,253 @@
+package org.kakaoshare.backend.domain.wish.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.common.util.TotalCountCache;
+import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.kakaoshare.backend.domain.product.dto.WishEvent;
+import org.kakaoshare.backend.domain.product.service.WishCounter;
+import org.kakaoshare.backend.domain.rank.service.PopularityRanking;
+import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+import org.kakaoshare.backend.domain.wish.entity.Wish;
+import org.kakaoshare.backend.domain.wish.error.WishErrorCode;
+import org.kakaoshare.backend.domain.wish.error.exception.WishException;
+import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.kakaoshare.backend.domain.wish.service.WishExistenceFilter.MemberProduct;
+import org.kakaoshare.backend.domain.wish.vo.WishChanges;
+import org.kakaoshare.backend.domain.wish.vo.WishChanges.WishKey;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * {@link WishEventQueue}가 꺼낸 위시 추가/취소 이벤트 묶음을 한 트랜잭션으로 반영한다
+ * 회원과 기존 위시는 묶음마다 IN 쿼리 한 번씩으로 조회하고, (회원, 상품)별로 합친 {@link WishChanges}만 DB에 쓴다
+ * 기존 위시는 {@link WishExistenceFilter}가 있을 수 있다고 답한 조합만 조회하며, 다시 시도할 때는 필터를 거치지 않는다
+ * <p>
+ * 저장/삭제에 실패하면 묶음 전체를 한 번 더 시도하고, 그래도 실패하면 (회원, 상품)별로 나눠 각자의 트랜잭션으로 반영한다.
+ * 한 행 때문에 묶음의 모든 이벤트를 버리지 않도록, 나눠서도 실패한 (회원, 상품)의 이벤트만큼만 위시 수를 되돌린다
+ * 인기 랭킹과 위시 상품 캐시는 반영한 트랜잭션이 커밋된 뒤에만 갱신한다
+ */
+@Slf4j
+@Component
+public class WishEventBatchHandler {
+    private final WishRepository wishRepository;
+    private final MemberRepository memberRepository;
+    private final WishedProductCache wishedProductCache;
+    private final WishCounter wishCounter;
+    private final WishExistenceFilter wishExistenceFilter;
+    private final PopularityRanking popularityRanking;
+    private final TotalCountCache totalCountCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public WishEventBatchHandler(final WishRepository wishRepository,
+                                 final MemberRepository memberRepository,
+                                 final WishedProductCache wishedProductCache,
+                                 final WishCounter wishCounter,
+                                 final WishExistenceFilter wishExistenceFilter,
+                                 final PopularityRanking popularityRanking,
+                                 final TotalCountCache totalCountCache,
+                                 final PlatformTransactionManager transactionManager) {
+        this.wishRepository = wishRepository;
+        this.memberRepository = memberRepository;
+        this.wishedProductCache = wishedProductCache;
+        this.wishCounter = wishCounter;
+        this.wishExistenceFilter = wishExistenceFilter;
+        this.popularityRanking = popularityRanking;
+        this.totalCountCache = totalCountCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return 반영된 변경. 중복 추가 이벤트의 위시 수는 호출한 쪽에서 커밋 이후에 되돌린다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Retryable(
+            retryFor = WishException.class,
+            maxAttempts = 2,
+            backoff = @Backoff(delay = 5000),
+            recover = "recover"
+    )
+    public WishChanges handle(final List<WishEvent> events) {
+        return apply(events, isRetrying());
+    }
+
+    /**
+     * 묶음을 (회원, 상품)별로 나눠 하나씩 반영하고, 반영하지 못한 (회원, 상품)의 이벤트만큼만 위시 수를 되돌린다
+     * 어느 행 때문에 실패했는지 모르므로 기존 위시는 필터를 거치지 않고 DB로 확인한다
+     */
+    @Recover
+    public WishChanges recover(final RuntimeException e, final List<WishEvent> events) {
+        log.error("wish batch failed. applying by wish. size: {}, message: {}", events.size(), e.getMessage());
+        final Map<WishKey, List<WishEvent>> eventsByKey = events.stream()
+                .collect(Collectors.groupingBy(WishKey::from, LinkedHashMap::new, Collectors.toList()));
+        WishChanges changes = WishChanges.empty();
+        for (List<WishEvent> keyEvents : eventsByKey.values()) {
+            try {
+                changes = changes.merge(transactionTemplate.execute(status -> apply(keyEvents, true)));
+            } catch (RuntimeException keyException) {
+                log.error("wish events dropped. key: {}, size: {}, message: {}", WishKey.from(keyEvents.get(0)), keyEvents.size(), keyException.getMessage());
+                keyEvents.forEach(this::revertCount);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * @param checkAll 필터를 거치지 않고 모든 (회원, 상품)의 기존 위시를 DB로 확인할지
+     */
+    private WishChanges apply(final List<WishEvent> events, final boolean checkAll) {
+        final Map<String, Member> members = findMembers(events);
+        final List<WishEvent> resolved = events.stream()
+                .filter(event -> isResolved(event, members))
+                .toList();
+        if (resolved.isEmpty()) {
+            return WishChanges.empty();
+        }
+
+        final Map<WishKey, Wish> existing = findExistingWishes(members, resolved, checkAll);
+        final WishChanges changes = WishChanges.of(resolved, existing.keySet());
+        try {
+            deleteWishes(changes, existing);
+            changes.getReplaces().forEach((key, event) -> existing.get(key).checkIsPublic(event.getType()));
+            wishExistenceFilter.add(changes.getInserts()
+                    .keySet()
+                    .stream()
+                    .map(key -> memberProductOf(key, members))
+                    .toList());
+            saveWishes(changes, members);
+            wishRepository.flush();
+        } catch (RuntimeException e) {
+            throw new WishException(WishErrorCode.SAVING_FAILED);
+        }
+        afterCommit(() -> {
+            changes.getInserts().keySet().forEach(key -> popularityRanking.increaseWish(key.productId(), members.get(key.providerId()).getGender()));
+            changes.getDeletes().forEach(key -> popularityRanking.decreaseWish(key.productId(), members.get(key.providerId()).getGender()));
+            changes.getProviderIds().forEach(wishedProductCache::evict);
+        });
+        return changes;
+    }
+
+    private void revertCount(final WishEvent event) {
+        if (event instanceof WishReservationEvent) {
+            wishCounter.decrease(event.getProduct().getProductId());
+        } else {
+            wishCounter.increase(event.getProduct().getProductId());
+        }
+    }
+
+    private Map<String, Member> findMembers(final List<WishEvent> events) {
+        final List<String> providerIds = events.stream()
+                .map(WishEvent::getProviderId)
+                .distinct()
+                .toList();
+        return memberRepository.findByProviderIds(providerIds)
+                .stream()
+                .collect(Collectors.toMap(Member::getProviderId, Function.identity()));
+    }
+
+    /**
+     * 회원이 없는 이벤트는 다시 시도해도 반영할 수 없으므로 위시 수를 되돌리지 않고 버린다
+     */
+    private boolean isResolved(final WishEvent event, final Map<String, Member> members) {
+        if (members.containsKey(event.getProviderId())) {
+            return true;
+        }
+        log.error("wish event dropped. member not found: {}", event.getProviderId());
+        return false;
+    }
+
+    private Map<WishKey, Wish> findExistingWishes(final Map<String, Member> members,
+                                                  final List<WishEvent> events,
+                                                  final boolean checkAll) {
+        final Set<MemberProduct> candidates = events.stream()
+                .map(event -> memberProductOf(WishKey.from(event), members))
+                .collect(Collectors.toSet());
+        final Set<MemberProduct> possiblyWished = checkAll ? candidates : wishExistenceFilter.filterPossiblyWished(candidates);
+        if (possiblyWished.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<Long, Member> membersById = members.values()
+                .stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+        final List<Member> candidateMembers = possiblyWished.stream()
+                .map(MemberProduct::memberId)
+                .distinct()
+                .map(membersById::get)
+                .toList();
+        final List<Long> productIds = possiblyWished.stream()
+                .map(MemberProduct::productId)
+                .distinct()
+                .toList();
+        return wishRepository.findAllByMembersAndProductIds(candidateMembers, productIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        wish -> new WishKey(membersById.get(wish.getMember().getMemberId()).getProviderId(), wish.getProduct().getProductId()),
+                        Function.identity(),
+                        (first, second) -> first
+                ));
+    }
+
+    private static MemberProduct memberProductOf(final WishKey key, final Map<String, Member> members) {
+        return new MemberProduct(members.get(key.providerId()).getMemberId(), key.productId());
+    }
+
+    /**
+     * 필터에 비트를 남기지 못한 채 다른 노드가 저장해 유니크 인덱스에 막혔을 수 있으므로 다시 시도할 때는 DB로 확인한다
+     */
+    private static boolean isRetrying() {
+        final RetryContext context = RetrySynchronizationManager.getContext();
+        return context != null && context.getRetryCount() > 0;
+    }
+
+    /**
+     * 벌크 DELETE는 엔티티 리스너를 거치지 않으므로 커밋 이후에 위시 count 결과를 직접 비운다
+     */
+    private void deleteWishes(final WishChanges changes, final Map<WishKey, Wish> existing) {
+        final List<Long> wishIds = changes.getDeletes()
+                .stream()
+                .map(key -> existing.get(key).getWishId())
+                .toList();
+        if (!wishIds.isEmpty()) {
+            wishRepository.deleteAllByIdInBatch(wishIds);
+            afterCommit(() -> totalCountCache.evict(Wish.class));
+        }
+    }
+
+    private void saveWishes(final WishChanges changes, final Map<String, Member> members) {
+        final List<Wish> wishes = changes.getInserts()
+                .entrySet()
+                .stream()
+                .map(insert -> createWish(insert.getValue(), members.get(insert.getKey().providerId())))
+                .toList();
+        wishRepository.saveAll(wishes);
+    }
+
+    private Wish createWish(final WishReservationEvent event, final Member member) {
+        final Wish wish = Wish.builder()
+                .member(member)
+                .product(event.getProduct())
+                .build();
+        wish.checkIsPublic(event.getType());
+        return wish;
+    }
+}
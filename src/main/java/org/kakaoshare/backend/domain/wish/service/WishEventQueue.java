@@ -0,0 +1,109 @@
+package org.kakaoshare.backend.domain.wish.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.product.dto.WishCancelEvent;
+import org.kakaoshare.backend.domain.product.dto.WishEvent;
+import org.kakaoshare.backend.domain.product.service.WishCounter;
+import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+import org.kakaoshare.backend.domain.wish.vo.WishChanges;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 위시 추가/취소 이벤트 대기열
+ * 이벤트마다 비동기 작업과 트랜잭션을 만들지 않고, 대기열에 쌓인 이벤트를 {@link #MAX_BATCH_SIZE}개씩 꺼내
+ * {@link WishEventBatchHandler}로 한 번에 반영한다. 이벤트는 하나의 스레드가 순서대로 꺼내므로 같은 (회원, 상품)의 추가/취소 순서가 유지된다
+ * <p>
+ * 대기열이 가득 차면 이벤트를 발행한 스레드가 직접 반영해 유입 속도를 늦추며, 이때는 대기열에 남은 이벤트와의 순서가 보장되지 않는다.
+ * 대기열 길이, 묶음 반영 시간, 대기열을 거치지 못한 이벤트 수를 메트릭으로 내보낸다
+ */
+@Slf4j
+@Component
+public class WishEventQueue {
+    private static final int CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long DRAIN_DELAY_MILLIS = 200;
+
+    private final WishEventBatchHandler wishEventBatchHandler;
+    private final WishCounter wishCounter;
+    private final BlockingQueue<WishEvent> queue = new LinkedBlockingQueue<>(CAPACITY);
+    private final Timer flushTimer;
+    private final Counter rejectedCounter;
+
+    public WishEventQueue(final WishEventBatchHandler wishEventBatchHandler,
+                          final WishCounter wishCounter,
+                          final MeterRegistry meterRegistry) {
+        this.wishEventBatchHandler = wishEventBatchHandler;
+        this.wishCounter = wishCounter;
+        Gauge.builder("wish.event.queue.depth", queue, BlockingQueue::size)
+                .description("Wish events waiting to be flushed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("wish.event.flush")
+                .description("Time taken to flush a batch of wish events")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("wish.event.rejected")
+                .description("Wish events flushed by the publisher because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void handleWishReservation(final WishReservationEvent event) {
+        enqueue(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void handleWishCancel(final WishCancelEvent event) {
+        enqueue(event);
+    }
+
+    /**
+     * 대기열이 빌 때까지 묶음 단위로 반영한다
+     */
+    @PreDestroy
+    @Scheduled(fixedDelay = DRAIN_DELAY_MILLIS)
+    public void drain() {
+        List<WishEvent> batch = poll();
+        while (!batch.isEmpty()) {
+            flush(batch);
+            batch = poll();
+        }
+    }
+
+    private void enqueue(final WishEvent event) {
+        if (queue.offer(event)) {
+            return;
+        }
+        rejectedCounter.increment();
+        flush(List.of(event));
+    }
+
+    private List<WishEvent> poll() {
+        final List<WishEvent> batch = new ArrayList<>(Math.min(queue.size(), MAX_BATCH_SIZE));
+        queue.drainTo(batch, MAX_BATCH_SIZE);
+        return batch;
+    }
+
+    private void flush(final List<WishEvent> batch) {
+        try {
+            final WishChanges changes = flushTimer.record(() -> wishEventBatchHandler.handle(batch));
+            changes.getDuplicates().forEach(event -> {
+                log.error("wish reservation failed: duplicated wish. providerId: {}", event.getProviderId());
+                wishCounter.decrease(event.getProduct().getProductId());
+            });
+        } catch (RuntimeException e) {
+            log.error("wish batch flush failed. size: {}", batch.size(), e);
+        }
+    }
+}
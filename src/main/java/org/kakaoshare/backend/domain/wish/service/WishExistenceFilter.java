@@ -0,0 +1,171 @@
+package org.kakaoshare.backend.domain.wish.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kakaoshare.backend.domain.wish.dto.WishKeyDto;
+import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * (회원, 상품) 위시 존재 여부 블룸 필터
+ * 모든 노드가 같은 필터를 보도록 Redis 비트맵에 두며, 필터가 없다고 답한 조합은 위시 테이블을 조회하지 않는다.
+ * 있다고 답한 조합만 DB에서 확인하고, 마지막 방어선은 (member_id, product_id) 유니크 인덱스이다
+ * <p>
+ * 애플리케이션이 뜬 뒤 한 노드가 위시 테이블 전체로 비트를 채우고 {@link #READY_KEY}를 남긴다. 채워지기 전이거나 Redis를 사용할 수 없으면 모든 조합이 있을 수 있다고 답한다.
+ * 블룸 필터는 비트를 지울 수 없으므로 삭제된 위시는 비트가 남아 DB 조회로 이어질 뿐 결과는 달라지지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishExistenceFilter {
+    private static final byte[] BITS_KEY = "wish:filter:bits".getBytes(StandardCharsets.UTF_8);
+    private static final String READY_KEY = "wish:filter:ready";
+    private static final String SEEDING_KEY = "wish:filter:seeding";
+    private static final Duration SEEDING_TIMEOUT = Duration.ofMinutes(10);
+    private static final int SEED_CHUNK_SIZE = 1_000;
+    // 위시 100만 건에서 오탐률 약 0.05% (2MB)
+    private static final long BIT_SIZE = 1L << 24;
+    private static final int HASH_COUNT = 7;
+
+    private final WishRepository wishRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))
+                    || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(SEEDING_KEY, "seeding", SEEDING_TIMEOUT))) {
+                return;
+            }
+
+            final long startedAt = System.currentTimeMillis();
+            long count = 0;
+            Long lastWishId = 0L;
+            List<WishKeyDto> chunk;
+            do {
+                chunk = wishRepository.findWishKeys(lastWishId, SEED_CHUNK_SIZE);
+                add(chunk.stream()
+                        .map(wish -> new MemberProduct(wish.memberId(), wish.productId()))
+                        .toList());
+                count += chunk.size();
+                if (!chunk.isEmpty()) {
+                    lastWishId = chunk.get(chunk.size() - 1).wishId();
+                }
+            } while (chunk.size() == SEED_CHUNK_SIZE);
+
+            stringRedisTemplate.opsForValue().set(READY_KEY, String.valueOf(count));
+            log.info("Wish existence filter seeded. wishes: {}, elapsed: {}ms", count, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("Failed to seed wish existence filter.", e);
+            stringRedisTemplate.delete(SEEDING_KEY);
+        }
+    }
+
+    /**
+     * @return 위시되어 있을 수 있는 조합. 나머지는 위시되어 있지 않음이 확실하다
+     */
+    public Set<MemberProduct> filterPossiblyWished(final Collection<MemberProduct> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        final List<MemberProduct> ordered = List.copyOf(new LinkedHashSet<>(keys));
+        final List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().exists(READY_KEY.getBytes(StandardCharsets.UTF_8));
+                ordered.forEach(key -> getBits(connection, key));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to read wish existence filter.", e);
+            return Set.copyOf(ordered);
+        }
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            return Set.copyOf(ordered);
+        }
+
+        final Set<MemberProduct> possiblyWished = new LinkedHashSet<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (allSet(results, 1 + i * HASH_COUNT)) {
+                possiblyWished.add(ordered.get(i));
+            }
+        }
+        return possiblyWished;
+    }
+
+    /**
+     * 저장하기 전에 호출해 저장 직후의 조회가 필터에 막히지 않도록 한다. 저장이 롤백되어도 오탐만 늘어난다
+     */
+    public void add(final Collection<MemberProduct> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                keys.forEach(key -> {
+                    for (long offset : offsetsOf(key)) {
+                        connection.stringCommands().setBit(BITS_KEY, offset, true);
+                    }
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to write wish existence filter. size: {}", keys.size(), e);
+        }
+    }
+
+    private static void getBits(final RedisConnection connection, final MemberProduct key) {
+        for (long offset : offsetsOf(key)) {
+            connection.stringCommands().getBit(BITS_KEY, offset);
+        }
+    }
+
+    private static boolean allSet(final List<Object> results, final int from) {
+        for (int i = from; i < from + HASH_COUNT; i++) {
+            if (!Boolean.TRUE.equals(results.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 모든 노드가 같은 비트를 보도록 JVM과 무관한 64비트 해시 하나를 둘로 나눠 이중 해싱한다
+     */
+    static long[] offsetsOf(final MemberProduct key) {
+        final long hash = mix(mix(key.memberId()) ^ key.productId());
+        final long first = hash & 0xFFFFFFFFL;
+        final long second = hash >>> 32 | 1;
+        final long[] offsets = new long[HASH_COUNT];
+        for (int i = 0; i < HASH_COUNT; i++) {
+            offsets[i] = Math.floorMod(first + i * second, BIT_SIZE);
+        }
+        return offsets;
+    }
+
+    private static long mix(final long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public record MemberProduct(Long memberId, Long productId) {
+    }
+}
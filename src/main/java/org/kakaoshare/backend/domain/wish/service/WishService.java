@@ -3,106 +3,47 @@ package org.kakaoshare.backend.domain.wish.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kakaoshare.backend.common.dto.PageResponse;
+import org.kakaoshare.backend.common.dto.SliceResponse;
 import org.kakaoshare.backend.common.util.sort.error.SortErrorCode;
 import org.kakaoshare.backend.common.util.sort.error.exception.NoMorePageException;
-import org.kakaoshare.backend.domain.friend.service.KakaoFriendService;
-import org.kakaoshare.backend.domain.member.dto.oauth.profile.detail.KakaoFriendListDto;
+import org.kakaoshare.backend.domain.friend.service.FriendListCache;
 import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.member.exception.MemberErrorCode;
 import org.kakaoshare.backend.domain.member.exception.MemberException;
 import org.kakaoshare.backend.domain.member.repository.MemberRepository;
-import org.kakaoshare.backend.domain.product.dto.WishCancelEvent;
-import org.kakaoshare.backend.domain.product.dto.WishEvent;
-import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.wish.dto.FriendWishDetail;
+import org.kakaoshare.backend.domain.wish.dto.FriendWishFeedResponse;
+import org.kakaoshare.backend.domain.wish.dto.FriendsWishFeedRequest;
 import org.kakaoshare.backend.domain.wish.dto.FriendsWishRequest;
 import org.kakaoshare.backend.domain.wish.dto.MyWishDetail;
-import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+import org.kakaoshare.backend.domain.wish.dto.WishDetail;
 import org.kakaoshare.backend.domain.wish.entity.Wish;
 import org.kakaoshare.backend.domain.wish.error.WishErrorCode;
 import org.kakaoshare.backend.domain.wish.error.exception.WishException;
 import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class WishService {
+    private static final int FRIEND_WISH_LIMIT = 10;
+    private static final int MAX_FEED_FRIEND_SIZE = 50;
+    
     private final WishRepository wishRepository;
     private final MemberRepository memberRepository;
-    private final KakaoFriendService kakaoFriendService;
-    
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)//TODO 2024 04 11 18:57:19 : 성능 저하 가능성 있음
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
-    @Retryable(
-            retryFor = WishException.class,
-            maxAttempts = 2,
-            backoff = @Backoff(delay = 5000),
-            recover = "recoverReservation",
-            notRecoverable = MemberException.class
-    )
-    public void handleWishReservation(WishReservationEvent event) {
-        Member member = getMember(event.getProviderId());
-        Wish wish = createWish(event, member);
-        wish.checkIsPublic(event.getType());
-        
-        if (wishRepository.isContainInWishList(wish, member, event.getProduct().getProductId())) {
-            throw new WishException(WishErrorCode.SAVING_FAILED);
-        }
-        try {
-            wishRepository.save(wish);
-        } catch (RuntimeException e) {
-            throw new WishException(WishErrorCode.SAVING_FAILED);
-        }
-    }
-    
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
-    @Retryable(
-            retryFor = WishException.class,
-            maxAttempts = 2,
-            backoff = @Backoff(delay = 5000),
-            recover = "recoverCancel",
-            notRecoverable = MemberException.class
-    )
-    public void handleWishCancel(WishCancelEvent event) {
-        final Member member = getMember(event.getProviderId());
-        final Product product = event.getProduct();
-        
-        try {
-            wishRepository.deleteByMemberAndProduct(member, product);
-        } catch (RuntimeException e) {
-            throw new WishException(WishErrorCode.REMOVING_FAILED);
-        }
-    }
-    
-    @Recover
-    public void recoverReservation(RuntimeException e, WishReservationEvent event) {
-        log.error("wish reservation failed: {}", e.getMessage());
-        event.getProduct().decreaseWishCount();
-    }
-    
-    @Recover
-    public void recoverCancel(RuntimeException e, WishCancelEvent event) {
-        log.error("wish cancel failed: {}", e.getMessage());
-        event.getProduct().increaseWishCount();
-    }
-    
+    private final FriendListCache friendListCache;
+    private final WishedProductCache wishedProductCache;
     
     public Member getMember(final String providerId) {
         return memberRepository.findMemberByProviderId(providerId)
@@ -118,28 +59,65 @@ public class WishService {
         return PageResponse.from(myWishDetails);
     }
     
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 알려 주는 내 위시 목록
+     */
+    public SliceResponse<?> getMembersWishSlice(final Pageable pageable,
+                                                final String providerId) {
+        Slice<MyWishDetail> myWishDetails = wishRepository.findWishDetailSliceByProviderId(pageable, providerId);
+        if (myWishDetails.isEmpty()) {
+            throw new NoMorePageException(SortErrorCode.NO_MORE_PAGE);
+        }
+        return SliceResponse.from(myWishDetails);
+    }
+    
     
     public List<FriendWishDetail> getFriendsWishList(final String providerId, final FriendsWishRequest friendsWishRequest) {
-        checkIsFriend(friendsWishRequest);
-        return wishRepository.findWishDetailsByFriendProviderId(providerId, friendsWishRequest.friendsProviderId());
+        final String friendsProviderId = friendsWishRequest.friendsProviderId();
+        checkIsFriend(providerId, friendsWishRequest.kakaoAccessToken(), List.of(friendsProviderId));
+        return findFriendWishDetails(providerId, List.of(friendsProviderId))
+                .get(0)
+                .wishes();
     }
     
-    private void checkIsFriend(final FriendsWishRequest friendsWishRequest) {
-        List<KakaoFriendListDto> friends = kakaoFriendService.getFriendsList(friendsWishRequest.kakaoAccessToken());
-        boolean isFriend = friends.stream()
-                .anyMatch(kakaoFriendListDto -> kakaoFriendListDto
-                        .getId()
-                        .equals(friendsWishRequest.friendsProviderId()));
-        if (!isFriend) {
-            throw new MemberException(MemberErrorCode.NO_SUCH_RELATIONSHIP);
+    /**
+     * 여러 친구의 공개 위시를 친구별로 {@link #FRIEND_WISH_LIMIT}개씩 한 번의 쿼리로 조회한다
+     * 내 위시 여부는 친구 위시마다 서브쿼리로 확인하지 않고 {@link WishedProductCache}의 내 위시 상품 집합으로 채운다
+     */
+    public List<FriendWishFeedResponse> getFriendsWishFeed(final String providerId, final FriendsWishFeedRequest friendsWishFeedRequest) {
+        final List<String> friendsProviderIds = Optional.ofNullable(friendsWishFeedRequest.friendsProviderIds())
+                .orElseGet(List::of)
+                .stream()
+                .distinct()
+                .toList();
+        if (friendsProviderIds.size() > MAX_FEED_FRIEND_SIZE) {
+            throw new WishException(WishErrorCode.TOO_MANY_FRIENDS);
+        }
+        if (friendsProviderIds.isEmpty()) {
+            return List.of();
         }
+        checkIsFriend(providerId, friendsWishFeedRequest.kakaoAccessToken(), friendsProviderIds);
+        return findFriendWishDetails(providerId, friendsProviderIds);
+    }
+    
+    private List<FriendWishFeedResponse> findFriendWishDetails(final String providerId, final List<String> friendsProviderIds) {
+        final Map<String, List<WishDetail>> wishDetails = wishRepository.findPublicWishDetailsByFriendProviderIds(friendsProviderIds, FRIEND_WISH_LIMIT);
+        final WishedProducts myWishes = wishedProductCache.get(providerId);
+        return friendsProviderIds.stream()
+                .map(friendsProviderId -> new FriendWishFeedResponse(
+                        friendsProviderId,
+                        wishDetails.getOrDefault(friendsProviderId, List.of())
+                                .stream()
+                                .map(wishDetail -> new FriendWishDetail(wishDetail, myWishes.contains(wishDetail.getProductId())))
+                                .toList()
+                ))
+                .toList();
     }
     
-    private Wish createWish(final WishEvent event, final Member member) {
-        return Wish.builder()
-                .member(member)
-                .product(event.getProduct())
-                .build();
+    private void checkIsFriend(final String providerId, final String kakaoAccessToken, final List<String> friendsProviderIds) {
+        if (!friendListCache.containsAll(providerId, kakaoAccessToken, friendsProviderIds)) {
+            throw new MemberException(MemberErrorCode.NO_SUCH_RELATIONSHIP);
+        }
     }
     
     @Transactional
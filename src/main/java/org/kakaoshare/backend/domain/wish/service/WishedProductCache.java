@@ -0,0 +1,62 @@
+package org.kakaoshare.backend.domain.wish.service;
+
+import lombok.RequiredArgsConstructor;
+import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 회원별 위시 상품 ID 집합 캐시
+ * 상품 목록마다 위시 여부를 상관 서브쿼리로 확인하지 않도록 회원의 위시 상품 ID를 한 번만 조회해 보관한다
+ * 위시 추가/취소가 반영되면 {@link WishEventBatchHandler}가 해당 회원의 캐시를 비우고,
+ * 다른 노드에서 반영된 변경은 {@link #TTL} 이내에 다시 로딩된다
+ */
+@Component
+@RequiredArgsConstructor
+public class WishedProductCache {
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final WishRepository wishRepository;
+    private final Map<String, CachedWishes> cache = Collections.synchronizedMap(new LinkedHashMap<String, CachedWishes>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedWishes> eldest) {
+            return size() > MAX_SIZE;
+        }
+    });
+
+    public WishedProducts get(final String providerId) {
+        if (providerId == null) {
+            return WishedProducts.empty();
+        }
+
+        final CachedWishes cached = cache.get(providerId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.wishedProducts();
+        }
+
+        final WishedProducts wishedProducts = WishedProducts.from(wishRepository.findProductIdsByProviderId(providerId));
+        cache.put(providerId, new CachedWishes(wishedProducts, System.nanoTime()));
+        return wishedProducts;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 캐시를 비워 커밋 전 상태가 다시 캐싱되지 않도록 한다
+     */
+    public void evict(final String providerId) {
+        afterCommit(() -> cache.remove(providerId));
+    }
+
+    private record CachedWishes(WishedProducts wishedProducts, long loadedAt) {
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TTL.toNanos();
+        }
+    }
+}
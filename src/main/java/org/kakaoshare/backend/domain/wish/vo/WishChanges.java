@@ -0,0 +1,152 @@
+package org.kakaoshare.backend.domain.wish.vo;
+
+import org.kakaoshare.backend.domain.product.dto.WishCancelEvent;
+import org.kakaoshare.backend.domain.product.dto.WishEvent;
+import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 위시 추가/취소 이벤트 묶음을 (회원, 상품)별로 합친 결과
+ * 이벤트를 순서대로 하나씩 반영했을 때와 같은 최종 상태가 되도록, 이미 위시된 (회원, 상품) 목록에서 출발해 이벤트를 차례로 적용한다.
+ * 묶음 안에서 추가 후 취소된 위시는 DB에 쓰지 않고, 이미 위시된 상품에 대한 추가는 중복으로 따로 모은다
+ *
+ * @see org.kakaoshare.backend.domain.wish.service.WishEventBatchHandler
+ */
+public final class WishChanges {
+    private final Map<WishKey, WishReservationEvent> inserts;
+    private final Set<WishKey> deletes;
+    private final Map<WishKey, WishReservationEvent> replaces;
+    private final List<WishReservationEvent> duplicates;
+    private final Set<String> providerIds;
+
+    private WishChanges(final Map<WishKey, WishReservationEvent> inserts,
+                        final Set<WishKey> deletes,
+                        final Map<WishKey, WishReservationEvent> replaces,
+                        final List<WishReservationEvent> duplicates,
+                        final Set<String> providerIds) {
+        this.inserts = inserts;
+        this.deletes = deletes;
+        this.replaces = replaces;
+        this.duplicates = duplicates;
+        this.providerIds = providerIds;
+    }
+
+    public static WishChanges empty() {
+        return new WishChanges(Map.of(), Set.of(), Map.of(), List.of(), Set.of());
+    }
+
+    /**
+     * @param events   발생 순서대로 정렬된 이벤트
+     * @param existing 이벤트 반영 전에 이미 위시된 (회원, 상품)
+     */
+    public static WishChanges of(final List<? extends WishEvent> events, final Collection<WishKey> existing) {
+        final Map<WishKey, State> states = new LinkedHashMap<>();
+        final List<WishReservationEvent> duplicates = new ArrayList<>();
+        final Set<String> providerIds = new HashSet<>();
+        for (WishEvent event : events) {
+            final WishKey key = WishKey.from(event);
+            final State state = states.computeIfAbsent(key, k -> State.initial(existing.contains(k)));
+            providerIds.add(event.getProviderId());
+            if (event instanceof WishReservationEvent reservation) {
+                if (state.wished) {
+                    duplicates.add(reservation);
+                    continue;
+                }
+                state.wished = true;
+                state.lastReservation = reservation;
+            } else if (event instanceof WishCancelEvent) {
+                state.wished = false;
+                state.lastReservation = null;
+            }
+        }
+
+        final Map<WishKey, WishReservationEvent> inserts = new LinkedHashMap<>();
+        final Set<WishKey> deletes = new HashSet<>();
+        final Map<WishKey, WishReservationEvent> replaces = new LinkedHashMap<>();
+        states.forEach((key, state) -> {
+            if (!state.existed && state.wished) {
+                inserts.put(key, state.lastReservation);
+            } else if (state.existed && !state.wished) {
+                deletes.add(key);
+            } else if (state.existed && state.lastReservation != null) {
+                replaces.put(key, state.lastReservation);
+            }
+        });
+        return new WishChanges(inserts, deletes, replaces, duplicates, providerIds);
+    }
+
+    /**
+     * 서로 다른 (회원, 상품)을 반영한 두 결과를 합친다
+     */
+    public WishChanges merge(final WishChanges other) {
+        final Map<WishKey, WishReservationEvent> mergedInserts = new LinkedHashMap<>(inserts);
+        mergedInserts.putAll(other.inserts);
+        final Set<WishKey> mergedDeletes = new HashSet<>(deletes);
+        mergedDeletes.addAll(other.deletes);
+        final Map<WishKey, WishReservationEvent> mergedReplaces = new LinkedHashMap<>(replaces);
+        mergedReplaces.putAll(other.replaces);
+        final List<WishReservationEvent> mergedDuplicates = new ArrayList<>(duplicates);
+        mergedDuplicates.addAll(other.duplicates);
+        final Set<String> mergedProviderIds = new HashSet<>(providerIds);
+        mergedProviderIds.addAll(other.providerIds);
+        return new WishChanges(mergedInserts, mergedDeletes, mergedReplaces, mergedDuplicates, mergedProviderIds);
+    }
+
+    /**
+     * @return 새로 저장할 위시와 그 위시를 만든 마지막 추가 이벤트
+     */
+    public Map<WishKey, WishReservationEvent> getInserts() {
+        return Collections.unmodifiableMap(inserts);
+    }
+
+    public Set<WishKey> getDeletes() {
+        return Collections.unmodifiableSet(deletes);
+    }
+
+    /**
+     * @return 취소 후 다시 추가되어 공개 여부만 바꿀 기존 위시
+     */
+    public Map<WishKey, WishReservationEvent> getReplaces() {
+        return Collections.unmodifiableMap(replaces);
+    }
+
+    /**
+     * @return 이미 위시된 상품에 대한 추가 이벤트. 하나씩 반영할 때 저장에 실패하던 이벤트이다
+     */
+    public List<WishReservationEvent> getDuplicates() {
+        return Collections.unmodifiableList(duplicates);
+    }
+
+    public Set<String> getProviderIds() {
+        return Collections.unmodifiableSet(providerIds);
+    }
+
+    public record WishKey(String providerId, Long productId) {
+        public static WishKey from(final WishEvent event) {
+            return new WishKey(event.getProviderId(), event.getProduct().getProductId());
+        }
+    }
+
+    private static final class State {
+        private final boolean existed;
+        private boolean wished;
+        private WishReservationEvent lastReservation;
+
+        private State(final boolean existed) {
+            this.existed = existed;
+            this.wished = existed;
+        }
+
+        static State initial(final boolean existed) {
+            return new State(existed);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.kakaoshare.backend.domain.wish.vo;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 회원이 위시한 상품 ID 집합
+ * 정렬된 long 배열로 보관하며 포함 여부는 이진 탐색으로 확인한다
+ */
+public final class WishedProducts {
+    private static final WishedProducts EMPTY = new WishedProducts(new long[0]);
+
+    private final long[] productIds;
+
+    private WishedProducts(final long[] productIds) {
+        this.productIds = productIds;
+    }
+
+    public static WishedProducts from(final Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        final long[] sortedIds = productIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new WishedProducts(sortedIds);
+    }
+
+    public static WishedProducts empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(final Long productId) {
+        if (productId == null) {
+            return false;
+        }
+
+        return Arrays.binarySearch(productIds, productId) >= 0;
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+}
@@ -0,0 +1,9 @@
+DELETE duplicated
+FROM wish duplicated
+         JOIN wish kept
+              ON duplicated.member_id = kept.member_id
+                  AND duplicated.product_id = kept.product_id
+                  AND duplicated.wish_id > kept.wish_id;
+
+ALTER TABLE wish
+    ADD UNIQUE INDEX `idx_wish_member_id_product_id` (`member_id`, `product_id`);
@@ -0,0 +1,14 @@
+CREATE TABLE product_popularity (
+                                    product_popularity_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                    product_id BIGINT NOT NULL,
+                                    target_type VARCHAR(10) NOT NULL,
+                                    price BIGINT NOT NULL,
+                                    wish_count BIGINT NOT NULL,
+                                    receive_count BIGINT NOT NULL
+);
+
+ALTER TABLE product_popularity
+    ADD UNIQUE INDEX `idx_product_popularity_product_id_target_type` (`product_id`, `target_type`);
+
+CREATE INDEX idx_product_popularity_target_type_wish_count ON product_popularity(target_type, wish_count);
+CREATE INDEX idx_product_popularity_target_type_receive_count ON product_popularity(target_type, receive_count);
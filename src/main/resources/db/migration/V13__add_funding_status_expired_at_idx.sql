@@ -0,0 +1,2 @@
+ALTER TABLE funding
+    ADD INDEX `idx_funding_status_expired_at` (status, expired_at);
@@ -0,0 +1,8 @@
+ALTER TABLE product_popularity
+    DROP COLUMN price;
+
+DROP INDEX idx_product_popularity_target_type_wish_count ON product_popularity;
+DROP INDEX idx_product_popularity_target_type_receive_count ON product_popularity;
+
+CREATE INDEX idx_product_popularity_target_type_wish_count ON product_popularity(target_type, wish_count, product_id);
+CREATE INDEX idx_product_popularity_target_type_receive_count ON product_popularity(target_type, receive_count, product_id);
@@ -1,5 +1,6 @@
 package org.kakaoshare.backend.common;
 
+import org.kakaoshare.backend.common.util.TotalCountCache;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
@@ -20,7 +21,7 @@ import java.lang.annotation.Target;
 @Documented
 @Inherited
 @DataJpaTest(showSql = false, includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = Repository.class))
-@Import(value = {TestQueryDslConfig.class, TestJpaAuditingConfig.class})
+@Import(value = {TestQueryDslConfig.class, TestJpaAuditingConfig.class, TotalCountCache.class})
 @ActiveProfiles("test")
 @PropertySource("classpath:/application-test.yml")
 public @interface RepositoryTest {
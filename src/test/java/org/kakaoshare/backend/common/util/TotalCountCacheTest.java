@@ -0,0 +1,41 @@
+package org.kakaoshare.backend.common.util;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.wish.entity.Wish;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kakaoshare.backend.domain.member.entity.QMember.member;
+import static org.kakaoshare.backend.domain.wish.entity.QWish.wish;
+
+class TotalCountCacheTest {
+    private final TotalCountCache totalCountCache = new TotalCountCache();
+
+    @Test
+    @DisplayName("같은 count 쿼리는 한 번만 세고, 쿼리가 FROM/JOIN 하는 엔티티가 바뀌면 다시 센다")
+    void evict() {
+        final JPAQuery<Long> countQuery = new JPAQuery<>()
+                .select(wish.count())
+                .from(wish)
+                .join(wish.member, member);
+        final AtomicLong counts = new AtomicLong();
+
+        totalCountCache.get(countQuery, counts::incrementAndGet);
+        totalCountCache.get(countQuery, counts::incrementAndGet);
+        totalCountCache.evict(Product.class);
+        totalCountCache.get(countQuery, counts::incrementAndGet);
+        assertThat(counts).hasValue(1);
+
+        totalCountCache.evict(Member.class);
+        totalCountCache.get(countQuery, counts::incrementAndGet);
+        totalCountCache.evict(Wish.class);
+        final long total = totalCountCache.get(countQuery, counts::incrementAndGet);
+
+        assertThat(total).isEqualTo(3);
+    }
+}
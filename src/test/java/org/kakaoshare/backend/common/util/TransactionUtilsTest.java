@@ -0,0 +1,39 @@
+package org.kakaoshare.backend.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kakaoshare.backend.common.util.TransactionUtils.afterCommit;
+
+class TransactionUtilsTest {
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋 이후 작업 안에서 등록한 작업은 미루지 않고 바로 실행한다")
+    void afterCommitInAfterCommit() {
+        final List<String> executed = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        afterCommit(() -> {
+            executed.add("outer");
+            afterCommit(() -> executed.add("inner"));
+        });
+        assertThat(executed).isEmpty();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        assertThat(executed).containsExactly("outer", "inner");
+    }
+}
@@ -0,0 +1,49 @@
+package org.kakaoshare.backend.common.util.sort;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.common.util.sort.error.exception.InvalidCursorException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.Direction.DESC, "WISH_COUNT");
+
+    @Test
+    @DisplayName("정렬 키 값이 null인 커서도 다시 읽을 수 있다")
+    void encodeNullValue() {
+        final Cursor cursor = Cursor.decode(Cursor.encode(pageable, null, 3L), pageable);
+
+        assertThat(cursor.isFirst()).isFalse();
+        assertThat(cursor.getLastId()).isEqualTo(3L);
+        assertThat(cursor.getLastValue()).isNull();
+    }
+
+    @Test
+    @DisplayName("\"null\"이라는 문자열 값은 null과 구분한다")
+    void encodeNullString() {
+        final Pageable byName = PageRequest.of(0, 20, Sort.Direction.ASC, "PRODUCT_NAME");
+
+        final Cursor cursor = Cursor.decode(Cursor.encode(byName, "null", 3L), byName);
+
+        assertThat(cursor.getLastValue()).isEqualTo("null");
+    }
+
+    @Test
+    @DisplayName("정렬 키 값의 표시가 없는 커서는 받지 않는다")
+    void decodeWithoutValuePrefix() {
+        final String encoded = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString("WISH_COUNTDESC:3:null".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> Cursor.decode(encoded, pageable))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -1,10 +1,13 @@
 package org.kakaoshare.backend.domain.brand.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.kakaoshare.backend.common.RepositoryTest;
 import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
+import org.kakaoshare.backend.domain.category.repository.CategoryRepository;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,13 +23,26 @@ class BrandRepositoryTest {
     @Autowired
     private BrandRepository brandRepository;
     
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
     @Autowired
     JPAQueryFactory queryFactory;
+    
+    private CategoryTree categoryTree;
+    
+    @BeforeEach
+    void setUp() {
+        categoryTree = CategoryTree.of(
+                categoryRepository.findAllCategoryNodes(),
+                categoryRepository.countProductGroupByCategoryIdAndBrandId()
+        );
+    }
 
     @Test
     @DisplayName("자식 카테고리 id를 통해 브랜드 목록 조회")
     void findAllSimpleBrandByChildCategoryId() {
-        List<SimpleBrandDto> simpleBrandDtosByChild = brandRepository.findAllSimpleBrandByCategoryId(CHILD_ID);
+        List<SimpleBrandDto> simpleBrandDtosByChild = findAllSimpleBrandByCategoryId(CHILD_ID);
         assertThat(simpleBrandDtosByChild.size()).isEqualTo(1);
         assertThat(simpleBrandDtosByChild)
                 .isSortedAccordingTo((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()));
@@ -35,9 +51,17 @@ class BrandRepositoryTest {
     @Test
     @DisplayName("부모 카테고리 id를 통해 자식 카테고리들이 가진 브랜드 목록 조회")
     void findAllSimpleBrandByParentCategoryId() {
-        List<SimpleBrandDto> simpleBrandDtosByParent = brandRepository.findAllSimpleBrandByCategoryId(PARENT_ID);
+        List<SimpleBrandDto> simpleBrandDtosByParent = findAllSimpleBrandByCategoryId(PARENT_ID);
         assertThat(simpleBrandDtosByParent.size()).isEqualTo(50);
         assertThat(simpleBrandDtosByParent)
                 .isSortedAccordingTo((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()));
     }
-}
\ No newline at end of file
+    
+    private List<SimpleBrandDto> findAllSimpleBrandByCategoryId(final Long categoryId) {
+        List<Long> brandIds = categoryTree.find(categoryId).orElseThrow().brandIds();
+        return brandRepository.findAllSimpleBrands()
+                .stream()
+                .filter(brand -> brandIds.contains(brand.getBrandId()))
+                .toList();
+    }
+}
@@ -0,0 +1,52 @@
+package org.kakaoshare.backend.domain.brand.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+import org.kakaoshare.backend.domain.category.service.CategoryTreeCache;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BrandServiceTest {
+    @InjectMocks
+    BrandService brandService;
+    @Mock
+    CategoryTreeCache categoryTreeCache;
+    @Mock
+    BrandIconCache brandIconCache;
+    
+    @Test
+    @DisplayName("카테고리의 브랜드 목록은 하위 카테고리의 브랜드까지 포함한다")
+    void getSimpleBrandPage() {
+        CategoryTree categoryTree = CategoryTree.of(
+                List.of(new CategoryNodeDto(1L, "음료", null), new CategoryNodeDto(2L, "커피", 1L)),
+                Map.of(2L, Map.of(10L, 3L, 11L, 1L))
+        );
+        List<SimpleBrandDto> brands = List.of(new SimpleBrandDto(10L, "스타벅스", "icon"), new SimpleBrandDto(11L, "이디야", "icon"));
+        given(categoryTreeCache.get()).willReturn(categoryTree);
+        given(brandIconCache.findAll(List.of(10L, 11L))).willReturn(brands);
+        
+        assertThat(brandService.getSimpleBrandPage(1L)).isEqualTo(brands);
+    }
+    
+    @Test
+    @DisplayName("알 수 없는 카테고리의 브랜드 목록은 비어 있다")
+    void getSimpleBrandPageOfUnknownCategory() {
+        given(categoryTreeCache.get()).willReturn(CategoryTree.empty());
+        
+        assertThat(brandService.getSimpleBrandPage(1L)).isEmpty();
+        verifyNoInteractions(brandIconCache);
+    }
+}
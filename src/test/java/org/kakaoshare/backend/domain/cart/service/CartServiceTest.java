@@ -17,10 +17,13 @@ import org.kakaoshare.backend.domain.cart.entity.Cart;
 import org.kakaoshare.backend.domain.cart.repository.CartRepository;
 import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.kakaoshare.backend.domain.option.dto.OptionDetailRowDto;
 import org.kakaoshare.backend.domain.option.entity.Option;
 import org.kakaoshare.backend.domain.option.entity.OptionDetail;
 import org.kakaoshare.backend.domain.option.repository.OptionDetailRepository;
 import org.kakaoshare.backend.domain.option.repository.OptionRepository;
+import org.kakaoshare.backend.domain.option.service.OptionCatalog;
+import org.kakaoshare.backend.domain.option.vo.ProductOptions;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
 import org.kakaoshare.backend.fixture.MemberFixture;
@@ -47,6 +50,8 @@ public class CartServiceTest {
     private OptionRepository optionRepository;
     @Mock
     private OptionDetailRepository optionDetailRepository;
+    @Mock
+    private OptionCatalog optionCatalog;
     @Captor
     private ArgumentCaptor<Cart> cartCaptor;
 
@@ -64,9 +69,9 @@ public class CartServiceTest {
 
         when(memberRepository.findMemberByProviderId(member.getProviderId())).thenReturn(Optional.of(member));
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(optionRepository.findByProductId(productId)).thenReturn(List.of(defaultOption)); // 기본 옵션 설정
-        when(optionDetailRepository.findByOptionId(defaultOption.getOptionsId())).thenReturn(
-                List.of(defaultOptionDetail)); // 기본 옵션 상세 설정
+        when(optionCatalog.get(productId)).thenReturn(productOptionsOf(productId, defaultOptionDetail)); // 기본 옵션 설정
+        when(optionRepository.getReferenceById(defaultOption.getOptionsId())).thenReturn(defaultOption);
+        when(optionDetailRepository.getReferenceById(defaultOptionDetail.getOptionDetailId())).thenReturn(defaultOptionDetail); // 기본 옵션 상세 설정
         when(cartRepository.findByMemberIdAndProductId(member.getMemberId(), productId)).thenReturn(Optional.empty());
 
         CartRegisterRequest request = CartRegisterRequest.builder()
@@ -99,8 +104,9 @@ public class CartServiceTest {
 
         when(memberRepository.findMemberByProviderId(member.getProviderId())).thenReturn(Optional.of(member));
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(optionRepository.findById(optionId)).thenReturn(Optional.of(defaultOption));
-        when(optionDetailRepository.findById(optionDetailId)).thenReturn(Optional.of(defaultOptionDetail));
+        when(optionCatalog.get(productId)).thenReturn(productOptionsOf(productId, defaultOptionDetail));
+        when(optionRepository.getReferenceById(optionId)).thenReturn(defaultOption);
+        when(optionDetailRepository.getReferenceById(optionDetailId)).thenReturn(defaultOptionDetail);
         when(cartRepository.findByMemberIdAndProductId(member.getMemberId(), productId)).thenReturn(Optional.empty());
 
         CartRegisterRequest request = CartRegisterRequest.builder()
@@ -119,6 +125,29 @@ public class CartServiceTest {
         assertNotNull(response);
     }
 
+    @Test
+    @DisplayName("카트 아이템 등록 - 다른 상품의 옵션 상세를 선택하면 예외 발생")
+    void registerItemWithOptionOfOtherProduct() {
+        Long productId = 1L;
+        Member member = MemberFixture.KAKAO.생성();
+        Product product = ProductFixture.TEST_PRODUCT.생성(1L);
+        Option defaultOption = new Option(1L, "Default Option", product);
+        OptionDetail defaultOptionDetail = new OptionDetail(1L, "Default Detail", 10, 1000L, null, defaultOption);
+
+        when(memberRepository.findMemberByProviderId(member.getProviderId())).thenReturn(Optional.of(member));
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(optionCatalog.get(productId)).thenReturn(productOptionsOf(productId, defaultOptionDetail));
+
+        CartRegisterRequest request = CartRegisterRequest.builder()
+                .productId(productId)
+                .optionId(1L)
+                .optionDetailId(2L)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> cartService.registerItem(request, member.getProviderId()));
+        verify(cartRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("옵션이 없는 장바구니 아이템 조회")
     void getCartItems() {
@@ -238,4 +267,17 @@ public class CartServiceTest {
         verify(cartRepository).save(cart);
         assertFalse(cart.isSelected());
     }
+
+    private ProductOptions productOptionsOf(Long productId, OptionDetail optionDetail) {
+        Option option = optionDetail.getOption();
+        return ProductOptions.of(productId, List.of(new OptionDetailRowDto(
+                productId,
+                option.getOptionsId(),
+                option.getName(),
+                optionDetail.getOptionDetailId(),
+                optionDetail.getName(),
+                optionDetail.getAdditionalPrice(),
+                optionDetail.getPhoto()
+        )));
+    }
 }
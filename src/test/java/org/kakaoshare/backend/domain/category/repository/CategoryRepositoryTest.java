@@ -6,6 +6,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.kakaoshare.backend.common.RepositoryTest;
 import org.kakaoshare.backend.domain.category.entity.Category;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.StopWatch;
 
@@ -123,6 +124,21 @@ class CategoryRepositoryTest {
         assertThat(productCount).isEqualTo(2000);
     }
     
+    @ParameterizedTest
+    @ValueSource(longs = {1,2,3,4,5})
+    @DisplayName("카테고리 트리 스냅샷의 브랜드 수, 상품 수는 부모 카테고리 집계 쿼리와 같다")
+    void testCategoryTreeCounts(Long id) {
+        CategoryTree tree = CategoryTree.of(
+                categoryRepository.findAllCategoryNodes(),
+                categoryRepository.countProductGroupByCategoryIdAndBrandId()
+        );
+        
+        assertThat(tree.find(id)).hasValueSatisfying(node -> {
+            assertThat(node.productCount()).isEqualTo(categoryRepository.countProduct(id));
+            assertThat(node.brandCount()).isEqualTo(categoryRepository.countBrand(id));
+        });
+    }
+    
     private List<Category> getParentCategories() {// 부모 카테고리만 반환
         return categoryRepository.findAll().stream()
                 .filter(category ->Objects.isNull(category.getParent()))
@@ -1,11 +1,15 @@
 package org.kakaoshare.backend.domain.category.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kakaoshare.backend.domain.category.dto.CategoryDto;
-import org.kakaoshare.backend.domain.category.entity.Category;
-import org.kakaoshare.backend.domain.category.repository.CategoryRepository;
+import org.kakaoshare.backend.domain.category.dto.CategoryHeaderResponse;
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+import org.kakaoshare.backend.domain.category.error.exception.CategoryException;
+import org.kakaoshare.backend.domain.category.vo.CategoryNavigation;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -13,10 +17,11 @@ import org.springframework.util.StopWatch;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,8 +31,12 @@ class CategoryServiceTest {
     @InjectMocks
     CategoryService categoryService;
     @Mock
-    CategoryRepository categoryRepository;
+    CategoryTreeCache categoryTreeCache;
     
+    @BeforeEach
+    void setUp() {
+        given(categoryTreeCache.getNavigation()).willReturn(CategoryNavigation.from(mockTree()));
+    }
     
     @Test
     @DisplayName("카테고리는 계층간 연관이 명확해야한다.")
@@ -39,10 +48,11 @@ class CategoryServiceTest {
         stopWatch.stop();
         System.out.println(stopWatch.prettyPrint());
         
+        assertThat(categoryDtos).hasSize(5);
         for (CategoryDto parentDto : categoryDtos) {
             assertThat(parentDto).isNotNull();
             assertThat(parentDto.getCategoryName()).isNotNull();
-            assertThat(parentDto.getParentId()).isEqualTo(-1);
+            assertThat(parentDto.getParentId()).isNull();
             assertThat(parentDto.getSubCategories()).isNotEmpty().hasSize(5);
             assertThat(parentDto.getLevel()).isEqualTo(1);
             parentDto.getSubCategories().forEach(childDto -> {
@@ -56,31 +66,15 @@ class CategoryServiceTest {
     @Test
     @DisplayName("부모 카테고리는 자신의 부모 ID를 가지고 있지 않다")
     void testParentCategory() {
-        // given
-        Category parent = getParent();
-        parent.getChildren().addAll(mockChildren(parent));
-        given(categoryRepository.findParentCategoryWithChildren(PARENT_ID)).willReturn(Optional.of(parent));
-        
-        
         CategoryDto category = categoryService.getParentCategory(PARENT_ID);
         assertThat(category).isNotNull();
         assertThat(category.getParentId()).isNull();
         assertThat(category.getLevel()).isEqualTo(1);
     }
     
-    private static Category getParent() {
-        return Category.builder()
-                .categoryId(PARENT_ID)
-                .parent(null)
-                .children(new ArrayList<>())
-                .build();
-    }
-    
     @Test
     @DisplayName("자식 카테고리는 자신의 자식 카테고리를 가지고 있지 않다")
     void testChildCategory() {
-        Category child=mockChild();
-        given(categoryRepository.findChildCategoryWithParentCheck(PARENT_ID,CHILD_ID)).willReturn(Optional.of(child));
         CategoryDto category = categoryService.getChildCategory(PARENT_ID, CHILD_ID);
         
         assertThat(category).isNotNull();
@@ -89,14 +83,22 @@ class CategoryServiceTest {
         assertThat(category.getLevel()).isEqualTo(2);
     }
     
-    private Category mockChild() {
-        return Category
-                .builder()
-                .categoryId(CHILD_ID)
-                .name("child category"+CHILD_ID)
-                .parent(getParent())
-                .children(new ArrayList<>())
-                .build();
+    @Test
+    @DisplayName("부모 카테고리가 다른 자식 카테고리는 조회할 수 없다")
+    void testChildCategoryOfOtherParent() {
+        assertThatThrownBy(() -> categoryService.getChildCategory(PARENT_ID + 1, CHILD_ID))
+                .isInstanceOf(CategoryException.class);
+    }
+    
+    @Test
+    @DisplayName("헤더는 하위 카테고리의 브랜드 수와 상품 수를 합산한다")
+    void testHeaderResponse() {
+        CategoryHeaderResponse header = categoryService.getHeaderResponse(PARENT_ID);
+        
+        assertThat(header.getBrandCount()).isEqualTo(1L);
+        assertThat(header.getProductCount()).isEqualTo(400L);
+        assertThat(header.getTotalCount()).isEqualTo(401L);
+        assertThat(header.getSimpleCategoryDtos()).hasSize(5);
     }
     
     private void assertCategoryDetails(CategoryDto category, Long parentCategoryId, int expectedSubCategorySize) {
@@ -104,16 +106,14 @@ class CategoryServiceTest {
         assertThat(category.getSubCategories()).hasSize(expectedSubCategorySize);
     }
     
-    private List<Category> mockChildren(final Category parent) {
-        return IntStream
-                .range(0, 5)
-                .mapToObj(i -> Category
-                        .builder()
-                        .categoryId((long) (i + 5))
-                        .name("child category"+i+1)
-                        .parent(parent)
-                        .children(new ArrayList<>())
-                        .build())
-                .toList();
+    private static CategoryTree mockTree() {
+        List<CategoryNodeDto> categories = new ArrayList<>();
+        LongStream.rangeClosed(1, 5).forEach(parentId -> {
+            categories.add(new CategoryNodeDto(parentId, "parent category" + parentId, null));
+            LongStream.range(0, 5)
+                    .map(i -> 5 + (parentId - 1) * 5 + i + 1)
+                    .forEach(childId -> categories.add(new CategoryNodeDto(childId, "child category" + childId, parentId)));
+        });
+        return CategoryTree.of(categories, Map.of(CHILD_ID, Map.of(1L, 400L)));
     }
 }
@@ -0,0 +1,61 @@
+package org.kakaoshare.backend.domain.category.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.domain.category.dto.CategoryDto;
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+import org.kakaoshare.backend.domain.category.dto.SimpleCategoryDto;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryNavigationTest {
+    private final CategoryNavigation navigation = CategoryNavigation.from(CategoryTree.of(
+            List.of(
+                    new CategoryNodeDto(1L, "음료", null),
+                    new CategoryNodeDto(2L, "커피", 1L),
+                    new CategoryNodeDto(3L, "차", 1L),
+                    new CategoryNodeDto(4L, "케이크", null)
+            ),
+            Map.of(
+                    2L, Map.of(10L, 2L, 11L, 1L),
+                    3L, Map.of(11L, 1L)
+            )
+    ));
+
+    @Test
+    @DisplayName("부모 카테고리는 하위 카테고리를 가지고, 하위 카테고리는 부모 ID를 가진다")
+    void parentCategories() {
+        final List<CategoryDto> parents = navigation.getParentCategories();
+
+        assertThat(parents).extracting(CategoryDto::getCategoryId).containsExactly(1L, 4L);
+        assertThat(parents.get(0).getLevel()).isEqualTo(1);
+        assertThat(parents.get(0).getParentId()).isNull();
+        assertThat(parents.get(0).getSubCategories()).allSatisfy(child -> {
+            assertThat(child.getParentId()).isEqualTo(1L);
+            assertThat(child.getLevel()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("부모 카테고리와 하위 카테고리 관계가 맞지 않으면 찾지 않는다")
+    void findChildCategory() {
+        assertThat(navigation.findChildCategory(1L, 2L)).isPresent();
+        assertThat(navigation.findChildCategory(4L, 2L)).isEmpty();
+        assertThat(navigation.findParentCategory(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("헤더는 하위 카테고리까지 합산한 브랜드 수, 상품 수를 가진다")
+    void header() {
+        assertThat(navigation.findHeader(1L)).hasValueSatisfying(header -> {
+            assertThat(header.getBrandCount()).isEqualTo(2L);
+            assertThat(header.getProductCount()).isEqualTo(4L);
+            assertThat(header.getTotalCount()).isEqualTo(6L);
+            assertThat(header.getSimpleCategoryDtos()).extracting(SimpleCategoryDto::getCategoryName).containsExactly("커피", "차");
+        });
+        assertThat(navigation.findHeader(2L)).isEmpty();
+    }
+}
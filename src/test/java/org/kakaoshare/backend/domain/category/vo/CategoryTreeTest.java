@@ -0,0 +1,80 @@
+package org.kakaoshare.backend.domain.category.vo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryTreeTest {
+    private CategoryTree categoryTree;
+
+    @BeforeEach
+    void setUp() {
+        categoryTree = CategoryTree.of(
+                List.of(
+                        new CategoryNodeDto(1L, "음료", null),
+                        new CategoryNodeDto(2L, "커피", 1L),
+                        new CategoryNodeDto(3L, "차", 1L),
+                        new CategoryNodeDto(4L, "케이크", null)
+                ),
+                Map.of(
+                        2L, Map.of(10L, 2L, 11L, 1L),
+                        3L, Map.of(11L, 1L, 12L, 1L),
+                        4L, Map.of(13L, 1L)
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("상위 카테고리는 자신과 하위 카테고리의 ID를 가진다")
+    void descendantIdsOf() {
+        assertThat(categoryTree.descendantIdsOf(1L)).containsExactly(1L, 2L, 3L);
+        assertThat(categoryTree.descendantIdsOf(2L)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 카테고리는 자신의 ID만 가진다")
+    void descendantIdsOfUnknown() {
+        assertThat(categoryTree.descendantIdsOf(100L)).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("이름으로 카테고리와 하위 카테고리의 ID를 찾는다")
+    void descendantIdsOfNames() {
+        assertThat(categoryTree.descendantIdsOfNames(List.of("음료", "케이크"))).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(categoryTree.descendantIdsOfNames(List.of("없는 카테고리"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 수와 브랜드는 하위 카테고리까지 합산한다")
+    void aggregate() {
+        assertThat(categoryTree.find(1L)).hasValueSatisfying(node -> {
+            assertThat(node.productCount()).isEqualTo(5L);
+            assertThat(node.brandIds()).containsExactly(10L, 11L, 12L);
+            assertThat(node.childIds()).containsExactly(2L, 3L);
+        });
+        assertThat(categoryTree.roots()).extracting(CategoryTree.Node::categoryId).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("상품이 추가/삭제되면 상품 수와 브랜드가 반영된 새 스냅샷을 만든다")
+    void withProductCount() {
+        final CategoryTree added = categoryTree.withProductCount(2L, 14L, 1L);
+        final CategoryTree removed = added.withProductCount(3L, 12L, -1L);
+
+        assertThat(added.find(1L)).hasValueSatisfying(node -> {
+            assertThat(node.productCount()).isEqualTo(6L);
+            assertThat(node.brandIds()).containsExactly(10L, 11L, 12L, 14L);
+        });
+        assertThat(removed.find(1L)).hasValueSatisfying(node -> {
+            assertThat(node.productCount()).isEqualTo(5L);
+            assertThat(node.brandIds()).containsExactly(10L, 11L, 14L);
+        });
+        assertThat(categoryTree.find(1L)).hasValueSatisfying(node -> assertThat(node.productCount()).isEqualTo(5L));
+    }
+}
@@ -0,0 +1,59 @@
+package org.kakaoshare.backend.domain.friend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.member.dto.oauth.profile.detail.KakaoFriendListDto;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FriendListCacheTest {
+    private static final String PROVIDER_ID = "123";
+    private static final String ACCESS_TOKEN = "token";
+
+    @Mock
+    private KakaoFriendService kakaoFriendService;
+
+    @Test
+    @DisplayName("캐시된 목록에 없는 친구가 있으면 목록을 한 번 다시 읽어 새로 맺은 친구를 확인한다")
+    void containsAllWithNewFriend() {
+        final FriendListCache friendListCache = new FriendListCache(kakaoFriendService, Duration.ZERO);
+        when(kakaoFriendService.getFriendsList(ACCESS_TOKEN))
+                .thenReturn(friendsOf("456"))
+                .thenReturn(friendsOf("456", "789"));
+        friendListCache.getFriendIds(PROVIDER_ID, ACCESS_TOKEN);
+
+        assertThat(friendListCache.containsAll(PROVIDER_ID, ACCESS_TOKEN, List.of("456", "789"))).isTrue();
+        verify(kakaoFriendService, times(2)).getFriendsList(ACCESS_TOKEN);
+    }
+
+    @Test
+    @DisplayName("방금 읽은 목록은 친구가 아닌 ID가 있어도 다시 읽지 않는다")
+    void containsAllWithStranger() {
+        final FriendListCache friendListCache = new FriendListCache(kakaoFriendService);
+        when(kakaoFriendService.getFriendsList(ACCESS_TOKEN))
+                .thenReturn(friendsOf("456"));
+
+        assertThat(friendListCache.containsAll(PROVIDER_ID, ACCESS_TOKEN, List.of("456", "789"))).isFalse();
+        assertThat(friendListCache.containsAll(PROVIDER_ID, ACCESS_TOKEN, List.of("789"))).isFalse();
+        verify(kakaoFriendService, times(1)).getFriendsList(ACCESS_TOKEN);
+    }
+
+    private static List<KakaoFriendListDto> friendsOf(final String... ids) {
+        return Arrays.stream(ids)
+                .map(id -> KakaoFriendListDto.builder()
+                        .id(id)
+                        .build())
+                .toList();
+    }
+}
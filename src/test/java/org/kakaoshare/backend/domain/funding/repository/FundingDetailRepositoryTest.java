@@ -4,12 +4,9 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.kakaoshare.backend.common.RepositoryTest;
-import org.kakaoshare.backend.domain.funding.dto.rank.response.TopContributorResponse;
+import org.kakaoshare.backend.domain.funding.dto.rank.ContributorDto;
+import org.kakaoshare.backend.domain.funding.dto.refund.RefundTargetDto;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -19,14 +16,39 @@ class FundingDetailRepositoryTest {
     FundingDetailRepository fundingDetailRepository;
 
     @Test
-    @DisplayName("최대 기여자 조회")
-    public void findTopContributorsByFundingId() throws Exception {
+    @DisplayName("기여자별 기여 금액 조회")
+    public void findContributorsByFundingId() throws Exception {
         final Long fundingId = 1L;
-        final Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "rate"));
-        final Page<TopContributorResponse> page = fundingDetailRepository.findTopContributorsByFundingId(fundingId, pageable);
-        final List<TopContributorResponse> content = page.getContent();
-        Assertions.assertThat(content.get(0).rate()).isEqualTo(30.0);
-        Assertions.assertThat(content.get(1).rate()).isEqualTo(20.0);
-        Assertions.assertThat(content.get(2).rate()).isEqualTo(10.0);
+        final List<ContributorDto> contributors = fundingDetailRepository.findContributorsByFundingId(fundingId);
+        Assertions.assertThat(contributors)
+                .extracting(ContributorDto::memberId, ContributorDto::amount)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple(1L, 3000L),
+                        Assertions.tuple(2L, 2000L),
+                        Assertions.tuple(3L, 1000L)
+                );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("환불 대기로 바꾼 기여만 환불 대상이 되고, 환불 상태로는 한 번만 바뀐다")
+    public void cancelRefund() throws Exception {
+        final Long fundingId = 1L;
+        Assertions.assertThat(fundingDetailRepository.findRefundTargetsByFundingId(fundingId)).isEmpty();
+        Assertions.assertThat(fundingDetailRepository.markRefundPending(fundingId)).isEqualTo(3);
+        Assertions.assertThat(fundingDetailRepository.markRefundPending(fundingId)).isZero();
+
+        final List<RefundTargetDto> targets = fundingDetailRepository.findRefundTargetsByFundingId(fundingId);
+        Assertions.assertThat(targets)
+                .extracting(RefundTargetDto::memberId, RefundTargetDto::amount, RefundTargetDto::tid)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple(1L, 3000L, "1"),
+                        Assertions.tuple(2L, 2000L, "1"),
+                        Assertions.tuple(3L, 1000L, "1")
+                );
+
+        final Long fundingDetailId = targets.get(0).fundingDetailId();
+        Assertions.assertThat(fundingDetailRepository.cancelRefund(fundingDetailId)).isEqualTo(1);
+        Assertions.assertThat(fundingDetailRepository.cancelRefund(fundingDetailId)).isZero();
+        Assertions.assertThat(fundingDetailRepository.findRefundTargetsByFundingId(fundingId)).hasSize(2);
+    }
+}
@@ -0,0 +1,129 @@
+package org.kakaoshare.backend.domain.funding.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.common.RepositoryTest;
+import org.kakaoshare.backend.domain.funding.entity.Funding;
+import org.kakaoshare.backend.domain.funding.entity.FundingStatus;
+import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FundingRepositoryTest {
+    private static final long GOAL_AMOUNT = 100_000L;
+    private static final long AMOUNT = 100L;
+
+    @Autowired
+    FundingRepository fundingRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    ProductRepository productRepository;
+
+    private Funding funding;
+    private Funding expiredFunding;
+
+    @AfterEach
+    void tearDown() {
+        if (funding != null) {
+            fundingRepository.deleteById(funding.getFundingId());
+        }
+        if (expiredFunding != null) {
+            fundingRepository.deleteById(expiredFunding.getFundingId());
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 기여해도 금액을 잃지 않고 목표 금액을 넘지 않는다")
+    public void increaseAccumulateAmountConcurrently() throws Exception {
+        funding = saveFunding();
+        final int threadCount = 32;
+        final int attemptCount = 1_500;
+        final AtomicInteger attempt = new AtomicInteger();
+        final AtomicInteger accumulated = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    while (attempt.getAndIncrement() < attemptCount) {
+                        if (fundingRepository.increaseAccumulateAmount(funding.getFundingId(), AMOUNT) > 0) {
+                            accumulated.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        final Funding actual = fundingRepository.findById(funding.getFundingId()).orElseThrow();
+        assertThat(accumulated.get()).isEqualTo((int) (GOAL_AMOUNT / AMOUNT));
+        assertThat(actual.getAccumulateAmount()).isEqualTo(GOAL_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("진행 중이 아닌 펀딩에는 기여 금액을 더하지 않는다")
+    public void increaseAccumulateAmountWithoutProgress() throws Exception {
+        funding = saveFunding();
+        fundingRepository.updateStatus(funding.getFundingId(), FundingStatus.PROGRESS, FundingStatus.CANCEL);
+
+        assertThat(fundingRepository.increaseAccumulateAmount(funding.getFundingId(), AMOUNT)).isZero();
+    }
+
+    @Test
+    @DisplayName("상태는 읽은 상태일 때만 한 번 바뀐다")
+    public void updateStatus() throws Exception {
+        funding = saveFunding();
+
+        assertThat(fundingRepository.updateStatus(funding.getFundingId(), FundingStatus.PROGRESS, FundingStatus.COMPLETE)).isEqualTo(1);
+        assertThat(fundingRepository.updateStatus(funding.getFundingId(), FundingStatus.PROGRESS, FundingStatus.BEFORE_PAYING_REMAINING)).isZero();
+        assertThat(fundingRepository.findById(funding.getFundingId()).orElseThrow().getStatus()).isEqualTo(FundingStatus.COMPLETE);
+    }
+
+    @Test
+    @DisplayName("만료일이 지났는데 진행 중인 펀딩만 남긴 위치 다음부터 PK 순으로 읽는다")
+    public void findExpiredIds() throws Exception {
+        funding = saveFunding();
+        expiredFunding = saveFunding(LocalDate.now().minusDays(1));
+        final LocalDate today = LocalDate.now();
+        final Long lastFundingId = funding.getFundingId() - 1;
+
+        assertThat(fundingRepository.findExpiredIds(today, lastFundingId, 10)).containsExactly(expiredFunding.getFundingId());
+        assertThat(fundingRepository.findExpiredIds(today, expiredFunding.getFundingId(), 10)).isEmpty();
+
+        fundingRepository.updateStatus(expiredFunding.getFundingId(), FundingStatus.PROGRESS, FundingStatus.EXPIRED);
+        assertThat(fundingRepository.findExpiredIds(today, lastFundingId, 10)).isEmpty();
+        assertThat(fundingRepository.findIdsByStatus(List.of(funding.getFundingId(), expiredFunding.getFundingId()), FundingStatus.EXPIRED))
+                .containsExactly(expiredFunding.getFundingId());
+    }
+
+    private Funding saveFunding() {
+        return saveFunding(LocalDate.now().plusDays(30));
+    }
+
+    private Funding saveFunding(final LocalDate expiredAt) {
+        final Member member = memberRepository.findById(1L).orElseThrow();
+        final Product product = productRepository.findById(1L).orElseThrow();
+        return fundingRepository.save(new Funding(member, product, GOAL_AMOUNT, expiredAt));
+    }
+}
@@ -0,0 +1,121 @@
+package org.kakaoshare.backend.domain.funding.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.funding.dto.rank.ContributorDto;
+import org.kakaoshare.backend.domain.funding.dto.rank.response.TopContributorResponse;
+import org.kakaoshare.backend.domain.funding.entity.Funding;
+import org.kakaoshare.backend.domain.funding.repository.FundingDetailRepository;
+import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.kakaoshare.backend.fixture.FundingFixture.SAMPLE_FUNDING;
+import static org.kakaoshare.backend.fixture.MemberFixture.KAKAO;
+import static org.kakaoshare.backend.fixture.ProductFixture.CAKE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContributorLeaderboardTest {
+    @Mock
+    private FundingRepository fundingRepository;
+    @Mock
+    private FundingDetailRepository fundingDetailRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    private ContributorLeaderboard contributorLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        contributorLeaderboard = new ContributorLeaderboard(fundingRepository, fundingDetailRepository, memberRepository, stringRedisTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("랭킹에서 기여 금액 순으로 읽고, 해시에 없는 프로필만 한 번에 조회한다")
+    void findTop() {
+        doReturn(List.of("10000", "3", "2", "3000", "1", "2000")).when(stringRedisTemplate)
+                .execute(any(RedisScript.class), anyList(), any(Object[].class));
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.multiGet(anyString(), anyList()))
+                .thenReturn(Arrays.asList("{\"name\":\"테스터2\",\"profileUrl\":\"profile2\"}", null));
+        final Member member = KAKAO.생성();
+        when(memberRepository.findAllById(List.of(1L))).thenReturn(List.of(member));
+
+        final Page<TopContributorResponse> page = contributorLeaderboard.findTop(1L, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent())
+                .extracting(TopContributorResponse::name, TopContributorResponse::rate)
+                .containsExactly(
+                        tuple("테스터2", 30.0),
+                        tuple(member.getName(), 20.0)
+                );
+        verifyNoInteractions(fundingDetailRepository);
+    }
+
+    @Test
+    @DisplayName("랭킹이 없으면 기여자별 기여 금액을 집계해 다시 만든다")
+    void findTopWithRebuild() {
+        final Funding funding = SAMPLE_FUNDING.생성(1L, KAKAO.생성(), CAKE.생성());
+        doReturn(List.of()).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        when(fundingRepository.findById(1L)).thenReturn(Optional.of(funding));
+        when(fundingDetailRepository.findContributorsByFundingId(1L)).thenReturn(List.of(
+                new ContributorDto(2L, "테스터2", "profile2", 100L),
+                new ContributorDto(1L, "테스터1", "profile1", 300L),
+                new ContributorDto(3L, "테스터3", "profile3", 0L)
+        ));
+
+        final Page<TopContributorResponse> page = contributorLeaderboard.findTop(1L, PageRequest.of(0, 5));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent())
+                .extracting(TopContributorResponse::name, TopContributorResponse::rate)
+                .containsExactly(
+                        tuple("테스터1", 100. * 300 / funding.getGoalAmount()),
+                        tuple("테스터2", 100. * 100 / funding.getGoalAmount())
+                );
+        verify(stringRedisTemplate, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없어도 DB에서 집계해 응답한다")
+    void findTopWithRedisFailure() {
+        final Product product = CAKE.생성();
+        final Funding funding = SAMPLE_FUNDING.생성(1L, KAKAO.생성(), product);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenThrow(new IllegalStateException());
+        when(fundingRepository.findById(1L)).thenReturn(Optional.of(funding));
+        when(fundingDetailRepository.findContributorsByFundingId(1L)).thenReturn(List.of(new ContributorDto(1L, "테스터1", "profile1", 500L)));
+
+        final Page<TopContributorResponse> page = contributorLeaderboard.findTop(1L, PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).extracting(TopContributorResponse::name).containsExactly("테스터1");
+    }
+}
@@ -47,6 +47,9 @@ public class FundingDetailServiceTest {
     @Mock
     private FundingDetailRepository fundingDetailRepository;
 
+    @Mock
+    private ContributorLeaderboard contributorLeaderboard;
+
     @InjectMocks
     private FundingDetailService fundingDetailService;
 
@@ -170,7 +173,7 @@ public class FundingDetailServiceTest {
         );
 
         final Page<TopContributorResponse> page = new PageImpl<>(content, pageable, content.size());
-        doReturn(page).when(fundingDetailRepository).findTopContributorsByFundingId(fundingId, pageable);
+        doReturn(page).when(contributorLeaderboard).findTop(fundingId, pageable);
 
         final PageResponse<?> expect = PageResponse.from(page);
         final PageResponse<?> actual = fundingDetailService.getTopContributors(fundingId, pageable);
@@ -0,0 +1,151 @@
+package org.kakaoshare.backend.domain.funding.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.funding.entity.FundingStatus;
+import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.payment.dto.cancel.response.FundingRefundResult;
+import org.kakaoshare.backend.domain.payment.service.FundingRefunder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FundingExpiryJobTest {
+    private static final String REFUND_KEY = "funding:expiry:refunds";
+    private static final String CHECKPOINT_KEY = "funding:expiry:checkpoint";
+
+    @Mock
+    private FundingRepository fundingRepository;
+    @Mock
+    private FundingRefunder fundingRefunder;
+    @Mock
+    private FundingProgressCache fundingProgressCache;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private FundingExpiryJob fundingExpiryJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fundingExpiryJob = new FundingExpiryJob(fundingRepository, fundingRefunder, fundingProgressCache, stringRedisTemplate, meterRegistry);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("남긴 위치 다음부터 만료된 펀딩을 만료 상태로 바꾸고, 만료 상태가 된 펀딩만 환불한다")
+    void expire() {
+        lockAcquired(true);
+        lockExtended(true);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(REFUND_KEY)).thenReturn(Set.of());
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("10");
+        when(fundingRepository.findExpiredIds(any(LocalDate.class), eq(10L), eq(500))).thenReturn(List.of(11L, 12L));
+        when(fundingRepository.updateStatus(11L, FundingStatus.PROGRESS, FundingStatus.EXPIRED)).thenReturn(1L);
+        when(fundingRepository.updateStatus(12L, FundingStatus.PROGRESS, FundingStatus.EXPIRED)).thenReturn(0L);
+        when(fundingRepository.findIdsByStatus(List.of(11L, 12L), FundingStatus.EXPIRED)).thenReturn(List.of(11L));
+        when(fundingRepository.findOldestExpiredAt(any(LocalDate.class))).thenReturn(Optional.empty());
+        when(fundingRefunder.refundAll(11L)).thenReturn(CompletableFuture.completedFuture(new FundingRefundResult(3, 1)));
+
+        fundingExpiryJob.expire();
+
+        verify(setOperations).add(REFUND_KEY, "11", "12");
+        verify(fundingProgressCache).update(11L, 0L, FundingStatus.EXPIRED);
+        verify(fundingProgressCache, never()).update(eq(12L), anyLong(), any());
+        verify(fundingRefunder, never()).refundAll(12L);
+        verify(setOperations).remove(REFUND_KEY, "12");
+        verify(valueOperations).set(CHECKPOINT_KEY, "12");
+        verify(stringRedisTemplate).delete(CHECKPOINT_KEY);
+        assertThat(meterRegistry.get("funding.expiry.expired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("funding.expiry.refunds").tag("outcome", "refunded").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("funding.expiry.refunds").tag("outcome", "failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("funding.expiry.last_funding_id").gauge().value()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("환불이 끝나지 않은 펀딩은 만료된 펀딩을 읽기 전에 다시 환불한다")
+    void expireWithPendingRefund() {
+        lockAcquired(true);
+        lockExtended(true);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(REFUND_KEY)).thenReturn(Set.of("5"));
+        when(fundingRepository.findIdsByStatus(List.of(5L), FundingStatus.EXPIRED)).thenReturn(List.of(5L));
+        when(fundingRefunder.refundAll(5L)).thenReturn(CompletableFuture.completedFuture(new FundingRefundResult(2, 0)));
+        when(fundingRepository.findExpiredIds(any(LocalDate.class), eq(0L), eq(500))).thenReturn(List.of());
+        when(fundingRepository.findOldestExpiredAt(any(LocalDate.class))).thenReturn(Optional.of(LocalDate.now().minusDays(2)));
+
+        fundingExpiryJob.expire();
+
+        verify(setOperations).remove(REFUND_KEY, "5");
+        assertThat(meterRegistry.get("funding.expiry.expired").counter().count()).isZero();
+        assertThat(meterRegistry.get("funding.expiry.lag").gauge().value()).isGreaterThanOrEqualTo(Duration.ofDays(1).toSeconds());
+    }
+
+    @Test
+    @DisplayName("묶음을 처리하는 사이 잠금을 잃으면 남긴 위치에서 멈춘다")
+    void expireWithLostLock() {
+        lockAcquired(true);
+        lockExtended(false);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(REFUND_KEY)).thenReturn(Set.of());
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn(null);
+        when(fundingRepository.findExpiredIds(any(LocalDate.class), eq(0L), eq(500))).thenReturn(List.of(11L));
+        when(fundingRepository.updateStatus(11L, FundingStatus.PROGRESS, FundingStatus.EXPIRED)).thenReturn(1L);
+        when(fundingRepository.findIdsByStatus(List.of(11L), FundingStatus.EXPIRED)).thenReturn(List.of(11L));
+        when(fundingRefunder.refundAll(11L)).thenReturn(CompletableFuture.completedFuture(new FundingRefundResult(1, 0)));
+
+        fundingExpiryJob.expire();
+
+        verify(valueOperations).set(CHECKPOINT_KEY, "11");
+        verify(stringRedisTemplate, never()).delete(CHECKPOINT_KEY);
+        verify(fundingRepository, never()).findOldestExpiredAt(any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 만료 처리 중이면 실행하지 않는다")
+    void expireWithoutLock() {
+        lockAcquired(false);
+
+        fundingExpiryJob.expire();
+
+        verifyNoInteractions(fundingRepository, fundingRefunder);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private void lockAcquired(final boolean acquired) {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(acquired);
+    }
+
+    private void lockExtended(final boolean extended) {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(extended ? 1L : 0L);
+    }
+}
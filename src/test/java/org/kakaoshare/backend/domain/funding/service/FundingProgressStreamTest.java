@@ -0,0 +1,77 @@
+package org.kakaoshare.backend.domain.funding.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.funding.dto.ProgressResponse;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@ExtendWith(MockitoExtension.class)
+class FundingProgressStreamTest {
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    private FundingProgressStream fundingProgressStream;
+
+    @BeforeEach
+    void setUp() {
+        fundingProgressStream = new FundingProgressStream(redisMessageListenerContainer, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("구독자는 보고 있는 펀딩별로 모인다")
+    void subscribe() {
+        fundingProgressStream.subscribe(1L, progressOf(1L));
+        fundingProgressStream.subscribe(1L, progressOf(1L));
+        fundingProgressStream.subscribe(2L, progressOf(2L));
+
+        assertThat(fundingProgressStream.countOf(1L)).isEqualTo(2);
+        assertThat(fundingProgressStream.countOf(2L)).isEqualTo(1);
+        assertThat(fundingProgressStream.countOf(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("발행된 진행 상황은 해당 펀딩의 구독자에게 보내고, 읽을 수 없는 메시지는 무시한다")
+    void onMessage() {
+        fundingProgressStream.subscribe(1L, progressOf(1L));
+
+        assertThatCode(() -> {
+            fundingProgressStream.onMessage(messageOf("{\"fundingId\":1,\"accumulateAmount\":700}"), null);
+            fundingProgressStream.onMessage(messageOf("{\"fundingId\":2,\"accumulateAmount\":100}"), null);
+            fundingProgressStream.onMessage(messageOf("not-json"), null);
+        }).doesNotThrowAnyException();
+        assertThat(fundingProgressStream.countOf(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 상황이 바뀌지 않아도 모든 구독자에게 하트비트를 보낸다")
+    void heartbeat() {
+        fundingProgressStream.subscribe(1L, progressOf(1L));
+        fundingProgressStream.subscribe(2L, progressOf(2L));
+
+        assertThatCode(() -> fundingProgressStream.heartbeat()).doesNotThrowAnyException();
+        assertThat(fundingProgressStream.countOf(1L)).isEqualTo(1);
+        assertThat(fundingProgressStream.countOf(2L)).isEqualTo(1);
+    }
+
+    private static ProgressResponse progressOf(final Long fundingId) {
+        return ProgressResponse.builder()
+                .fundingId(fundingId)
+                .goalAmount(1_000L)
+                .accumulateAmount(500L)
+                .build();
+    }
+
+    private static DefaultMessage messageOf(final String body) {
+        return new DefaultMessage(FundingProgressStream.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
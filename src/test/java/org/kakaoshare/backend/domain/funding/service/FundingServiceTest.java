@@ -57,6 +57,9 @@ public class FundingServiceTest {
     @Mock
     private FundingRepository fundingRepository;
 
+    @Mock
+    private FundingProgressCache fundingProgressCache;
+
     @Test
     @DisplayName("성공적으로 펀딩 아이템 등록")
     void registerFundingItem_Success() {
@@ -128,11 +131,29 @@ public class FundingServiceTest {
         when(memberRepository.findMemberByProviderId(member.getProviderId())).thenReturn(Optional.of(member));
         when(fundingRepository.findByMemberIdAndStatus(member.getMemberId(), FundingStatus.PROGRESS)).thenReturn(
                 Optional.of(funding));
-        when(fundingRepository.findByIdAndMemberId(funding.getFundingId(), member.getMemberId())).thenReturn(
-                Optional.of(funding));
 
         ProgressResponse response = fundingService.getMyFundingProgress(member.getProviderId());
         assertNotNull(response, "ProgressResponse should not be null");
+        verify(fundingProgressCache).put(response, member.getProviderId());
+    }
+
+    @Test
+    @DisplayName("나의 등록된 펀딩아이템은 진행 상황 캐시에 있으면 DB를 조회하지 않는다")
+    public void testGetMyFundingProgress_FromCache() {
+        Member member = MemberFixture.KAKAO.생성();
+        ProgressResponse cached = ProgressResponse.builder()
+                .fundingId(1L)
+                .goalAmount(1_000L)
+                .accumulateAmount(500L)
+                .status(FundingStatus.PROGRESS)
+                .build();
+
+        when(fundingProgressCache.findActive(member.getProviderId())).thenReturn(Optional.of(cached));
+
+        ProgressResponse response = fundingService.getMyFundingProgress(member.getProviderId());
+
+        assertThat(response).isSameAs(cached);
+        verifyNoInteractions(memberRepository, fundingRepository);
     }
 
     @Test
@@ -0,0 +1,80 @@
+package org.kakaoshare.backend.domain.option.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.option.repository.OptionRepository;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OptionCatalogTest {
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private OptionRepository optionRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    private OptionCatalog optionCatalog;
+
+    @BeforeEach
+    void setUp() {
+        optionCatalog = new OptionCatalog(optionRepository, stringRedisTemplate, redisMessageListenerContainer);
+    }
+
+    @Test
+    @DisplayName("옵션이 바뀌면 이 노드의 캐시를 비우고 다른 노드에도 비우라고 발행한다")
+    void clear() {
+        when(optionRepository.findAllOptionDetailRowsByProductIds(any())).thenReturn(List.of());
+
+        optionCatalog.get(PRODUCT_ID);
+        optionCatalog.clear();
+        optionCatalog.get(PRODUCT_ID);
+
+        verify(stringRedisTemplate).convertAndSend("option-catalog-clear", "clear");
+        verify(optionRepository, times(2)).findAllOptionDetailRowsByProductIds(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 비우기를 받으면 캐시를 비운다")
+    void onMessage() {
+        when(optionRepository.findAllOptionDetailRowsByProductIds(any())).thenReturn(List.of());
+
+        optionCatalog.get(PRODUCT_ID);
+        optionCatalog.onMessage(mock(Message.class), null);
+        optionCatalog.get(PRODUCT_ID);
+
+        verify(optionRepository, times(2)).findAllOptionDetailRowsByProductIds(any());
+    }
+
+    @Test
+    @DisplayName("옵션 트리를 읽는 사이 캐시가 비워지면 읽은 옵션 트리를 캐싱하지 않는다")
+    void getWithConcurrentClear() {
+        when(optionRepository.findAllOptionDetailRowsByProductIds(any()))
+                .thenAnswer(invocation -> {
+                    optionCatalog.onMessage(mock(Message.class), null);
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        optionCatalog.get(PRODUCT_ID);
+        optionCatalog.get(PRODUCT_ID);
+        optionCatalog.get(PRODUCT_ID);
+
+        verify(optionRepository, times(2)).findAllOptionDetailRowsByProductIds(any());
+    }
+}
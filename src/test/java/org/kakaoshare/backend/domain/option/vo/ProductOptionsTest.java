@@ -0,0 +1,62 @@
+package org.kakaoshare.backend.domain.option.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.domain.option.dto.OptionDetailRowDto;
+import org.kakaoshare.backend.domain.option.dto.OptionResponse;
+import org.kakaoshare.backend.domain.option.dto.OptionSummaryResponse;
+import org.kakaoshare.backend.domain.option.dto.ProductOptionDetailResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductOptionsTest {
+    private static final Long PRODUCT_ID = 1L;
+
+    private final ProductOptions productOptions = ProductOptions.of(PRODUCT_ID, List.of(
+            new OptionDetailRowDto(PRODUCT_ID, 1L, "맛", 10L, "생크림", 0L, null),
+            new OptionDetailRowDto(PRODUCT_ID, 1L, "맛", 11L, "초코", 1000L, null),
+            new OptionDetailRowDto(PRODUCT_ID, 2L, "크기", 20L, "도시락", 0L, "photo"),
+            new OptionDetailRowDto(PRODUCT_ID, 3L, "포장", null, null, null, null)
+    ));
+
+    @Test
+    @DisplayName("옵션 상세가 상품의 옵션에 속하는지 확인한다")
+    void containsDetail() {
+        assertThat(productOptions.containsAllDetails(List.of(10L, 20L))).isTrue();
+        assertThat(productOptions.containsAllDetails(List.of(10L, 30L))).isFalse();
+        assertThat(productOptions.containsDetail(11L, 1L)).isTrue();
+        assertThat(productOptions.containsDetail(11L, 2L)).isFalse();
+        assertThat(productOptions.containsDetail(11L, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("옵션을 선택하지 않으면 첫번째 옵션과 첫번째 옵션 상세를 사용한다")
+    void findFirst() {
+        assertThat(productOptions.findFirstOptionId()).contains(1L);
+        assertThat(productOptions.findFirstDetailIdOf(1L)).contains(10L);
+        assertThat(productOptions.findFirstDetailIdOf(3L)).isEmpty();
+        assertThat(ProductOptions.empty(PRODUCT_ID).findFirstOptionId()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("옵션 상세 ID로 옵션 이름과 옵션 상세 이름을 찾는다")
+    void summaries() {
+        assertThat(productOptions.detailNamesOf(List.of(20L, 11L, 99L))).containsExactly("도시락", "초코");
+        assertThat(productOptions.summariesOf(List.of(10L))).containsExactly(new OptionSummaryResponse("맛", "생크림"));
+    }
+
+    @Test
+    @DisplayName("옵션 상세가 없는 옵션도 응답에 포함된다")
+    void toResponses() {
+        final List<OptionResponse> responses = productOptions.toResponses();
+
+        assertThat(responses).extracting(OptionResponse::getOptionsId).containsExactly(1L, 2L, 3L);
+        assertThat(responses.get(0).getOptionDetails()).containsExactly(
+                new ProductOptionDetailResponse(10L, null, 0L, "생크림"),
+                new ProductOptionDetailResponse(11L, null, 1000L, "초코")
+        );
+        assertThat(responses.get(2).getOptionDetails()).isEmpty();
+    }
+}
@@ -6,8 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kakaoshare.backend.common.dto.PageResponse;
 import org.kakaoshare.backend.common.vo.date.exception.DateException;
+import org.kakaoshare.backend.domain.option.dto.OptionDetailRowDto;
+import org.kakaoshare.backend.domain.option.dto.OptionSummaryRequest;
 import org.kakaoshare.backend.domain.option.dto.OptionSummaryResponse;
-import org.kakaoshare.backend.domain.option.repository.OptionDetailRepository;
+import org.kakaoshare.backend.domain.option.service.OptionCatalog;
+import org.kakaoshare.backend.domain.option.vo.ProductOptions;
 import org.kakaoshare.backend.domain.order.dto.inquiry.OrderHistoryDetailDto;
 import org.kakaoshare.backend.domain.order.dto.inquiry.response.OrderHistoryDetailResponse;
 import org.kakaoshare.backend.domain.order.dto.inquiry.request.OrderHistoryRequest;
@@ -36,6 +39,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,7 +55,7 @@ class OrderServiceTest {
     private ProductRepository productRepository;
 
     @Mock
-    private OptionDetailRepository optionDetailRepository;
+    private OptionCatalog optionCatalog;
 
     @Mock
     private OrderRepository orderRepository;
@@ -91,7 +95,6 @@ class OrderServiceTest {
         final Page<ProductDto> pageProductDtos = new PageImpl<>(productDtos, pageable, 2L);
         final List<Long> productIds = List.of(cake.getProductId(), coffee.getProductId());
 
-        doReturn(Collections.emptyList()).when(optionDetailRepository).findNamesByIds(Collections.emptyList());
         doReturn(pageProductDtos).when(productRepository).findAllByProductIds(productIds, pageable);
 
         final Page<OrderPreviewResponse> page = new PageImpl<>(
@@ -107,6 +110,40 @@ class OrderServiceTest {
         assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
     }
 
+    @Test
+    @DisplayName("주문 페이지에서 선택한 옵션 상세 이름을 함께 조회")
+    public void previewWithOptions() throws Exception {
+        final Product cake = CAKE.생성(1L);
+        final Product coffee = COFFEE.생성(2L);
+        final Pageable pageable = Pageable.unpaged();
+
+        final List<OrderPreviewRequest> orderPreviewRequests = List.of(
+                new OrderPreviewRequest(cake.getProductId(), 1, List.of(new OptionSummaryRequest(1L, 10L), new OptionSummaryRequest(2L, 20L))),
+                new OrderPreviewRequest(coffee.getProductId(), 1, Collections.emptyList())
+        );
+        final ProductOptions cakeOptions = ProductOptions.of(cake.getProductId(), List.of(
+                new OptionDetailRowDto(cake.getProductId(), 1L, "맛", 10L, "생크림", 0L, null),
+                new OptionDetailRowDto(cake.getProductId(), 2L, "크기", 20L, "도시락", 0L, null)
+        ));
+
+        final List<ProductDto> productDtos = List.of(getProductDto(cake), getProductDto(coffee));
+        final Page<ProductDto> pageProductDtos = new PageImpl<>(productDtos, pageable, 2L);
+        doReturn(Map.of(cake.getProductId(), cakeOptions)).when(optionCatalog).getAll(List.of(cake.getProductId()));
+        doReturn(pageProductDtos).when(productRepository).findAllByProductIds(List.of(cake.getProductId(), coffee.getProductId()), pageable);
+
+        final Page<OrderPreviewResponse> page = new PageImpl<>(
+                List.of(
+                        new OrderPreviewResponse(productDtos.get(0), List.of("생크림", "도시락"), 1),
+                        new OrderPreviewResponse(productDtos.get(1), Collections.emptyList(), 1)
+                ),
+                pageable,
+                2L
+        );
+        final PageResponse<?> expect = PageResponse.from(page);
+        final PageResponse<?> actual = orderService.preview(orderPreviewRequests, pageable);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
+    }
+
     @Test
     @DisplayName("주문 내역 조회")
     public void lookUp() throws Exception {
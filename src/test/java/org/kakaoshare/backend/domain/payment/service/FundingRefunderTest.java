@@ -0,0 +1,184 @@
+package org.kakaoshare.backend.domain.payment.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.funding.dto.refund.RefundTargetDto;
+import org.kakaoshare.backend.domain.funding.repository.FundingDetailRepository;
+import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.funding.service.ContributorLeaderboard;
+import org.kakaoshare.backend.domain.funding.service.FundingProgressCache;
+import org.kakaoshare.backend.domain.payment.dto.cancel.request.PaymentCancelDto;
+import org.kakaoshare.backend.domain.payment.dto.cancel.response.FundingRefundProgress;
+import org.kakaoshare.backend.domain.payment.dto.cancel.response.FundingRefundResult;
+import org.kakaoshare.backend.domain.payment.dto.kakaopay.order.response.KakaoPayOrderResponse;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FundingRefunderTest {
+    private static final Long FUNDING_ID = 1L;
+
+    @Mock
+    private FundingRepository fundingRepository;
+    @Mock
+    private FundingDetailRepository fundingDetailRepository;
+    @Mock
+    private ContributorLeaderboard contributorLeaderboard;
+    @Mock
+    private FundingProgressCache fundingProgressCache;
+    @Mock
+    private PaymentWebClientService webClientService;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    private ThreadPoolTaskExecutor executor;
+    private FundingRefunder fundingRefunder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+        fundingRefunder = new FundingRefunder(fundingRepository, fundingDetailRepository, contributorLeaderboard, fundingProgressCache, webClientService, stringRedisTemplate, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("취소된 기여만 환불 상태로 바꾸고, 취소 요청이 실패한 기여는 환불 대기로 남긴다")
+    void refundAll() {
+        claimed(1L);
+        when(fundingDetailRepository.findRefundTargetsByFundingId(FUNDING_ID)).thenReturn(List.of(
+                new RefundTargetDto(1L, 10L, 1_000L, "tid1"),
+                new RefundTargetDto(2L, 20L, 2_000L, "tid2")
+        ));
+        when(webClientService.cancel(new PaymentCancelDto("tid2", 2_000L))).thenThrow(new IllegalStateException());
+        when(fundingDetailRepository.cancelRefund(1L)).thenReturn(1L);
+
+        final FundingRefundResult result = fundingRefunder.refundAll(FUNDING_ID).join();
+
+        assertThat(result).isEqualTo(new FundingRefundResult(1, 1));
+        verify(fundingDetailRepository).markRefundPending(FUNDING_ID);
+        verify(fundingDetailRepository, never()).cancelRefund(2L);
+        verify(fundingRepository).decreaseAccumulateAmount(FUNDING_ID, 1_000L);
+        verify(contributorLeaderboard).decrease(FUNDING_ID, 10L, 1_000L);
+        verify(fundingProgressCache).update(FUNDING_ID, -1_000L, null);
+    }
+
+    @Test
+    @DisplayName("이미 취소된 기여는 취소를 다시 요청하지 않고 환불 상태로만 바꾼다")
+    void refundAllWithRefundedDetail() {
+        claimed(2L);
+        when(fundingDetailRepository.findRefundTargetsByFundingId(FUNDING_ID)).thenReturn(List.of(new RefundTargetDto(1L, 10L, 1_000L, "tid1")));
+        when(fundingDetailRepository.cancelRefund(1L)).thenReturn(1L);
+
+        final FundingRefundResult result = fundingRefunder.refundAll(FUNDING_ID).join();
+
+        assertThat(result.completed()).isTrue();
+        verifyNoInteractions(webClientService);
+        verify(fundingRepository).decreaseAccumulateAmount(FUNDING_ID, 1_000L);
+    }
+
+    @Test
+    @DisplayName("만료된 선점을 다시 잡은 기여는 카카오페이에서 이미 취소됐으면 취소를 다시 요청하지 않고 환불 상태로 바꾼다")
+    void refundAllWithReclaimedDetail() {
+        claimed(3L);
+        when(fundingDetailRepository.findRefundTargetsByFundingId(FUNDING_ID)).thenReturn(List.of(new RefundTargetDto(1L, 10L, 1_000L, "tid1")));
+        when(webClientService.order("tid1")).thenReturn(order("CANCEL_PAYMENT"));
+        when(fundingDetailRepository.cancelRefund(1L)).thenReturn(1L);
+
+        final FundingRefundResult result = fundingRefunder.refundAll(FUNDING_ID).join();
+
+        assertThat(result.completed()).isTrue();
+        verify(webClientService, never()).cancel(any(PaymentCancelDto.class));
+        verify(fundingRepository).decreaseAccumulateAmount(FUNDING_ID, 1_000L);
+    }
+
+    @Test
+    @DisplayName("만료된 선점을 다시 잡은 기여가 카카오페이에서 취소되지 않았으면 취소를 요청한다")
+    void refundAllWithReclaimedUncanceledDetail() {
+        claimed(3L);
+        when(fundingDetailRepository.findRefundTargetsByFundingId(FUNDING_ID)).thenReturn(List.of(new RefundTargetDto(1L, 10L, 1_000L, "tid1")));
+        when(webClientService.order("tid1")).thenReturn(order("SUCCESS_PAYMENT"));
+        when(fundingDetailRepository.cancelRefund(1L)).thenReturn(1L);
+
+        final FundingRefundResult result = fundingRefunder.refundAll(FUNDING_ID).join();
+
+        assertThat(result.completed()).isTrue();
+        verify(webClientService).cancel(new PaymentCancelDto("tid1", 1_000L));
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 취소를 요청 중인 기여는 건너뛴다")
+    void refundAllWithRequestedDetail() {
+        claimed(0L);
+        when(fundingDetailRepository.findRefundTargetsByFundingId(FUNDING_ID)).thenReturn(List.of(new RefundTargetDto(1L, 10L, 1_000L, "tid1")));
+
+        final FundingRefundResult result = fundingRefunder.refundAll(FUNDING_ID).join();
+
+        assertThat(result).isEqualTo(new FundingRefundResult(0, 1));
+        verifyNoInteractions(webClientService);
+        verify(fundingDetailRepository, never()).cancelRefund(anyLong());
+    }
+
+    @Test
+    @DisplayName("환불 요청은 기다리지 않고 시작하며, 모두 환불되면 환불 중인 펀딩에서 뺀다")
+    void request() {
+        claimed(1L);
+        doReturn(setOperations).when(stringRedisTemplate).opsForSet();
+        when(fundingDetailRepository.findRefundTargetsByFundingId(FUNDING_ID)).thenReturn(List.of(new RefundTargetDto(1L, 10L, 1_000L, "tid1")));
+        when(fundingDetailRepository.cancelRefund(1L)).thenReturn(1L);
+
+        fundingRefunder.request(FUNDING_ID);
+
+        verify(fundingDetailRepository).markRefundPending(FUNDING_ID);
+        verify(setOperations).add("funding:refunding", "1");
+        verify(webClientService, timeout(1_000)).cancel(new PaymentCancelDto("tid1", 1_000L));
+        verify(setOperations, timeout(1_000)).remove("funding:refunding", "1");
+    }
+
+    @Test
+    @DisplayName("환불 키에 남은 기여별 결과로 진행 상황을 센다")
+    void progressOf() {
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.values("funding:refund:1")).thenReturn(List.of("REFUNDED", "FAILED", "PENDING", "REQUESTED:1700000000000"));
+
+        final FundingRefundProgress progress = fundingRefunder.progressOf(FUNDING_ID);
+
+        assertThat(progress).isEqualTo(new FundingRefundProgress(FUNDING_ID, 4, 2, 1, 1));
+    }
+
+    private static KakaoPayOrderResponse order(final String status) {
+        return new KakaoPayOrderResponse("tid1", "cid", status, null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private void claimed(final Long claim) {
+        doReturn(claim).when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
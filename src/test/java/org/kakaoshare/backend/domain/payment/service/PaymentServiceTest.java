@@ -7,15 +7,19 @@ import org.kakaoshare.backend.common.util.RedisUtils;
 import org.kakaoshare.backend.domain.brand.entity.Brand;
 import org.kakaoshare.backend.domain.funding.entity.Funding;
 import org.kakaoshare.backend.domain.funding.entity.FundingDetail;
+import org.kakaoshare.backend.domain.funding.entity.FundingStatus;
 import org.kakaoshare.backend.domain.funding.exception.FundingException;
 import org.kakaoshare.backend.domain.funding.repository.FundingDetailRepository;
 import org.kakaoshare.backend.domain.funding.repository.FundingRepository;
+import org.kakaoshare.backend.domain.funding.service.ContributorLeaderboard;
+import org.kakaoshare.backend.domain.funding.service.FundingProgressCache;
+import org.kakaoshare.backend.domain.gift.entity.FundingGift;
 import org.kakaoshare.backend.domain.gift.entity.Gift;
+import org.kakaoshare.backend.domain.gift.repository.FundingGiftRepository;
 import org.kakaoshare.backend.domain.gift.repository.GiftRepository;
 import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.member.repository.MemberRepository;
-import org.kakaoshare.backend.domain.option.repository.OptionDetailRepository;
-import org.kakaoshare.backend.domain.option.repository.OptionRepository;
+import org.kakaoshare.backend.domain.option.service.OptionCatalog;
 import org.kakaoshare.backend.domain.order.dto.OrderSummaryResponse;
 import org.kakaoshare.backend.domain.order.entity.Order;
 import org.kakaoshare.backend.domain.order.repository.OrderRepository;
@@ -47,6 +51,9 @@ import org.kakaoshare.backend.domain.payment.repository.PaymentRepository;
 import org.kakaoshare.backend.domain.product.dto.ProductSummaryResponse;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.service.PopularityRanking;
+import org.kakaoshare.backend.domain.rank.service.SalesRanking;
+import org.kakaoshare.backend.domain.rank.service.TrendingCounter;
 import org.kakaoshare.backend.domain.receipt.entity.Receipt;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -57,19 +64,20 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.kakaoshare.backend.fixture.BrandFixture.STARBUCKS;
 import static org.kakaoshare.backend.fixture.FundingFixture.SAMPLE_FUNDING;
-import static org.kakaoshare.backend.fixture.MemberFixture.HAN;
 import static org.kakaoshare.backend.fixture.MemberFixture.KAKAO;
 import static org.kakaoshare.backend.fixture.MemberFixture.KIM;
 import static org.kakaoshare.backend.fixture.ProductFixture.CAKE;
 import static org.kakaoshare.backend.fixture.ProductFixture.COFFEE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
@@ -95,10 +103,7 @@ class PaymentServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OptionRepository optionRepository;
-
-    @Mock
-    private OptionDetailRepository optionDetailRepository;
+    private OptionCatalog optionCatalog;
 
     @Mock
     private ProductRepository productRepository;
@@ -109,6 +114,27 @@ class PaymentServiceTest {
     @Mock
     private RedisUtils redisUtils;
 
+    @Mock
+    private SalesRanking salesRanking;
+
+    @Mock
+    private TrendingCounter trendingCounter;
+
+    @Mock
+    private PopularityRanking popularityRanking;
+
+    @Mock
+    private FundingProgressCache fundingProgressCache;
+
+    @Mock
+    private ContributorLeaderboard contributorLeaderboard;
+
+    @Mock
+    private FundingRefunder fundingRefunder;
+
+    @Mock
+    private FundingGiftRepository fundingGiftRepository;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -215,6 +241,7 @@ class PaymentServiceTest {
         doReturn(Optional.of(member)).when(memberRepository).findMemberByProviderId(providerId);
         doReturn(cake).when(productRepository).getReferenceById(cake.getProductId());
         doReturn(coffee).when(productRepository).getReferenceById(coffee.getProductId());
+        doReturn(Map.of(cake.getProductId(), cake.getPrice(), coffee.getProductId(), coffee.getPrice())).when(productRepository).findAllPriceByIdsGroupById(List.of(cake.getProductId(), coffee.getProductId()));
         doReturn(null).when(giftRepository).saveAll(any());
         doReturn(null).when(orderRepository).saveAll(any());  // TODO: 3/16/24 saveAll() 에서 new로 다른 객체가 생성되므로 any()로 대체
 
@@ -231,6 +258,9 @@ class PaymentServiceTest {
         final PaymentGiftSuccessResponse expect = new PaymentGiftSuccessResponse(paymentSuccessReceiver, orderSummaries);
         final PaymentGiftSuccessResponse actual = paymentService.approve(providerId, paymentSuccessRequest);
         assertThat(actual).isEqualTo(expect);   // TODO: 3/16/24 equals() 및 hashCode()가 재정의되있으므로 isEqualTo() 사용
+        verify(salesRanking).increase(Map.of(cake.getProductId(), cake.getPrice() * cakeStockQuantity, coffee.getProductId(), coffee.getPrice() * coffeeStockQuantity));
+        verify(popularityRanking).increaseReceive(cake.getProductId(), member.getGender());
+        verify(popularityRanking).increaseReceive(coffee.getProductId(), member.getGender());
     }
 
     @Test
@@ -370,6 +400,7 @@ class PaymentServiceTest {
         final FundingOrderDetail fundingOrderDetail = new FundingOrderDetail(1L);
         final Funding funding = SAMPLE_FUNDING.생성(1L, creator, cake);
         doReturn(fundingOrderDetail).when(redisUtils).remove(orderDetailsKey, FundingOrderDetail.class);
+        doReturn(1L).when(fundingRepository).increaseAccumulateAmount(funding.getFundingId(), (long) attributeAmount);
         doReturn(Optional.of(funding)).when(fundingRepository).findById(funding.getFundingId());
         doReturn(Optional.of(contributor)).when(memberRepository).findMemberByProviderId(providerId);
 
@@ -378,6 +409,102 @@ class PaymentServiceTest {
         final PaymentFundingSuccessResponse actual = paymentService.approveFunding(providerId, paymentSuccessRequest);
 
         assertThat(actual).isEqualTo(expect);
+        verify(fundingProgressCache).update(funding.getFundingId(), (long) attributeAmount, null);
+        verify(contributorLeaderboard).increase(funding.getFundingId(), contributor, attributeAmount);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 기여로 남은 금액보다 큰 금액이 되면 결제를 취소하고 예외 발생")
+    public void approveFundingOverGoal() throws Exception {
+        final String pgToken = "pgToken";
+        final String tid = "tid";
+        final String orderDetailsKey = "12345678";
+
+        final Member contributor = KIM.생성();
+        final Member creator = KAKAO.생성();
+        final String providerId = contributor.getProviderId();
+        final Product cake = CAKE.생성(1L);
+        final int attributeAmount = 200;
+
+        final PaymentSuccessRequest paymentSuccessRequest = createPaymentSuccessRequest(pgToken, tid, orderDetailsKey);
+        final KakaoPayApproveResponse approveResponse = createApproveResponse(tid, orderDetailsKey, providerId, attributeAmount, cake.getName(), 1);
+        doReturn(approveResponse).when(webClientService).approve(providerId, paymentSuccessRequest);
+
+        final FundingOrderDetail fundingOrderDetail = new FundingOrderDetail(1L);
+        final Funding funding = SAMPLE_FUNDING.생성(1L, creator, cake);
+        doReturn(fundingOrderDetail).when(redisUtils).remove(orderDetailsKey, FundingOrderDetail.class);
+        doReturn(0L).when(fundingRepository).increaseAccumulateAmount(funding.getFundingId(), (long) attributeAmount);
+        doReturn(Optional.of(funding)).when(fundingRepository).findById(funding.getFundingId());
+        doReturn(Optional.of(contributor)).when(memberRepository).findMemberByProviderId(providerId);
+
+        assertThatThrownBy(() -> paymentService.approveFunding(providerId, paymentSuccessRequest))
+                .isInstanceOf(FundingException.class);
+        verify(webClientService).cancel(any(PaymentCancelDto.class));
+    }
+
+    @Test
+    @DisplayName("목표 금액을 달성한 펀딩에 남은 금액을 결제하면 누적 금액은 그대로 두고 펀딩을 완료한다")
+    public void approveFundingRemaining() throws Exception {
+        final String pgToken = "pgToken";
+        final String tid = "tid";
+        final String orderDetailsKey = "12345678";
+
+        final Member contributor = KIM.생성();
+        final Member creator = KAKAO.생성();
+        final String providerId = creator.getProviderId();
+        final Product cake = CAKE.생성(1L);
+        final int remainingAmount = 9_000;
+
+        final PaymentSuccessRequest paymentSuccessRequest = createPaymentSuccessRequest(pgToken, tid, orderDetailsKey);
+        final KakaoPayApproveResponse approveResponse = createApproveResponse(tid, orderDetailsKey, providerId, remainingAmount, cake.getName(), 1);
+        doReturn(approveResponse).when(webClientService).approve(providerId, paymentSuccessRequest);
+
+        final FundingOrderDetail fundingOrderDetail = new FundingOrderDetail(1L);
+        final Funding funding = SAMPLE_FUNDING.생성(1L, creator, cake, 1_000L);
+        funding.reflectStatus(0L, contributor.getMemberId());
+        doReturn(fundingOrderDetail).when(redisUtils).remove(orderDetailsKey, FundingOrderDetail.class);
+        doReturn(0L).when(fundingRepository).increaseAccumulateAmount(funding.getFundingId(), (long) remainingAmount);
+        doReturn(Optional.of(funding)).when(fundingRepository).findById(funding.getFundingId());
+        doReturn(1L).when(fundingRepository).updateStatus(funding.getFundingId(), FundingStatus.BEFORE_PAYING_REMAINING, FundingStatus.COMPLETE);
+        doReturn(Optional.of(creator)).when(memberRepository).findMemberByProviderId(providerId);
+
+        paymentService.approveFunding(providerId, paymentSuccessRequest);
+
+        verify(fundingProgressCache).update(funding.getFundingId(), 0L, FundingStatus.COMPLETE);
+        verify(fundingGiftRepository).save(any(FundingGift.class));
+        verify(webClientService, never()).cancel(any(PaymentCancelDto.class));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 기여가 목표 금액을 채워 더하지 못한 기여는 남은 금액 결제가 아니면 취소한다")
+    public void approveFundingAfterGoalFilled() throws Exception {
+        final String pgToken = "pgToken";
+        final String tid = "tid";
+        final String orderDetailsKey = "12345678";
+
+        final Member contributor = KIM.생성();
+        final Member creator = KAKAO.생성();
+        final String providerId = contributor.getProviderId();
+        final Product cake = CAKE.생성(1L);
+        final int attributeAmount = 200;
+
+        final PaymentSuccessRequest paymentSuccessRequest = createPaymentSuccessRequest(pgToken, tid, orderDetailsKey);
+        final KakaoPayApproveResponse approveResponse = createApproveResponse(tid, orderDetailsKey, providerId, attributeAmount, cake.getName(), 1);
+        doReturn(approveResponse).when(webClientService).approve(providerId, paymentSuccessRequest);
+
+        final FundingOrderDetail fundingOrderDetail = new FundingOrderDetail(1L);
+        final Funding funding = SAMPLE_FUNDING.생성(1L, creator, cake, 1_000L);
+        funding.reflectStatus(0L, contributor.getMemberId());
+        doReturn(fundingOrderDetail).when(redisUtils).remove(orderDetailsKey, FundingOrderDetail.class);
+        doReturn(0L).when(fundingRepository).increaseAccumulateAmount(funding.getFundingId(), (long) attributeAmount);
+        doReturn(Optional.of(funding)).when(fundingRepository).findById(funding.getFundingId());
+        doReturn(Optional.of(contributor)).when(memberRepository).findMemberByProviderId(providerId);
+
+        assertThat(funding.satisfiedAccumulateAmount()).isTrue();
+        assertThatThrownBy(() -> paymentService.approveFunding(providerId, paymentSuccessRequest))
+                .isInstanceOf(FundingException.class);
+        verify(webClientService).cancel(any(PaymentCancelDto.class));
+        verify(fundingDetailRepository, never()).save(any(FundingDetail.class));
     }
 
     @Test
@@ -407,39 +534,32 @@ class PaymentServiceTest {
         // then
         assertThat(order.canceled()).isTrue();
         assertThat(gift.canceled()).isTrue();
+        verify(salesRanking).decrease(cake.getProductId(), price, order.getCreatedAt());
+        verify(trendingCounter).record(cake.getProductId(), -TrendingCounter.ORDER_WEIGHT);
     }
 
     @Test
-    @DisplayName("개설한 펀딩 취소 시 기여한 모든 사용자 펀딩 결제 환불")
+    @DisplayName("개설한 펀딩 취소 시 기여한 모든 사용자 펀딩 결제 환불 요청")
     public void cancelFunding() throws Exception {
 
         // given
         final Product cake = CAKE.가격_설정_생성(10_000L);
         final Member creator = KIM.생성();
         final String providerId = creator.getProviderId();
-        final List<Member> contributors = List.of(
-                KAKAO.생성(),
-                HAN.생성()
-        );
         final Funding funding = SAMPLE_FUNDING.생성(1L, creator, cake);
-        final List<FundingDetail> fundingDetails = contributors.stream()
-                .map(contributor -> new FundingDetail(
-                        contributor, funding,
-                        new Payment(UUID.randomUUID().toString(), 1_000L, 1_000L)
-                ))
-                .toList();
         final Long fundingId = funding.getFundingId();
 
         // when
         doReturn(Optional.of(funding)).when(fundingRepository).findById(fundingId);
-        doReturn(fundingDetails).when(fundingDetailRepository).findAllByFundingId(fundingId);
 
         // then
         final PaymentFundingCancelRequest paymentFundingCancelRequest = new PaymentFundingCancelRequest(fundingId);
         paymentService.cancelFunding(providerId, paymentFundingCancelRequest);
 
-        assertThat(fundingDetails).allMatch(FundingDetail::canceled);
         assertThat(funding.canceled()).isTrue();
+        verify(fundingProgressCache).update(fundingId, 0L, FundingStatus.CANCEL);
+        verify(fundingRefunder).request(fundingId);
+        verifyNoInteractions(webClientService);
     }
 
     @Test
@@ -468,8 +588,10 @@ class PaymentServiceTest {
         paymentService.cancelFundingDetail(providerId, paymentFundingDetailCancelRequest);
 
         assertThat(payment.getTotalPrice()).isEqualTo(attributeAmount - refundAmount);
-        assertThat(funding.getAccumulateAmount()).isEqualTo(attributeAmount - refundAmount);
+        assertThat(funding.getAccumulateAmount()).isEqualTo(attributeAmount);
+        verify(fundingRepository).decreaseAccumulateAmount(funding.getFundingId(), refundAmount);
         assertThat(fundingDetail.canceled()).isFalse(); // TODO: 4/28/24 부분 환불 시 취소 상태로 변경 X
+        verify(contributorLeaderboard).decrease(funding.getFundingId(), contributor.getMemberId(), refundAmount);
     }
 
     @Test
@@ -497,7 +619,7 @@ class PaymentServiceTest {
         paymentService.cancelFundingDetail(providerId, paymentFundingDetailCancelRequest);
 
         assertThat(fundingDetail.canceled()).isTrue(); // TODO: 4/28/24 전액 환불 시 취소 상태로 변경
-        assertThat(funding.getAccumulateAmount()).isEqualTo(0L);
+        verify(fundingRepository).decreaseAccumulateAmount(funding.getFundingId(), attributeAmount);
     }
 
     private Payment createPayment(final String paymentNumber,
@@ -8,11 +8,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.kakaoshare.backend.common.RepositoryTest;
+import org.kakaoshare.backend.common.dto.CursorResponse;
+import org.kakaoshare.backend.common.util.sort.Cursor;
+import org.kakaoshare.backend.domain.category.repository.CategoryRepository;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.member.repository.MemberRepository;
 import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
+import org.kakaoshare.backend.domain.product.dto.ProductCountDto;
 import org.kakaoshare.backend.domain.product.dto.ProductDto;
 import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.wish.entity.Wish;
+import org.kakaoshare.backend.domain.wish.repository.WishRepository;
 import org.kakaoshare.backend.fixture.MemberFixture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -27,6 +34,7 @@ import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.kakaoshare.backend.common.util.sort.SortUtil.*;
+import static org.kakaoshare.backend.domain.product.entity.QProduct.product;
 
 @RepositoryTest
 class ProductRepositoryTest {
@@ -40,6 +48,10 @@ class ProductRepositoryTest {
     JPAQueryFactory queryFactory;
     @Autowired
     MemberRepository memberRepository;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    WishRepository wishRepository;
     Member member;
     
     @BeforeEach
@@ -55,11 +67,11 @@ class ProductRepositoryTest {
         PageRequest first = PageRequest.of(0, PAGE_SIZE,
                 Sort.Direction.ASC, order);
         
-        Page<Product4DisplayDto> firstPage = productRepository.findAllByCategoryId(CHILD_ID, first, member.getProviderId());
+        Page<Product4DisplayDto> firstPage = productRepository.findAllByCategoryIds(categoryIdsOf(CHILD_ID), first);
         System.out.println(firstPage.getContent());
         
         Pageable next = first.next();
-        Page<Product4DisplayDto> nextPage = productRepository.findAllByCategoryId(CHILD_ID, next, member.getProviderId());
+        Page<Product4DisplayDto> nextPage = productRepository.findAllByCategoryIds(categoryIdsOf(CHILD_ID), next);
         System.out.println(nextPage.getContent());
         
         assertThat(firstPage.getSize()).isEqualTo(PAGE_SIZE);
@@ -74,11 +86,46 @@ class ProductRepositoryTest {
         assertThat(nextPage.getSize()).isEqualTo(PAGE_SIZE);
     }
     
+    @ValueSource(strings = {"PRICE", "WISH_COUNT", "MOST_RECENT", "PRODUCT_NAME"})
+    @ParameterizedTest
+    @DisplayName("커서 기반 상품 목록 조회는 중복이나 누락 없이 다음 페이지를 이어서 조회한다")
+    void testProductCursorPagination(String order) {
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, Sort.Direction.DESC, order);
+        
+        CursorResponse<Product4DisplayDto> firstPage = productRepository.findAllByCategoryIdsWithCursor(categoryIdsOf(CHILD_ID), Cursor.decode(null, pageRequest), pageRequest);
+        CursorResponse<Product4DisplayDto> nextPage = productRepository.findAllByCategoryIdsWithCursor(categoryIdsOf(CHILD_ID), Cursor.decode(firstPage.getNextCursor(), pageRequest), pageRequest);
+        Page<Product4DisplayDto> offsetPages = productRepository.findAllByCategoryIds(categoryIdsOf(CHILD_ID), PageRequest.of(0, PAGE_SIZE * 2, Sort.Direction.DESC, order));
+        
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getItems()).hasSize(PAGE_SIZE);
+        assertThat(nextPage.getItems()).hasSize(PAGE_SIZE);
+        assertThat(nextPage.getItems()).extracting(Product4DisplayDto::getProductId)
+                .doesNotContainAnyElementsOf(firstPage.getItems().stream().map(Product4DisplayDto::getProductId).toList());
+        if (order.equals(PRICE.name())) {
+            assertThat(nextPage.getItems().get(0).getPrice())
+                    .isLessThanOrEqualTo(firstPage.getItems().get(PAGE_SIZE - 1).getPrice());
+            assertThat(nextPage.getItems().get(0).getPrice())
+                    .isEqualTo(offsetPages.getContent().get(PAGE_SIZE).getPrice());
+        }
+    }
+    
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회는 마지막 페이지에서 다음 커서를 주지 않는다")
+    void testProductCursorPaginationLastPage() {
+        PageRequest pageRequest = PageRequest.of(0, 400, Sort.Direction.ASC, PRICE.name());
+        
+        CursorResponse<Product4DisplayDto> page = productRepository.findAllByCategoryIdsWithCursor(categoryIdsOf(CHILD_ID), Cursor.decode(null, pageRequest), pageRequest);
+        
+        assertThat(page.getItems()).hasSize(400);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+    
     @Test
     @DisplayName("정렬은 기본적으로 상품명을 기준으로 정렬된다")
     void testDefaultPagination() {
         PageRequest first = PageRequest.of(0, PAGE_SIZE);
-        Page<Product4DisplayDto> firstPage = productRepository.findAllByCategoryId(CHILD_ID, first, member.getProviderId());
+        Page<Product4DisplayDto> firstPage = productRepository.findAllByCategoryIds(categoryIdsOf(CHILD_ID), first);
         assertThat(firstPage.getContent().stream().map(Product4DisplayDto::getName).toList())
                 .isSortedAccordingTo(String::compareTo);
     }
@@ -88,7 +135,7 @@ class ProductRepositoryTest {
     void testMultipleCondition() {
         Sort sort = Sort.by(Sort.Order.asc(PRICE.name()), Sort.Order.desc(PRODUCT_NAME.name()));
         PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, sort);
-        Page<Product4DisplayDto> page = productRepository.findAllByCategoryId(CHILD_ID, pageRequest, member.getProviderId());
+        Page<Product4DisplayDto> page = productRepository.findAllByCategoryIds(categoryIdsOf(CHILD_ID), pageRequest);
         page.forEach(System.out::println);
         
         assertThat(page.getContent().stream().map(Product4DisplayDto::getPrice).toList())
@@ -110,7 +157,7 @@ class ProductRepositoryTest {
     void testFindProductsByChildCategoryId() {
         // given
         PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
-        Page<Product4DisplayDto> productDtos = productRepository.findAllByCategoryId(CHILD_ID, pageRequest, member.getProviderId());
+        Page<Product4DisplayDto> productDtos = productRepository.findAllByCategoryIds(categoryIdsOf(CHILD_ID), pageRequest);
         // then
         assertThat(productDtos.getContent().size()).isEqualTo(PAGE_SIZE);
         assertThat(productDtos.getTotalElements()).isEqualTo(400);
@@ -122,7 +169,7 @@ class ProductRepositoryTest {
     void testFindProductsByParentCategoryId() {
         // given
         PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
-        Page<Product4DisplayDto> productDtos = productRepository.findAllByCategoryId(PARENT_ID, pageRequest, member.getProviderId());
+        Page<Product4DisplayDto> productDtos = productRepository.findAllByCategoryIds(categoryIdsOf(PARENT_ID), pageRequest);
         // then
         assertThat(productDtos.getContent().size()).isEqualTo(PAGE_SIZE);
         assertThat(productDtos.getTotalElements()).isEqualTo(2000);
@@ -135,7 +182,7 @@ class ProductRepositoryTest {
         // given
         PageRequest pageRequest = PageRequest.of(0, 20000, Sort.by(WISH_COUNT.name()));
         // when
-        Page<Product4DisplayDto> firstPage = productRepository.findAllByCategoryId(categoryId, pageRequest, member.getProviderId());
+        Page<Product4DisplayDto> firstPage = productRepository.findAllByCategoryIds(categoryIdsOf(categoryId), pageRequest);
         // then
         assertThat(firstPage.getContent()).isSortedAccordingTo(Comparator.comparing(Product4DisplayDto::getWishCount)
         );
@@ -153,6 +200,17 @@ class ProductRepositoryTest {
         assertThat(productDtos.getTotalElements()).isEqualTo(count);
     }
     
+    @CsvSource({"0, 20", "19, 21", "1, 400"})
+    @ParameterizedTest
+    @DisplayName("상품 목록의 전체 개수는 마지막 페이지나 범위를 넘어선 페이지에서도 정확하다")
+    void testTotalElementsOfPage(int pageNumber, int pageSize) {
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize);
+        
+        Page<Product4DisplayDto> page = productRepository.findAllByCategoryIds(categoryIdsOf(CHILD_ID), pageRequest);
+        
+        assertThat(page.getTotalElements()).isEqualTo(400);
+    }
+    
     @Test
     @DisplayName("브랜드 상품 목록은 상품 등록 시간으로 정렬 가능하다")
     void testSortByCreateAt() {
@@ -168,4 +226,61 @@ class ProductRepositoryTest {
                 }
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("위시 수 변경분은 상품별로 한 번의 UPDATE로 더해진다")
+    void testIncreaseWishCounts() {
+        int firstWishCount = wishCountOf(1L);
+        int secondWishCount = wishCountOf(2L);
+        int otherWishCount = wishCountOf(3L);
+        
+        long updated = productRepository.increaseWishCounts(Map.of(1L, 3L, 2L, -1L));
+        
+        assertThat(updated).isEqualTo(2);
+        assertThat(wishCountOf(1L)).isEqualTo(firstWishCount + 3);
+        assertThat(wishCountOf(2L)).isEqualTo(secondWishCount - 1);
+        assertThat(wishCountOf(3L)).isEqualTo(otherWishCount);
+    }
+    
+    @Test
+    @DisplayName("위시 수는 상품별 위시 행 수로 집계된다")
+    void testCountWishesGroupByProductId() {
+        long before = productRepository.countWishesGroupByProductId(List.of(1L, 2L)).getOrDefault(1L, 0L);
+        Product wished = productRepository.findById(1L).orElseThrow();
+        wishRepository.saveAndFlush(Wish.builder()
+                .member(member)
+                .product(wished)
+                .isPublic(true)
+                .build());
+        
+        Map<Long, Long> counts = productRepository.countWishesGroupByProductId(List.of(1L, 2L));
+        
+        assertThat(counts.get(1L)).isEqualTo(before + 1);
+        assertThat(counts).doesNotContainKey(3L);
+    }
+    
+    @Test
+    @DisplayName("주문 수 보정값은 비어 있는 주문 수에도 더해진다")
+    void testIncreaseOrderCounts() {
+        List<ProductCountDto> counts = productRepository.findCounts(0L, 2);
+        ProductCountDto first = counts.get(0);
+        int before = first.orderCount() == null ? 0 : first.orderCount();
+        
+        long updated = productRepository.increaseOrderCounts(Map.of(first.productId(), 2L));
+        
+        assertThat(updated).isEqualTo(1);
+        assertThat(productRepository.findCountsByIds(List.of(first.productId())).get(0).orderCount()).isEqualTo(before + 2);
+        assertThat(counts.get(1).productId()).isGreaterThan(first.productId());
+    }
+    
+    private int wishCountOf(Long productId) {
+        return queryFactory.select(product.wishCount)
+                .from(product)
+                .where(product.productId.eq(productId))
+                .fetchOne();
+    }
+
+    private List<Long> categoryIdsOf(Long categoryId) {
+        return CategoryTree.of(categoryRepository.findAllCategoryNodes()).descendantIdsOf(categoryId);
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.kakaoshare.backend.common.RepositoryTest;
+import org.kakaoshare.backend.common.util.sort.error.exception.UnsupportedSortTypeException;
 import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
 import org.kakaoshare.backend.domain.brand.entity.Brand;
 import org.kakaoshare.backend.domain.brand.repository.BrandRepository;
@@ -24,8 +25,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.kakaoshare.backend.fixture.BrandFixture.EDIYA;
 import static org.kakaoshare.backend.fixture.BrandFixture.STARBUCKS;
 import static org.kakaoshare.backend.fixture.ProductFixture.CAKE;
@@ -68,7 +72,7 @@ class ProductRepositoryCustomImplTest {
 
         final String keyword = "커피";
         final Pageable pageable = PageRequest.of(0, 4, Sort.unsorted());
-        final Slice<Product4DisplayDto> slice = productRepository.findBySearchConditions(keyword, null, null, null, pageable,member.getProviderId());
+        final Slice<Product4DisplayDto> slice = productRepository.findBySearchConditions(keyword, null, null, null, pageable);
 
         final List<Product4DisplayDto> products = slice.getContent();
         assertThat(products.size()).isEqualTo(2);
@@ -97,7 +101,7 @@ class ProductRepositoryCustomImplTest {
 
         final String keyword = "커피";
         final Pageable pageable = PageRequest.of(0, 4, Sort.by("price").ascending());
-        final Slice<Product4DisplayDto> slice = productRepository.findBySearchConditions(keyword, null, null, null, pageable,member.getProviderId());
+        final Slice<Product4DisplayDto> slice = productRepository.findBySearchConditions(keyword, null, null, null, pageable);
 
         final List<Product4DisplayDto> products = slice.getContent();
         assertThat(products.size()).isEqualTo(4);
@@ -131,7 +135,7 @@ class ProductRepositoryCustomImplTest {
 
         final String keyword = "커피";
         final Pageable pageable = PageRequest.of(0, 4, Sort.by("price").ascending());
-        final Slice<Product4DisplayDto> slice = productRepository.findBySearchConditions(keyword, null, null, null, pageable,member.getProviderId());
+        final Slice<Product4DisplayDto> slice = productRepository.findBySearchConditions(keyword, null, null, null, pageable);
 
         final List<Product4DisplayDto> products = slice.getContent();
         assertThat(products.size()).isEqualTo(4);
@@ -165,7 +169,7 @@ class ProductRepositoryCustomImplTest {
 
         final String keyword = "커피";
         final Pageable pageable = PageRequest.of(0, 4, Sort.unsorted());
-        final Slice<SimpleBrandProductDto> slice = productRepository.findBySearchConditionsGroupByBrand(keyword, pageable,member.getProviderId());
+        final Slice<SimpleBrandProductDto> slice = productRepository.findBySearchConditionsGroupByBrand(keyword, pageable);
 
         final List<SimpleBrandProductDto> brandProducts = slice.getContent();
         assertThat(brandProducts.size()).isEqualTo(2);
@@ -176,6 +180,46 @@ class ProductRepositoryCustomImplTest {
         );
     }
 
+    @Test
+    @DisplayName("브랜드별 그룹핑 결과는 브랜드마다 최대 9개의 상품만 담는다")
+    @Transactional
+    @Rollback
+    public void findBySearchConditionsGroupByBrandLimitsProducts() throws Exception {
+        final Brand starbucks = STARBUCKS.생성();
+        final List<Product> starbucksCoffees = LongStream.rangeClosed(1, 12)
+                .mapToObj(price -> COFFEE.브랜드_가격_설정_생성(starbucks, price * 1000L))
+                .toList();
+        starbucks.getProducts()
+                .addAll(starbucksCoffees);
+
+        final Brand ediya = EDIYA.생성();
+        final Product ediyaCoffee = COFFEE.브랜드_가격_설정_생성(ediya, 9000L);
+        ediya.getProducts()
+                .add(ediyaCoffee);
+        brandRepository.saveAll(List.of(starbucks, ediya));
+
+        final Pageable pageable = PageRequest.of(0, 4, Sort.by("name"));
+        final Slice<SimpleBrandProductDto> slice = productRepository.findBySearchConditionsGroupByBrand("커피", pageable);
+
+        assertThat(slice.getContent())
+                .extracting(brandProducts -> brandProducts.brand().getName(), brandProducts -> brandProducts.products().size())
+                .containsExactlyInAnyOrder(
+                        tuple(starbucks.getName(), 9),
+                        tuple(ediya.getName(), 1)
+                );
+    }
+
+    @Test
+    @DisplayName("브랜드별 그룹핑 결과는 GROUP BY 하지 않은 컬럼으로 정렬할 수 없다")
+    @Transactional
+    @Rollback
+    public void findBySearchConditionsGroupByBrandWithUnsupportedSort() throws Exception {
+        final Pageable pageable = PageRequest.of(0, 4, Sort.by("createdAt"));
+
+        assertThatThrownBy(() -> productRepository.findBySearchConditionsGroupByBrand("커피", pageable))
+                .isInstanceOf(UnsupportedSortTypeException.class);
+    }
+
     private Product4DisplayDto getProduct4DisplayDto(final Product product) {
         return new Product4DisplayDto(product.getProductId(), product.getName(), product.getPhoto(), product.getPrice(), product.getBrand().getName(), null,false);
     }
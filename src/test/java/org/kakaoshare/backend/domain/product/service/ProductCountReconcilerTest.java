@@ -0,0 +1,109 @@
+package org.kakaoshare.backend.domain.product.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.product.dto.ProductCountDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCountReconcilerTest {
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private WishCounter wishCounter;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new ProductCountReconciler(productRepository, wishCounter, stringRedisTemplate, meterRegistry, Duration.ZERO);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("다시 세어도 차이가 그대로인 상품만 차이만큼 보정한다")
+    void reconcile() {
+        final List<ProductCountDto> chunk = List.of(
+                new ProductCountDto(1L, 3, 0),
+                new ProductCountDto(2L, 5, 2),
+                new ProductCountDto(3L, null, null)
+        );
+        lockAcquired(true);
+        when(productRepository.findCounts(0L, 1_000)).thenReturn(chunk);
+        when(productRepository.findCountsByIds(Set.of(1L, 3L))).thenReturn(List.of(chunk.get(0), chunk.get(2)));
+        when(productRepository.countWishesGroupByProductId(any()))
+                .thenReturn(Map.of(1L, 1L, 2L, 5L, 3L, 2L))
+                .thenReturn(Map.of(1L, 1L, 3L, 1L));
+        when(productRepository.countReceiptsGroupByProductId(any()))
+                .thenReturn(Map.of(1L, 4L, 2L, 2L))
+                .thenReturn(Map.of(1L, 4L));
+
+        reconciler.reconcile();
+
+        verify(productRepository).increaseWishCounts(Map.of(1L, -2L));
+        verify(productRepository).increaseOrderCounts(Map.of(1L, 4L));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("product:count:reconcile:lock")), any(Object[].class));
+        assertThat(meterRegistry.get("product.count.reconcile.drift").tag("count", "wish").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("product.count.reconcile.drift").tag("count", "order").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("product.count.reconcile.scanned").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("product.count.reconcile.last_product_id").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이 노드에 반영되지 않은 위시 수 변경분이 있는 상품은 위시 수를 보정하지 않는다")
+    void reconcileWithPendingWishCount() {
+        final List<ProductCountDto> chunk = List.of(new ProductCountDto(1L, 3, 0));
+        lockAcquired(true);
+        when(productRepository.findCounts(0L, 1_000)).thenReturn(chunk);
+        when(productRepository.countWishesGroupByProductId(any())).thenReturn(Map.of(1L, 4L));
+        when(productRepository.countReceiptsGroupByProductId(any())).thenReturn(Map.of());
+        when(wishCounter.pendingOf(1L)).thenReturn(1L);
+
+        reconciler.reconcile();
+
+        verify(productRepository, never()).findCountsByIds(any());
+        verify(productRepository, never()).increaseWishCounts(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보정 중이면 실행하지 않는다")
+    void reconcileWithoutLock() {
+        lockAcquired(false);
+
+        reconciler.reconcile();
+
+        verifyNoInteractions(productRepository);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), any(), any(Object[].class));
+    }
+
+    private void lockAcquired(final boolean acquired) {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(acquired);
+    }
+}
@@ -0,0 +1,104 @@
+package org.kakaoshare.backend.domain.product.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.product.dto.DetailResponse;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+    private static final Long PRODUCT_ID = 1L;
+    private static final String REMOTE_KEY = "product:detail:cache:detail:1";
+    private static final String GENERATION_KEY = "product:detail:generation:1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    private ObjectMapper objectMapper;
+    private ProductDetailCache productDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        productDetailCache = new ProductDetailCache(stringRedisTemplate, redisMessageListenerContainer, objectMapper);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 사이 상품이 바뀌어 세대 비교 스크립트가 넣지 않으면 1단계 캐시에도 넣지 않는다")
+    void getDetailWithConcurrentEvict() {
+        when(valueOperations.get(GENERATION_KEY)).thenReturn("1", "2");
+        when(valueOperations.get(REMOTE_KEY)).thenReturn(null);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(GENERATION_KEY, REMOTE_KEY)), any(Object[].class)))
+                .thenReturn(0L, 1L);
+        final AtomicInteger loads = new AtomicInteger();
+
+        productDetailCache.getDetail(PRODUCT_ID, () -> detail("이전 이름", loads));
+        final DetailResponse response = productDetailCache.getDetail(PRODUCT_ID, () -> detail("새 이름", loads));
+        final DetailResponse cached = productDetailCache.getDetail(PRODUCT_ID, () -> detail("다시 읽은 이름", loads));
+
+        assertThat(response.getName()).isEqualTo("새 이름");
+        assertThat(cached.getName()).isEqualTo("새 이름");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("이전 세대에 넣은 Redis 캐시는 버리고 DB에서 읽어 읽기 시작한 세대로 넣는다")
+    void getDetailWithStaleRemote() throws Exception {
+        final String stale = objectMapper.writeValueAsString(new ProductDetailCache.RemoteEntry(1L, objectMapper.valueToTree(detail("이전 이름", new AtomicInteger()))));
+        when(valueOperations.get(GENERATION_KEY)).thenReturn("2");
+        when(valueOperations.get(REMOTE_KEY)).thenReturn(stale);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(GENERATION_KEY, REMOTE_KEY)), any(Object[].class)))
+                .thenReturn(1L);
+
+        final DetailResponse response = productDetailCache.getDetail(PRODUCT_ID, () -> detail("새 이름", new AtomicInteger()));
+
+        assertThat(response.getName()).isEqualTo("새 이름");
+        final ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(GENERATION_KEY, REMOTE_KEY)), args.capture());
+        assertThat(args.getValue()[0]).isEqualTo("2");
+        assertThat(objectMapper.readValue((String) args.getValue()[1], ProductDetailCache.RemoteEntry.class).generation()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌면 세대를 올리고 Redis 캐시를 비운다")
+    void evict() {
+        productDetailCache.evict(PRODUCT_ID);
+
+        verify(valueOperations).increment(GENERATION_KEY);
+        verify(stringRedisTemplate).delete(List.of(REMOTE_KEY, "product:detail:cache:description:1"));
+        verify(stringRedisTemplate).convertAndSend("product-detail-invalidation", "1");
+        verify(stringRedisTemplate, times(0)).execute(any(RedisScript.class), any(), any(Object[].class));
+    }
+
+    private static DetailResponse detail(final String name, final AtomicInteger loads) {
+        loads.incrementAndGet();
+        return DetailResponse.builder()
+                .productId(PRODUCT_ID)
+                .name(name)
+                .build();
+    }
+}
@@ -1,26 +1,37 @@
 package org.kakaoshare.backend.domain.product.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kakaoshare.backend.common.error.exception.BusinessException;
 import org.kakaoshare.backend.domain.member.entity.Member;
-import org.kakaoshare.backend.domain.member.repository.MemberRepository;
 import org.kakaoshare.backend.domain.product.dto.DescriptionResponse;
 import org.kakaoshare.backend.domain.product.dto.DetailResponse;
+import org.kakaoshare.backend.domain.product.dto.WishResponse;
+import org.kakaoshare.backend.domain.product.dto.WishType;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.exception.ProductException;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.service.TrendingCounter;
+import org.kakaoshare.backend.domain.wish.service.WishedProductCache;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
 import org.kakaoshare.backend.fixture.MemberFixture;
 import org.kakaoshare.backend.fixture.ProductFixture;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +39,15 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
     @Mock
-    private MemberRepository memberRepository;
+    private WishedProductCache wishedProductCache;
+    @Mock
+    private ProductDetailCache productDetailCache;
+    @Mock
+    private WishCounter wishCounter;
+    @Mock
+    private TrendingCounter trendingCounter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private ProductService productService;
 
@@ -39,23 +58,26 @@ public class ProductServiceTest {
     void getProductDetail_Success() {
         // Arrange
         Member member = MemberFixture.KAKAO.생성();
-        Product product = ProductFixture.TEST_PRODUCT.생성();
+        Product product = ProductFixture.TEST_PRODUCT.생성(1L);
         Long productId = product.getProductId();
 
         DetailResponse expectedDetailResponse = DetailResponse.builder()
                 .deliverDescription("배송 설명")
                 .build();
 
-        when(memberRepository.findMemberByProviderId(member.getProviderId()))
-                .thenReturn(Optional.of(member));
+        when(wishedProductCache.get(member.getProviderId()))
+                .thenReturn(WishedProducts.from(List.of(productId)));
+        when(productDetailCache.getDetail(eq(productId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<DetailResponse>>getArgument(1).get());
         when(productRepository.findById(productId))
                 .thenReturn(Optional.of(product));
-        when(productRepository.findProductDetailWithMember(product, member))
+        when(productRepository.findProductDetail(product))
                 .thenReturn(expectedDetailResponse);
 
         DetailResponse actual = productService.getProductDetail(productId, member.getProviderId());
 
         assertEquals(expectedDetailResponse.getDeliverDescription(), actual.getDeliverDescription());
+        assertTrue(actual.isWish());
     }
 
     @Test
@@ -69,26 +91,119 @@ public class ProductServiceTest {
                 .description("설명")
                 .build();
 
-        when(memberRepository.findMemberByProviderId(member.getProviderId()))
-                .thenReturn(Optional.of(member));
+        when(wishedProductCache.get(member.getProviderId()))
+                .thenReturn(WishedProducts.empty());
+        when(productDetailCache.getDescription(eq(productId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<DescriptionResponse>>getArgument(1).get());
         when(productRepository.findById(productId))
                 .thenReturn(Optional.of(product));
         doReturn(expectedDescriptionResponse)
                 .when(productRepository)
-                .findProductWithDetailsAndPhotosWithMember(product,member);
+                .findProductWithDetailsAndPhotos(product);
 
         DescriptionResponse actualDescriptionResponse = productService.getProductDescription(productId,member.getProviderId());
 
-        assertEquals(expectedDescriptionResponse, actualDescriptionResponse);
-        verify(productRepository).findProductWithDetailsAndPhotosWithMember(product,member);
+        assertEquals(expectedDescriptionResponse.getDescription(), actualDescriptionResponse.getDescription());
+        assertFalse(actualDescriptionResponse.isWish());
+        verify(productRepository).findProductWithDetailsAndPhotos(product);
     }
 
     @Test
     @DisplayName("존재하지 않는 상품 ID로 조회 시 예외 발생")
     void getProductDetail_WhenProductNotFound_ThenThrowException() {
         Long nonExistingProductId = 999L;
+        when(productDetailCache.getDescription(eq(nonExistingProductId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<DescriptionResponse>>getArgument(1).get());
 
         assertThatThrownBy(() -> productService.getProductDescription(nonExistingProductId, null))
                 .isInstanceOf(ProductException.class);
     }
+
+    @Test
+    @DisplayName("캐시된 상품 상세정보는 DB를 조회하지 않고 위시 여부만 채운다")
+    void getProductDetail_WhenCached_ThenSkipRepository() {
+        Member member = MemberFixture.KAKAO.생성();
+        Long productId = 1L;
+
+        DetailResponse cachedDetailResponse = DetailResponse.builder()
+                .deliverDescription("배송 설명")
+                .build();
+
+        when(productDetailCache.getDetail(eq(productId), any()))
+                .thenReturn(cachedDetailResponse);
+        when(wishedProductCache.get(member.getProviderId()))
+                .thenReturn(WishedProducts.from(List.of(productId)));
+
+        DetailResponse actual = productService.getProductDetail(productId, member.getProviderId());
+
+        assertTrue(actual.isWish());
+        assertFalse(cachedDetailResponse.isWish());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("위시 추가는 상품 행을 갱신하지 않고 위시 수 변경분만 쌓는다")
+    void resisterProductInWishList_ThenIncreasePendingWishCount() {
+        Member member = MemberFixture.KAKAO.생성();
+        Product product = ProductFixture.TEST_PRODUCT.생성(1L);
+        Long productId = product.getProductId();
+        int wishCount = product.getWishCount();
+
+        when(productRepository.findById(productId))
+                .thenReturn(Optional.of(product));
+        when(wishCounter.pendingOf(productId))
+                .thenReturn(1L);
+
+        WishResponse actual = productService.resisterProductInWishList(member.getProviderId(), productId, WishType.ME);
+
+        assertEquals(wishCount + 1, actual.wishCount());
+        assertEquals(wishCount, product.getWishCount());
+        verify(wishCounter).increase(productId);
+        verify(eventPublisher).publishEvent(any(Object.class));
+        verifyNoInteractions(productDetailCache);
+    }
+
+    @Test
+    @DisplayName("위시 취소는 상품 행을 갱신하지 않고 위시 수 변경분만 쌓는다")
+    void removeWishlist_ThenDecreasePendingWishCount() {
+        Member member = MemberFixture.KAKAO.생성();
+        Product product = ProductFixture.TEST_PRODUCT.생성(1L);
+        Long productId = product.getProductId();
+        int wishCount = product.getWishCount();
+
+        when(productRepository.findById(productId))
+                .thenReturn(Optional.of(product));
+        when(wishCounter.pendingOf(productId))
+                .thenReturn(-1L);
+
+        WishResponse actual = productService.removeWishlist(member.getProviderId(), productId);
+
+        assertEquals(wishCount - 1, actual.wishCount());
+        assertEquals(wishCount, product.getWishCount());
+        verify(wishCounter).decrease(productId);
+        verify(trendingCounter).record(productId, -TrendingCounter.WISH_WEIGHT);
+        verifyNoInteractions(productDetailCache);
+    }
+
+    @Test
+    @DisplayName("캐시된 상품 상세정보의 위시 수는 별도로 읽은 현재 위시 수로 덮어쓴다")
+    void getProductDetail_ThenAddPendingWishCount() {
+        Long productId = 1L;
+
+        DetailResponse cachedDetailResponse = DetailResponse.builder()
+                .wishCount(10)
+                .build();
+
+        when(productDetailCache.getDetail(eq(productId), any()))
+                .thenReturn(cachedDetailResponse);
+        when(wishedProductCache.get(null))
+                .thenReturn(WishedProducts.empty());
+        when(wishCounter.countOf(productId))
+                .thenReturn(13L);
+
+        DetailResponse actual = productService.getProductDetail(productId, null);
+
+        assertEquals(13, actual.getWishCount());
+        assertEquals(10, cachedDetailResponse.getWishCount());
+    }
 }
@@ -0,0 +1,111 @@
+package org.kakaoshare.backend.domain.product.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WishCounterTest {
+    @Mock
+    private ProductRepository productRepository;
+    @InjectMocks
+    private WishCounter wishCounter;
+
+    @Test
+    @DisplayName("동시에 들어온 위시 추가/취소는 유실 없이 변경분으로 쌓인다")
+    void increaseConcurrently() throws InterruptedException {
+        final int threadCount = 16;
+        final int countPerThread = 1_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            final boolean increase = i % 4 != 0;
+            executor.submit(() -> {
+                for (int j = 0; j < countPerThread; j++) {
+                    if (increase) {
+                        wishCounter.increase(1L);
+                    } else {
+                        wishCounter.decrease(1L);
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(wishCounter.pendingOf(1L)).isEqualTo((12L - 4L) * countPerThread);
+    }
+
+    @Test
+    @DisplayName("모인 변경분은 상품별로 한 번에 반영된다")
+    void flush() {
+        wishCounter.increase(1L);
+        wishCounter.increase(1L);
+        wishCounter.decrease(2L);
+        wishCounter.increase(3L);
+        wishCounter.decrease(3L);
+
+        wishCounter.flush();
+
+        verify(productRepository).increaseWishCounts(Map.of(1L, 2L, 2L, -1L));
+        assertThat(wishCounter.pendingOf(1L)).isZero();
+        assertThat(wishCounter.pendingOf(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("변경분이 없으면 UPDATE를 실행하지 않는다")
+    void flushWithoutPending() {
+        wishCounter.flush();
+
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 변경분은 다음 반영을 위해 되돌려진다")
+    void flushFailure() {
+        wishCounter.increase(1L);
+        wishCounter.increase(1L);
+        when(productRepository.increaseWishCounts(any()))
+                .thenThrow(new IllegalStateException());
+
+        wishCounter.flush();
+
+        assertThat(wishCounter.pendingOf(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("위시 수는 캐시한 DB 값에 변경분을 더하고, 이 노드가 반영한 상품은 DB에서 다시 읽는다")
+    void countOf() {
+        when(productRepository.findWishCountById(1L))
+                .thenReturn(Optional.of(10))
+                .thenReturn(Optional.of(12));
+        wishCounter.increase(1L);
+        wishCounter.increase(1L);
+
+        assertThat(wishCounter.countOf(1L)).isEqualTo(12L);
+        assertThat(wishCounter.countOf(1L)).isEqualTo(12L);
+        wishCounter.flush();
+
+        assertThat(wishCounter.countOf(1L)).isEqualTo(12L);
+        verify(productRepository, times(2)).findWishCountById(1L);
+    }
+}
@@ -0,0 +1,98 @@
+package org.kakaoshare.backend.domain.rank.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.common.RepositoryTest;
+import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.RankPriceRange;
+import org.kakaoshare.backend.domain.rank.entity.ProductPopularity;
+import org.kakaoshare.backend.domain.rank.util.RankType;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.kakaoshare.backend.domain.rank.vo.PopularityDelta;
+import org.kakaoshare.backend.domain.rank.vo.PopularityKey;
+import org.kakaoshare.backend.domain.wish.entity.Wish;
+import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.kakaoshare.backend.fixture.MemberFixture;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+class ProductPopularityRepositoryTest {
+    @Autowired
+    ProductPopularityRepository productPopularityRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    WishRepository wishRepository;
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = MemberFixture.KAKAO.생성();
+        memberRepository.save(member);
+    }
+
+    @Test
+    @DisplayName("위시는 전체와 위시한 회원의 성별 행에 나눠 집계된다")
+    void testAggregate() {
+        Map<TargetType, ProductPopularity> before = aggregateOf(1L);
+        wishRepository.saveAndFlush(Wish.builder()
+                .member(member)
+                .product(productRepository.findById(1L).orElseThrow())
+                .isPublic(true)
+                .build());
+
+        Map<TargetType, ProductPopularity> after = aggregateOf(1L);
+
+        assertThat(after).containsOnlyKeys(TargetType.values());
+        assertThat(after.get(TargetType.ALL).getWishCount()).isEqualTo(before.get(TargetType.ALL).getWishCount() + 1);
+        assertThat(after.get(TargetType.MALE).getWishCount()).isEqualTo(before.get(TargetType.MALE).getWishCount() + 1);
+        assertThat(after.get(TargetType.FEMALE).getWishCount()).isEqualTo(before.get(TargetType.FEMALE).getWishCount());
+    }
+
+    @Test
+    @DisplayName("이미 행이 있는 상품은 다시 집계하지 않는다")
+    void testAggregateSkipsExistingRows() {
+        productPopularityRepository.saveAll(productPopularityRepository.aggregate(List.of(1L)));
+
+        assertThat(productPopularityRepository.aggregate(List.of(1L, 2L)))
+                .extracting(ProductPopularity::getProductId)
+                .containsOnly(2L);
+    }
+
+    @Test
+    @DisplayName("변경분은 있는 행에만 더해지고, 대상별 상위 상품은 수가 많은 순으로 조회된다")
+    void testIncreaseCountsAndFindTop() {
+        productPopularityRepository.saveAll(productPopularityRepository.aggregate(List.of(1L, 2L)));
+        PopularityKey missing = new PopularityKey(Long.MAX_VALUE, TargetType.ALL);
+
+        Set<PopularityKey> result = productPopularityRepository.increaseCounts(Map.of(
+                new PopularityKey(2L, TargetType.FEMALE), new PopularityDelta(1_000_000, 0),
+                missing, new PopularityDelta(1, 0)
+        ));
+
+        assertThat(result).containsExactly(missing);
+        List<ProductPopularity> top = productPopularityRepository.findTop(RankType.MANY_WISH, TargetType.FEMALE, new RankPriceRange(0, Integer.MAX_VALUE), 1);
+        assertThat(top).extracting(ProductPopularity::getProductId).containsExactly(2L);
+        assertThat(productPopularityRepository.findTop(RankType.MANY_RECEIVE, TargetType.FEMALE, new RankPriceRange(0, Integer.MAX_VALUE), 10))
+                .allSatisfy(popularity -> assertThat(popularity.getReceiveCount()).isPositive());
+    }
+
+    private Map<TargetType, ProductPopularity> aggregateOf(Long productId) {
+        return productPopularityRepository.aggregate(List.of(productId))
+                .stream()
+                .collect(Collectors.toMap(ProductPopularity::getTargetType, Function.identity()));
+    }
+}
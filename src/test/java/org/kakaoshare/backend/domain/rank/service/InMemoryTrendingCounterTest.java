@@ -0,0 +1,105 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryTrendingCounterTest {
+    private MutableClock clock;
+    private InMemoryTrendingCounter trendingCounter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-03-01T00:00:00Z"));
+        trendingCounter = new InMemoryTrendingCounter(clock);
+    }
+
+    @Test
+    @DisplayName("최근에 위시/주문이 몰린 상품일수록 점수가 높다")
+    void findScores() {
+        trendingCounter.record(1L, 10);
+        clock.plus(Duration.ofHours(6));
+        trendingCounter.record(2L, 5);
+        trendingCounter.record(1L, 1);
+
+        assertThat(trendingCounter.findScores().keySet()).containsExactly(1L, 2L);
+        assertThat(trendingCounter.findScores().get(1L)).isCloseTo(10 * 0.5 + 1, within(1e-9));
+
+        clock.plus(Duration.ofHours(6));
+        trendingCounter.record(2L, 3);
+
+        assertThat(trendingCounter.findScores().keySet()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("기간이 지난 시간 버킷은 점수에 넣지 않고, 같은 자리로 돌아오면 새 버킷으로 바꾼다")
+    void expire() {
+        trendingCounter.record(1L, 100);
+        clock.plus(Duration.ofHours(TrendingCounter.WINDOW_HOURS));
+
+        assertThat(trendingCounter.findScores()).isEmpty();
+
+        trendingCounter.record(2L, 1);
+
+        assertThat(trendingCounter.findScores()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("지난 시간을 읽은 채 늦게 기록해도 이미 다음 바퀴로 넘어간 버킷을 덮어쓰지 않는다")
+    void recordWithStaleHour() {
+        clock.plus(Duration.ofHours(TrendingCounter.WINDOW_HOURS));
+        trendingCounter.record(1L, 10);
+        clock.plus(Duration.ofHours(-TrendingCounter.WINDOW_HOURS));
+        trendingCounter.record(2L, 10);
+        clock.plus(Duration.ofHours(TrendingCounter.WINDOW_HOURS));
+
+        assertThat(trendingCounter.findScores()).containsOnlyKeys(1L);
+        assertThat(trendingCounter.findScores().get(1L)).isCloseTo(10, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("위시를 취소해 점수가 0 이하가 된 상품은 점수에 넣지 않는다")
+    void findScoresWithCanceledWish() {
+        trendingCounter.record(1L, TrendingCounter.WISH_WEIGHT);
+        trendingCounter.record(2L, TrendingCounter.WISH_WEIGHT);
+        trendingCounter.record(1L, -TrendingCounter.WISH_WEIGHT);
+
+        assertThat(trendingCounter.findScores()).containsOnlyKeys(2L);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
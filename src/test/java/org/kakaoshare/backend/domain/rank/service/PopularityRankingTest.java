@@ -0,0 +1,149 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.member.entity.Gender;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.RankPriceRange;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.entity.ProductPopularity;
+import org.kakaoshare.backend.domain.rank.repository.ProductPopularityRepository;
+import org.kakaoshare.backend.domain.rank.util.RankType;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.kakaoshare.backend.domain.rank.vo.PopularityDelta;
+import org.kakaoshare.backend.domain.rank.vo.PopularityKey;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PopularityRankingTest {
+    @Mock
+    private ProductPopularityRepository productPopularityRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @InjectMocks
+    private PopularityRanking popularityRanking;
+
+    @Test
+    @DisplayName("위시/선물 변경분은 전체와 성별 키로 나눠 한 번에 더한다")
+    void flush() {
+        popularityRanking.increaseWish(1L, Gender.FEMALE);
+        popularityRanking.increaseWish(1L, Gender.MALE);
+        popularityRanking.decreaseWish(2L, Gender.FEMALE);
+        popularityRanking.increaseReceive(1L, Gender.FEMALE);
+        when(productPopularityRepository.increaseCounts(any())).thenReturn(Set.of());
+
+        popularityRanking.flush();
+
+        verify(productPopularityRepository).increaseCounts(Map.of(
+                new PopularityKey(1L, TargetType.ALL), new PopularityDelta(2, 1),
+                new PopularityKey(1L, TargetType.FEMALE), new PopularityDelta(1, 1),
+                new PopularityKey(1L, TargetType.MALE), new PopularityDelta(1, 0),
+                new PopularityKey(2L, TargetType.ALL), new PopularityDelta(-1, 0),
+                new PopularityKey(2L, TargetType.FEMALE), new PopularityDelta(-1, 0)
+        ));
+    }
+
+    @Test
+    @DisplayName("행이 없는 키는 상품이 있을 때만 새 행으로 저장한다")
+    @SuppressWarnings("unchecked")
+    void flushWithMissingRow() {
+        PopularityKey missing = new PopularityKey(3L, TargetType.ALL);
+        popularityRanking.increaseReceive(3L, null);
+        when(productPopularityRepository.increaseCounts(any())).thenReturn(Set.of(missing));
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+        when(productRepository.findAllDtoByIds(Set.of(3L))).thenReturn(List.of(new ProductDto(3L, "케이크", "cake.jpg", 30000L, "스타벅스")));
+
+        popularityRanking.flush();
+
+        ArgumentCaptor<List<ProductPopularity>> rows = ArgumentCaptor.forClass(List.class);
+        verify(productPopularityRepository).saveAll(rows.capture());
+        assertThat(rows.getValue())
+                .extracting(ProductPopularity::getProductId, ProductPopularity::getTargetType, ProductPopularity::getReceiveCount)
+                .containsExactly(tuple(3L, TargetType.ALL, 1L));
+    }
+
+    @Test
+    @DisplayName("행을 채우기 전에는 행이 없는 키를 저장하지 않는다")
+    void flushBeforeSeeded() {
+        popularityRanking.increaseWish(3L, Gender.MALE);
+        when(productPopularityRepository.increaseCounts(any())).thenReturn(Set.of(new PopularityKey(3L, TargetType.ALL)));
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+
+        popularityRanking.flush();
+
+        verify(productPopularityRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("더하지 못한 변경분은 다음 주기에 다시 더한다")
+    void flushWithFailure() {
+        popularityRanking.increaseWish(1L, null);
+        when(productPopularityRepository.increaseCounts(any()))
+                .thenThrow(new IllegalStateException())
+                .thenReturn(Set.of());
+
+        popularityRanking.flush();
+        popularityRanking.flush();
+
+        verify(productPopularityRepository, times(2))
+                .increaseCounts(Map.of(new PopularityKey(1L, TargetType.ALL), new PopularityDelta(1, 0)));
+    }
+
+    @Test
+    @DisplayName("상위 상품은 한 번의 조회로 카드 정보를 채우고 삭제된 상품은 제외한다")
+    void findTop() {
+        RankPriceRange priceRange = new RankPriceRange(0, 9999);
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+        when(productPopularityRepository.findTop(RankType.MANY_WISH, TargetType.FEMALE, priceRange, 2)).thenReturn(List.of(
+                popularity(2L, 7L),
+                popularity(9L, 5L)
+        ));
+        when(productRepository.findAllDtoByIds(List.of(2L, 9L))).thenReturn(List.of(new ProductDto(2L, "커피", "coffee.jpg", 5000L, "스타벅스")));
+
+        List<RankResponse> result = popularityRanking.findTop(RankType.MANY_WISH, TargetType.FEMALE, priceRange, 2).orElseThrow();
+
+        assertThat(result)
+                .extracting(RankResponse::getProductId, RankResponse::getTotalSales)
+                .containsExactly(tuple(2L, 7.0));
+    }
+
+    @Test
+    @DisplayName("행을 채우기 전에는 비어 있어 직접 집계하게 한다")
+    void findTopBeforeSeeded() {
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+
+        assertThat(popularityRanking.findTop(RankType.MANY_WISH, TargetType.ALL, new RankPriceRange(0, 9999), 20)).isEmpty();
+        verifyNoInteractions(productPopularityRepository);
+    }
+
+    private ProductPopularity popularity(Long productId, Long wishCount) {
+        return ProductPopularity.builder()
+                .productId(productId)
+                .targetType(TargetType.FEMALE)
+                .wishCount(wishCount)
+                .receiveCount(0L)
+                .build();
+    }
+}
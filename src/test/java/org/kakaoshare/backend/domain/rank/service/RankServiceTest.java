@@ -7,6 +7,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kakaoshare.backend.domain.order.repository.OrderRepository;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
 import org.kakaoshare.backend.common.vo.PriceRange;
 import org.kakaoshare.backend.domain.rank.dto.RankPriceRange;
 import org.kakaoshare.backend.domain.rank.dto.RankResponse;
@@ -18,7 +20,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +34,21 @@ public class RankServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private SalesRanking salesRanking;
+
+    @Mock
+    private RankSnapshot rankSnapshot;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private TrendingCounter trendingCounter;
+
+    @Mock
+    private PopularityRanking popularityRanking;
+
     @InjectMocks
     private RankService rankService;
 
@@ -45,6 +64,7 @@ public class RankServiceTest {
 
         Page<RankResponse> page = new PageImpl<>(rankResponses, pageable, rankResponses.size());
 
+        when(salesRanking.findTopRanked(pageable)).thenReturn(Optional.empty());
         when(orderRepository.findTopRankedProductsByOrders(any(LocalDateTime.class), eq(pageable)))
                 .thenReturn(page);
         Page<RankResponse> results = rankService.getTopRankedProducts(pageable);
@@ -55,6 +75,19 @@ public class RankServiceTest {
         verify(orderRepository).findTopRankedProductsByOrders(any(LocalDateTime.class), eq(pageable));
     }
 
+    @Test
+    @DisplayName("실시간 판매 랭킹을 사용할 수 있으면 주문 테이블을 집계하지 않는다")
+    public void testGetTopRankedProductsFromSalesRanking() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<RankResponse> page = new PageImpl<>(List.of(new RankResponse(1L, "Product A", 15000.0, "thumbnail1.jpg")), pageable, 1);
+        when(salesRanking.findTopRanked(pageable)).thenReturn(Optional.of(page));
+
+        Page<RankResponse> results = rankService.getTopRankedProducts(pageable);
+
+        assertEquals(page, results);
+        verifyNoInteractions(orderRepository);
+    }
+
     @Test
     @DisplayName("위시많은순 랭킹 조회")
     public void testFindProductsByFiltersWithWishRankType() {
@@ -71,6 +104,32 @@ public class RankServiceTest {
         assertEquals(mockResponses, results);
     }
 
+    @Test
+    @DisplayName("스냅샷으로 답할 수 있는 가격대의 랭킹은 스냅샷에서 조회한다")
+    public void testFindProductsByFiltersFromSnapshot() {
+        List<RankResponse> snapshot = List.of(new RankResponse(3L, "Product3", 30.0, "url3"));
+        PriceRange priceRange = new RankPriceRange(1234, 5678);
+        when(rankSnapshot.find(RankType.MANY_WISH, TargetType.FEMALE, priceRange)).thenReturn(Optional.of(snapshot));
+
+        List<RankResponse> results = rankService.findProductsByFilters(RankType.MANY_WISH, TargetType.FEMALE, priceRange);
+
+        assertEquals(snapshot, results);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("성별로 나눠 센 인기 테이블이 채워져 있으면 주문 테이블을 집계하지 않는다")
+    public void testFindProductsByFiltersFromPopularity() {
+        List<RankResponse> popular = List.of(new RankResponse(4L, "Product4", 40.0, "url4"));
+        PriceRange priceRange = new RankPriceRange(1234, 5678);
+        when(popularityRanking.findTop(RankType.MANY_RECEIVE, TargetType.MALE, priceRange, 20)).thenReturn(Optional.of(popular));
+
+        List<RankResponse> results = rankService.findProductsByFilters(RankType.MANY_RECEIVE, TargetType.MALE, priceRange);
+
+        assertEquals(popular, results);
+        verifyNoInteractions(orderRepository);
+    }
+
     @Test
     @DisplayName("선물많이 받은 순 랭킹 조회")
     public void testFindProductsByFiltersWithReceiveRankType() {
@@ -88,5 +147,26 @@ public class RankServiceTest {
         assertEquals(mockResponses, results);
     }
 
+    @Test
+    @DisplayName("급상승 랭킹은 점수 순으로 가격대에 맞는 상품만 조회한다")
+    public void testFindProductsByFiltersWithTrendingRankType() {
+        LinkedHashMap<Long, Double> scores = new LinkedHashMap<>();
+        scores.put(2L, 9.0);
+        scores.put(1L, 5.0);
+        scores.put(3L, 2.0);
+        when(trendingCounter.findScores()).thenReturn(scores);
+        when(productRepository.findAllDtoByIds(List.of(2L, 1L, 3L))).thenReturn(List.of(
+                new ProductDto(1L, "Product1", "url1", 5000L, "brand"),
+                new ProductDto(2L, "Product2", "url2", 50000L, "brand"),
+                new ProductDto(3L, "Product3", "url3", 8000L, "brand")
+        ));
+
+        List<RankResponse> results = rankService.findProductsByFilters(RankType.TRENDING, TargetType.MALE, new RankPriceRange(0, 9999));
+
+        assertEquals(List.of(1L, 3L), results.stream().map(RankResponse::getProductId).toList());
+        assertEquals(5.0, results.get(0).getTotalSales());
+        verifyNoInteractions(orderRepository);
+    }
+
 
 }
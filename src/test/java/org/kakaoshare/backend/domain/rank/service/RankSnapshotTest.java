@@ -0,0 +1,156 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.order.repository.OrderRepository;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.RankPriceRange;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.kakaoshare.backend.domain.rank.util.RankType;
+import org.kakaoshare.backend.domain.rank.util.TargetType;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RankSnapshotTest {
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private PopularityRanking popularityRanking;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache cache;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private RankSnapshot rankSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rankSnapshot = new RankSnapshot(orderRepository, popularityRanking, productRepository, cacheManager, stringRedisTemplate, new ObjectMapper(), meterRegistry);
+        lenient().when(cacheManager.getCache(anyString())).thenReturn(cache);
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("모든 랭킹 조합을 미리 집계해 요청은 DB를 거치지 않고 스냅샷의 순위를 가격대로 걸러 응답한다")
+    void build() {
+        final List<RankResponse> wishRanks = List.of(
+                new RankResponse(1L, "케이크", 10.0, "cake.jpg"),
+                new RankResponse(2L, "커피", 5.0, "coffee.jpg")
+        );
+        lockAcquired(true);
+        when(orderRepository.findProductsByWish(any(), anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+        when(orderRepository.findProductsByWish(TargetType.FEMALE, 0, Integer.MAX_VALUE, RankSnapshot.SNAPSHOT_DEPTH)).thenReturn(wishRanks);
+        when(orderRepository.findProductsByReceived(any(), anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+        when(productRepository.findAllDtoByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new ProductDto(1L, "케이크", "cake.jpg", 30_000L, "brand"),
+                new ProductDto(2L, "커피", "coffee.jpg", 4_500L, "brand")
+        ));
+
+        rankSnapshot.build();
+
+        verify(orderRepository, times(TargetType.values().length)).findProductsByWish(any(), anyInt(), anyInt(), anyInt());
+        verify(orderRepository, times(TargetType.values().length)).findProductsByReceived(any(), anyInt(), anyInt(), anyInt());
+        assertThat(rankSnapshot.find(RankType.MANY_WISH, TargetType.FEMALE, new RankPriceRange(0, Integer.MAX_VALUE)))
+                .hasValueSatisfying(ranks -> assertThat(ranks)
+                        .extracting(RankResponse::getProductId)
+                        .containsExactly(1L, 2L));
+        assertThat(rankSnapshot.find(RankType.MANY_WISH, TargetType.FEMALE, new RankPriceRange(3_000, 7_000)))
+                .hasValueSatisfying(ranks -> assertThat(ranks)
+                        .extracting(RankResponse::getProductId)
+                        .containsExactly(2L));
+        assertThat(rankSnapshot.find(RankType.MANY_RECEIVE, TargetType.ALL, new RankPriceRange(0, 9_999))).hasValue(List.of());
+        assertThat(meterRegistry.get("rank.snapshot.age").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 만든 스냅샷을 받아 온다")
+    void refresh() {
+        lockAcquired(true);
+        when(orderRepository.findProductsByWish(any(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of(new RankResponse(2L, "커피", 5.0, "coffee.jpg")));
+        when(orderRepository.findProductsByReceived(any(), anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+        when(productRepository.findAllDtoByIds(List.of(2L))).thenReturn(List.of(new ProductDto(2L, "커피", "coffee.jpg", 4_500L, "brand")));
+        rankSnapshot.build();
+        final ArgumentCaptor<Object> json = ArgumentCaptor.forClass(Object.class);
+        verify(cache).put(anyString(), json.capture());
+
+        final RankSnapshot other = new RankSnapshot(orderRepository, popularityRanking, productRepository, cacheManager, stringRedisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+        when(cache.get(anyString(), eq(String.class))).thenReturn((String) json.getValue());
+        other.refresh();
+
+        assertThat(other.find(RankType.MANY_WISH, TargetType.MALE, new RankPriceRange(1_000, 9_999)))
+                .hasValueSatisfying(ranks -> assertThat(ranks)
+                        .extracting(RankResponse::getProductName)
+                        .containsExactly("커피"));
+    }
+
+    @Test
+    @DisplayName("깊이까지 찬 순위에서 가격대에 맞는 상품이 모자라면 스냅샷으로 답하지 않는다")
+    void findWithFullDepth() {
+        final List<RankResponse> wishRanks = LongStream.rangeClosed(1, RankSnapshot.SNAPSHOT_DEPTH)
+                .mapToObj(productId -> new RankResponse(productId, "상품" + productId, 1.0, "product.jpg"))
+                .toList();
+        final List<ProductDto> products = LongStream.rangeClosed(1, RankSnapshot.SNAPSHOT_DEPTH)
+                .mapToObj(productId -> new ProductDto(productId, "상품" + productId, "product.jpg", productId == 1 ? 200_000L : 5_000L, "brand"))
+                .toList();
+        lockAcquired(true);
+        when(orderRepository.findProductsByWish(any(), anyInt(), anyInt(), anyInt())).thenReturn(wishRanks);
+        when(orderRepository.findProductsByReceived(any(), anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+        when(productRepository.findAllDtoByIds(anyList())).thenReturn(products);
+
+        rankSnapshot.build();
+
+        assertThat(rankSnapshot.find(RankType.MANY_WISH, TargetType.ALL, new RankPriceRange(100_000, Integer.MAX_VALUE))).isEmpty();
+        assertThat(rankSnapshot.find(RankType.MANY_WISH, TargetType.ALL, new RankPriceRange(0, 9_999)))
+                .hasValueSatisfying(ranks -> assertThat(ranks).hasSize(RankSnapshot.LIMIT_PRODUCT_COUNT));
+    }
+
+    @Test
+    @DisplayName("이번 주기에 다른 노드가 집계했다면 집계하지 않는다")
+    void buildWithoutLock() {
+        lockAcquired(false);
+
+        rankSnapshot.build();
+
+        verify(orderRepository, never()).findProductsByWish(any(), anyInt(), anyInt(), anyInt());
+        assertThat(rankSnapshot.find(RankType.MANY_WISH, TargetType.ALL, new RankPriceRange(0, Integer.MAX_VALUE))).isEmpty();
+    }
+
+    private void lockAcquired(final boolean acquired) {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(acquired);
+    }
+}
@@ -0,0 +1,134 @@
+package org.kakaoshare.backend.domain.rank.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.order.repository.OrderRepository;
+import org.kakaoshare.backend.domain.product.dto.ProductDto;
+import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.rank.dto.ProductSalesDto;
+import org.kakaoshare.backend.domain.rank.dto.RankResponse;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRankingTest {
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @InjectMocks
+    private SalesRanking salesRanking;
+
+    @Test
+    @DisplayName("판매액 순으로 조회한 상품은 한 번의 조회로 카드 정보를 채우고 삭제된 상품은 제외한다")
+    void findTopRanked() {
+        final Pageable pageable = PageRequest.of(0, 3);
+        final Set<TypedTuple<String>> ranked = new LinkedHashSet<>(List.of(
+                TypedTuple.of("2", 30000.0),
+                TypedTuple.of("9", 20000.0),
+                TypedTuple.of("1", 10000.0)
+        ));
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+        doReturn(zSetOperations).when(stringRedisTemplate).opsForZSet();
+        when(zSetOperations.count(anyString(), anyDouble(), anyDouble())).thenReturn(5L);
+        when(zSetOperations.reverseRangeByScoreWithScores(anyString(), anyDouble(), anyDouble(), eq(0L), eq(3L)))
+                .thenReturn(ranked);
+        when(productRepository.findAllDtoByIds(Set.of(2L, 9L, 1L))).thenReturn(List.of(
+                new ProductDto(1L, "커피", "coffee.jpg", 5000L, "스타벅스"),
+                new ProductDto(2L, "케이크", "cake.jpg", 30000L, "스타벅스")
+        ));
+
+        final Optional<Page<RankResponse>> result = salesRanking.findTopRanked(pageable);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getTotalElements()).isEqualTo(5);
+        assertThat(result.get().getContent())
+                .extracting(RankResponse::getProductId, RankResponse::getTotalSales)
+                .containsExactly(
+                        tuple(2L, 30000.0),
+                        tuple(1L, 10000.0)
+                );
+    }
+
+    @Test
+    @DisplayName("랭킹이 채워지기 전에는 비어 있어 주문 테이블 집계로 응답하게 한다")
+    void findTopRankedBeforeSeeded() {
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+
+        assertThat(salesRanking.findTopRanked(PageRequest.of(0, 20))).isEmpty();
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Redis를 읽을 수 없으면 비어 있다")
+    void findTopRankedWithRedisFailure() {
+        when(stringRedisTemplate.hasKey(anyString())).thenThrow(new IllegalStateException());
+
+        assertThat(salesRanking.findTopRanked(PageRequest.of(0, 20))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("채우기 시작한 뒤에 생성된 주문은 읽지 않고, 읽은 판매액은 일별 ZSET에 더한다")
+    void seed() {
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime orderedAt = now.minusMinutes(1);
+        final String dayKey = "rank:sales:day:" + orderedAt.toLocalDate().format(DateTimeFormatter.BASIC_ISO_DATE);
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        doReturn(zSetOperations).when(stringRedisTemplate).opsForZSet();
+        when(orderRepository.findSales(eq(0L), any(LocalDateTime.class), anyInt())).thenReturn(List.of(
+                new ProductSalesDto(1L, 1L, 10000L, orderedAt),
+                new ProductSalesDto(2L, 1L, 5000L, now.plusMinutes(1))
+        ));
+
+        salesRanking.seed();
+
+        verify(zSetOperations).add("rank:sales:seed", Set.of(TypedTuple.of("1", 10000.0)));
+        verify(zSetOperations).unionAndStore(dayKey, "rank:sales:seed", dayKey);
+        verify(valueOperations).set("rank:sales:ready", "1");
+    }
+
+    @Test
+    @DisplayName("기간이 지난 주문의 취소는 랭킹에 반영하지 않는다")
+    void decreaseOutOfWindow() {
+        salesRanking.decrease(1L, 10000L, LocalDateTime.now().minusMonths(SalesRanking.WINDOW_MONTHS).minusDays(1));
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
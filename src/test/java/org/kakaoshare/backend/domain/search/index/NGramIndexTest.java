@@ -0,0 +1,63 @@
+package org.kakaoshare.backend.domain.search.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramIndexTest {
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex();
+        index.put(1L, "스타벅스 아메리카노 Tall");
+        index.put(2L, "이디야 아메리카노");
+        index.put(3L, "스타벅스 카페라떼");
+    }
+
+    @Test
+    @DisplayName("검색어를 포함하는 ID만 찾는다")
+    void search() {
+        assertThat(index.search("아메리카노")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(index.search("스타벅스")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 3L));
+        assertThat(index.search("벅스아메")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+
+    @Test
+    @DisplayName("gram이 모두 있어도 연속된 문자열이 아니면 찾지 않는다")
+    void searchVerifiesSubstring() {
+        index.put(4L, "카노 아메리");
+
+        assertThat(index.search("아메리카노")).hasValueSatisfying(ids -> assertThat(ids).doesNotContain(4L));
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백, 자모 분리 여부와 관계없이 찾는다")
+    void searchNormalized() {
+        final String decomposed = Normalizer.normalize("카페라떼", Normalizer.Form.NFD);
+
+        assertThat(index.search("TALL")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.search("이디 야")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+        assertThat(index.search(decomposed)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 색인으로 찾지 않는다")
+    void searchTooShort() {
+        assertThat(index.search("아")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌거나 삭제되면 색인에 반영된다")
+    void update() {
+        index.put(2L, "이디야 바닐라라떼");
+        index.remove(3L);
+
+        assertThat(index.search("아메리카노")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.search("라떼")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+    }
+}
@@ -0,0 +1,73 @@
+package org.kakaoshare.backend.domain.search.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.search.dto.ProductSearchDocument;
+import org.kakaoshare.backend.domain.search.dto.SearchIndexChange;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexSynchronizerTest {
+    private static final String CHANNEL = "search-index-change";
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SearchIndexSynchronizer searchIndexSynchronizer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexSynchronizer = new SearchIndexSynchronizer(productSearchIndex, stringRedisTemplate, redisMessageListenerContainer, objectMapper);
+    }
+
+    @Test
+    @DisplayName("변경은 색인에 바로 반영하지 않고 모든 노드로 발행한다")
+    void publish() throws Exception {
+        final SearchIndexChange change = SearchIndexChange.brandSaved(1L, "스타벅스");
+
+        searchIndexSynchronizer.publish(change);
+
+        verify(stringRedisTemplate).convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+        verifyNoInteractions(productSearchIndex);
+    }
+
+    @Test
+    @DisplayName("발행하지 못한 변경은 이 노드의 색인에만 반영한다")
+    void publishWithoutRedis() {
+        doThrow(new IllegalStateException()).when(stringRedisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+        searchIndexSynchronizer.publish(SearchIndexChange.productRemoved(1L));
+
+        verify(productSearchIndex).removeProduct(1L);
+    }
+
+    @Test
+    @DisplayName("발행된 변경을 받으면 색인에 반영한다")
+    void onMessage() throws Exception {
+        final ProductSearchDocument document = new ProductSearchDocument(1L, "아메리카노", 4_500L, 2L, 3L);
+        final String json = objectMapper.writeValueAsString(SearchIndexChange.productSaved(document));
+
+        searchIndexSynchronizer.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), json.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(productSearchIndex).index(document);
+    }
+}
@@ -7,14 +7,21 @@ import org.kakaoshare.backend.common.dto.PageResponse;
 import org.kakaoshare.backend.domain.brand.dto.SimpleBrandDto;
 import org.kakaoshare.backend.domain.brand.entity.Brand;
 import org.kakaoshare.backend.domain.brand.repository.BrandRepository;
+import org.kakaoshare.backend.domain.category.dto.CategoryNodeDto;
+import org.kakaoshare.backend.domain.category.service.CategoryTreeCache;
+import org.kakaoshare.backend.domain.category.vo.CategoryTree;
 import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.member.repository.MemberRepository;
 import org.kakaoshare.backend.domain.product.dto.Product4DisplayDto;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.product.service.WishCounter;
 import org.kakaoshare.backend.domain.search.dto.BrandSearchRequest;
 import org.kakaoshare.backend.domain.search.dto.ProductSearchRequest;
 import org.kakaoshare.backend.domain.search.dto.SimpleBrandProductDto;
+import org.kakaoshare.backend.domain.search.index.ProductSearchIndex;
+import org.kakaoshare.backend.domain.wish.service.WishedProductCache;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
 import org.kakaoshare.backend.fixture.MemberFixture;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -25,12 +32,16 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.kakaoshare.backend.fixture.BrandFixture.EDIYA;
 import static org.kakaoshare.backend.fixture.BrandFixture.STARBUCKS;
 import static org.kakaoshare.backend.fixture.ProductFixture.COFFEE;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class SearchServiceTest {
@@ -42,6 +53,18 @@ class SearchServiceTest {
     
     @Mock
     private MemberRepository memberRepository;
+    
+    @Mock
+    private WishedProductCache wishedProductCache;
+    
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+    
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+    
+    @Mock
+    private WishCounter wishCounter;
 
     @InjectMocks
     private SearchService searchService;
@@ -64,10 +87,10 @@ class SearchServiceTest {
                 request.keyword(),
                 request.minPrice(),
                 request.maxPrice(),
-                request.categories(),
-                pageable,
-                member.getProviderId()
+                null,
+                pageable
         );
+        doReturn(WishedProducts.empty()).when(wishedProductCache).get(member.getProviderId());
         final PageResponse<?> expect = PageResponse.from(page);
         final PageResponse<?> actual = searchService.searchProducts(request, pageable, member.getProviderId());
         assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
@@ -95,13 +118,62 @@ class SearchServiceTest {
                 request.keyword(),
                 request.minPrice(),
                 request.maxPrice(),
-                request.categories(),
-                pageable,
-                member.getProviderId()
+                null,
+                pageable
         );
+        doReturn(WishedProducts.empty()).when(wishedProductCache).get(member.getProviderId());
+        final PageResponse<?> expect = PageResponse.from(page);
+        final PageResponse<?> actual = searchService.searchProducts(request, pageable, member.getProviderId());
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
+    }
+
+    @Test
+    @DisplayName("상품 검색 결과 카테고리 필터링은 하위 카테고리까지 포함한다")
+    public void searchProductsFilterByCategory() throws Exception {
+        final Product coffee = COFFEE.생성();
+        final Pageable pageable = Pageable.unpaged();
+        final ProductSearchRequest request = new ProductSearchRequest("커피", List.of("음료"), null, null);
+        final CategoryTree categoryTree = CategoryTree.of(List.of(
+                new CategoryNodeDto(1L, "음료", null),
+                new CategoryNodeDto(2L, "커피", 1L),
+                new CategoryNodeDto(3L, "케이크", null)
+        ));
+        final List<Product4DisplayDto> product4DisplayDtos = List.of(getProduct4DisplayDto(coffee, null));
+        Member member = MemberFixture.KAKAO.생성();
+        
+        final Page<Product4DisplayDto> page = new PageImpl<>(product4DisplayDtos, pageable, product4DisplayDtos.size());
+        doReturn(categoryTree).when(categoryTreeCache).get();
+        doReturn(Optional.empty()).when(productSearchIndex).searchProductIds(request.keyword(), null, null, List.of(1L, 2L));
+        doReturn(page).when(productRepository).findBySearchConditions(request.keyword(), null, null, List.of(1L, 2L), pageable);
+        doReturn(WishedProducts.empty()).when(wishedProductCache).get(member.getProviderId());
+        
+        final PageResponse<?> expect = PageResponse.from(page);
+        final PageResponse<?> actual = searchService.searchProducts(request, pageable, member.getProviderId());
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되어 있으면 색인이 찾은 상품 ID로 조회한다")
+    public void searchProductsWithIndex() throws Exception {
+        final Product coffee1 = COFFEE.생성(1L);
+        final Product coffee2 = COFFEE.생성(2L);
+        final Pageable pageable = Pageable.unpaged();
+
+        final ProductSearchRequest request = new ProductSearchRequest("커피", null, null, null);
+        final List<Product4DisplayDto> product4DisplayDtos = List.of(
+                getProduct4DisplayDto(coffee1, null),
+                getProduct4DisplayDto(coffee2, null)
+        );
+        Member member = MemberFixture.KAKAO.생성();
+        final Page<Product4DisplayDto> page = new PageImpl<>(product4DisplayDtos, pageable, product4DisplayDtos.size());
+        doReturn(Optional.of(List.of(1L, 2L))).when(productSearchIndex).searchProductIds(request.keyword(), null, null, null);
+        doReturn(page).when(productRepository).findAllDisplayByProductIds(List.of(1L, 2L), pageable);
+        doReturn(WishedProducts.empty()).when(wishedProductCache).get(member.getProviderId());
+
         final PageResponse<?> expect = PageResponse.from(page);
         final PageResponse<?> actual = searchService.searchProducts(request, pageable, member.getProviderId());
         assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
+        verify(productRepository, never()).findBySearchConditions(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -141,7 +213,8 @@ class SearchServiceTest {
                 getSimpleBrandProductDto(ediya, ediyasCoffee1, ediyasCoffee2)
         );
         final Page<SimpleBrandProductDto> page = new PageImpl<>(simpleBrandProductDtos, pageable, simpleBrandProductDtos.size());
-        doReturn(page).when(productRepository).findBySearchConditionsGroupByBrand(request.keyword(), pageable,member.getProviderId());
+        doReturn(page).when(productRepository).findBySearchConditionsGroupByBrand(request.keyword(), pageable);
+        doReturn(WishedProducts.empty()).when(wishedProductCache).get(member.getProviderId());
 
         final PageResponse<?> expect = PageResponse.from(page);
         final PageResponse<?> actual = searchService.searchProductGroupByBrand(request, pageable, member.getProviderId());
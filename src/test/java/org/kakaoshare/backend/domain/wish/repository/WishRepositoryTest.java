@@ -7,12 +7,15 @@ import org.kakaoshare.backend.domain.member.entity.Member;
 import org.kakaoshare.backend.domain.member.repository.MemberRepository;
 import org.kakaoshare.backend.domain.product.entity.Product;
 import org.kakaoshare.backend.domain.product.repository.ProductRepository;
+import org.kakaoshare.backend.domain.wish.dto.WishDetail;
 import org.kakaoshare.backend.domain.wish.entity.Wish;
+import org.kakaoshare.backend.fixture.MemberFixture;
 import org.kakaoshare.backend.fixture.WishFixture;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,4 +61,22 @@ class WishRepositoryTest {
         // then
         
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("친구별 공개 위시는 한 번의 쿼리로 친구마다 정해진 개수까지 조회된다")
+    void testFindPublicWishDetailsByFriendProviderIds() {
+        List<WishFixture> fixtures = Arrays.stream(WishFixture.values()).toList();
+        productRepository.saveAllAndFlush(fixtures.stream().map(WishFixture::getProduct).distinct().toList());
+        memberRepository.saveAllAndFlush(fixtures.stream().map(WishFixture::getMember).distinct().toList());
+        fixtures.forEach(fixture -> wishRepository.saveAndFlush(fixture.생성()));
+        String kakao = MemberFixture.KAKAO.생성().getProviderId();
+        String kim = MemberFixture.KIM.생성().getProviderId();
+        
+        Map<String, List<WishDetail>> wishDetails = wishRepository.findPublicWishDetailsByFriendProviderIds(List.of(kakao, kim), 10);
+        Map<String, List<WishDetail>> limited = wishRepository.findPublicWishDetailsByFriendProviderIds(List.of(kakao, kim), 1);
+        
+        assertThat(wishDetails.get(kakao)).hasSize(1);
+        assertThat(wishDetails.get(kim)).hasSize(2);
+        assertThat(limited.get(kim)).hasSize(1);
+    }
+}
@@ -0,0 +1,138 @@
+package org.kakaoshare.backend.domain.wish.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.common.util.TotalCountCache;
+import org.kakaoshare.backend.domain.member.entity.Member;
+import org.kakaoshare.backend.domain.member.repository.MemberRepository;
+import org.kakaoshare.backend.domain.product.dto.WishType;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.product.service.WishCounter;
+import org.kakaoshare.backend.domain.rank.service.PopularityRanking;
+import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+import org.kakaoshare.backend.domain.wish.entity.Wish;
+import org.kakaoshare.backend.domain.wish.error.WishErrorCode;
+import org.kakaoshare.backend.domain.wish.error.exception.WishException;
+import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.kakaoshare.backend.domain.wish.service.WishExistenceFilter.MemberProduct;
+import org.kakaoshare.backend.domain.wish.vo.WishChanges;
+import org.kakaoshare.backend.domain.wish.vo.WishChanges.WishKey;
+import org.kakaoshare.backend.fixture.MemberFixture;
+import org.kakaoshare.backend.fixture.ProductFixture;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WishEventBatchHandlerTest {
+    @Mock
+    private WishRepository wishRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private WishedProductCache wishedProductCache;
+    @Mock
+    private WishCounter wishCounter;
+    @Mock
+    private WishExistenceFilter wishExistenceFilter;
+    @Mock
+    private PopularityRanking popularityRanking;
+    @Mock
+    private TotalCountCache totalCountCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @InjectMocks
+    private WishEventBatchHandler wishEventBatchHandler;
+
+    private final Member member = MemberFixture.KAKAO.생성();
+    private final Product product = ProductFixture.TEST_PRODUCT.생성(1L);
+
+    @Test
+    @DisplayName("필터가 위시되지 않았다고 답하면 기존 위시를 조회하지 않고 저장한다")
+    void handleWithoutExistingWish() {
+        MemberProduct key = new MemberProduct(member.getMemberId(), product.getProductId());
+        when(memberRepository.findByProviderIds(List.of(member.getProviderId())))
+                .thenReturn(List.of(member));
+        when(wishExistenceFilter.filterPossiblyWished(Set.of(key)))
+                .thenReturn(Set.of());
+
+        WishChanges changes = wishEventBatchHandler.handle(List.of(WishReservationEvent.of(member.getProviderId(), WishType.ME, product)));
+
+        assertThat(changes.getInserts()).hasSize(1);
+        verify(wishRepository, never()).findAllByMembersAndProductIds(any(), any());
+        verify(wishExistenceFilter).add(List.of(key));
+        verify(wishRepository).saveAll(any());
+        verify(popularityRanking).increaseWish(product.getProductId(), member.getGender());
+        verify(wishedProductCache).evict(member.getProviderId());
+    }
+
+    @Test
+    @DisplayName("필터가 위시되어 있을 수 있다고 답하면 DB로 확인해 중복 추가를 걸러낸다")
+    void handleWithPossiblyExistingWish() {
+        MemberProduct key = new MemberProduct(member.getMemberId(), product.getProductId());
+        Wish wish = Wish.builder()
+                .wishId(1L)
+                .member(member)
+                .product(product)
+                .isPublic(false)
+                .build();
+        WishReservationEvent duplicated = WishReservationEvent.of(member.getProviderId(), WishType.ME, product);
+        when(memberRepository.findByProviderIds(List.of(member.getProviderId())))
+                .thenReturn(List.of(member));
+        when(wishExistenceFilter.filterPossiblyWished(Set.of(key)))
+                .thenReturn(Set.of(key));
+        when(wishRepository.findAllByMembersAndProductIds(List.of(member), List.of(product.getProductId())))
+                .thenReturn(List.of(wish));
+
+        WishChanges changes = wishEventBatchHandler.handle(List.of(duplicated));
+
+        assertThat(changes.getInserts()).isEmpty();
+        assertThat(changes.getDuplicates()).containsExactly(duplicated);
+    }
+
+    @Test
+    @DisplayName("회원이 없는 이벤트는 반영하지 않고 위시 수도 되돌리지 않는다")
+    void handleWithUnknownMember() {
+        when(memberRepository.findByProviderIds(List.of(member.getProviderId())))
+                .thenReturn(List.of());
+
+        WishChanges changes = wishEventBatchHandler.handle(List.of(WishReservationEvent.of(member.getProviderId(), WishType.ME, product)));
+
+        assertThat(changes.getInserts()).isEmpty();
+        verify(wishRepository, never()).saveAll(any());
+        verify(wishCounter, never()).decrease(any());
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 실패한 묶음은 (회원, 상품)별로 반영하고, 실패한 (회원, 상품)의 위시 수만 되돌린다")
+    void recover() {
+        Product other = ProductFixture.TEST_PRODUCT.생성(2L);
+        when(memberRepository.findByProviderIds(List.of(member.getProviderId())))
+                .thenReturn(List.of(member));
+        when(wishRepository.saveAll(any()))
+                .thenThrow(new IllegalStateException())
+                .thenReturn(List.of());
+
+        WishChanges changes = wishEventBatchHandler.recover(new WishException(WishErrorCode.SAVING_FAILED), List.of(
+                WishReservationEvent.of(member.getProviderId(), WishType.ME, product),
+                WishReservationEvent.of(member.getProviderId(), WishType.ME, other)
+        ));
+
+        assertThat(changes.getInserts()).containsOnlyKeys(new WishKey(member.getProviderId(), other.getProductId()));
+        verify(wishExistenceFilter, never()).filterPossiblyWished(any());
+        verify(wishCounter).decrease(product.getProductId());
+        verify(wishCounter, never()).decrease(other.getProductId());
+        verify(popularityRanking).increaseWish(other.getProductId(), member.getGender());
+    }
+}
@@ -0,0 +1,88 @@
+package org.kakaoshare.backend.domain.wish.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.product.dto.WishCancelEvent;
+import org.kakaoshare.backend.domain.product.dto.WishType;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.product.service.WishCounter;
+import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+import org.kakaoshare.backend.domain.wish.vo.WishChanges;
+import org.kakaoshare.backend.fixture.ProductFixture;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WishEventQueueTest {
+    private static final String PROVIDER_ID = "1234";
+
+    @Mock
+    private WishEventBatchHandler wishEventBatchHandler;
+    @Mock
+    private WishCounter wishCounter;
+
+    private MeterRegistry meterRegistry;
+    private WishEventQueue wishEventQueue;
+    private final Product product = ProductFixture.TEST_PRODUCT.생성(1L);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        wishEventQueue = new WishEventQueue(wishEventBatchHandler, wishCounter, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("쌓인 이벤트는 발생 순서대로 한 묶음으로 반영된다")
+    void drain() {
+        WishReservationEvent reservation = WishReservationEvent.of(PROVIDER_ID, WishType.ME, product);
+        WishCancelEvent cancel = WishCancelEvent.of(PROVIDER_ID, product);
+        when(wishEventBatchHandler.handle(any()))
+                .thenReturn(WishChanges.empty());
+
+        wishEventQueue.handleWishReservation(reservation);
+        wishEventQueue.handleWishCancel(cancel);
+        assertThat(meterRegistry.get("wish.event.queue.depth").gauge().value()).isEqualTo(2);
+
+        wishEventQueue.drain();
+
+        verify(wishEventBatchHandler).handle(List.of(reservation, cancel));
+        assertThat(meterRegistry.get("wish.event.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("wish.event.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 위시된 상품에 대한 추가는 반영 이후 위시 수를 되돌린다")
+    void drainWithDuplicates() {
+        WishReservationEvent duplicated = WishReservationEvent.of(PROVIDER_ID, WishType.ME, product);
+        when(wishEventBatchHandler.handle(any()))
+                .thenReturn(WishChanges.of(List.of(duplicated), Set.of(WishChanges.WishKey.from(duplicated))));
+
+        wishEventQueue.handleWishReservation(duplicated);
+        wishEventQueue.drain();
+
+        verify(wishCounter).decrease(product.getProductId());
+        verify(wishCounter, never()).increase(any());
+    }
+
+    @Test
+    @DisplayName("쌓인 이벤트가 없으면 반영하지 않는다")
+    void drainEmpty() {
+        wishEventQueue.drain();
+
+        verifyNoInteractions(wishEventBatchHandler, wishCounter);
+    }
+}
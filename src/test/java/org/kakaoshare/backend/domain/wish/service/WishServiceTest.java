@@ -0,0 +1,91 @@
+package org.kakaoshare.backend.domain.wish.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kakaoshare.backend.domain.friend.service.FriendListCache;
+import org.kakaoshare.backend.domain.member.exception.MemberException;
+import org.kakaoshare.backend.domain.wish.dto.FriendWishFeedResponse;
+import org.kakaoshare.backend.domain.wish.dto.FriendsWishFeedRequest;
+import org.kakaoshare.backend.domain.wish.dto.WishDetail;
+import org.kakaoshare.backend.domain.wish.error.exception.WishException;
+import org.kakaoshare.backend.domain.wish.repository.WishRepository;
+import org.kakaoshare.backend.domain.wish.vo.WishedProducts;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WishServiceTest {
+    private static final String PROVIDER_ID = "123";
+    private static final String ACCESS_TOKEN = "token";
+
+    @Mock
+    private WishRepository wishRepository;
+    @Mock
+    private FriendListCache friendListCache;
+    @Mock
+    private WishedProductCache wishedProductCache;
+    @InjectMocks
+    private WishService wishService;
+
+    @Test
+    @DisplayName("여러 친구의 위시를 한 번에 조회하고 내 위시 여부는 내 위시 상품 집합으로 채운다")
+    void getFriendsWishFeed() {
+        when(friendListCache.containsAll(PROVIDER_ID, ACCESS_TOKEN, List.of("456", "789")))
+                .thenReturn(true);
+        when(wishRepository.findPublicWishDetailsByFriendProviderIds(eq(List.of("456", "789")), anyInt()))
+                .thenReturn(Map.of("456", List.of(wishDetailOf(1L, 1L), wishDetailOf(2L, 2L))));
+        when(wishedProductCache.get(PROVIDER_ID))
+                .thenReturn(WishedProducts.from(List.of(2L)));
+
+        List<FriendWishFeedResponse> feed = wishService.getFriendsWishFeed(PROVIDER_ID,
+                new FriendsWishFeedRequest(List.of("456", "789", "456"), ACCESS_TOKEN));
+
+        assertThat(feed).extracting(FriendWishFeedResponse::friendsProviderId)
+                .containsExactly("456", "789");
+        assertThat(feed.get(0).wishes()).extracting(wish -> wish.isWished())
+                .containsExactly(false, true);
+        assertThat(feed.get(1).wishes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("친구가 아닌 회원이 섞여 있으면 위시를 조회하지 않고 예외가 발생한다")
+    void getFriendsWishFeedWithStranger() {
+        when(friendListCache.containsAll(PROVIDER_ID, ACCESS_TOKEN, List.of("456", "789")))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> wishService.getFriendsWishFeed(PROVIDER_ID,
+                new FriendsWishFeedRequest(List.of("456", "789"), ACCESS_TOKEN)))
+                .isInstanceOf(MemberException.class);
+        verifyNoInteractions(wishRepository);
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 친구 수를 넘으면 잘라내지 않고 예외가 발생한다")
+    void getFriendsWishFeedWithTooManyFriends() {
+        List<String> friendsProviderIds = IntStream.rangeClosed(1, 51)
+                .mapToObj(String::valueOf)
+                .toList();
+
+        assertThatThrownBy(() -> wishService.getFriendsWishFeed(PROVIDER_ID,
+                new FriendsWishFeedRequest(friendsProviderIds, ACCESS_TOKEN)))
+                .isInstanceOf(WishException.class);
+        verifyNoInteractions(friendListCache, wishRepository);
+    }
+
+    private WishDetail wishDetailOf(final Long wishId, final Long productId) {
+        return new WishDetail(wishId, productId, "상품", 1_000L, "photo", "브랜드", 1);
+    }
+}
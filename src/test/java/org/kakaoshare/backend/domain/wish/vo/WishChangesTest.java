@@ -0,0 +1,76 @@
+package org.kakaoshare.backend.domain.wish.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kakaoshare.backend.domain.product.dto.WishCancelEvent;
+import org.kakaoshare.backend.domain.product.dto.WishType;
+import org.kakaoshare.backend.domain.product.entity.Product;
+import org.kakaoshare.backend.domain.wish.dto.WishReservationEvent;
+import org.kakaoshare.backend.domain.wish.vo.WishChanges.WishKey;
+import org.kakaoshare.backend.fixture.ProductFixture;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WishChangesTest {
+    private static final String PROVIDER_ID = "1234";
+
+    private final Product first = ProductFixture.TEST_PRODUCT.생성(1L);
+    private final Product second = ProductFixture.CAKE.생성(2L);
+
+    @Test
+    @DisplayName("묶음 안에서 추가 후 취소된 위시는 DB에 쓰지 않는다")
+    void cancelPair() {
+        WishChanges changes = WishChanges.of(List.of(
+                WishReservationEvent.of(PROVIDER_ID, WishType.ME, first),
+                WishCancelEvent.of(PROVIDER_ID, first),
+                WishReservationEvent.of(PROVIDER_ID, WishType.ME, second)
+        ), Set.of());
+
+        assertThat(changes.getInserts()).containsOnlyKeys(new WishKey(PROVIDER_ID, 2L));
+        assertThat(changes.getDeletes()).isEmpty();
+        assertThat(changes.getDuplicates()).isEmpty();
+        assertThat(changes.getProviderIds()).containsExactly(PROVIDER_ID);
+    }
+
+    @Test
+    @DisplayName("이미 위시된 상품의 추가 후 취소는 기존 위시를 삭제하고 추가는 중복으로 모은다")
+    void duplicateThenCancel() {
+        WishReservationEvent duplicated = WishReservationEvent.of(PROVIDER_ID, WishType.ME, first);
+        WishChanges changes = WishChanges.of(List.of(
+                duplicated,
+                WishCancelEvent.of(PROVIDER_ID, first)
+        ), Set.of(new WishKey(PROVIDER_ID, 1L)));
+
+        assertThat(changes.getInserts()).isEmpty();
+        assertThat(changes.getDeletes()).containsExactly(new WishKey(PROVIDER_ID, 1L));
+        assertThat(changes.getDuplicates()).containsExactly(duplicated);
+    }
+
+    @Test
+    @DisplayName("이미 위시된 상품을 취소 후 다시 추가하면 기존 위시의 공개 여부만 바꾼다")
+    void cancelThenReserve() {
+        WishReservationEvent reservation = WishReservationEvent.of(PROVIDER_ID, WishType.OTHERS, first);
+        WishChanges changes = WishChanges.of(List.of(
+                WishCancelEvent.of(PROVIDER_ID, first),
+                reservation
+        ), Set.of(new WishKey(PROVIDER_ID, 1L)));
+
+        assertThat(changes.getInserts()).isEmpty();
+        assertThat(changes.getDeletes()).isEmpty();
+        assertThat(changes.getReplaces()).containsEntry(new WishKey(PROVIDER_ID, 1L), reservation);
+    }
+
+    @Test
+    @DisplayName("같은 상품을 연속으로 추가하면 처음 추가만 저장하고 나머지는 중복으로 모은다")
+    void reserveTwice() {
+        WishReservationEvent reservation = WishReservationEvent.of(PROVIDER_ID, WishType.ME, first);
+        WishReservationEvent duplicated = WishReservationEvent.of(PROVIDER_ID, WishType.OTHERS, first);
+        WishChanges changes = WishChanges.of(List.of(reservation, duplicated), Set.of());
+
+        assertThat(changes.getInserts()).containsEntry(new WishKey(PROVIDER_ID, 1L), reservation);
+        assertThat(changes.getDuplicates()).containsExactly(duplicated);
+    }
+}